@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.compress;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.compress.Compressor;
+import org.opensearch.common.compress.CompressorFactory;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the compressors that {@code cluster.publish.compression} selects between on a serialized cluster state.
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class CompressorBenchmark {
+
+    @Param({ "deflate", "lz4" })
+    public String compressorName = "deflate";
+
+    @Param({ "100", "500" })
+    public int numIndices = 500;
+
+    private Compressor compressor;
+    private BytesReference uncompressed;
+    private BytesReference compressed;
+
+    @Setup
+    public void setUp() throws IOException {
+        compressor = CompressorFactory.compressorForName(compressorName);
+        uncompressed = clusterState(numIndices);
+        compressed = compressor.compress(uncompressed);
+    }
+
+    private static BytesReference clusterState(int numIndices) throws IOException {
+        final Metadata.Builder mb = Metadata.builder();
+        for (int i = 0; i < numIndices; i++) {
+            mb.put(
+                IndexMetadata.builder("logs-" + i)
+                    .settings(Settings.builder().put("index.version.created", Version.CURRENT).put("index.refresh_interval", "30s"))
+                    .putMapping(
+                        "_doc",
+                        "{\"_doc\":{\"properties\":{\"@timestamp\":{\"type\":\"date\"},\"message\":{\"type\":\"text\"},"
+                            + "\"host\":{\"properties\":{\"name\":{\"type\":\"keyword\"},\"ip\":{\"type\":\"ip\"}}},"
+                            + "\"status\":{\"type\":\"integer\"},\"field_"
+                            + i
+                            + "\":{\"type\":\"keyword\"}}}}"
+                    )
+                    .numberOfShards(1 + i % 5)
+                    .numberOfReplicas(1)
+            );
+        }
+        final Metadata metadata = mb.build();
+        final RoutingTable.Builder rb = RoutingTable.builder();
+        for (int i = 0; i < numIndices; i++) {
+            rb.addAsNew(metadata.index("logs-" + i));
+        }
+        final ClusterState clusterState = ClusterState.builder(ClusterName.CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY))
+            .metadata(metadata)
+            .routingTable(rb.build())
+            .build();
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            clusterState.writeTo(out);
+            return out.bytes();
+        }
+    }
+
+    @Benchmark
+    public BytesReference compress() throws IOException {
+        return compressor.compress(uncompressed);
+    }
+
+    @Benchmark
+    public BytesReference uncompress() throws IOException {
+        return compressor.uncompress(compressed);
+    }
+}
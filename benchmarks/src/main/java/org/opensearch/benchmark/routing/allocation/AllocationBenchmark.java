@@ -119,9 +119,16 @@ public class AllocationBenchmark {
         "       10|     10|        2|    50",
         "      100|      1|        2|    50",
         "      100|      3|        2|    50",
-        "      100|     10|        2|    50" })
+        "      100|     10|        2|    50",
+
+        "      500|      5|        1|   100",
+        "     1000|      5|        1|   200" })
     public String indicesShardsReplicasNodes = "10|1|0|1";
 
+    // the value of cluster.routing.allocation.balance.parallelism, to compare the sequential and parallel balancer
+    @Param({ "1", "4" })
+    public int parallelism = 1;
+
     public int numTags = 2;
 
     private AllocationService strategy;
@@ -137,7 +144,10 @@ public class AllocationBenchmark {
         int numNodes = toInt(params[3]);
 
         strategy = Allocators.createAllocationService(
-            Settings.builder().put("cluster.routing.allocation.awareness.attributes", "tag").build()
+            Settings.builder()
+                .put("cluster.routing.allocation.awareness.attributes", "tag")
+                .put("cluster.routing.allocation.balance.parallelism", parallelism)
+                .build()
         );
 
         Metadata.Builder mb = Metadata.builder();
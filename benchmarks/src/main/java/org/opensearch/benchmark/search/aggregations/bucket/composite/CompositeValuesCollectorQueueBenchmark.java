@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.aggregations.bucket.composite;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.IOUtils;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.index.fielddata.FieldData;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.search.aggregations.bucket.composite.CompositeValuesCollectorQueue;
+import org.opensearch.search.aggregations.bucket.composite.DoubleValuesSource;
+import org.opensearch.search.aggregations.bucket.composite.GlobalOrdinalValuesSource;
+import org.opensearch.search.aggregations.bucket.composite.LongValuesSource;
+import org.opensearch.search.aggregations.bucket.composite.SingleDimensionValuesSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures collecting the docs of a segment into the queue of a {@code composite} aggregation with a {@code long}, a
+ * {@code double} and a {@code keyword} source, the way the aggregation fills a page of buckets.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(CompositeValuesCollectorQueueBenchmark.NUM_DOCS)
+@State(Scope.Benchmark)
+public class CompositeValuesCollectorQueueBenchmark {
+    static final int NUM_DOCS = 1_000_000;
+
+    /**
+     * The number of composite buckets of a page.
+     */
+    @Param({ "10", "1000", "10000" })
+    public int size;
+
+    /**
+     * The number of distinct values of each source, so the product is the number of distinct composite keys.
+     */
+    @Param({ "100", "10000" })
+    public int cardinality;
+
+    private final BigArrays bigArrays = new BigArrays(new PageCacheRecycler(Settings.EMPTY), null, "REQUEST");
+    private final MappedFieldType longField = new NumberFieldMapper.NumberFieldType("long", NumberFieldMapper.NumberType.LONG);
+    private final MappedFieldType doubleField = new NumberFieldMapper.NumberFieldType("double", NumberFieldMapper.NumberType.DOUBLE);
+    private final MappedFieldType keywordField = new KeywordFieldMapper.KeywordFieldType("keyword");
+    private Path path;
+    private Directory directory;
+    private DirectoryReader reader;
+    private LeafReaderContext leaf;
+
+    @Setup
+    public void setup() throws IOException {
+        path = Files.createTempDirectory("composite-values-collector-queue");
+        directory = new MMapDirectory(path);
+        final Random random = new Random(0);
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            for (int i = 0; i < NUM_DOCS; i++) {
+                final Document document = new Document();
+                document.add(new SortedNumericDocValuesField("long", random.nextInt(cardinality)));
+                final double value = random.nextInt(cardinality) / 10d;
+                document.add(new SortedNumericDocValuesField("double", NumericUtils.doubleToSortableLong(value)));
+                document.add(new SortedSetDocValuesField("keyword", new BytesRef("term-" + random.nextInt(cardinality))));
+                writer.addDocument(document);
+            }
+            // a single segment, so that the segment ordinals of the keyword field are global ordinals
+            writer.forceMerge(1);
+        }
+        reader = DirectoryReader.open(directory);
+        leaf = reader.leaves().get(0);
+        pollute();
+    }
+
+    /**
+     * A node runs composite aggregations with sources of other types and in other orders: collect through them so that the JIT
+     * can't specialize the queue for a single set of sources.
+     */
+    public void pollute() throws IOException {
+        collect(new SingleDimensionValuesSource<?>[] { keywordSource(), longSource(-1) });
+        collect(new SingleDimensionValuesSource<?>[] { doubleSource(-1), keywordSource(), longSource(1) });
+        collect(new SingleDimensionValuesSource<?>[] { longSource(1) });
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        IOUtils.close(reader, directory);
+        IOUtils.rm(path);
+    }
+
+    private SingleDimensionValuesSource<?> longSource(int reverseMul) {
+        return new LongValuesSource(
+            bigArrays,
+            longField,
+            context -> DocValues.getSortedNumeric(context.reader(), "long"),
+            value -> value,
+            DocValueFormat.RAW,
+            false,
+            size,
+            reverseMul
+        );
+    }
+
+    private SingleDimensionValuesSource<?> doubleSource(int reverseMul) {
+        return new DoubleValuesSource(
+            bigArrays,
+            doubleField,
+            context -> FieldData.sortableLongBitsToDoubles(DocValues.getSortedNumeric(context.reader(), "double")),
+            DocValueFormat.RAW,
+            false,
+            size,
+            reverseMul
+        );
+    }
+
+    private SingleDimensionValuesSource<?> keywordSource() {
+        return new GlobalOrdinalValuesSource(
+            bigArrays,
+            keywordField,
+            context -> DocValues.getSortedSet(context.reader(), "keyword"),
+            DocValueFormat.RAW,
+            false,
+            size,
+            1
+        );
+    }
+
+    private int collect(SingleDimensionValuesSource<?>[] sources) throws IOException {
+        try (CompositeValuesCollectorQueue queue = new CompositeValuesCollectorQueue(bigArrays, sources, size, null)) {
+            final LeafBucketCollector collector = queue.getLeafCollector(leaf, new LeafBucketCollector() {
+                @Override
+                public void collect(int doc, long bucket) throws IOException {
+                    queue.addIfCompetitive(0);
+                }
+            });
+            for (int doc = 0; doc < NUM_DOCS; doc++) {
+                collector.collect(doc);
+            }
+            return queue.size();
+        } finally {
+            IOUtils.close(sources);
+        }
+    }
+
+    @Benchmark
+    public int longDoubleKeyword() throws IOException {
+        return collect(new SingleDimensionValuesSource<?>[] { longSource(1), doubleSource(1), keywordSource() });
+    }
+}
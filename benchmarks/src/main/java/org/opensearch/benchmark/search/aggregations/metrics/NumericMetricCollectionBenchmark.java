@@ -0,0 +1,200 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.aggregations.metrics;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.IOUtils;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.DoubleArray;
+import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.index.fielddata.FieldData;
+import org.opensearch.index.fielddata.NumericDoubleValues;
+import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+import org.opensearch.search.aggregations.BatchingLeafBucketCollector;
+import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.search.aggregations.metrics.CompensatedSum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares collecting a single-valued numeric field one doc at a time, the way the {@code sum} aggregation collects
+ * multi-valued fields, with collecting it a batch of docs at a time with a {@link BatchingLeafBucketCollector}.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(NumericMetricCollectionBenchmark.NUM_DOCS)
+@State(Scope.Benchmark)
+public class NumericMetricCollectionBenchmark {
+    static final int NUM_DOCS = 1_000_000;
+
+    /**
+     * The percentage of the docs that have a value.
+     */
+    @Param({ "100", "50" })
+    public int density;
+
+    private final BigArrays bigArrays = new BigArrays(new PageCacheRecycler(Settings.EMPTY), null, "REQUEST");
+    private Path path;
+    private Directory directory;
+    private DirectoryReader reader;
+    private LeafReader leaf;
+
+    @Setup
+    public void setup() throws IOException {
+        path = Files.createTempDirectory("numeric-metric-collection");
+        directory = new MMapDirectory(path);
+        final Random random = new Random(0);
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            for (int i = 0; i < NUM_DOCS; i++) {
+                final Document document = new Document();
+                if (random.nextInt(100) < density) {
+                    document.add(new SortedNumericDocValuesField("value", NumericUtils.doubleToSortableLong(random.nextDouble() * 1000)));
+                }
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+        reader = DirectoryReader.open(directory);
+        leaf = reader.leaves().get(0).reader();
+        pollute();
+    }
+
+    /**
+     * A node runs many aggregations on fields of different types: collect through other collectors and doc values
+     * implementations so that the JIT can't inline the calls of a single one.
+     */
+    public void pollute() throws IOException {
+        for (int i = 0; i < 3; i++) {
+            final int collectorType = i;
+            final SortedNumericDoubleValues values = FieldData.castToDouble(DocValues.getSortedNumeric(leaf, "value"));
+            final NumericDoubleValues singleton = FieldData.unwrapSingleton(values);
+            final double[] result = new double[1];
+            collectAll(new LeafBucketCollector() {
+                @Override
+                public void collect(int doc, long bucket) throws IOException {
+                    if (collectorType == 0 && values.advanceExact(doc)) {
+                        result[0] += values.nextValue();
+                    } else if (singleton.advanceExact(doc)) {
+                        result[0] = Math.max(result[0], singleton.doubleValue());
+                    }
+                }
+            });
+            final BatchingLeafBucketCollector batching = new BatchingLeafBucketCollector() {
+                @Override
+                public void collect(int[] docs, int count, long bucket) throws IOException {
+                    for (int i = 0; i < count; i++) {
+                        if (singleton.advanceExact(docs[i])) {
+                            result[0] = Math.min(result[0], singleton.doubleValue());
+                        }
+                    }
+                }
+            };
+            collectAll(batching);
+            batching.flush();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        IOUtils.close(reader, directory);
+        IOUtils.rm(path);
+    }
+
+    private SortedNumericDoubleValues values() throws IOException {
+        return FieldData.sortableLongBitsToDoubles(DocValues.getSortedNumeric(leaf, "value"));
+    }
+
+    private static void collectAll(LeafBucketCollector collector) throws IOException {
+        for (int doc = 0; doc < NUM_DOCS; doc++) {
+            collector.collect(doc);
+        }
+    }
+
+    @Benchmark
+    public double perDoc() throws IOException {
+        final SortedNumericDoubleValues values = values();
+        final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        try (DoubleArray sums = bigArrays.newDoubleArray(1, true); DoubleArray compensations = bigArrays.newDoubleArray(1, true)) {
+            collectAll(new LeafBucketCollector() {
+                @Override
+                public void collect(int doc, long bucket) throws IOException {
+                    if (values.advanceExact(doc)) {
+                        final int valuesCount = values.docValueCount();
+                        kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+                        for (int i = 0; i < valuesCount; i++) {
+                            kahanSummation.add(values.nextValue());
+                        }
+                        compensations.set(bucket, kahanSummation.delta());
+                        sums.set(bucket, kahanSummation.value());
+                    }
+                }
+            });
+            return sums.get(0);
+        }
+    }
+
+    @Benchmark
+    public double batched() throws IOException {
+        final NumericDoubleValues values = FieldData.unwrapSingleton(values());
+        final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        final double[] batch = new double[BatchingLeafBucketCollector.BATCH_SIZE];
+        try (DoubleArray sums = bigArrays.newDoubleArray(1, true); DoubleArray compensations = bigArrays.newDoubleArray(1, true)) {
+            final BatchingLeafBucketCollector collector = new BatchingLeafBucketCollector() {
+                @Override
+                public void collect(int[] docs, int count, long bucket) throws IOException {
+                    int numValues = 0;
+                    for (int i = 0; i < count; i++) {
+                        if (values.advanceExact(docs[i])) {
+                            batch[numValues++] = values.doubleValue();
+                        }
+                    }
+                    kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+                    for (int i = 0; i < numValues; i++) {
+                        kahanSummation.add(batch[i]);
+                    }
+                    compensations.set(bucket, kahanSummation.delta());
+                    sums.set(bucket, kahanSummation.value());
+                }
+            };
+            collectAll(collector);
+            collector.flush();
+            return sums.get(0);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.fetch.subphase;
+
+import org.opensearch.common.CheckedBiConsumer;
+import org.opensearch.common.Strings;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.DeprecationHandler;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares filtering a large source by parsing it into a map, as the fetch phase does for nested hits, with filtering the
+ * tokens of the source straight into the output.
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class FetchSourceFilterBenchmark {
+
+    @Param({ "title", "title,user.name,tags", "user.*", "*.name" })
+    public String includes = "title";
+
+    @Param({ "", "comments" })
+    public String excludes = "";
+
+    @Param({ "200" })
+    public int numComments = 200;
+
+    private BytesReference source;
+    private Function<Map<String, ?>, Map<String, Object>> filter;
+    private CheckedBiConsumer<XContentParser, XContentBuilder, IOException> streamingFilter;
+
+    @Setup
+    public void setUp() throws IOException {
+        final String[] includePaths = Strings.splitStringByCommaToArray(includes);
+        final String[] excludePaths = Strings.splitStringByCommaToArray(excludes);
+        filter = XContentMapValues.filter(includePaths, excludePaths);
+        streamingFilter = XContentMapValues.streamingFilter(includePaths, excludePaths);
+        source = source(numComments);
+    }
+
+    private static BytesReference source(int numComments) throws IOException {
+        final Random random = new Random(42);
+        try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+            builder.startObject();
+            builder.field("title", "A rather long title for a document with many comments");
+            builder.startObject("user").field("name", "someone").field("id", 42).field("email", "someone@example.com").endObject();
+            builder.array("tags", "fetch", "source", "filtering");
+            builder.startArray("comments");
+            for (int i = 0; i < numComments; i++) {
+                builder.startObject();
+                builder.field("name", "commenter_" + random.nextInt(100));
+                builder.field("timestamp", 1_600_000_000_000L + i * 1000L);
+                builder.field("votes", random.nextInt(1000));
+                builder.field("text", "some comment text that is repeated over and over again " + i);
+                builder.endObject();
+            }
+            builder.endArray();
+            builder.endObject();
+            return BytesReference.bytes(builder);
+        }
+    }
+
+    @Benchmark
+    public BytesReference filterMap() throws IOException {
+        final Map<String, Object> map = XContentHelper.convertToMap(source, true, XContentType.JSON).v2();
+        try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+            return BytesReference.bytes(builder.map(filter.apply(map)));
+        }
+    }
+
+    @Benchmark
+    public BytesReference filterStream() throws IOException {
+        try (
+            XContentParser parser = XContentType.JSON.xContent()
+                .createParser(NamedXContentRegistry.EMPTY, DeprecationHandler.THROW_UNSUPPORTED_OPERATION, source.streamInput())
+        ) {
+            final XContentBuilder builder = new XContentBuilder(XContentType.JSON.xContent(), new BytesStreamOutput(1024));
+            parser.nextToken();
+            streamingFilter.accept(parser, builder);
+            return BytesReference.bytes(builder);
+        }
+    }
+}
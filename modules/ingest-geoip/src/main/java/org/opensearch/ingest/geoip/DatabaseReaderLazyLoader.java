@@ -139,6 +139,10 @@ class DatabaseReaderLazyLoader implements Closeable {
         return databaseType.get();
     }
 
+    Path getDatabasePath() {
+        return databasePath;
+    }
+
     long databaseFileSize() throws IOException {
         return Files.size(databasePath);
     }
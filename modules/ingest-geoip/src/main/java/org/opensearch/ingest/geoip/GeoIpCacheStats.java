@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest.geoip;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * Statistics of the geoip lookup cache of a node.
+ */
+public class GeoIpCacheStats implements Writeable, ToXContentFragment {
+
+    private final long count;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+
+    public GeoIpCacheStats(long count, long hits, long misses, long evictions) {
+        this.count = count;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    public GeoIpCacheStats(StreamInput in) throws IOException {
+        count = in.readVLong();
+        hits = in.readVLong();
+        misses = in.readVLong();
+        evictions = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(count);
+        out.writeVLong(hits);
+        out.writeVLong(misses);
+        out.writeVLong(evictions);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("cache");
+        builder.field("count", count);
+        builder.field("hits", hits);
+        builder.field("misses", misses);
+        builder.field("evictions", evictions);
+        return builder.endObject();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest.geoip;
+
+import org.opensearch.action.ActionType;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodeRequest;
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Retrieves the statistics of the geoip lookup cache of the nodes.
+ */
+public class GeoIpStatsAction extends ActionType<GeoIpStatsAction.Response> {
+
+    public static final GeoIpStatsAction INSTANCE = new GeoIpStatsAction();
+    public static final String NAME = "cluster:monitor/ingest/geoip/stats";
+
+    private GeoIpStatsAction() {
+        super(NAME, Response::new);
+    }
+
+    public static class Request extends BaseNodesRequest<Request> {
+
+        public Request(String... nodesIds) {
+            super(nodesIds);
+        }
+
+        public Request(StreamInput in) throws IOException {
+            super(in);
+        }
+    }
+
+    public static class NodeRequest extends BaseNodeRequest {
+
+        public NodeRequest() {
+        }
+
+        public NodeRequest(StreamInput in) throws IOException {
+            super(in);
+        }
+    }
+
+    public static class NodeResponse extends BaseNodeResponse {
+
+        private final GeoIpCacheStats cacheStats;
+
+        public NodeResponse(DiscoveryNode node, GeoIpCacheStats cacheStats) {
+            super(node);
+            this.cacheStats = cacheStats;
+        }
+
+        public NodeResponse(StreamInput in) throws IOException {
+            super(in);
+            cacheStats = new GeoIpCacheStats(in);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            cacheStats.writeTo(out);
+        }
+
+        public GeoIpCacheStats getCacheStats() {
+            return cacheStats;
+        }
+    }
+
+    public static class Response extends BaseNodesResponse<NodeResponse> implements ToXContentFragment {
+
+        public Response(ClusterName clusterName, List<NodeResponse> nodes, List<FailedNodeException> failures) {
+            super(clusterName, nodes, failures);
+        }
+
+        public Response(StreamInput in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected List<NodeResponse> readNodesFrom(StreamInput in) throws IOException {
+            return in.readList(NodeResponse::new);
+        }
+
+        @Override
+        protected void writeNodesTo(StreamOutput out, List<NodeResponse> nodes) throws IOException {
+            out.writeList(nodes);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject("nodes");
+            for (NodeResponse node : getNodes()) {
+                builder.startObject(node.getNode().getId());
+                node.getCacheStats().toXContent(builder, params);
+                builder.endObject();
+            }
+            return builder.endObject();
+        }
+    }
+}
@@ -37,16 +37,37 @@ import com.maxmind.db.NodeCache;
 import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.model.AbstractResponse;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionResponse;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Booleans;
 import org.opensearch.common.SuppressForbidden;
 import org.opensearch.common.cache.Cache;
 import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.io.PathUtils;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.IndexScopedSettings;
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.settings.SettingsFilter;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
 import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.env.Environment;
+import org.opensearch.env.NodeEnvironment;
 import org.opensearch.ingest.Processor;
+import org.opensearch.plugins.ActionPlugin;
 import org.opensearch.plugins.IngestPlugin;
 import org.opensearch.plugins.Plugin;
+import org.opensearch.repositories.RepositoriesService;
+import org.opensearch.rest.RestController;
+import org.opensearch.rest.RestHandler;
+import org.opensearch.script.ScriptService;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.watcher.ResourceWatcherService;
 
 import java.io.Closeable;
 import java.io.IOException;
@@ -55,28 +76,63 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
-public class IngestGeoIpPlugin extends Plugin implements IngestPlugin, Closeable {
+public class IngestGeoIpPlugin extends Plugin implements IngestPlugin, ActionPlugin, Closeable {
     public static final Setting<Long> CACHE_SIZE =
         Setting.longSetting("ingest.geoip.cache_size", 1000, 0, Setting.Property.NodeScope);
 
     static String[] DEFAULT_DATABASE_FILENAMES = new String[]{"GeoLite2-ASN.mmdb", "GeoLite2-City.mmdb", "GeoLite2-Country.mmdb"};
 
     private Map<String, DatabaseReaderLazyLoader> databaseReaders;
+    private GeoIpCache cache;
 
     @Override
     public List<Setting<?>> getSettings() {
         return Arrays.asList(CACHE_SIZE);
     }
 
+    @Override
+    public Collection<Object> createComponents(Client client, ClusterService clusterService, ThreadPool threadPool,
+                                               ResourceWatcherService resourceWatcherService, ScriptService scriptService,
+                                               NamedXContentRegistry xContentRegistry, Environment environment,
+                                               NodeEnvironment nodeEnvironment, NamedWriteableRegistry namedWriteableRegistry,
+                                               IndexNameExpressionResolver indexNameExpressionResolver,
+                                               Supplier<RepositoriesService> repositoriesServiceSupplier) {
+        // the cache is shared by all geoip processors of the node, bind it so that its stats can be served
+        return Collections.singletonList(getOrCreateCache(environment.settings()));
+    }
+
+    @Override
+    public List<ActionHandler<? extends ActionRequest, ? extends ActionResponse>> getActions() {
+        return Collections.singletonList(new ActionHandler<>(GeoIpStatsAction.INSTANCE, TransportGeoIpStatsAction.class));
+    }
+
+    @Override
+    public List<RestHandler> getRestHandlers(Settings settings, RestController restController, ClusterSettings clusterSettings,
+                                             IndexScopedSettings indexScopedSettings, SettingsFilter settingsFilter,
+                                             IndexNameExpressionResolver indexNameExpressionResolver,
+                                             Supplier<DiscoveryNodes> nodesInCluster) {
+        return Collections.singletonList(new RestGeoIpStatsAction());
+    }
+
+    private GeoIpCache getOrCreateCache(Settings settings) {
+        if (cache == null) {
+            cache = new GeoIpCache(CACHE_SIZE.get(settings));
+        }
+        return cache;
+    }
+
     @Override
     public Map<String, Processor.Factory> getProcessors(Processor.Parameters parameters) {
         if (databaseReaders != null) {
@@ -84,13 +140,13 @@ public class IngestGeoIpPlugin extends Plugin implements IngestPlugin, Closeable
         }
         final Path geoIpDirectory = getGeoIpDirectory(parameters);
         final Path geoIpConfigDirectory = parameters.env.configFile().resolve("ingest-geoip");
-        long cacheSize = CACHE_SIZE.get(parameters.env.settings());
         try {
             databaseReaders = loadDatabaseReaders(geoIpDirectory, geoIpConfigDirectory);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
-        return Collections.singletonMap(GeoIpProcessor.TYPE, new GeoIpProcessor.Factory(databaseReaders, new GeoIpCache(cacheSize)));
+        return Collections.singletonMap(GeoIpProcessor.TYPE, new GeoIpProcessor.Factory(databaseReaders,
+            getOrCreateCache(parameters.env.settings())));
     }
 
     /*
@@ -184,51 +240,62 @@ public class IngestGeoIpPlugin extends Plugin implements IngestPlugin, Closeable
      * reduction of CPU usage.
      */
     static class GeoIpCache {
-        private final Cache<CacheKey<?>, AbstractResponse> cache;
+        private final Cache<CacheKey, Optional<AbstractResponse>> cache;
 
         //package private for testing
         GeoIpCache(long maxSize) {
             if (maxSize < 0) {
                 throw new IllegalArgumentException("geoip max cache size must be 0 or greater");
             }
-            this.cache = CacheBuilder.<CacheKey<?>, AbstractResponse>builder().setMaximumWeight(maxSize).build();
+            this.cache = CacheBuilder.<CacheKey, Optional<AbstractResponse>>builder().setMaximumWeight(maxSize).build();
         }
 
-        <T extends AbstractResponse> T putIfAbsent(InetAddress ip, Class<T> responseType,
-                                                   Function<InetAddress, AbstractResponse> retrieveFunction) {
+        /**
+         * Returns the cached response for the given ip in the given database, retrieving and caching it first if needed. The retrieve
+         * function returns {@code null} if the database has no entry for the ip. That is cached as well, so that addresses the
+         * database does not know about, e.g. private addresses, don't hit the database on every lookup either.
+         *
+         * @return the response for the ip, or {@code null} if the database has no entry for it
+         */
+        <T extends AbstractResponse> T putIfAbsent(InetAddress ip, Path databasePath, Class<T> responseType,
+                                                   Function<InetAddress, T> retrieveFunction) {
 
             //can't use cache.computeIfAbsent due to the elevated permissions for the jackson (run via the cache loader)
-            CacheKey<T> cacheKey = new CacheKey<>(ip, responseType);
+            CacheKey cacheKey = new CacheKey(ip, databasePath);
             //intentionally non-locking for simplicity...it's OK if we re-put the same key/value in the cache during a race condition.
-            AbstractResponse response = cache.get(cacheKey);
+            Optional<AbstractResponse> response = cache.get(cacheKey);
             if (response == null) {
-                response = retrieveFunction.apply(ip);
+                response = Optional.ofNullable(retrieveFunction.apply(ip));
                 cache.put(cacheKey, response);
             }
-            return responseType.cast(response);
+            return response.map(responseType::cast).orElse(null);
         }
 
         //only useful for testing
-        <T extends AbstractResponse> T get(InetAddress ip, Class<T> responseType) {
-            CacheKey<T> cacheKey = new CacheKey<>(ip, responseType);
-            return responseType.cast(cache.get(cacheKey));
+        <T extends AbstractResponse> T get(InetAddress ip, Path databasePath, Class<T> responseType) {
+            CacheKey cacheKey = new CacheKey(ip, databasePath);
+            Optional<AbstractResponse> response = cache.get(cacheKey);
+            return response == null ? null : response.map(responseType::cast).orElse(null);
+        }
+
+        GeoIpCacheStats stats() {
+            Cache.CacheStats stats = cache.stats();
+            return new GeoIpCacheStats(cache.count(), stats.getHits(), stats.getMisses(), stats.getEvictions());
         }
 
-         /**
-         * The key to use for the cache. Since this cache can span multiple geoip processors that all use different databases, the response
-         * type is needed to be included in the cache key. For example, if we only used the IP address as the key the City and ASN the same
-         * IP may be in both with different values and we need to cache both. The response type scopes the IP to the correct database
-         * provides a means to safely cast the return objects.
-         * @param <T> The AbstractResponse type used to scope the key and cast the result.
+        /**
+         * The key to use for the cache. Since this cache can span multiple geoip processors that all use different databases, the
+         * database is needed to be included in the cache key. For example, if we only used the IP address as the key the City and ASN
+         * databases, or two custom City databases, may have the same IP with different values and we need to cache both.
          */
-        private static class CacheKey<T extends AbstractResponse> {
+        private static class CacheKey {
 
             private final InetAddress ip;
-            private final Class<T> responseType;
+            private final Path databasePath;
 
-            private CacheKey(InetAddress ip, Class<T> responseType) {
+            private CacheKey(InetAddress ip, Path databasePath) {
                 this.ip = ip;
-                this.responseType = responseType;
+                this.databasePath = databasePath;
             }
 
             //generated
@@ -236,15 +303,15 @@ public class IngestGeoIpPlugin extends Plugin implements IngestPlugin, Closeable
             public boolean equals(Object o) {
                 if (this == o) return true;
                 if (o == null || getClass() != o.getClass()) return false;
-                CacheKey<?> cacheKey = (CacheKey<?>) o;
+                CacheKey cacheKey = (CacheKey) o;
                 return Objects.equals(ip, cacheKey.ip) &&
-                    Objects.equals(responseType, cacheKey.responseType);
+                    Objects.equals(databasePath, cacheKey.databasePath);
             }
 
             //generated
             @Override
             public int hashCode() {
-                return Objects.hash(ip, responseType);
+                return Objects.hash(ip, databasePath);
             }
         }
     }
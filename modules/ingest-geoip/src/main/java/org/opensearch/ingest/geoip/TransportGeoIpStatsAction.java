@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest.geoip;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.ingest.geoip.GeoIpStatsAction.NodeRequest;
+import org.opensearch.ingest.geoip.GeoIpStatsAction.NodeResponse;
+import org.opensearch.ingest.geoip.GeoIpStatsAction.Request;
+import org.opensearch.ingest.geoip.GeoIpStatsAction.Response;
+import org.opensearch.ingest.geoip.IngestGeoIpPlugin.GeoIpCache;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.List;
+
+public class TransportGeoIpStatsAction extends TransportNodesAction<Request, Response, NodeRequest, NodeResponse> {
+
+    private final GeoIpCache cache;
+
+    @Inject
+    public TransportGeoIpStatsAction(ThreadPool threadPool, ClusterService clusterService, TransportService transportService,
+                                     ActionFilters actionFilters, GeoIpCache cache) {
+        super(GeoIpStatsAction.NAME, threadPool, clusterService, transportService, actionFilters, Request::new, NodeRequest::new,
+            ThreadPool.Names.MANAGEMENT, NodeResponse.class);
+        this.cache = cache;
+    }
+
+    @Override
+    protected Response newResponse(Request request, List<NodeResponse> responses, List<FailedNodeException> failures) {
+        return new Response(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected NodeRequest newNodeRequest(Request request) {
+        return new NodeRequest();
+    }
+
+    @Override
+    protected NodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new NodeResponse(in);
+    }
+
+    @Override
+    protected NodeResponse nodeOperation(NodeRequest request) {
+        return new NodeResponse(clusterService.localNode(), cache.stats());
+    }
+}
@@ -230,15 +230,24 @@ public class GeoIpProcessorTests extends OpenSearchTestCase {
     }
 
     public void testAddressIsNotInTheDatabase() throws Exception {
+        GeoIpCache cache = new GeoIpCache(1000);
         GeoIpProcessor processor = new GeoIpProcessor(randomAlphaOfLength(10), null, "source_field",
                 loader("/GeoLite2-City.mmdb"), "target_field", EnumSet.allOf(GeoIpProcessor.Property.class), false,
-                new GeoIpCache(1000), false);
+                cache, false);
 
         Map<String, Object> document = new HashMap<>();
         document.put("source_field", "127.0.0.1");
         IngestDocument ingestDocument = RandomDocumentPicks.randomIngestDocument(random(), document);
         processor.execute(ingestDocument);
         assertThat(ingestDocument.getSourceAndMetadata().containsKey("target_field"), is(false));
+
+        // the miss is cached as well
+        ingestDocument = RandomDocumentPicks.randomIngestDocument(random(), document);
+        processor.execute(ingestDocument);
+        assertThat(ingestDocument.getSourceAndMetadata().containsKey("target_field"), is(false));
+        assertThat(cache.stats().getCount(), equalTo(1L));
+        assertThat(cache.stats().getMisses(), equalTo(1L));
+        assertThat(cache.stats().getHits(), equalTo(1L));
     }
 
     /** Don't silently do DNS lookups or anything trappy on bogus data */
@@ -33,41 +33,87 @@
 package org.opensearch.ingest.geoip;
 
 import com.maxmind.geoip2.model.AbstractResponse;
+import org.opensearch.common.io.PathUtils;
 import org.opensearch.common.network.InetAddresses;
 import org.opensearch.ingest.geoip.IngestGeoIpPlugin.GeoIpCache;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.net.InetAddress;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.mockito.Mockito.mock;
 
 public class IngestGeoIpPluginTests extends OpenSearchTestCase {
 
     public void testCachesAndEvictsResults() {
         GeoIpCache cache = new GeoIpCache(1);
+        Path database = PathUtils.get("GeoLite2-City.mmdb");
         AbstractResponse response1 = mock(AbstractResponse.class);
         AbstractResponse response2 = mock(AbstractResponse.class);
 
         //add a key
-        AbstractResponse cachedResponse = cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), AbstractResponse.class, ip -> response1);
+        AbstractResponse cachedResponse = cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), database, AbstractResponse.class,
+            ip -> response1);
         assertSame(cachedResponse, response1);
-        assertSame(cachedResponse, cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), AbstractResponse.class, ip -> response1));
-        assertSame(cachedResponse, cache.get(InetAddresses.forString("127.0.0.1"), AbstractResponse.class));
+        assertSame(cachedResponse, cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), database, AbstractResponse.class,
+            ip -> response1));
+        assertSame(cachedResponse, cache.get(InetAddresses.forString("127.0.0.1"), database, AbstractResponse.class));
 
 
         // evict old key by adding another value
-        cachedResponse = cache.putIfAbsent(InetAddresses.forString("127.0.0.2"), AbstractResponse.class, ip -> response2);
+        cachedResponse = cache.putIfAbsent(InetAddresses.forString("127.0.0.2"), database, AbstractResponse.class, ip -> response2);
         assertSame(cachedResponse, response2);
-        assertSame(cachedResponse, cache.putIfAbsent(InetAddresses.forString("127.0.0.2"), AbstractResponse.class, ip -> response2));
-        assertSame(cachedResponse, cache.get(InetAddresses.forString("127.0.0.2"), AbstractResponse.class));
+        assertSame(cachedResponse, cache.putIfAbsent(InetAddresses.forString("127.0.0.2"), database, AbstractResponse.class,
+            ip -> response2));
+        assertSame(cachedResponse, cache.get(InetAddresses.forString("127.0.0.2"), database, AbstractResponse.class));
+
+        assertNotSame(response1, cache.get(InetAddresses.forString("127.0.0.1"), database, AbstractResponse.class));
+
+        GeoIpCacheStats stats = cache.stats();
+        assertEquals(1, stats.getCount());
+        assertEquals(4, stats.getHits());
+        assertEquals(3, stats.getMisses());
+        assertEquals(1, stats.getEvictions());
+    }
+
+    public void testCachesResultsPerDatabase() {
+        GeoIpCache cache = new GeoIpCache(10);
+        AbstractResponse response1 = mock(AbstractResponse.class);
+        AbstractResponse response2 = mock(AbstractResponse.class);
+        InetAddress ip = InetAddresses.forString("127.0.0.1");
+
+        assertSame(response1, cache.putIfAbsent(ip, PathUtils.get("GeoLite2-City.mmdb"), AbstractResponse.class, i -> response1));
+        assertSame(response2, cache.putIfAbsent(ip, PathUtils.get("Custom-City.mmdb"), AbstractResponse.class, i -> response2));
+        assertSame(response1, cache.get(ip, PathUtils.get("GeoLite2-City.mmdb"), AbstractResponse.class));
+        assertSame(response2, cache.get(ip, PathUtils.get("Custom-City.mmdb"), AbstractResponse.class));
+    }
+
+    public void testCachesMissingAddresses() {
+        GeoIpCache cache = new GeoIpCache(10);
+        Path database = PathUtils.get("GeoLite2-City.mmdb");
+        AtomicInteger lookups = new AtomicInteger();
 
-        assertNotSame(response1, cache.get(InetAddresses.forString("127.0.0.1"), AbstractResponse.class));
+        assertNull(cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), database, AbstractResponse.class, ip -> {
+            lookups.incrementAndGet();
+            return null;
+        }));
+        assertNull(cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), database, AbstractResponse.class, ip -> {
+            lookups.incrementAndGet();
+            return null;
+        }));
+        assertEquals(1, lookups.get());
+        assertEquals(1, cache.stats().getCount());
+        assertEquals(1, cache.stats().getHits());
     }
 
     public void testThrowsFunctionsException() {
         GeoIpCache cache = new GeoIpCache(1);
         IllegalArgumentException ex = expectThrows(IllegalArgumentException.class,
-            () -> cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), AbstractResponse.class,
+            () -> cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), PathUtils.get("GeoLite2-City.mmdb"), AbstractResponse.class,
                 ip -> { throw new IllegalArgumentException("bad"); }));
         assertEquals("bad", ex.getMessage());
+        assertEquals(0, cache.stats().getCount());
     }
 
     public void testInvalidInit() {
@@ -38,6 +38,8 @@ import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.FileRegion;
+import io.netty.util.ReferenceCountUtil;
 import org.opensearch.OpenSearchException;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.common.bytes.BytesReference;
@@ -104,9 +106,10 @@ final class Netty4MessageChannelHandler extends ChannelDuplexHandler {
 
     @Override
     public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
-        assert msg instanceof ByteBuf;
+        assert msg instanceof ByteBuf || msg instanceof FileRegion : "Expected message type ByteBuf or FileRegion, found: "
+            + msg.getClass();
         assert Transports.assertDefaultThreadContext(transport.getThreadPool().getThreadContext());
-        final boolean queued = queuedWrites.offer(new WriteOperation((ByteBuf) msg, promise));
+        final boolean queued = queuedWrites.offer(new WriteOperation(msg, promise));
         assert queued;
         assert Transports.assertDefaultThreadContext(transport.getThreadPool().getThreadContext());
     }
@@ -142,7 +145,7 @@ final class Netty4MessageChannelHandler extends ChannelDuplexHandler {
         final Channel channel = ctx.channel();
         if (channel.isActive() == false) {
             if (currentWrite != null) {
-                currentWrite.promise.tryFailure(new ClosedChannelException());
+                currentWrite.fail();
             }
             failQueuedWrites();
             return;
@@ -155,24 +158,43 @@ final class Netty4MessageChannelHandler extends ChannelDuplexHandler {
                 break;
             }
             final WriteOperation write = currentWrite;
-            if (write.buf.readableBytes() == 0) {
+            if (write.msg instanceof FileRegion) {
+                // the channel transfers a file region to the socket in as many steps as it takes
+                currentWrite = null;
+                ctx.write(write.msg).addListener(future -> {
+                    assert ctx.executor().inEventLoop();
+                    if (future.isSuccess()) {
+                        write.promise.trySuccess();
+                    } else {
+                        write.promise.tryFailure(future.cause());
+                    }
+                });
+                ctx.flush();
+                if (channel.isActive() == false) {
+                    failQueuedWrites();
+                    return;
+                }
+                continue;
+            }
+            final ByteBuf buf = (ByteBuf) write.msg;
+            if (buf.readableBytes() == 0) {
                 write.promise.trySuccess();
                 currentWrite = null;
                 continue;
             }
-            final int readableBytes = write.buf.readableBytes();
+            final int readableBytes = buf.readableBytes();
             final int bufferSize = Math.min(readableBytes, 1 << 18);
-            final int readerIndex = write.buf.readerIndex();
+            final int readerIndex = buf.readerIndex();
             final boolean sliced = readableBytes != bufferSize;
             final ByteBuf writeBuffer;
             if (sliced) {
-                writeBuffer = write.buf.retainedSlice(readerIndex, bufferSize);
-                write.buf.readerIndex(readerIndex + bufferSize);
+                writeBuffer = buf.retainedSlice(readerIndex, bufferSize);
+                buf.readerIndex(readerIndex + bufferSize);
             } else {
-                writeBuffer = write.buf;
+                writeBuffer = buf;
             }
             final ChannelFuture writeFuture = ctx.write(writeBuffer);
-            if (sliced == false || write.buf.readableBytes() == 0) {
+            if (sliced == false || buf.readableBytes() == 0) {
                 currentWrite = null;
                 writeFuture.addListener(future -> {
                     assert ctx.executor().inEventLoop();
@@ -201,19 +223,27 @@ final class Netty4MessageChannelHandler extends ChannelDuplexHandler {
     private void failQueuedWrites() {
         WriteOperation queuedWrite;
         while ((queuedWrite = queuedWrites.poll()) != null) {
-            queuedWrite.promise.tryFailure(new ClosedChannelException());
+            queuedWrite.fail();
         }
     }
 
     private static final class WriteOperation {
 
-        private final ByteBuf buf;
+        private final Object msg;
 
         private final ChannelPromise promise;
 
-        WriteOperation(ByteBuf buf, ChannelPromise promise) {
-            this.buf = buf;
+        WriteOperation(Object msg, ChannelPromise promise) {
+            this.msg = msg;
             this.promise = promise;
         }
+
+        void fail() {
+            if (msg instanceof FileRegion) {
+                // releasing a file region that was never written closes its file
+                ReferenceCountUtil.release(msg);
+            }
+            promise.tryFailure(new ClosedChannelException());
+        }
     }
 }
@@ -35,6 +35,9 @@ package org.opensearch.transport.netty4;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelPromise;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.PromiseCombiner;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.ActionListener;
 import org.opensearch.common.Nullable;
@@ -43,7 +46,10 @@ import org.opensearch.common.concurrent.CompletableContext;
 import org.opensearch.transport.TcpChannel;
 import org.opensearch.transport.TransportException;
 
+import java.io.UncheckedIOException;
 import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 public class Netty4TcpChannel implements TcpChannel {
 
@@ -156,13 +162,49 @@ public class Netty4TcpChannel implements TcpChannel {
 
     @Override
     public void sendMessage(BytesReference reference, ActionListener<Void> listener) {
-        channel.writeAndFlush(Netty4Utils.toByteBuf(reference), addPromise(listener, channel));
+        final ChannelPromise promise = addPromise(listener, channel);
+        try {
+            // file regions can only be sent straight from the file if the bytes aren't encrypted on their way to the socket
+            if (Netty4Utils.hasFileRegions(reference) && channel.pipeline().get(SslHandler.class) == null) {
+                writeAndFlush(Netty4Utils.toMessages(reference), promise);
+            } else {
+                channel.writeAndFlush(Netty4Utils.toByteBuf(reference), promise);
+            }
+        } catch (UncheckedIOException e) {
+            // failing to read a file region fails the message but doesn't affect the channel
+            promise.setFailure(e.getCause());
+        }
 
         if (channel.eventLoop().isShutdown()) {
             listener.onFailure(new TransportException("Cannot send message, event loop is shutting down."));
         }
     }
 
+    /**
+     * Writes the messages that a message is made of within a single task of the event loop, so that the ones of other messages
+     * can't get in between them.
+     */
+    private void writeAndFlush(List<Object> messages, ChannelPromise promise) {
+        final Runnable write = () -> {
+            final PromiseCombiner combiner = new PromiseCombiner(channel.eventLoop());
+            for (Object message : messages) {
+                combiner.add(channel.write(message));
+            }
+            combiner.finish(promise);
+            channel.flush();
+        };
+        if (channel.eventLoop().inEventLoop()) {
+            write.run();
+        } else {
+            try {
+                channel.eventLoop().execute(write);
+            } catch (RejectedExecutionException e) {
+                messages.forEach(ReferenceCountUtil::release);
+                promise.setFailure(e);
+            }
+        }
+    }
+
     public Channel getNettyChannel() {
         return channel;
     }
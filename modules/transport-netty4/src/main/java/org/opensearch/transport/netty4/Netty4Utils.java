@@ -35,16 +35,24 @@ package org.opensearch.transport.netty4;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.util.NettyRuntime;
+import io.netty.util.ReferenceCountUtil;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefIterator;
 import org.opensearch.common.Booleans;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
+import org.opensearch.common.bytes.FileRegionBytesReference;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -111,10 +119,55 @@ public class Netty4Utils {
                 return composite;
             }
         } catch (IOException ex) {
-            throw new AssertionError("no IO happens here", ex);
+            // only file regions are read from disk
+            throw new UncheckedIOException(ex);
         }
     }
 
+    /**
+     * Returns whether the given BytesReference refers to regions of files, see {@link #toMessages}.
+     */
+    static boolean hasFileRegions(final BytesReference reference) {
+        for (BytesReference component : components(reference)) {
+            if (component instanceof FileRegionBytesReference) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Turns the given BytesReference into the messages to write to a channel: the regions of files become {@link DefaultFileRegion}s
+     * that the channel transfers straight from the file to the socket, the other bytes are wrapped into ByteBufs. The file regions
+     * hold a file handle until they are released, which the channel does once they are written.
+     */
+    static List<Object> toMessages(final BytesReference reference) {
+        final List<BytesReference> components = components(reference);
+        final List<Object> messages = new ArrayList<>(components.size());
+        try {
+            for (BytesReference component : components) {
+                if (component instanceof FileRegionBytesReference) {
+                    final FileRegionBytesReference region = (FileRegionBytesReference) component;
+                    final FileChannel channel = FileChannel.open(region.file(), StandardOpenOption.READ);
+                    messages.add(new DefaultFileRegion(channel, region.position(), region.length()));
+                } else {
+                    messages.add(toByteBuf(component));
+                }
+            }
+        } catch (IOException e) {
+            messages.forEach(ReferenceCountUtil::release);
+            throw new UncheckedIOException(e);
+        }
+        return messages;
+    }
+
+    private static List<BytesReference> components(final BytesReference reference) {
+        if (reference instanceof CompositeBytesReference) {
+            return ((CompositeBytesReference) reference).references();
+        }
+        return Collections.singletonList(reference);
+    }
+
     /**
      * Wraps the given ChannelBuffer with a BytesReference
      */
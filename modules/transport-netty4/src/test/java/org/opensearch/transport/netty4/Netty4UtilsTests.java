@@ -35,11 +35,14 @@ package org.opensearch.transport.netty4;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.FileRegion;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.bytes.AbstractBytesReferenceTestCase;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
+import org.opensearch.common.bytes.FileRegionBytesReference;
 import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.PageCacheRecycler;
@@ -47,6 +50,12 @@ import org.opensearch.indices.breaker.NoneCircuitBreakerService;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 
 public class Netty4UtilsTests extends OpenSearchTestCase {
 
@@ -88,6 +97,32 @@ public class Netty4UtilsTests extends OpenSearchTestCase {
         assertArrayEquals(BytesReference.toBytes(ref), BytesReference.toBytes(bytesReference));
     }
 
+    public void testToMessagesWithFileRegion() throws IOException {
+        final Path file = createTempFile();
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(1, PAGE_SIZE));
+        Files.write(file, bytes);
+        final int position = randomInt(bytes.length - 1);
+        final BytesReference header = getRandomizedBytesReference(randomIntBetween(1, PAGE_SIZE));
+        final BytesReference region = new FileRegionBytesReference(file, position, bytes.length - position);
+        final BytesReference ref = CompositeBytesReference.of(header, region);
+        assertTrue(Netty4Utils.hasFileRegions(ref));
+        assertFalse(Netty4Utils.hasFileRegions(header));
+
+        final List<Object> messages = Netty4Utils.toMessages(ref);
+        assertThat(messages.size(), equalTo(2));
+        assertThat(messages.get(0), instanceOf(ByteBuf.class));
+        assertArrayEquals(BytesReference.toBytes(header), BytesReference.toBytes(Netty4Utils.toBytesReference((ByteBuf) messages.get(0))));
+        assertThat(messages.get(1), instanceOf(FileRegion.class));
+        final FileRegion fileRegion = (FileRegion) messages.get(1);
+        assertThat(fileRegion.position(), equalTo((long) position));
+        assertThat(fileRegion.count(), equalTo((long) region.length()));
+        assertTrue(fileRegion.release());
+
+        // without file regions the region is read into the buffer
+        final ByteBuf buffer = Netty4Utils.toByteBuf(ref);
+        assertArrayEquals(BytesReference.toBytes(ref), BytesReference.toBytes(Netty4Utils.toBytesReference(buffer)));
+    }
+
     private BytesReference getRandomizedBytesReference(int length) throws IOException {
         // we know bytes stream output always creates a paged bytes reference, we use it to create randomized content
         ReleasableBytesStreamOutput out = new ReleasableBytesStreamOutput(length, bigarrays);
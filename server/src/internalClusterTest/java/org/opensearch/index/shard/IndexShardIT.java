@@ -85,6 +85,7 @@ import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.translog.TestTranslog;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.TranslogStats;
+import org.opensearch.index.translog.TranslogSyncScheduler;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.indices.breaker.CircuitBreakerStats;
@@ -687,7 +688,8 @@ public class IndexShardIT extends OpenSearchSingleNodeTestCase {
                 Arrays.asList(listeners),
                 () -> {},
                 RetentionLeaseSyncer.EMPTY,
-                cbs);
+                cbs,
+                new TranslogSyncScheduler(Settings.EMPTY));
     }
 
     private static ShardRouting getInitializingShardRouting(ShardRouting existingShardRouting) {
@@ -35,6 +35,7 @@ package org.opensearch.action.bulk;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.replication.ReplicationResponse;
 import org.opensearch.action.support.replication.TransportWriteAction;
@@ -42,7 +43,9 @@ import org.opensearch.index.engine.Engine;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.translog.Translog;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * This is a utility class that holds the per request state needed to perform bulk operations on the primary.
@@ -180,6 +183,27 @@ class BulkPrimaryExecutionContext {
     }
 
 
+    /**
+     * returns the index requests, starting with the current one, that add documents with auto-generated ids and can therefore
+     * be executed as a batch. Stops at the first other request or after {@code maxRequests} requests.
+     */
+    public List<IndexRequest> getAppendOnlyRequests(int maxRequests) {
+        assert assertInvariants(ItemProcessingState.INITIAL);
+        final List<IndexRequest> requests = new ArrayList<>();
+        for (int i = currentIndex; i < request.items().length && requests.size() < maxRequests; i++) {
+            final BulkItemRequest item = request.items()[i];
+            if (isAborted(item.getPrimaryResponse()) || item.request() instanceof IndexRequest == false) {
+                break;
+            }
+            final IndexRequest indexRequest = (IndexRequest) item.request();
+            if (indexRequest.getAutoGeneratedTimestamp() == IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP || indexRequest.isRetry()) {
+                break;
+            }
+            requests.add(indexRequest);
+        }
+        return requests;
+    }
+
     /** returns the name of the index the current request used */
     public String getConcreteIndex() {
         return getCurrentItem().index();
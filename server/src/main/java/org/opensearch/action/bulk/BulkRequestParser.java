@@ -40,6 +40,7 @@ import org.opensearch.common.Nullable;
 import org.opensearch.common.ParseField;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
 import org.opensearch.common.logging.DeprecationLogger;
 import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
@@ -53,6 +54,8 @@ import org.opensearch.rest.action.document.RestBulkAction;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -91,13 +94,13 @@ public final class BulkRequestParser {
         this.warnOnTypeUsage = warnOnTypeUsage;
     }
 
-    private static int findNextMarker(byte marker, int from, BytesReference data) {
+    private static int findNextMarker(byte marker, int from, BytesReference data, boolean lastData) {
         final int res = data.indexOf(marker, from);
         if (res != -1) {
             assert res >= 0;
             return res;
         }
-        if (from != data.length()) {
+        if (lastData && from != data.length()) {
             throw new IllegalArgumentException("The bulk request must be terminated by a newline [\\n]");
         }
         return res;
@@ -151,181 +154,291 @@ public final class BulkRequestParser {
             Consumer<IndexRequest> indexRequestConsumer,
             Consumer<UpdateRequest> updateRequestConsumer,
             Consumer<DeleteRequest> deleteRequestConsumer) throws IOException {
-        XContent xContent = xContentType.xContent();
-        int line = 0;
-        int from = 0;
-        byte marker = xContent.streamSeparator();
-        boolean typesDeprecationLogged = false;
+        new IncrementalParser(defaultIndex, defaultType, defaultRouting, defaultFetchSourceContext, defaultPipeline, defaultRequireAlias,
+            allowExplicitIndex, xContentType, indexRequestConsumer, updateRequestConsumer, deleteRequestConsumer).parse(data, true);
+    }
+
+    /**
+     * Create a parser that is fed the provided {@code data} chunk by chunk as it becomes available, e.g. while the body of a bulk
+     * request is still being received. Each action is passed to the consumers as soon as the chunks received so far contain all of
+     * its lines, assuming the provided default values as in {@link #parse}.
+     */
+    public IncrementalParser incrementalParser(
+            @Nullable String defaultIndex, @Nullable String defaultType,
+            @Nullable String defaultRouting, @Nullable FetchSourceContext defaultFetchSourceContext,
+            @Nullable String defaultPipeline, @Nullable Boolean defaultRequireAlias, boolean allowExplicitIndex,
+            XContentType xContentType,
+            Consumer<IndexRequest> indexRequestConsumer,
+            Consumer<UpdateRequest> updateRequestConsumer,
+            Consumer<DeleteRequest> deleteRequestConsumer) {
+        return new IncrementalParser(defaultIndex, defaultType, defaultRouting, defaultFetchSourceContext, defaultPipeline,
+            defaultRequireAlias, allowExplicitIndex, xContentType, indexRequestConsumer, updateRequestConsumer, deleteRequestConsumer);
+    }
+
+    /**
+     * Parses line-delimited bulk actions from a sequence of chunks. Only the trailing bytes of an action whose lines are not complete
+     * yet are retained between chunks, so the chunks that have been fully parsed can be released by the caller.
+     */
+    public final class IncrementalParser {
+
+        private final String defaultIndex;
+        private final String defaultType;
+        private final String defaultRouting;
+        private final FetchSourceContext defaultFetchSourceContext;
+        private final String defaultPipeline;
+        private final Boolean defaultRequireAlias;
+        private final boolean allowExplicitIndex;
+        private final XContentType xContentType;
+        private final Consumer<IndexRequest> indexRequestConsumer;
+        private final Consumer<UpdateRequest> updateRequestConsumer;
+        private final Consumer<DeleteRequest> deleteRequestConsumer;
+        private final XContent xContent;
+        private final byte marker;
         // Bulk requests can contain a lot of repeated strings for the index, pipeline and routing parameters. This map is used to
         // deduplicate duplicate strings parsed for these parameters. While it does not prevent instantiating the duplicate strings, it
-        // reduces their lifetime to the lifetime of this parse call instead of the lifetime of the full bulk request.
-        final Map<String, String> stringDeduplicator = new HashMap<>();
-        while (true) {
-            int nextMarker = findNextMarker(marker, from, data);
-            if (nextMarker == -1) {
-                break;
-            }
-            line++;
+        // reduces their lifetime to the lifetime of this parser instead of the lifetime of the full bulk request.
+        private final Map<String, String> stringDeduplicator = new HashMap<>();
+        private final Deque<BytesReference> pending = new ArrayDeque<>();
+        private int line = 0;
+        private boolean typesDeprecationLogged = false;
 
-            // now parse the action
-            try (XContentParser parser = createParser(data, xContent, from, nextMarker)) {
-                // move pointers
-                from = nextMarker + 1;
+        private IncrementalParser(@Nullable String defaultIndex, @Nullable String defaultType,
+                                  @Nullable String defaultRouting, @Nullable FetchSourceContext defaultFetchSourceContext,
+                                  @Nullable String defaultPipeline, @Nullable Boolean defaultRequireAlias, boolean allowExplicitIndex,
+                                  XContentType xContentType,
+                                  Consumer<IndexRequest> indexRequestConsumer,
+                                  Consumer<UpdateRequest> updateRequestConsumer,
+                                  Consumer<DeleteRequest> deleteRequestConsumer) {
+            this.defaultIndex = defaultIndex;
+            this.defaultType = defaultType;
+            this.defaultRouting = defaultRouting;
+            this.defaultFetchSourceContext = defaultFetchSourceContext;
+            this.defaultPipeline = defaultPipeline;
+            this.defaultRequireAlias = defaultRequireAlias;
+            this.allowExplicitIndex = allowExplicitIndex;
+            this.xContentType = xContentType;
+            this.indexRequestConsumer = indexRequestConsumer;
+            this.updateRequestConsumer = updateRequestConsumer;
+            this.deleteRequestConsumer = deleteRequestConsumer;
+            this.xContent = xContentType.xContent();
+            this.marker = xContent.streamSeparator();
+        }
 
-                // Move to START_OBJECT
-                XContentParser.Token token = parser.nextToken();
-                if (token == null) {
-                    continue;
-                }
-                if (token != XContentParser.Token.START_OBJECT) {
-                    throw new IllegalArgumentException("Malformed action/metadata line [" + line + "], expected "
-                            + XContentParser.Token.START_OBJECT + " but found [" + token + "]");
+        /**
+         * Parse the actions that are completed by the given chunk.
+         * @param chunk the next bytes of the bulk request body
+         * @param lastChunk whether this is the last chunk, in which case the body must be terminated by a newline
+         */
+        public void parse(BytesReference chunk, boolean lastChunk) throws IOException {
+            if (chunk.length() > 0) {
+                pending.addLast(chunk);
+            }
+            if (lastChunk == false && chunk.indexOf(marker, 0) == -1) {
+                // no line was completed, don't rescan the incomplete action
+                return;
+            }
+            final BytesReference data = CompositeBytesReference.of(pending.toArray(new BytesReference[0]));
+            int consumed = parseActions(data, lastChunk);
+            while (consumed > 0) {
+                final BytesReference first = pending.removeFirst();
+                if (consumed < first.length()) {
+                    pending.addFirst(first.slice(consumed, first.length() - consumed));
+                    break;
                 }
-                // Move to FIELD_NAME, that's the action
-                token = parser.nextToken();
-                if (token != XContentParser.Token.FIELD_NAME) {
-                    throw new IllegalArgumentException("Malformed action/metadata line [" + line + "], expected "
-                            + XContentParser.Token.FIELD_NAME + " but found [" + token + "]");
+                consumed -= first.length();
+            }
+            if (lastChunk) {
+                pending.clear();
+            }
+        }
+
+        /**
+         * Returns the number of bytes received but not parsed yet because they belong to an incomplete action.
+         */
+        public long pendingBytes() {
+            return pending.stream().mapToLong(BytesReference::length).sum();
+        }
+
+        /**
+         * Parses all complete actions in {@code data} and returns the offset of the first byte that was not consumed.
+         */
+        private int parseActions(BytesReference data, boolean lastData) throws IOException {
+            int from = 0;
+            while (true) {
+                final int actionFrom = from;
+                int nextMarker = findNextMarker(marker, from, data, lastData);
+                if (nextMarker == -1) {
+                    break;
                 }
-                String action = parser.currentName();
-
-                String index = defaultIndex;
-                String type = defaultType;
-                String id = null;
-                String routing = defaultRouting;
-                FetchSourceContext fetchSourceContext = defaultFetchSourceContext;
-                String opType = null;
-                long version = Versions.MATCH_ANY;
-                VersionType versionType = VersionType.INTERNAL;
-                long ifSeqNo = SequenceNumbers.UNASSIGNED_SEQ_NO;
-                long ifPrimaryTerm = UNASSIGNED_PRIMARY_TERM;
-                int retryOnConflict = 0;
-                String pipeline = defaultPipeline;
-                boolean requireAlias = defaultRequireAlias != null && defaultRequireAlias;
-
-                // at this stage, next token can either be END_OBJECT (and use default index and type, with auto generated id)
-                // or START_OBJECT which will have another set of parameters
-                token = parser.nextToken();
-
-                if (token == XContentParser.Token.START_OBJECT) {
-                    String currentFieldName = null;
-                    while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
-                        if (token == XContentParser.Token.FIELD_NAME) {
-                            currentFieldName = parser.currentName();
-                        } else if (token.isValue()) {
-                            if (INDEX.match(currentFieldName, parser.getDeprecationHandler())) {
-                                if (!allowExplicitIndex) {
-                                    throw new IllegalArgumentException("explicit index in bulk is not allowed");
-                                }
-                                index = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
-                            } else if (TYPE.match(currentFieldName, parser.getDeprecationHandler())) {
-                                if (warnOnTypeUsage && typesDeprecationLogged == false) {
-                                    deprecationLogger.deprecate("bulk_with_types", RestBulkAction.TYPES_DEPRECATION_MESSAGE);
-                                    typesDeprecationLogged = true;
+                line++;
+
+                // now parse the action
+                try (XContentParser parser = createParser(data, xContent, from, nextMarker)) {
+                    // move pointers
+                    from = nextMarker + 1;
+                    // Move to START_OBJECT
+                    XContentParser.Token token = parser.nextToken();
+                    if (token == null) {
+                        continue;
+                    }
+                    if (token != XContentParser.Token.START_OBJECT) {
+                        throw new IllegalArgumentException("Malformed action/metadata line [" + line + "], expected "
+                                + XContentParser.Token.START_OBJECT + " but found [" + token + "]");
+                    }
+                    // Move to FIELD_NAME, that's the action
+                    token = parser.nextToken();
+                    if (token != XContentParser.Token.FIELD_NAME) {
+                        throw new IllegalArgumentException("Malformed action/metadata line [" + line + "], expected "
+                                + XContentParser.Token.FIELD_NAME + " but found [" + token + "]");
+                    }
+                    String action = parser.currentName();
+
+                    String index = defaultIndex;
+                    String type = defaultType;
+                    String id = null;
+                    String routing = defaultRouting;
+                    FetchSourceContext fetchSourceContext = defaultFetchSourceContext;
+                    String opType = null;
+                    long version = Versions.MATCH_ANY;
+                    VersionType versionType = VersionType.INTERNAL;
+                    long ifSeqNo = SequenceNumbers.UNASSIGNED_SEQ_NO;
+                    long ifPrimaryTerm = UNASSIGNED_PRIMARY_TERM;
+                    int retryOnConflict = 0;
+                    String pipeline = defaultPipeline;
+                    boolean requireAlias = defaultRequireAlias != null && defaultRequireAlias;
+
+                    // at this stage, next token can either be END_OBJECT (and use default index and type, with auto generated id)
+                    // or START_OBJECT which will have another set of parameters
+                    token = parser.nextToken();
+
+                    if (token == XContentParser.Token.START_OBJECT) {
+                        String currentFieldName = null;
+                        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+                            if (token == XContentParser.Token.FIELD_NAME) {
+                                currentFieldName = parser.currentName();
+                            } else if (token.isValue()) {
+                                if (INDEX.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    if (!allowExplicitIndex) {
+                                        throw new IllegalArgumentException("explicit index in bulk is not allowed");
+                                    }
+                                    index = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
+                                } else if (TYPE.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    if (warnOnTypeUsage && typesDeprecationLogged == false) {
+                                        deprecationLogger.deprecate("bulk_with_types", RestBulkAction.TYPES_DEPRECATION_MESSAGE);
+                                        typesDeprecationLogged = true;
+                                    }
+                                    type = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
+                                } else if (ID.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    id = parser.text();
+                                } else if (ROUTING.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    routing = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
+                                } else if (OP_TYPE.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    opType = parser.text();
+                                } else if (VERSION.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    version = parser.longValue();
+                                } else if (VERSION_TYPE.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    versionType = VersionType.fromString(parser.text());
+                                } else if (IF_SEQ_NO.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    ifSeqNo = parser.longValue();
+                                } else if (IF_PRIMARY_TERM.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    ifPrimaryTerm = parser.longValue();
+                                } else if (RETRY_ON_CONFLICT.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    retryOnConflict = parser.intValue();
+                                } else if (PIPELINE.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    pipeline = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
+                                } else if (SOURCE.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    fetchSourceContext = FetchSourceContext.fromXContent(parser);
+                                } else if (REQUIRE_ALIAS.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    requireAlias = parser.booleanValue();
+                                } else {
+                                    throw new IllegalArgumentException("Action/metadata line [" + line + "] contains an unknown parameter ["
+                                            + currentFieldName + "]");
                                 }
-                                type = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
-                            } else if (ID.match(currentFieldName, parser.getDeprecationHandler())) {
-                                id = parser.text();
-                            } else if (ROUTING.match(currentFieldName, parser.getDeprecationHandler())) {
-                                routing = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
-                            } else if (OP_TYPE.match(currentFieldName, parser.getDeprecationHandler())) {
-                                opType = parser.text();
-                            } else if (VERSION.match(currentFieldName, parser.getDeprecationHandler())) {
-                                version = parser.longValue();
-                            } else if (VERSION_TYPE.match(currentFieldName, parser.getDeprecationHandler())) {
-                                versionType = VersionType.fromString(parser.text());
-                            } else if (IF_SEQ_NO.match(currentFieldName, parser.getDeprecationHandler())) {
-                                ifSeqNo = parser.longValue();
-                            } else if (IF_PRIMARY_TERM.match(currentFieldName, parser.getDeprecationHandler())) {
-                                ifPrimaryTerm = parser.longValue();
-                            } else if (RETRY_ON_CONFLICT.match(currentFieldName, parser.getDeprecationHandler())) {
-                                retryOnConflict = parser.intValue();
-                            } else if (PIPELINE.match(currentFieldName, parser.getDeprecationHandler())) {
-                                pipeline = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
-                            } else if (SOURCE.match(currentFieldName, parser.getDeprecationHandler())) {
+                            } else if (token == XContentParser.Token.START_ARRAY) {
+                                throw new IllegalArgumentException("Malformed action/metadata line [" + line +
+                                        "], expected a simple value for field [" + currentFieldName + "] but found [" + token + "]");
+                            } else if (token == XContentParser.Token.START_OBJECT && SOURCE.match(currentFieldName,
+                                    parser.getDeprecationHandler())) {
                                 fetchSourceContext = FetchSourceContext.fromXContent(parser);
-                            } else if (REQUIRE_ALIAS.match(currentFieldName, parser.getDeprecationHandler())) {
-                                requireAlias = parser.booleanValue();
-                            } else {
-                                throw new IllegalArgumentException("Action/metadata line [" + line + "] contains an unknown parameter ["
-                                        + currentFieldName + "]");
+                            } else if (token != XContentParser.Token.VALUE_NULL) {
+                                throw new IllegalArgumentException("Malformed action/metadata line [" + line
+                                        + "], expected a simple value for field [" + currentFieldName + "] but found [" + token + "]");
                             }
-                        } else if (token == XContentParser.Token.START_ARRAY) {
-                            throw new IllegalArgumentException("Malformed action/metadata line [" + line +
-                                    "], expected a simple value for field [" + currentFieldName + "] but found [" + token + "]");
-                        } else if (token == XContentParser.Token.START_OBJECT && SOURCE.match(currentFieldName,
-                                parser.getDeprecationHandler())) {
-                            fetchSourceContext = FetchSourceContext.fromXContent(parser);
-                        } else if (token != XContentParser.Token.VALUE_NULL) {
-                            throw new IllegalArgumentException("Malformed action/metadata line [" + line
-                                    + "], expected a simple value for field [" + currentFieldName + "] but found [" + token + "]");
                         }
+                    } else if (token != XContentParser.Token.END_OBJECT) {
+                        throw new IllegalArgumentException("Malformed action/metadata line [" + line + "], expected "
+                                + XContentParser.Token.START_OBJECT + " or " + XContentParser.Token.END_OBJECT
+                                + " but found [" + token + "]");
                     }
-                } else if (token != XContentParser.Token.END_OBJECT) {
-                    throw new IllegalArgumentException("Malformed action/metadata line [" + line + "], expected "
-                            + XContentParser.Token.START_OBJECT + " or " + XContentParser.Token.END_OBJECT + " but found [" + token + "]");
-                }
 
-                if ("delete".equals(action)) {
-                    deleteRequestConsumer.accept(new DeleteRequest(index, type, id).routing(routing)
-                            .version(version).versionType(versionType).setIfSeqNo(ifSeqNo).setIfPrimaryTerm(ifPrimaryTerm));
-                } else {
-                    nextMarker = findNextMarker(marker, from, data);
-                    if (nextMarker == -1) {
-                        break;
-                    }
-                    line++;
+                    if ("delete".equals(action)) {
+                        deleteRequestConsumer.accept(new DeleteRequest(index, type, id).routing(routing)
+                                .version(version).versionType(versionType).setIfSeqNo(ifSeqNo).setIfPrimaryTerm(ifPrimaryTerm));
+                    } else {
+                        nextMarker = findNextMarker(marker, from, data, lastData);
+                        if (nextMarker == -1) {
+                            if (lastData == false) {
+                                // the source line is still to come, parse the action again with the next chunk
+                                line--;
+                                return actionFrom;
+                            }
+                            break;
+                        }
+                        line++;
 
-                    // we use internalAdd so we don't fork here, this allows us not to copy over the big byte array to small chunks
-                    // of index request.
-                    if ("index".equals(action)) {
-                        if (opType == null) {
-                            indexRequestConsumer.accept(new IndexRequest(index, type, id).routing(routing)
-                                    .version(version).versionType(versionType)
-                                    .setPipeline(pipeline).setIfSeqNo(ifSeqNo).setIfPrimaryTerm(ifPrimaryTerm)
-                                    .source(sliceTrimmingCarriageReturn(data, from, nextMarker,xContentType), xContentType)
-                                    .setRequireAlias(requireAlias));
-                        } else {
+                        // we use internalAdd so we don't fork here, this allows us not to copy over the big byte array to small chunks
+                        // of index request.
+                        if ("index".equals(action)) {
+                            if (opType == null) {
+                                indexRequestConsumer.accept(new IndexRequest(index, type, id).routing(routing)
+                                        .version(version).versionType(versionType)
+                                        .setPipeline(pipeline).setIfSeqNo(ifSeqNo).setIfPrimaryTerm(ifPrimaryTerm)
+                                        .source(sliceTrimmingCarriageReturn(data, from, nextMarker,xContentType), xContentType)
+                                        .setRequireAlias(requireAlias));
+                            } else {
+                                indexRequestConsumer.accept(new IndexRequest(index, type, id).routing(routing)
+                                        .version(version).versionType(versionType)
+                                        .create("create".equals(opType)).setPipeline(pipeline)
+                                        .setIfSeqNo(ifSeqNo).setIfPrimaryTerm(ifPrimaryTerm)
+                                        .source(sliceTrimmingCarriageReturn(data, from, nextMarker, xContentType), xContentType)
+                                        .setRequireAlias(requireAlias));
+                            }
+                        } else if ("create".equals(action)) {
                             indexRequestConsumer.accept(new IndexRequest(index, type, id).routing(routing)
                                     .version(version).versionType(versionType)
-                                    .create("create".equals(opType)).setPipeline(pipeline)
-                                    .setIfSeqNo(ifSeqNo).setIfPrimaryTerm(ifPrimaryTerm)
+                                    .create(true).setPipeline(pipeline).setIfSeqNo(ifSeqNo).setIfPrimaryTerm(ifPrimaryTerm)
                                     .source(sliceTrimmingCarriageReturn(data, from, nextMarker, xContentType), xContentType)
                                     .setRequireAlias(requireAlias));
-                        }
-                    } else if ("create".equals(action)) {
-                        indexRequestConsumer.accept(new IndexRequest(index, type, id).routing(routing)
-                                .version(version).versionType(versionType)
-                                .create(true).setPipeline(pipeline).setIfSeqNo(ifSeqNo).setIfPrimaryTerm(ifPrimaryTerm)
-                                .source(sliceTrimmingCarriageReturn(data, from, nextMarker, xContentType), xContentType)
-                                .setRequireAlias(requireAlias));
-                    } else if ("update".equals(action)) {
-                        if (version != Versions.MATCH_ANY || versionType != VersionType.INTERNAL) {
-                            throw new IllegalArgumentException("Update requests do not support versioning. " +
-                                    "Please use `if_seq_no` and `if_primary_term` instead");
-                        }
-                        UpdateRequest updateRequest = new UpdateRequest(index, type, id).routing(routing).retryOnConflict(retryOnConflict)
-                                .setIfSeqNo(ifSeqNo).setIfPrimaryTerm(ifPrimaryTerm)
-                                .setRequireAlias(requireAlias)
-                                .routing(routing);
-                        try (XContentParser sliceParser = createParser(
-                                sliceTrimmingCarriageReturn(data, from, nextMarker, xContentType), xContent)) {
-                            updateRequest.fromXContent(sliceParser);
-                        }
-                        if (fetchSourceContext != null) {
-                            updateRequest.fetchSource(fetchSourceContext);
-                        }
-                        IndexRequest upsertRequest = updateRequest.upsertRequest();
-                        if (upsertRequest != null) {
-                            upsertRequest.setPipeline(defaultPipeline);
-                        }
+                        } else if ("update".equals(action)) {
+                            if (version != Versions.MATCH_ANY || versionType != VersionType.INTERNAL) {
+                                throw new IllegalArgumentException("Update requests do not support versioning. " +
+                                        "Please use `if_seq_no` and `if_primary_term` instead");
+                            }
+                            UpdateRequest updateRequest = new UpdateRequest(index, type, id).routing(routing)
+                                    .retryOnConflict(retryOnConflict)
+                                    .setIfSeqNo(ifSeqNo).setIfPrimaryTerm(ifPrimaryTerm)
+                                    .setRequireAlias(requireAlias)
+                                    .routing(routing);
+                            try (XContentParser sliceParser = createParser(
+                                    sliceTrimmingCarriageReturn(data, from, nextMarker, xContentType), xContent)) {
+                                updateRequest.fromXContent(sliceParser);
+                            }
+                            if (fetchSourceContext != null) {
+                                updateRequest.fetchSource(fetchSourceContext);
+                            }
+                            IndexRequest upsertRequest = updateRequest.upsertRequest();
+                            if (upsertRequest != null) {
+                                upsertRequest.setPipeline(defaultPipeline);
+                            }
 
-                        updateRequestConsumer.accept(updateRequest);
+                            updateRequestConsumer.accept(updateRequest);
+                        }
+                        // move pointers
+                        from = nextMarker + 1;
                     }
-                    // move pointers
-                    from = nextMarker + 1;
                 }
             }
+            return from;
         }
     }
 
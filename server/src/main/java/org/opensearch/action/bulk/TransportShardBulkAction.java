@@ -88,6 +88,8 @@ import org.opensearch.transport.TransportRequestOptions;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
@@ -100,6 +102,11 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
     public static final String ACTION_NAME = BulkAction.NAME + "[s]";
 
     private static final Logger logger = LogManager.getLogger(TransportShardBulkAction.class);
+
+    /**
+     * The maximum number of consecutive index requests with auto-generated ids that are written to the shard as a single batch.
+     */
+    private static final int MAX_APPEND_ONLY_BATCH_SIZE = 128;
     private static final Function<IndexShard, String> EXECUTOR_NAME_FUNCTION = shard -> {
         if (shard.indexSettings().getIndexMetadata().isSystem()) {
             return Names.SYSTEM_WRITE;
@@ -185,6 +192,10 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             @Override
             protected void doRun() throws Exception {
                 while (context.hasMoreOperationsToExecute()) {
+                    if (executeAppendOnlyRequests(context)) {
+                        assert context.isInitial();
+                        continue;
+                    }
                     if (executeBulkItemRequest(context, updateHelper, nowInMillisSupplier, mappingUpdater, waitForMappingUpdate,
                         ActionListener.wrap(v -> executor.execute(this), this::onRejection)) == false) {
                         // We are waiting for a mapping update on another thread, that will invoke this action again once its done
@@ -233,6 +244,43 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         }.run();
     }
 
+    /**
+     * Executes the index requests with auto-generated ids that start at the current item as a single batch on the shard, see
+     * {@link IndexShard#applyIndexOperationsOnPrimary}. The batch ends before the first document that fails to parse or requires a
+     * mapping update, which is left to {@link #executeBulkItemRequest}.
+     * @return {@code true} if at least one request was executed, {@code false} if the current request has to be executed on its own
+     */
+    static boolean executeAppendOnlyRequests(BulkPrimaryExecutionContext context) throws IOException {
+        final List<IndexRequest> requests = context.getAppendOnlyRequests(MAX_APPEND_ONLY_BATCH_SIZE);
+        if (requests.size() < 2) {
+            return false;
+        }
+        final IndexShard primary = context.getPrimary();
+        final List<Engine.Index> operations = new ArrayList<>(requests.size());
+        for (IndexRequest request : requests) {
+            final Engine.Index operation;
+            try {
+                operation = primary.prepareIndexOperationOnPrimary(request.version(), request.versionType(), new SourceToParse(
+                        request.index(), request.type(), request.id(), request.source(), request.getContentType(), request.routing()),
+                    request.ifSeqNo(), request.ifPrimaryTerm(), request.getAutoGeneratedTimestamp(), request.isRetry());
+            } catch (Exception e) {
+                break;
+            }
+            if (operation.parsedDoc().dynamicMappingsUpdate() != null) {
+                break;
+            }
+            operations.add(operation);
+        }
+        if (operations.isEmpty()) {
+            return false;
+        }
+        for (Engine.IndexResult result : primary.applyIndexOperationsOnPrimary(operations)) {
+            context.setRequestToExecute(context.getCurrent());
+            onComplete(result, context, null);
+        }
+        return true;
+    }
+
     /**
      * Executes bulk item requests and handles request execution exceptions.
      * @return {@code true} if request completed on this thread and the listener was invoked, {@code false} if the request triggered
@@ -47,6 +47,7 @@ import org.opensearch.cluster.routing.GroupShardsIterator;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.index.shard.ShardId;
@@ -56,6 +57,7 @@ import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.transport.Transport;
 
 import java.util.ArrayDeque;
@@ -111,6 +113,8 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
     private final int maxConcurrentRequestsPerNode;
     private final Map<String, PendingExecutions> pendingExecutionsPerNode = new ConcurrentHashMap<>();
     private final boolean throttleConcurrentRequests;
+    @Nullable
+    private final ShardRequestHedging hedging;
 
     private final List<Releasable> releasables = new ArrayList<>();
 
@@ -123,6 +127,19 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                               TransportSearchAction.SearchTimeProvider timeProvider, ClusterState clusterState,
                               SearchTask task, SearchPhaseResults<Result> resultConsumer, int maxConcurrentRequestsPerNode,
                               SearchResponse.Clusters clusters) {
+        this(name, logger, searchTransportService, nodeIdToConnection, aliasFilter, concreteIndexBoosts, indexRoutings, executor,
+            request, listener, shardsIts, timeProvider, clusterState, task, resultConsumer, maxConcurrentRequestsPerNode, clusters, null);
+    }
+
+    AbstractSearchAsyncAction(String name, Logger logger, SearchTransportService searchTransportService,
+                              BiFunction<String, String, Transport.Connection> nodeIdToConnection,
+                              Map<String, AliasFilter> aliasFilter, Map<String, Float> concreteIndexBoosts,
+                              Map<String, Set<String>> indexRoutings,
+                              Executor executor, SearchRequest request,
+                              ActionListener<SearchResponse> listener, GroupShardsIterator<SearchShardIterator> shardsIts,
+                              TransportSearchAction.SearchTimeProvider timeProvider, ClusterState clusterState,
+                              SearchTask task, SearchPhaseResults<Result> resultConsumer, int maxConcurrentRequestsPerNode,
+                              SearchResponse.Clusters clusters, @Nullable ShardRequestHedging hedging) {
         super(name);
         final List<SearchShardIterator> toSkipIterators = new ArrayList<>();
         final List<SearchShardIterator> iterators = new ArrayList<>();
@@ -157,6 +174,7 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         this.indexRoutings = indexRoutings;
         this.results = resultConsumer;
         this.clusters = clusters;
+        this.hedging = hedging;
     }
 
     @Override
@@ -247,18 +265,24 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         if (shard == null) {
             fork(() -> onShardFailure(shardIndex, null, shardIt, new NoShardAvailableActionException(shardIt.shardId())));
         } else {
-            final PendingExecutions pendingExecutions = throttleConcurrentRequests ?
-                pendingExecutionsPerNode.computeIfAbsent(shard.getNodeId(), n -> new PendingExecutions(maxConcurrentRequestsPerNode))
-                : null;
+            final PendingExecutions pendingExecutions = pendingExecutions(shard);
             Runnable r = () -> {
                 final Thread thread = Thread.currentThread();
+                HedgedShardRequest hedgedRequest = null;
                 try {
-                    executePhaseOnShard(shardIt, shard,
+                    hedgedRequest = maybeHedge(shardIndex, shardIt, shard);
+                    final HedgedShardRequest hedged = hedgedRequest;
+                    final SearchTask parentTask = hedged == null ? task : hedged.first.task();
+                    executePhaseOnShard(shardIt, shard, parentTask,
                         new SearchActionListener<Result>(shard, shardIndex) {
                             @Override
                             public void innerOnResponse(Result result) {
                                 try {
-                                    onShardResult(result, shardIt);
+                                    if (hedged == null) {
+                                        onShardResult(result, shardIt);
+                                    } else {
+                                        hedged.onResponse(hedged.first, result);
+                                    }
                                 } finally {
                                     executeNext(pendingExecutions, thread);
                                 }
@@ -267,19 +291,31 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                             @Override
                             public void onFailure(Exception t) {
                                 try {
-                                    onShardFailure(shardIndex, shard, shardIt, t);
+                                    if (hedged == null) {
+                                        onShardFailure(shardIndex, shard, shardIt, t);
+                                    } else {
+                                        hedged.onFailure(hedged.first, t);
+                                    }
                                 } finally {
                                     executeNext(pendingExecutions, thread);
                                 }
                             }
                         });
+                    if (hedged != null) {
+                        hedged.scheduleHedge();
+                    }
                 } catch (final Exception e) {
+                    final HedgedShardRequest hedged = hedgedRequest;
                     try {
                         /*
                          * It is possible to run into connection exceptions here because we are getting the connection early and might
                          * run into nodes that are not connected. In this case, on shard failure will move us to the next shard copy.
                          */
-                        fork(() -> onShardFailure(shardIndex, shard, shardIt, e));
+                        if (hedged == null) {
+                            fork(() -> onShardFailure(shardIndex, shard, shardIt, e));
+                        } else {
+                            fork(() -> hedged.onFailure(hedged.first, e));
+                        }
                     } finally {
                         executeNext(pendingExecutions, thread);
                     }
@@ -293,6 +329,13 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         }
     }
 
+    @Nullable
+    private PendingExecutions pendingExecutions(SearchShardTarget shard) {
+        return throttleConcurrentRequests ?
+            pendingExecutionsPerNode.computeIfAbsent(shard.getNodeId(), n -> new PendingExecutions(maxConcurrentRequestsPerNode))
+            : null;
+    }
+
     /**
      * Sends the request to the actual shard.
      * @param shardIt the shards iterator
@@ -303,6 +346,270 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                                                 SearchShardTarget shard,
                                                 SearchActionListener<Result> listener);
 
+    /**
+     * Sends the request to the actual shard as a child of the given task, which is either the search task or, if the phase hedges
+     * its shard requests, a child of the search task that lets the shard request be cancelled on its own. Phases that hedge their
+     * shard requests must override this method, the others are never asked to send a request as a child of another task.
+     * @param shardIt the shards iterator
+     * @param shard the shard routing to send the request for
+     * @param parentTask the task to send the request as a child of
+     * @param listener the listener to notify on response
+     */
+    protected void executePhaseOnShard(SearchShardIterator shardIt,
+                                       SearchShardTarget shard,
+                                       SearchTask parentTask,
+                                       SearchActionListener<Result> listener) {
+        assert parentTask == task : getName() + " phase doesn't hedge its shard requests";
+        executePhaseOnShard(shardIt, shard, listener);
+    }
+
+    /**
+     * Returns the tracker of the shard request to send to the given copy if it may be hedged, {@code null} otherwise.
+     */
+    @Nullable
+    private HedgedShardRequest maybeHedge(int shardIndex, SearchShardIterator shardIt, SearchShardTarget shard) {
+        // the copies of a remote shard are on nodes that the ban of a cancelled shard request may not reach
+        if (hedging == null || shardIt.remaining() == 0 || shard.getClusterAlias() != null) {
+            return null;
+        }
+        final TimeValue delay = hedging.delay(shard.getNodeId());
+        if (delay == null) {
+            return null;
+        }
+        return new HedgedShardRequest(shardIndex, shardIt, delay, shard);
+    }
+
+    /**
+     * The shard requests sent for a shard that may be hedged: if the first copy doesn't respond before a delay based on the recent
+     * response times of its node, the same request is sent to the next copy. The first response wins, the other request is
+     * cancelled and its result, if it still comes, is released. The requests are sent as children of their own tasks so that
+     * one of them can be cancelled without cancelling the other shard requests of the search.
+     *
+     * A request that fails while the other copy is still working on the shard is put aside: if the other request wins, the
+     * failure is dropped, otherwise it is reported along with the failure of the other request before the next copy is tried.
+     * Either way the request that failed counts as one operation like any shard failure, and when a request wins the copy of the
+     * request that lost counts as an operation too since the loser won't report back. These operations are counted by whoever
+     * completes the shard, before the operation that completes it goes through the regular completion check. Hedged requests
+     * are throttled like any other shard request sent to their node.
+     */
+    private final class HedgedShardRequest {
+        private final int shardIndex;
+        private final SearchShardIterator shardIt;
+        private final TimeValue delay;
+        private final Attempt first;
+        // guarded by this
+        private final List<Attempt> inFlight = new ArrayList<>(2);
+        private final List<Attempt> failed = new ArrayList<>(1);
+        private boolean done;
+        private Scheduler.ScheduledCancellable hedgeTimer;
+
+        HedgedShardRequest(int shardIndex, SearchShardIterator shardIt, TimeValue delay, SearchShardTarget shard) {
+            this.shardIndex = shardIndex;
+            this.shardIt = shardIt;
+            this.delay = delay;
+            this.first = new Attempt(shard);
+            first.start();
+            inFlight.add(first);
+        }
+
+        void scheduleHedge() {
+            final Scheduler.ScheduledCancellable timer = hedging.schedule(this::hedge, delay);
+            synchronized (this) {
+                if (done) {
+                    timer.cancel();
+                } else {
+                    hedgeTimer = timer;
+                }
+            }
+        }
+
+        private void hedge() {
+            final Attempt attempt;
+            Exception startFailure = null;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                final SearchShardTarget next = shardIt.nextOrNull();
+                if (next == null) {
+                    return;
+                }
+                attempt = new Attempt(next);
+                inFlight.add(attempt);
+                // the task must be there by the time the other request wins and cancels this one
+                try {
+                    attempt.start();
+                } catch (Exception e) {
+                    startFailure = e;
+                }
+            }
+            if (startFailure != null) {
+                onFailure(attempt, startFailure);
+                return;
+            }
+            logger.trace("{}: no response from [{}] after [{}], sending the shard request to [{}]",
+                shardIt.shardId(), first.shard.getNodeId(), delay, attempt.shard.getNodeId());
+            final PendingExecutions pendingExecutions = pendingExecutions(attempt.shard);
+            final Runnable send = () -> {
+                final Thread thread = Thread.currentThread();
+                synchronized (this) {
+                    if (done) {
+                        // the other request won while this one was waiting for a permit, it was counted as the loser
+                        attempt.close();
+                        executeNext(pendingExecutions, thread);
+                        return;
+                    }
+                }
+                try {
+                    executePhaseOnShard(shardIt, attempt.shard, attempt.task(),
+                        new SearchActionListener<Result>(attempt.shard, shardIndex) {
+                            @Override
+                            public void innerOnResponse(Result result) {
+                                try {
+                                    HedgedShardRequest.this.onResponse(attempt, result);
+                                } finally {
+                                    executeNext(pendingExecutions, thread);
+                                }
+                            }
+
+                            @Override
+                            public void onFailure(Exception e) {
+                                try {
+                                    HedgedShardRequest.this.onFailure(attempt, e);
+                                } finally {
+                                    executeNext(pendingExecutions, thread);
+                                }
+                            }
+                        });
+                } catch (Exception e) {
+                    try {
+                        fork(() -> onFailure(attempt, e));
+                    } finally {
+                        executeNext(pendingExecutions, thread);
+                    }
+                }
+            };
+            fork(() -> {
+                if (throttleConcurrentRequests) {
+                    pendingExecutions.tryRun(send);
+                } else {
+                    send.run();
+                }
+            });
+        }
+
+        void onResponse(Attempt attempt, Result result) {
+            final List<Attempt> losers;
+            final List<Attempt> failures;
+            synchronized (this) {
+                inFlight.remove(attempt);
+                if (done) {
+                    losers = null;
+                    failures = null;
+                } else {
+                    done = true;
+                    cancelHedgeTimer();
+                    losers = new ArrayList<>(inFlight);
+                    failures = new ArrayList<>(failed);
+                }
+            }
+            attempt.close();
+            if (losers == null) {
+                // another copy won, release the reader context this copy created
+                if (result.getContextId() != null && request.pointInTimeBuilder() == null) {
+                    sendReleaseSearchContext(result.getContextId(),
+                        getConnection(attempt.shard.getClusterAlias(), attempt.shard.getNodeId()), attempt.shard.getOriginalIndices());
+                }
+                return;
+            }
+            for (Attempt loser : losers) {
+                loser.cancel();
+            }
+            for (Attempt failure : failures) {
+                logger.trace(() -> new ParameterizedMessage("{}: dropping failure of the shard request, another copy responded",
+                    failure.shard), failure.failure);
+            }
+            // counting the losers and the failures can't complete the phase since the response of the winner isn't counted yet
+            totalOps.addAndGet(losers.size() + failures.size());
+            onShardResult(result, shardIt);
+        }
+
+        void onFailure(Attempt attempt, Exception e) {
+            final boolean ignore;
+            final boolean othersInFlight;
+            final List<Attempt> failures;
+            synchronized (this) {
+                inFlight.remove(attempt);
+                ignore = done;
+                othersInFlight = inFlight.isEmpty() == false;
+                if (done || othersInFlight) {
+                    failures = null;
+                    if (done == false) {
+                        attempt.failure = e;
+                        failed.add(attempt);
+                    }
+                } else {
+                    done = true;
+                    cancelHedgeTimer();
+                    failures = new ArrayList<>(failed);
+                }
+            }
+            attempt.close();
+            if (ignore) {
+                logger.trace(() -> new ParameterizedMessage("{}: ignoring failure of the shard request that lost", attempt.shard), e);
+            } else if (othersInFlight) {
+                logger.trace(() -> new ParameterizedMessage("{}: shard request failed, waiting for the other copy", attempt.shard), e);
+            } else {
+                for (Attempt failure : failures) {
+                    onShardFailure(shardIndex, failure.shard, failure.failure);
+                }
+                // counting the earlier failures can't complete the phase since this failure isn't counted yet
+                totalOps.addAndGet(failures.size());
+                onShardFailure(shardIndex, attempt.shard, shardIt, e);
+            }
+        }
+
+        private void cancelHedgeTimer() {
+            assert Thread.holdsLock(this);
+            if (hedgeTimer != null) {
+                hedgeTimer.cancel();
+            }
+        }
+    }
+
+    /**
+     * A shard request of a {@link HedgedShardRequest}.
+     */
+    private final class Attempt implements Releasable {
+        final SearchShardTarget shard;
+        private final long startNanos = System.nanoTime();
+        private ShardRequestHedging.ShardRequestTask shardRequestTask;
+        // set under the lock of the hedged request if this request failed while the other copy was still working on the shard
+        private Exception failure;
+
+        Attempt(SearchShardTarget shard) {
+            this.shard = shard;
+        }
+
+        void start() {
+            shardRequestTask = hedging.registerShardRequestTask(task, clusterState.nodes().getLocalNode());
+        }
+
+        SearchTask task() {
+            return shardRequestTask.task;
+        }
+
+        void cancel() {
+            hedging.onCancelled(shard.getNodeId(), System.nanoTime() - startNanos);
+            shardRequestTask.cancel("another copy of the shard responded to the hedged shard request");
+        }
+
+        @Override
+        public void close() {
+            Releasables.close(shardRequestTask);
+        }
+    }
+
     private void fork(final Runnable runnable) {
         executor.execute(new AbstractRunnable() {
             @Override
@@ -44,6 +44,8 @@ import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.AggregationsAccumulator;
+import org.opensearch.search.aggregations.InternalAggregation.ReduceContext;
 import org.opensearch.search.aggregations.InternalAggregation.ReduceContextBuilder;
 import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.builder.SearchSourceBuilder;
@@ -66,6 +68,11 @@ import java.util.function.Consumer;
  * in the {@link CircuitBreaker#REQUEST} circuit breaker. Before any partial or final reduce, the memory
  * needed to reduce the aggregations is estimated and a {@link CircuitBreakingException} is thrown if it
  * exceeds the maximum memory allowed in this breaker.
+ * <p>
+ * When streaming aggregation reduce is enabled, the aggregations of each shard result are merged into an
+ * {@link AggregationsAccumulator} as soon as the result is consumed instead of being buffered until the next batched reduce.
+ * The circuit breaker then accounts for the memory retained by the accumulator, and partial reduces notify the
+ * {@link SearchProgressListener} without aggregations since they are only built on the final reduce.
  */
 public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhaseResult> implements Releasable {
     private static final Logger logger = LogManager.getLogger(QueryPhaseResultConsumer.class);
@@ -80,6 +87,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
     private final int topNSize;
     private final boolean hasTopDocs;
     private final boolean hasAggs;
+    private final boolean streamingAggs;
     private final boolean performFinalReduce;
 
     private final PendingMerges pendingMerges;
@@ -97,6 +105,24 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                                     NamedWriteableRegistry namedWriteableRegistry,
                                     int expectedResultSize,
                                     Consumer<Exception> onPartialMergeFailure) {
+        this(request, executor, circuitBreaker, controller, progressListener, namedWriteableRegistry, expectedResultSize, false,
+            onPartialMergeFailure);
+    }
+
+    /**
+     * Creates a {@link QueryPhaseResultConsumer} that incrementally reduces aggregation results
+     * as shard results are consumed, merging the aggregations of each shard result into a running
+     * accumulator if {@code streamingAggsReduce} is set.
+     */
+    public QueryPhaseResultConsumer(SearchRequest request,
+                                    Executor executor,
+                                    CircuitBreaker circuitBreaker,
+                                    SearchPhaseController controller,
+                                    SearchProgressListener progressListener,
+                                    NamedWriteableRegistry namedWriteableRegistry,
+                                    int expectedResultSize,
+                                    boolean streamingAggsReduce,
+                                    Consumer<Exception> onPartialMergeFailure) {
         super(expectedResultSize);
         this.executor = executor;
         this.circuitBreaker = circuitBreaker;
@@ -111,7 +137,12 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         SearchSourceBuilder source = request.source();
         this.hasTopDocs = source == null || source.size() != 0;
         this.hasAggs = source != null && source.aggregations() != null;
+        this.streamingAggs = hasAggs && streamingAggsReduce;
         int batchReduceSize = (hasAggs || hasTopDocs) ? Math.min(request.getBatchedReduceSize(), expectedResultSize)  : expectedResultSize;
+        if (streamingAggs) {
+            // merge every shard result as soon as it is consumed
+            batchReduceSize = 1;
+        }
         this.pendingMerges = new PendingMerges(batchReduceSize, request.resolveTrackTotalHitsUpTo());
     }
 
@@ -164,6 +195,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                                       List<SearchShard> emptyResults,
                                       SearchPhaseController.TopDocsStats topDocsStats,
                                       MergeResult lastMerge,
+                                      AggregationsAccumulator aggsAccumulator,
                                       int numReducePhases) {
         // ensure consistent ordering
         Arrays.sort(toConsume, Comparator.comparingInt(QuerySearchResult::getShardIndex));
@@ -191,7 +223,13 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         }
 
         final InternalAggregations newAggs;
-        if (hasAggs) {
+        if (streamingAggs) {
+            for (QuerySearchResult result : toConsume) {
+                aggsAccumulator.accept(result.consumeAggs().expand());
+            }
+            // the accumulated aggregations are only built on the final reduce
+            newAggs = null;
+        } else if (hasAggs) {
             List<InternalAggregations> aggsList = new ArrayList<>();
             if (lastMerge != null) {
                 aggsList.add(lastMerge.reducedAggs);
@@ -212,10 +250,15 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             processedShards.add(new SearchShard(target.getClusterAlias(), target.getShardId()));
         }
         progressListener.notifyPartialReduce(processedShards, topDocsStats.getTotalHits(), newAggs, numReducePhases);
-        // we leave the results un-serialized because serializing is slow but we compute the serialized
-        // size as an estimate of the memory used by the newly reduced aggregations.
-        long serializedSize = hasAggs ? newAggs.getSerializedSize() : 0;
-        return new MergeResult(processedShards, newTopDocs, newAggs, hasAggs ? serializedSize : 0);
+        final long estimatedSize;
+        if (streamingAggs) {
+            estimatedSize = aggsAccumulator.ramBytesUsed();
+        } else {
+            // we leave the results un-serialized because serializing is slow but we compute the serialized
+            // size as an estimate of the memory used by the newly reduced aggregations.
+            estimatedSize = hasAggs ? newAggs.getSerializedSize() : 0;
+        }
+        return new MergeResult(processedShards, newTopDocs, newAggs, estimatedSize);
     }
 
     public int getNumReducePhases() {
@@ -237,6 +280,9 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         private final AtomicReference<Exception> failure = new AtomicReference<>();
 
         private final SearchPhaseController.TopDocsStats topDocsStats;
+        // the partial reduce context and the accumulator of the aggregations of the merged results in streaming mode
+        private final ReduceContext aggsReduceContext;
+        private AggregationsAccumulator aggsAccumulator;
         private volatile MergeResult mergeResult;
         private volatile boolean hasPartialReduce;
         private volatile int numReducePhases;
@@ -244,11 +290,18 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         PendingMerges(int batchReduceSize, int trackTotalHitsUpTo) {
             this.batchReduceSize = batchReduceSize;
             this.topDocsStats = new SearchPhaseController.TopDocsStats(trackTotalHitsUpTo);
+            if (streamingAggs) {
+                this.aggsReduceContext = aggReduceContextBuilder.forPartialReduction();
+                this.aggsAccumulator = new AggregationsAccumulator(aggsReduceContext);
+            } else {
+                this.aggsReduceContext = null;
+            }
         }
 
         @Override
         public synchronized void close() {
             assert hasPendingMerges() == false : "cannot close with partial reduce in-flight";
+            releaseAggsAccumulator();
             if (hasFailure()) {
                 assert circuitBreakerBytes == 0;
                 return;
@@ -258,6 +311,11 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             circuitBreakerBytes = 0;
         }
 
+        private synchronized void releaseAggsAccumulator() {
+            Releasables.close(aggsAccumulator);
+            aggsAccumulator = null;
+        }
+
         synchronized Exception getFailure() {
             return failure.get();
         }
@@ -363,6 +421,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 circuitBreakerBytes = 0;
             }
             failure.compareAndSet(null, exc);
+            releaseAggsAccumulator();
             MergeTask task = runningTask.get();
             runningTask.compareAndSet(task, null);
             onPartialMergeFailure.accept(exc);
@@ -424,7 +483,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                         addEstimateAndMaybeBreak(estimatedMergeSize);
                         estimatedTotalSize += estimatedMergeSize;
                         ++ numReducePhases;
-                        newMerge = partialReduce(toConsume, task.emptyResults, topDocsStats, thisMergeResult, numReducePhases);
+                        newMerge = partialReduce(toConsume, task.emptyResults, topDocsStats, thisMergeResult, aggsAccumulator,
+                            numReducePhases);
                     } catch (Exception t) {
                         onMergeFailure(t);
                         return;
@@ -468,7 +528,13 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 return Collections.emptyList();
             }
             List<InternalAggregations> aggsList = new ArrayList<>();
-            if (mergeResult != null) {
+            if (aggsAccumulator != null) {
+                if (aggsAccumulator.isEmpty() == false) {
+                    aggsList.add(aggsAccumulator.build(
+                        aggs -> new InternalAggregations(aggs, aggsReduceContext.pipelineTreeForBwcSerialization())));
+                }
+                releaseAggsAccumulator();
+            } else if (mergeResult != null) {
                 aggsList.add(mergeResult.reducedAggs);
             }
             for (QuerySearchResult result : buffer) {
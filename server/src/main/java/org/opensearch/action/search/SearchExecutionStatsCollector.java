@@ -33,6 +33,7 @@
 package org.opensearch.action.search;
 
 import org.opensearch.action.ActionListener;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.query.QuerySearchResult;
@@ -52,6 +53,7 @@ public final class SearchExecutionStatsCollector implements ActionListener<Searc
     private final String nodeId;
     private final ResponseCollectorService collector;
     private final long startNanos;
+    private final Releasable inFlightRequest;
 
     SearchExecutionStatsCollector(ActionListener<SearchPhaseResult> listener,
                                   ResponseCollectorService collector,
@@ -60,6 +62,7 @@ public final class SearchExecutionStatsCollector implements ActionListener<Searc
         this.collector = Objects.requireNonNull(collector, "response collector cannot be null");
         this.startNanos = System.nanoTime();
         this.nodeId = nodeId;
+        this.inFlightRequest = nodeId == null ? () -> {} : collector.startRequest(nodeId);
     }
 
     public static BiFunction<Transport.Connection, SearchActionListener, ActionListener> makeWrapper(ResponseCollectorService service) {
@@ -68,11 +71,13 @@ public final class SearchExecutionStatsCollector implements ActionListener<Searc
 
     @Override
     public void onResponse(SearchPhaseResult response) {
+        inFlightRequest.close();
         QuerySearchResult queryResult = response.queryResult();
         if (nodeId != null && queryResult != null) {
             final long serviceTimeEWMA = queryResult.serviceTimeEWMA();
             final int queueSize = queryResult.nodeQueueSize();
             final long responseDuration = System.nanoTime() - startNanos;
+            collector.addResponseTime(nodeId, responseDuration);
             // EWMA/queue size may be -1 if the query node doesn't support capturing it
             if (serviceTimeEWMA > 0 && queueSize >= 0) {
                 collector.addNodeStatistics(nodeId, queueSize, responseDuration, serviceTimeEWMA);
@@ -83,6 +88,7 @@ public final class SearchExecutionStatsCollector implements ActionListener<Searc
 
     @Override
     public void onFailure(Exception e) {
+        inFlightRequest.close();
         listener.onFailure(e);
     }
 }
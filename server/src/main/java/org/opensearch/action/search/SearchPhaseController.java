@@ -616,8 +616,22 @@ public final class SearchPhaseController {
                                                    SearchRequest request,
                                                    int numShards,
                                                    Consumer<Exception> onPartialMergeFailure) {
+        return newSearchPhaseResults(executor, circuitBreaker, listener, request, numShards, false, onPartialMergeFailure);
+    }
+
+    /**
+     * Returns a new {@link QueryPhaseResultConsumer} instance that reduces search responses incrementally, merging the
+     * aggregations of each shard result into a running accumulator as it arrives if {@code streamingAggsReduce} is set.
+     */
+    QueryPhaseResultConsumer newSearchPhaseResults(Executor executor,
+                                                   CircuitBreaker circuitBreaker,
+                                                   SearchProgressListener listener,
+                                                   SearchRequest request,
+                                                   int numShards,
+                                                   boolean streamingAggsReduce,
+                                                   Consumer<Exception> onPartialMergeFailure) {
         return new QueryPhaseResultConsumer(request, executor, circuitBreaker,
-            this,  listener, namedWriteableRegistry, numShards, onPartialMergeFailure);
+            this,  listener, namedWriteableRegistry, numShards, streamingAggsReduce, onPartialMergeFailure);
     }
 
     static final class TopDocsStats {
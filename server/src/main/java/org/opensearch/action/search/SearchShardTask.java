@@ -32,12 +32,17 @@
 
 package org.opensearch.action.search;
 
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.monitor.jvm.ThreadResourceProbe;
 import org.opensearch.search.fetch.ShardFetchSearchRequest;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.tasks.CancellableTask;
 import org.opensearch.tasks.TaskId;
 
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Task storing information about a currently running search shard request.
@@ -45,10 +50,73 @@ import java.util.Map;
  */
 public class SearchShardTask extends CancellableTask {
 
+    private final AtomicLong cpuTimeNanos = new AtomicLong();
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    private final Set<Execution> currentExecutions = ConcurrentCollections.newConcurrentSet();
+
     public SearchShardTask(long id, String type, String action, String description, TaskId parentTaskId, Map<String, String> headers) {
         super(id, type, action, description, parentTaskId, headers);
     }
 
+    /**
+     * Accounts the CPU time and the heap allocations of the current thread to this task until the returned releasable is closed.
+     * The task can be executed by several threads at the same time, such as the threads that search the slices of a shard
+     * concurrently, each of them tracks its own resources.
+     */
+    public Releasable startResourceTracking() {
+        final ThreadResourceProbe probe = ThreadResourceProbe.getInstance();
+        final long threadId = Thread.currentThread().getId();
+        final Execution execution = new Execution(threadId, probe.getThreadCpuTime(threadId), probe.getThreadAllocatedBytes(threadId));
+        currentExecutions.add(execution);
+        return () -> {
+            if (currentExecutions.remove(execution)) {
+                cpuTimeNanos.getAndAdd(delta(execution.startCpuTimeNanos, probe.getThreadCpuTime(threadId)));
+                allocatedBytes.getAndAdd(delta(execution.startAllocatedBytes, probe.getThreadAllocatedBytes(threadId)));
+            }
+        };
+    }
+
+    /**
+     * The CPU time that the threads executing this task used on its behalf so far, including the executions in progress.
+     */
+    public long getCpuTimeNanos() {
+        final ThreadResourceProbe probe = ThreadResourceProbe.getInstance();
+        long total = cpuTimeNanos.get();
+        for (Execution execution : currentExecutions) {
+            total += delta(execution.startCpuTimeNanos, probe.getThreadCpuTime(execution.threadId));
+        }
+        return total;
+    }
+
+    /**
+     * The bytes that the threads executing this task allocated on the heap on its behalf so far, including the executions in
+     * progress. This is an upper bound of the heap that the task retains.
+     */
+    public long getAllocatedBytes() {
+        final ThreadResourceProbe probe = ThreadResourceProbe.getInstance();
+        long total = allocatedBytes.get();
+        for (Execution execution : currentExecutions) {
+            total += delta(execution.startAllocatedBytes, probe.getThreadAllocatedBytes(execution.threadId));
+        }
+        return total;
+    }
+
+    private static long delta(long start, long end) {
+        return start < 0 || end < start ? 0 : end - start;
+    }
+
+    private static final class Execution {
+        final long threadId;
+        final long startCpuTimeNanos;
+        final long startAllocatedBytes;
+
+        Execution(long threadId, long startCpuTimeNanos, long startAllocatedBytes) {
+            this.threadId = threadId;
+            this.startCpuTimeNanos = startCpuTimeNanos;
+            this.startAllocatedBytes = startAllocatedBytes;
+        }
+    }
+
     @Override
     public boolean shouldCancelChildrenOnCancellation() {
         return false;
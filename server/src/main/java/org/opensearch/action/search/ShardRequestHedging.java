@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.node.ResponseCollectorService;
+import org.opensearch.tasks.TaskAwareRequest;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.Map;
+
+/**
+ * Decides when the query phase sends a duplicate of a shard request to another copy of the shard, and provides what it takes to
+ * send it and to cancel the copy that loses, see {@link TransportSearchAction#HEDGED_REQUESTS_SETTING}.
+ */
+final class ShardRequestHedging {
+
+    static final String SHARD_REQUEST_TASK_ACTION = SearchTransportService.QUERY_ACTION_NAME + "[hedged]";
+
+    private final ThreadPool threadPool;
+    private final TaskManager taskManager;
+    private final ResponseCollectorService collector;
+    private final double percentile;
+    private final TimeValue minDelay;
+
+    ShardRequestHedging(ThreadPool threadPool, TaskManager taskManager, ResponseCollectorService collector,
+                        double percentile, TimeValue minDelay) {
+        this.threadPool = threadPool;
+        this.taskManager = taskManager;
+        this.collector = collector;
+        this.percentile = percentile;
+        this.minDelay = minDelay;
+    }
+
+    /**
+     * Returns how long to wait for a response of the given node before sending the shard request to another copy: the configured
+     * percentile of the last known response times of the node, but no less than the minimum delay. A node that never responded
+     * but has had a request in flight for longer than the minimum delay is hedged after the minimum delay. Returns {@code null}
+     * otherwise, there is no telling whether the node is slow then.
+     */
+    @Nullable
+    TimeValue delay(String nodeId) {
+        long responseTime = collector.getLastKnownResponseTimePercentile(nodeId, percentile);
+        if (responseTime < 0) {
+            if (collector.getOldestInFlightRequestAge(nodeId) < minDelay.nanos()) {
+                return null;
+            }
+            responseTime = 0;
+        }
+        return TimeValue.timeValueNanos(Math.max(responseTime, minDelay.nanos()));
+    }
+
+    Scheduler.ScheduledCancellable schedule(Runnable command, TimeValue delay) {
+        return threadPool.schedule(command, delay, ThreadPool.Names.SAME);
+    }
+
+    /**
+     * Records how long a shard request that lost ran before it was cancelled. Its response time is at least that, and the node would
+     * otherwise keep the response times it had before it slowed down for as long as it loses.
+     */
+    void onCancelled(String nodeId, long elapsedNanos) {
+        collector.addResponseTime(nodeId, elapsedNanos);
+    }
+
+    /**
+     * Registers a child of the search task to send a shard request as, so that the request can be cancelled without cancelling
+     * the other shard requests of the search.
+     */
+    ShardRequestTask registerShardRequestTask(SearchTask searchTask, DiscoveryNode localNode) {
+        final TaskId parentTaskId = new TaskId(localNode.getId(), searchTask.getId());
+        final SearchTask task = (SearchTask) taskManager.register("transport", SHARD_REQUEST_TASK_ACTION, new TaskAwareRequest() {
+            @Override
+            public void setParentTask(TaskId taskId) {
+                throw new UnsupportedOperationException("the parent of a hedged shard request is the search task");
+            }
+
+            @Override
+            public TaskId getParentTask() {
+                return parentTaskId;
+            }
+
+            @Override
+            public SearchTask createTask(long id, String type, String action, TaskId parentTaskId,
+                                         Map<String, String> headers) {
+                return new SearchTask(id, type, action, searchTask::getDescription, parentTaskId, headers);
+            }
+        });
+        // cancelling the search bans the children of the search task on its child nodes, which cancels this task and its
+        // descendants if the local node is one of them
+        final Releasable childNode;
+        try {
+            childNode = taskManager.registerChildNode(searchTask.getId(), localNode);
+        } catch (Exception e) {
+            taskManager.unregister(task);
+            throw e;
+        }
+        return new ShardRequestTask(task, childNode);
+    }
+
+    /**
+     * A task that a shard request was sent as, closing it unregisters the task.
+     */
+    final class ShardRequestTask implements Releasable {
+        final SearchTask task;
+        private final Releasable childNode;
+
+        private ShardRequestTask(SearchTask task, Releasable childNode) {
+            this.task = task;
+            this.childNode = childNode;
+        }
+
+        /**
+         * Cancels the task and the shard request that was sent as a child of it.
+         */
+        void cancel(String reason) {
+            taskManager.cancelTaskAndDescendants(task, reason, false, ActionListener.wrap(() -> {}));
+        }
+
+        @Override
+        public void close() {
+            try {
+                taskManager.unregister(task);
+            } finally {
+                childNode.close();
+            }
+        }
+    }
+}
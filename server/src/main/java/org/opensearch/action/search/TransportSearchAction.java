@@ -121,6 +121,32 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
     public static final Setting<Long> SHARD_COUNT_LIMIT_SETTING = Setting.longSetting(
             "action.search.shard_count.limit", Long.MAX_VALUE, 1L, Property.Dynamic, Property.NodeScope);
 
+    /**
+     * Whether the coordinating node merges the aggregations of each shard result into a running accumulator as it arrives,
+     * rather than buffering batches of shard results and reducing them together.
+     */
+    public static final Setting<Boolean> STREAMING_AGGS_REDUCE_SETTING = Setting.boolSetting(
+            "action.search.streaming_aggs_reduce.enabled", false, Property.Dynamic, Property.NodeScope);
+
+    /**
+     * Whether the query phase sends a shard request to another copy of the shard when the first copy takes longer to respond than
+     * {@link #HEDGED_REQUESTS_PERCENTILE_SETTING} of the recent response times of its node. The first response wins and the other
+     * request is cancelled.
+     */
+    public static final Setting<Boolean> HEDGED_REQUESTS_SETTING = Setting.boolSetting(
+            "action.search.hedged_requests.enabled", false, Property.Dynamic, Property.NodeScope);
+
+    public static final Setting<Double> HEDGED_REQUESTS_PERCENTILE_SETTING = Setting.doubleSetting(
+            "action.search.hedged_requests.response_time_percentile", 95.0, 0.0, 100.0, Property.Dynamic, Property.NodeScope);
+
+    /**
+     * The minimum time to wait for a copy of a shard to respond before hedging, so that fast shard requests aren't sent twice
+     * because of a few microseconds of jitter.
+     */
+    public static final Setting<TimeValue> HEDGED_REQUESTS_MIN_DELAY_SETTING = Setting.timeSetting(
+            "action.search.hedged_requests.min_delay", TimeValue.timeValueMillis(10), TimeValue.ZERO,
+            Property.Dynamic, Property.NodeScope);
+
     private final NodeClient client;
     private final ThreadPool threadPool;
     private final ClusterService clusterService;
@@ -131,6 +157,10 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
     private final IndexNameExpressionResolver indexNameExpressionResolver;
     private final NamedWriteableRegistry namedWriteableRegistry;
     private final CircuitBreaker circuitBreaker;
+    private volatile boolean streamingAggsReduce;
+    private volatile boolean hedgedRequests;
+    private volatile double hedgedRequestsPercentile;
+    private volatile TimeValue hedgedRequestsMinDelay;
 
     @Inject
     public TransportSearchAction(NodeClient client,
@@ -156,6 +186,32 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         this.searchService = searchService;
         this.indexNameExpressionResolver = indexNameExpressionResolver;
         this.namedWriteableRegistry = namedWriteableRegistry;
+        this.streamingAggsReduce = STREAMING_AGGS_REDUCE_SETTING.get(clusterService.getSettings());
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(STREAMING_AGGS_REDUCE_SETTING, this::setStreamingAggsReduce);
+        this.hedgedRequests = HEDGED_REQUESTS_SETTING.get(clusterService.getSettings());
+        this.hedgedRequestsPercentile = HEDGED_REQUESTS_PERCENTILE_SETTING.get(clusterService.getSettings());
+        this.hedgedRequestsMinDelay = HEDGED_REQUESTS_MIN_DELAY_SETTING.get(clusterService.getSettings());
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(HEDGED_REQUESTS_SETTING, this::setHedgedRequests);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(HEDGED_REQUESTS_PERCENTILE_SETTING,
+            this::setHedgedRequestsPercentile);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(HEDGED_REQUESTS_MIN_DELAY_SETTING,
+            this::setHedgedRequestsMinDelay);
+    }
+
+    private void setStreamingAggsReduce(boolean streamingAggsReduce) {
+        this.streamingAggsReduce = streamingAggsReduce;
+    }
+
+    private void setHedgedRequests(boolean hedgedRequests) {
+        this.hedgedRequests = hedgedRequests;
+    }
+
+    private void setHedgedRequestsPercentile(double hedgedRequestsPercentile) {
+        this.hedgedRequestsPercentile = hedgedRequestsPercentile;
+    }
+
+    private void setHedgedRequestsMinDelay(TimeValue hedgedRequestsMinDelay) {
+        this.hedgedRequestsMinDelay = hedgedRequestsMinDelay;
     }
 
     private Map<String, AliasFilter> buildPerIndexAliasFilter(SearchRequest request, ClusterState clusterState,
@@ -815,7 +871,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
             }, clusters);
         } else {
             final QueryPhaseResultConsumer queryResultConsumer = searchPhaseController.newSearchPhaseResults(executor,
-                circuitBreaker, task.getProgressListener(), searchRequest, shardIterators.size(), exc -> cancelTask(task, exc));
+                circuitBreaker, task.getProgressListener(), searchRequest, shardIterators.size(), streamingAggsReduce,
+                exc -> cancelTask(task, exc));
             AbstractSearchAsyncAction<? extends SearchPhaseResult> searchAsyncAction;
             switch (searchRequest.searchType()) {
                 case DFS_QUERY_THEN_FETCH:
@@ -826,7 +883,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 case QUERY_THEN_FETCH:
                     searchAsyncAction = new SearchQueryThenFetchAsyncAction(logger, searchTransportService, connectionLookup,
                         aliasFilter, concreteIndexBoosts, indexRoutings, searchPhaseController, executor, queryResultConsumer,
-                        searchRequest, listener, shardIterators, timeProvider, clusterState, task, clusters);
+                        searchRequest, listener, shardIterators, timeProvider, clusterState, task, clusters,
+                        shardRequestHedging(searchRequest, threadPool));
                     break;
                 default:
                     throw new IllegalStateException("Unknown search type: [" + searchRequest.searchType() + "]");
@@ -835,6 +893,16 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         }
     }
 
+    @Nullable
+    private ShardRequestHedging shardRequestHedging(SearchRequest searchRequest, ThreadPool threadPool) {
+        // the shard requests of a point in time search can only go to the copies that hold its readers
+        if (hedgedRequests == false || searchRequest.pointInTimeBuilder() != null) {
+            return null;
+        }
+        return new ShardRequestHedging(threadPool, taskManager, searchService.getResponseCollectorService(),
+            hedgedRequestsPercentile, hedgedRequestsMinDelay);
+    }
+
     private void cancelTask(SearchTask task, Exception exc) {
         String errorMsg = exc.getMessage() != null ? exc.getMessage() : "";
         CancelTasksRequest req = new CancelTasksRequest()
@@ -53,6 +53,8 @@ import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.io.stream.OutputStreamStreamOutput;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.discovery.zen.PublishClusterStateAction;
 import org.opensearch.discovery.zen.PublishClusterStateStats;
@@ -83,8 +85,16 @@ public class PublicationTransportHandler {
     public static final String PUBLISH_STATE_ACTION_NAME = "internal:cluster/coordination/publish_state";
     public static final String COMMIT_STATE_ACTION_NAME = "internal:cluster/coordination/commit_state";
 
+    /**
+     * The compressor used for the full cluster states and diffs published to nodes that are able to read it, either {@code deflate}
+     * or the cheaper {@code lz4}.
+     */
+    public static final Setting<Compressor> PUBLISH_COMPRESSION_SETTING =
+        new Setting<>("cluster.publish.compression", "deflate", CompressorFactory::compressorForName, Setting.Property.NodeScope);
+
     private final TransportService transportService;
     private final NamedWriteableRegistry namedWriteableRegistry;
+    private final Compressor publishCompressor;
     private final Function<PublishRequest, PublishWithJoinResponse> handlePublishRequest;
 
     private final AtomicReference<ClusterState> lastSeenClusterState = new AtomicReference<>();
@@ -104,11 +114,13 @@ public class PublicationTransportHandler {
     private final TransportRequestOptions stateRequestOptions = TransportRequestOptions.builder()
         .withType(TransportRequestOptions.Type.STATE).build();
 
-    public PublicationTransportHandler(TransportService transportService, NamedWriteableRegistry namedWriteableRegistry,
+    public PublicationTransportHandler(Settings settings, TransportService transportService,
+                                       NamedWriteableRegistry namedWriteableRegistry,
                                        Function<PublishRequest, PublishWithJoinResponse> handlePublishRequest,
                                        BiConsumer<ApplyCommitRequest, ActionListener<Void>> handleApplyCommit) {
         this.transportService = transportService;
         this.namedWriteableRegistry = namedWriteableRegistry;
+        this.publishCompressor = PUBLISH_COMPRESSION_SETTING.get(settings);
         this.handlePublishRequest = handlePublishRequest;
 
         transportService.registerRequestHandler(PUBLISH_STATE_ACTION_NAME, ThreadPool.Names.GENERIC, false, false,
@@ -170,8 +182,10 @@ public class PublicationTransportHandler {
             compatibleClusterStateDiffReceivedCount.get());
     }
 
-    private PublishWithJoinResponse handleIncomingPublishRequest(BytesTransportRequest request) throws IOException {
-        final Compressor compressor = CompressorFactory.compressor(request.bytes());
+    PublishWithJoinResponse handleIncomingPublishRequest(BytesTransportRequest request) throws IOException {
+        // LZ4 is only used for publication, so the factory doesn't detect it
+        final Compressor compressor = CompressorFactory.LZ4_COMPRESSOR.isCompressed(request.bytes()) ? CompressorFactory.LZ4_COMPRESSOR
+            : CompressorFactory.compressor(request.bytes());
         StreamInput in = request.bytes().streamInput();
         try {
             if (compressor != null) {
@@ -253,9 +267,14 @@ public class PublicationTransportHandler {
         return publicationContext;
     }
 
-    private static BytesReference serializeFullClusterState(ClusterState clusterState, Version nodeVersion) throws IOException {
+    private Compressor compressor(Version nodeVersion) {
+        // nodes before 1.0.0 only know how to decompress deflate
+        return nodeVersion.onOrAfter(Version.V_1_0_0) ? publishCompressor : CompressorFactory.COMPRESSOR;
+    }
+
+    BytesReference serializeFullClusterState(ClusterState clusterState, Version nodeVersion) throws IOException {
         final BytesStreamOutput bStream = new BytesStreamOutput();
-        try (StreamOutput stream = new OutputStreamStreamOutput(CompressorFactory.COMPRESSOR.threadLocalOutputStream(bStream))) {
+        try (StreamOutput stream = new OutputStreamStreamOutput(compressor(nodeVersion).threadLocalOutputStream(bStream))) {
             stream.setVersion(nodeVersion);
             stream.writeBoolean(true);
             clusterState.writeTo(stream);
@@ -266,9 +285,9 @@ public class PublicationTransportHandler {
         return serializedState;
     }
 
-    private static BytesReference serializeDiffClusterState(Diff<ClusterState> diff, Version nodeVersion) throws IOException {
+    private BytesReference serializeDiffClusterState(Diff<ClusterState> diff, Version nodeVersion) throws IOException {
         final BytesStreamOutput bStream = new BytesStreamOutput();
-        try (StreamOutput stream = new OutputStreamStreamOutput(CompressorFactory.COMPRESSOR.threadLocalOutputStream(bStream))) {
+        try (StreamOutput stream = new OutputStreamStreamOutput(compressor(nodeVersion).threadLocalOutputStream(bStream))) {
             stream.setVersion(nodeVersion);
             stream.writeBoolean(false);
             diff.writeTo(stream);
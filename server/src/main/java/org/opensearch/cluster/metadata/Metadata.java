@@ -77,6 +77,7 @@ import org.opensearch.rest.RestStatus;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
@@ -997,6 +998,15 @@ public class Metadata implements Iterable<IndexMetadata>, Diffable<Metadata>, To
             builder.indices(indices.apply(part.indices));
             builder.templates(templates.apply(part.templates));
             builder.customs(customs.apply(part.customs));
+            if (indices instanceof DiffableUtils.MapDiff) {
+                @SuppressWarnings("unchecked")
+                final DiffableUtils.MapDiff<String, IndexMetadata, ?> indicesDiff =
+                    (DiffableUtils.MapDiff<String, IndexMetadata, ?>) indices;
+                if (indicesDiff.getDeletes().isEmpty() && indicesDiff.getUpserts().isEmpty()) {
+                    // only the indices of the diff may have changed, their derived data structures can be updated in place
+                    builder.previousMetadata(part, indicesDiff.getDiffs().keySet());
+                }
+            }
             return builder.build();
         }
     }
@@ -1093,6 +1103,13 @@ public class Metadata implements Iterable<IndexMetadata>, Diffable<Metadata>, To
         private final ImmutableOpenMap.Builder<String, IndexTemplateMetadata> templates;
         private final ImmutableOpenMap.Builder<String, Custom> customs;
 
+        // the metadata this builder derives from, its indices lookup is reused by build() when possible
+        @Nullable
+        private Metadata previousMetadata;
+        // the names of the only indices that may differ from the previous metadata, or null if any index may differ
+        @Nullable
+        private Collection<String> updatedIndices;
+
         public Builder() {
             clusterUUID = UNKNOWN_CLUSTER_UUID;
             indices = ImmutableOpenMap.builder();
@@ -1112,6 +1129,13 @@ public class Metadata implements Iterable<IndexMetadata>, Diffable<Metadata>, To
             this.indices = ImmutableOpenMap.builder(metadata.indices);
             this.templates = ImmutableOpenMap.builder(metadata.templates);
             this.customs = ImmutableOpenMap.builder(metadata.customs);
+            this.previousMetadata = metadata;
+        }
+
+        Builder previousMetadata(Metadata previousMetadata, Collection<String> updatedIndices) {
+            this.previousMetadata = previousMetadata;
+            this.updatedIndices = updatedIndices;
+            return this;
         }
 
         public Builder put(IndexMetadata.Builder indexMetadataBuilder) {
@@ -1399,6 +1423,13 @@ public class Metadata implements Iterable<IndexMetadata>, Diffable<Metadata>, To
             //    while these datastructures aren't even used.
             // 2) The aliasAndIndexLookup can be updated instead of rebuilding it all the time.
 
+            if (previousMetadata != null) {
+                final Metadata metadata = buildFromPrevious(previousMetadata);
+                if (metadata != null) {
+                    return metadata;
+                }
+            }
+
             final Set<String> allIndices = new HashSet<>(indices.size());
             final List<String> visibleIndices = new ArrayList<>();
             final List<String> allOpenIndices = new ArrayList<>();
@@ -1497,6 +1528,104 @@ public class Metadata implements Iterable<IndexMetadata>, Diffable<Metadata>, To
                 allOpenIndicesArray, visibleOpenIndicesArray, allClosedIndicesArray, visibleClosedIndicesArray, indicesLookup);
         }
 
+        /**
+         * Builds the metadata by updating the derived data structures of the given previous metadata, which is possible when
+         * the names, states, hidden flags and aliases of the indices and the data streams are unchanged. Since the previous
+         * metadata was validated the uniqueness of the names and the aliases don't need to be validated again: only the
+         * lookup entries that reference an updated {@link IndexMetadata} are rebuilt.
+         *
+         * @return the metadata, or {@code null} if it must be built from scratch
+         */
+        @Nullable
+        private Metadata buildFromPrevious(Metadata previous) {
+            if (indices.size() != previous.indices.size()
+                || customs.get(DataStreamMetadata.TYPE) != previous.customs.get(DataStreamMetadata.TYPE)) {
+                return null;
+            }
+            final List<IndexMetadata> updated = new ArrayList<>();
+            if (updatedIndices != null) {
+                for (String name : updatedIndices) {
+                    if (addIfUpdated(name, previous, updated) == false) {
+                        return null;
+                    }
+                }
+            } else {
+                for (ObjectCursor<String> cursor : indices.keys()) {
+                    if (addIfUpdated(cursor.value, previous, updated) == false) {
+                        return null;
+                    }
+                }
+            }
+
+            SortedMap<String, IndexAbstraction> indicesLookup = previous.indicesLookup;
+            if (updated.isEmpty() == false) {
+                final SortedMap<String, IndexAbstraction> lookup = new TreeMap<>(previous.indicesLookup);
+                final Set<String> dataStreams = new HashSet<>();
+                final Set<String> aliases = new HashSet<>();
+                for (IndexMetadata indexMetadata : updated) {
+                    final IndexAbstraction.DataStream parent = lookup.get(indexMetadata.getIndex().getName()).getParentDataStream();
+                    if (parent != null) {
+                        dataStreams.add(parent.getName());
+                    } else {
+                        lookup.put(indexMetadata.getIndex().getName(), new IndexAbstraction.Index(indexMetadata));
+                    }
+                    indexMetadata.getAliases().keysIt().forEachRemaining(aliases::add);
+                }
+                for (String dataStreamName : dataStreams) {
+                    final DataStream dataStream = ((IndexAbstraction.DataStream) lookup.get(dataStreamName)).getDataStream();
+                    final List<IndexMetadata> backingIndices = dataStream.getIndices().stream()
+                        .map(index -> indices.get(index.getName()))
+                        .collect(Collectors.toList());
+                    final IndexAbstraction.DataStream abstraction = new IndexAbstraction.DataStream(dataStream, backingIndices);
+                    lookup.put(dataStreamName, abstraction);
+                    for (IndexMetadata backingIndex : backingIndices) {
+                        lookup.put(backingIndex.getIndex().getName(), new IndexAbstraction.Index(backingIndex, abstraction));
+                    }
+                }
+                for (String aliasName : aliases) {
+                    IndexAbstraction.Alias alias = null;
+                    for (IndexMetadata previousIndexMetadata : lookup.get(aliasName).getIndices()) {
+                        final IndexMetadata indexMetadata = indices.get(previousIndexMetadata.getIndex().getName());
+                        if (alias == null) {
+                            alias = new IndexAbstraction.Alias(indexMetadata.getAliases().get(aliasName), indexMetadata);
+                        } else {
+                            alias.addIndex(indexMetadata);
+                        }
+                    }
+                    alias.computeAndValidateAliasProperties();
+                    lookup.put(aliasName, alias);
+                }
+                indicesLookup = Collections.unmodifiableSortedMap(lookup);
+            }
+
+            return new Metadata(clusterUUID, clusterUUIDCommitted, version, coordinationMetadata, transientSettings, persistentSettings,
+                hashesOfConsistentSettings, indices.build(), templates.build(), customs.build(), previous.allIndices,
+                previous.visibleIndices, previous.allOpenIndices, previous.visibleOpenIndices, previous.allClosedIndices,
+                previous.visibleClosedIndices, indicesLookup);
+        }
+
+        /**
+         * Adds the metadata of the given index to {@code updated} if it differs from the previous one. Returns {@code false} if
+         * the index doesn't contribute in the same way to the index arrays and the names of the indices lookup as before.
+         */
+        private boolean addIfUpdated(String name, Metadata previous, List<IndexMetadata> updated) {
+            final IndexMetadata before = previous.indices.get(name);
+            final IndexMetadata after = indices.get(name);
+            if (before == after) {
+                return true;
+            }
+            if (before == null || after == null
+                || before.getIndex().equals(after.getIndex()) == false
+                || before.getState() != after.getState()
+                || IndexMetadata.INDEX_HIDDEN_SETTING.get(before.getSettings())
+                    .equals(IndexMetadata.INDEX_HIDDEN_SETTING.get(after.getSettings())) == false
+                || before.getAliases().equals(after.getAliases()) == false) {
+                return false;
+            }
+            updated.add(after);
+            return true;
+        }
+
         private SortedMap<String, IndexAbstraction> buildIndicesLookup() {
             SortedMap<String, IndexAbstraction> indicesLookup = new TreeMap<>();
             Map<String, DataStream> indexToDataStreamLookup = new HashMap<>();
@@ -288,6 +288,27 @@ public class IndexShardRoutingTable implements Iterable<ShardRouting> {
         return new PlainShardIterator(shardId, ordered);
     }
 
+    /**
+     * Returns an iterator over active and initializing shards, ordered by the predicted response time of their nodes: the given
+     * percentile of the recent response times of the node, scaled by the number of searches that the node is serving for this
+     * coordinating node. Making sure though that its random within the active shards of the same rank, and initializing shards are
+     * the last to iterate through.
+     */
+    public ShardIterator activeInitializingShardsResponseTimeRankedIt(@Nullable ResponseCollectorService collector,
+                                                                      @Nullable Map<String, Long> nodeSearchCounts,
+                                                                      double percentile) {
+        final int seed = shuffler.nextSeed();
+        if (allInitializingShards.isEmpty()) {
+            return new PlainShardIterator(shardId,
+                    rankShardsByResponseTime(shuffler.shuffle(activeShards, seed), collector, nodeSearchCounts, percentile));
+        }
+
+        ArrayList<ShardRouting> ordered = new ArrayList<>(activeShards.size() + allInitializingShards.size());
+        ordered.addAll(rankShardsByResponseTime(shuffler.shuffle(activeShards, seed), collector, nodeSearchCounts, percentile));
+        ordered.addAll(rankShardsByResponseTime(allInitializingShards, collector, nodeSearchCounts, percentile));
+        return new PlainShardIterator(shardId, ordered);
+    }
+
     private static Set<String> getAllNodeIds(final List<ShardRouting> shards) {
         final Set<String> nodeIds = new HashSet<>();
         for (ShardRouting shard : shards) {
@@ -388,6 +409,46 @@ public class IndexShardRoutingTable implements Iterable<ShardRouting> {
         return sortedShards;
     }
 
+    private static List<ShardRouting> rankShardsByResponseTime(List<ShardRouting> shards, final ResponseCollectorService collector,
+                                                               final Map<String, Long> nodeSearchCounts, double percentile) {
+        if (collector == null || nodeSearchCounts == null || shards.size() <= 1) {
+            return shards;
+        }
+
+        final Set<String> nodeIds = getAllNodeIds(shards);
+        final Map<String, Long> responseTimes = new HashMap<>(nodeIds.size());
+        long minResponseTime = Long.MAX_VALUE;
+        for (String nodeId : nodeIds) {
+            final long responseTime = collector.getResponseTimePercentile(nodeId, percentile);
+            if (responseTime >= 0) {
+                responseTimes.put(nodeId, responseTime);
+                minResponseTime = Math.min(minResponseTime, responseTime);
+            }
+        }
+        if (responseTimes.isEmpty()) {
+            return shards;
+        }
+
+        // There is no need to adjust the stats of the nodes that lose like the C3 ranking does: the response times of a node that
+        // doesn't get searches age out after a window, at which point it is ranked as if it were as fast as the fastest node again.
+        // A node that stopped responding doesn't age out as long as it has requests in flight, their age counts as its response time.
+        final Map<String, Double> nodeRanks = new HashMap<>(nodeIds.size());
+        for (String nodeId : nodeIds) {
+            final long responseTime = responseTimes.getOrDefault(nodeId, minResponseTime);
+            nodeRanks.put(nodeId, (double) responseTime * (1 + nodeSearchCounts.getOrDefault(nodeId, 0L)));
+        }
+
+        ArrayList<ShardRouting> sortedShards = new ArrayList<>(shards);
+        Collections.sort(sortedShards, new NodeRankComparator(nodeRanks));
+
+        ShardRouting minShard = sortedShards.get(0);
+        if (minShard.started()) {
+            // count the search against the captured node search counts, so that the next shards of the same search are spread out
+            nodeSearchCounts.compute(minShard.currentNodeId(), (id, conns) -> conns == null ? 1 : conns + 1);
+        }
+        return sortedShards;
+    }
+
     private static class NodeRankComparator implements Comparator<ShardRouting> {
         private final Map<String, Double> nodeRanks;
 
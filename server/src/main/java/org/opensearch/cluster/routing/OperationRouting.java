@@ -52,6 +52,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -64,6 +65,21 @@ public class OperationRouting {
             Setting.boolSetting("cluster.routing.use_adaptive_replica_selection", true,
                     Setting.Property.Dynamic, Setting.Property.NodeScope);
 
+    /**
+     * How adaptive replica selection ranks the copies of a shard, see {@link AdaptiveReplicaSelectionRanking}.
+     */
+    public static final Setting<AdaptiveReplicaSelectionRanking> ADAPTIVE_REPLICA_SELECTION_RANKING_SETTING =
+            new Setting<>("cluster.routing.adaptive_replica_selection.ranking", AdaptiveReplicaSelectionRanking.C3.toString(),
+                    AdaptiveReplicaSelectionRanking::parse, Setting.Property.Dynamic, Setting.Property.NodeScope);
+
+    /**
+     * The percentile of the response times of the nodes that copies are ranked by with
+     * {@link AdaptiveReplicaSelectionRanking#RESPONSE_TIME_PERCENTILE}.
+     */
+    public static final Setting<Double> ADAPTIVE_REPLICA_SELECTION_PERCENTILE_SETTING =
+            Setting.doubleSetting("cluster.routing.adaptive_replica_selection.response_time_percentile", 95.0, 0.0, 100.0,
+                    Setting.Property.Dynamic, Setting.Property.NodeScope);
+
     private static final DeprecationLogger deprecationLogger = DeprecationLogger.getLogger(OperationRouting.class);
     private static final String IGNORE_AWARENESS_ATTRIBUTES_PROPERTY = "opensearch.search.ignore_awareness_attributes";
     static final String IGNORE_AWARENESS_ATTRIBUTES_DEPRECATION_MESSAGE =
@@ -72,6 +88,8 @@ public class OperationRouting {
 
     private List<String> awarenessAttributes;
     private boolean useAdaptiveReplicaSelection;
+    private AdaptiveReplicaSelectionRanking adaptiveReplicaSelectionRanking;
+    private double adaptiveReplicaSelectionPercentile;
 
     public OperationRouting(Settings settings, ClusterSettings clusterSettings) {
         // whether to ignore awareness attributes when routing requests
@@ -90,12 +108,25 @@ public class OperationRouting {
 
         this.useAdaptiveReplicaSelection = USE_ADAPTIVE_REPLICA_SELECTION_SETTING.get(settings);
         clusterSettings.addSettingsUpdateConsumer(USE_ADAPTIVE_REPLICA_SELECTION_SETTING, this::setUseAdaptiveReplicaSelection);
+        this.adaptiveReplicaSelectionRanking = ADAPTIVE_REPLICA_SELECTION_RANKING_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(ADAPTIVE_REPLICA_SELECTION_RANKING_SETTING, this::setAdaptiveReplicaSelectionRanking);
+        this.adaptiveReplicaSelectionPercentile = ADAPTIVE_REPLICA_SELECTION_PERCENTILE_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(ADAPTIVE_REPLICA_SELECTION_PERCENTILE_SETTING,
+            this::setAdaptiveReplicaSelectionPercentile);
     }
 
     void setUseAdaptiveReplicaSelection(boolean useAdaptiveReplicaSelection) {
         this.useAdaptiveReplicaSelection = useAdaptiveReplicaSelection;
     }
 
+    void setAdaptiveReplicaSelectionRanking(AdaptiveReplicaSelectionRanking adaptiveReplicaSelectionRanking) {
+        this.adaptiveReplicaSelectionRanking = adaptiveReplicaSelectionRanking;
+    }
+
+    void setAdaptiveReplicaSelectionPercentile(double adaptiveReplicaSelectionPercentile) {
+        this.adaptiveReplicaSelectionPercentile = adaptiveReplicaSelectionPercentile;
+    }
+
     List<String> getAwarenessAttributes() {
         return awarenessAttributes;
     }
@@ -264,6 +295,10 @@ public class OperationRouting {
             @Nullable ResponseCollectorService collectorService, @Nullable Map<String, Long> nodeCounts) {
         if (awarenessAttributes.isEmpty()) {
             if (useAdaptiveReplicaSelection) {
+                if (adaptiveReplicaSelectionRanking == AdaptiveReplicaSelectionRanking.RESPONSE_TIME_PERCENTILE) {
+                    return indexShard.activeInitializingShardsResponseTimeRankedIt(collectorService, nodeCounts,
+                        adaptiveReplicaSelectionPercentile);
+                }
                 return indexShard.activeInitializingShardsRankedIt(collectorService, nodeCounts);
             } else {
                 return indexShard.activeInitializingShardsRandomIt();
@@ -328,4 +363,32 @@ public class OperationRouting {
         return Math.floorMod(hash, indexMetadata.getRoutingNumShards()) / indexMetadata.getRoutingFactor();
     }
 
+
+    /**
+     * The ways adaptive replica selection can rank the copies of a shard.
+     */
+    public enum AdaptiveReplicaSelectionRanking {
+        /**
+         * Rank by the formula of the C3 paper, which combines the EWMA of the queue size, service time and response time of the nodes.
+         */
+        C3,
+        /**
+         * Rank by a percentile of the recent response times of the nodes, scaled by the number of searches that each node is already
+         * serving for this coordinating node. It reacts faster to the stalls and long tails that an EWMA smooths over.
+         */
+        RESPONSE_TIME_PERCENTILE;
+
+        public static AdaptiveReplicaSelectionRanking parse(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Illegal adaptive_replica_selection.ranking value [" + value + "]");
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
 }
@@ -253,7 +253,8 @@ public class RoutingNodes implements Iterable<RoutingNode> {
         return nodesToShards.get(nodeId);
     }
 
-    public ObjectIntHashMap<String> nodesPerAttributesCounts(String attributeName) {
+    // synchronized as allocation deciders may call it concurrently, see BalancedShardsAllocator#PARALLELISM_SETTING
+    public synchronized ObjectIntHashMap<String> nodesPerAttributesCounts(String attributeName) {
         ObjectIntHashMap<String> nodesPerAttributesCounts = nodesPerAttributeNames.get(attributeName);
         if (nodesPerAttributesCounts != null) {
             return nodesPerAttributesCounts;
@@ -54,15 +54,22 @@ import org.opensearch.cluster.routing.allocation.decider.AllocationDeciders;
 import org.opensearch.cluster.routing.allocation.decider.Decision;
 import org.opensearch.cluster.routing.allocation.decider.Decision.Type;
 import org.opensearch.cluster.routing.allocation.decider.DiskThresholdDecider;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.gateway.PriorityComparator;
 
+import java.io.Closeable;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -71,6 +78,11 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.StreamSupport;
 
 import static org.opensearch.cluster.routing.ShardRoutingState.RELOCATING;
@@ -89,8 +101,13 @@ import static org.opensearch.cluster.routing.ShardRoutingState.RELOCATING;
  * <p>
  * These parameters are combined in a {@link WeightFunction} that allows calculation of node weights which
  * are used to re-balance shards based on global as well as per-index factors.
+ * <p>
+ * If <code>cluster.routing.allocation.balance.parallelism</code> is greater than 1, the weight deltas of the indices and
+ * the allocation decisions that don't depend on the order in which shards are moved are computed on a fork-join pool and
+ * merged in the same order as the sequential computation. The allocation deciders must then support concurrent calls, which
+ * run with the thread context of the allocating thread.
  */
-public class BalancedShardsAllocator implements ShardsAllocator {
+public class BalancedShardsAllocator implements ShardsAllocator, Closeable {
 
     private static final Logger logger = LogManager.getLogger(BalancedShardsAllocator.class);
 
@@ -101,20 +118,36 @@ public class BalancedShardsAllocator implements ShardsAllocator {
     public static final Setting<Float> THRESHOLD_SETTING =
         Setting.floatSetting("cluster.routing.allocation.balance.threshold", 1.0f, 0.0f,
             Property.Dynamic, Property.NodeScope);
+    public static final Setting<Integer> PARALLELISM_SETTING =
+        Setting.intSetting("cluster.routing.allocation.balance.parallelism", 1, 1, Property.Dynamic, Property.NodeScope);
 
     private volatile WeightFunction weightFunction;
     private volatile float threshold;
+    private volatile int parallelism;
+    private final String threadNamePrefix;
+    private final ThreadContext threadContext;
+    // created on the first parallel allocation and replaced when the parallelism changes
+    private ForkJoinPool pool;
+    private boolean closed;
 
     public BalancedShardsAllocator(Settings settings) {
         this(settings, new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
     }
 
-    @Inject
     public BalancedShardsAllocator(Settings settings, ClusterSettings clusterSettings) {
+        this(settings, clusterSettings, new ThreadContext(settings));
+    }
+
+    @Inject
+    public BalancedShardsAllocator(Settings settings, ClusterSettings clusterSettings, ThreadContext threadContext) {
+        this.threadContext = threadContext;
         setWeightFunction(INDEX_BALANCE_FACTOR_SETTING.get(settings), SHARD_BALANCE_FACTOR_SETTING.get(settings));
         setThreshold(THRESHOLD_SETTING.get(settings));
+        setParallelism(PARALLELISM_SETTING.get(settings));
+        threadNamePrefix = OpenSearchExecutors.threadName(settings, "balancer");
         clusterSettings.addSettingsUpdateConsumer(INDEX_BALANCE_FACTOR_SETTING, SHARD_BALANCE_FACTOR_SETTING, this::setWeightFunction);
         clusterSettings.addSettingsUpdateConsumer(THRESHOLD_SETTING, this::setThreshold);
+        clusterSettings.addSettingsUpdateConsumer(PARALLELISM_SETTING, this::setParallelism);
     }
 
     private void setWeightFunction(float indexBalance, float shardBalanceFactor) {
@@ -125,21 +158,67 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         this.threshold = threshold;
     }
 
+    private void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     @Override
     public void allocate(RoutingAllocation allocation) {
         if (allocation.routingNodes().size() == 0) {
             failAllocationOfNewPrimaries(allocation);
             return;
         }
-        final Balancer balancer = new Balancer(logger, allocation, weightFunction, threshold);
+        final Balancer balancer = new Balancer(logger, allocation, weightFunction, threshold, pool(parallelism), threadContext);
         balancer.allocateUnassigned();
         balancer.moveShards();
         balancer.balance();
     }
 
+    /**
+     * Returns the pool to compute the balance with the given parallelism on, or {@code null} if it is computed on the calling thread.
+     * The idle workers of the pool terminate on their own, so it is kept across allocations.
+     */
+    private synchronized ForkJoinPool pool(int parallelism) {
+        if (pool != null && (closed || pool.getParallelism() != parallelism)) {
+            // an allocation that still uses the previous pool completes on its calling thread
+            pool.shutdown();
+            pool = null;
+        }
+        if (pool == null && closed == false && parallelism > 1) {
+            pool = newPool(parallelism);
+        }
+        return pool;
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    private ForkJoinPool newPool(int parallelism) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        // the workers are created with the permissions of this class rather than with the restricted ones of the default factory,
+        // which doesn't allow to name them
+        final ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = pool -> AccessController.doPrivileged(
+            (PrivilegedAction<ForkJoinWorkerThread>) () ->
+                new BalancerWorkerThread(pool, threadNamePrefix + "[T#" + threadNumber.incrementAndGet() + "]"));
+        return new ForkJoinPool(parallelism, threadFactory, null, false);
+    }
+
+    private static final class BalancerWorkerThread extends ForkJoinWorkerThread {
+        BalancerWorkerThread(ForkJoinPool pool, String name) {
+            super(pool);
+            setName(name);
+        }
+    }
+
     @Override
     public ShardAllocationDecision decideShardAllocation(final ShardRouting shard, final RoutingAllocation allocation) {
-        Balancer balancer = new Balancer(logger, allocation, weightFunction, threshold);
+        Balancer balancer = new Balancer(logger, allocation, weightFunction, threshold, null, null);
         AllocateUnassignedDecision allocateUnassignedDecision = AllocateUnassignedDecision.NOT_TAKEN;
         MoveDecision moveDecision = MoveDecision.NOT_TAKEN;
         if (shard.unassigned()) {
@@ -192,6 +271,13 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         return weightFunction.shardBalance;
     }
 
+    /**
+     * Returns the number of threads used to compute the balance, {@code 1} if it is computed on the calling thread.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
 
     /**
      * This class is the primary weight function used to create balanced over nodes and shards in the cluster.
@@ -246,8 +332,15 @@ public class BalancedShardsAllocator implements ShardsAllocator {
      * A {@link Balancer}
      */
     public static class Balancer {
+        // the minimum number of items processed by a fork-join task
+        private static final int MIN_BATCH_SIZE = 8;
+        // the number of shards whose move decisions are computed in parallel at once
+        private static final int MOVE_BATCH_SIZE = 1024;
+
         private final Logger logger;
         private final Map<String, ModelNode> nodes;
+        // the nodes in the iteration order of the nodes map
+        private final ModelNode[] allNodes;
         private final RoutingAllocation allocation;
         private final RoutingNodes routingNodes;
         private final WeightFunction weight;
@@ -256,9 +349,17 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         private final Metadata metadata;
         private final float avgShardsPerNode;
         private final NodeSorter sorter;
-
-        public Balancer(Logger logger, RoutingAllocation allocation, WeightFunction weight, float threshold) {
+        @Nullable
+        private final ForkJoinPool pool;
+        @Nullable
+        private final ThreadContext threadContext;
+
+        public Balancer(Logger logger, RoutingAllocation allocation, WeightFunction weight, float threshold,
+                        @Nullable ForkJoinPool pool, @Nullable ThreadContext threadContext) {
+            assert pool == null || threadContext != null : "parallel balancing needs the thread context to pass on to the pool";
             this.logger = logger;
+            this.pool = pool;
+            this.threadContext = threadContext;
             this.allocation = allocation;
             this.weight = weight;
             this.threshold = threshold;
@@ -266,6 +367,7 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             this.metadata = allocation.metadata();
             avgShardsPerNode = ((float) metadata.getTotalNumberOfShards()) / routingNodes.size();
             nodes = Collections.unmodifiableMap(buildModelFromAssigned());
+            allNodes = nodesArray();
             sorter = newNodeSorter();
         }
 
@@ -300,6 +402,39 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             return new NodeSorter(nodesArray(), weight, this);
         }
 
+        /**
+         * Returns {@code true} if work on the given number of items should be split across the pool.
+         */
+        private boolean isParallel(int size) {
+            return pool != null && size >= 2 * MIN_BATCH_SIZE;
+        }
+
+        /**
+         * Calls the given consumer on ranges that cover {@code [0, size)}, on the pool if the work is large enough or
+         * on the calling thread otherwise. The consumer must only read the model and write to slots of the range it is
+         * given, so that the results don't depend on how the work is split.
+         */
+        private void forEachRange(int size, RangeConsumer consumer) {
+            if (isParallel(size)) {
+                final int batchSize = Math.max(MIN_BATCH_SIZE, size / (pool.getParallelism() * 4));
+                final List<ForkJoinTask<?>> tasks = new ArrayList<>(size / batchSize + 1);
+                for (int from = 0; from < size; from += batchSize) {
+                    final int start = from;
+                    final int end = Math.min(size, from + batchSize);
+                    tasks.add(ForkJoinTask.adapt(threadContext.preserveContext(() -> consumer.accept(start, end))));
+                }
+                try {
+                    pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+                } catch (RejectedExecutionException e) {
+                    // the pool was shut down because the parallelism changed or the node is closing
+                    assert pool.isShutdown() : e;
+                    consumer.accept(0, size);
+                }
+            } else {
+                consumer.accept(0, size);
+            }
+        }
+
         /**
          * The absolute value difference between two weights.
          */
@@ -482,11 +617,18 @@ public class BalancedShardsAllocator implements ShardsAllocator {
 
                 // find nodes that have a shard of this index or where shards of this index are allowed to be allocated to,
                 // move these nodes to the front of modelNodes so that we can only balance based on these nodes
+                final boolean[] relevant = new boolean[modelNodes.length];
+                forEachRange(modelNodes.length, (from, to) -> {
+                    for (int i = from; i < to; i++) {
+                        relevant[i] = modelNodes[i].getIndex(index) != null
+                            || deciders.canAllocate(indexMetadata, modelNodes[i].getRoutingNode(), allocation).type() != Type.NO;
+                    }
+                });
                 int relevantNodes = 0;
                 for (int i = 0; i < modelNodes.length; i++) {
                     ModelNode modelNode = modelNodes[i];
-                    if (modelNode.getIndex(index) != null
-                        || deciders.canAllocate(indexMetadata, modelNode.getRoutingNode(), allocation).type() != Type.NO) {
+                    // the node swapped to position i was already found irrelevant, so the flags don't need to be swapped
+                    if (relevant[i]) {
                         // swap nodes at position i and relevantNodes
                         modelNodes[i] = modelNodes[relevantNodes];
                         modelNodes[relevantNodes] = modelNode;
@@ -595,9 +737,20 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         private String[] buildWeightOrderedIndices() {
             final String[] indices = allocation.routingTable().indicesRouting().keys().toArray(String.class);
             final float[] deltas = new float[indices.length];
-            for (int i = 0; i < deltas.length; i++) {
-                sorter.reset(indices[i]);
-                deltas[i] = sorter.delta();
+            if (isParallel(indices.length)) {
+                // the delta doesn't depend on the order of the nodes, each range can sort its own copy of them
+                forEachRange(indices.length, (from, to) -> {
+                    final NodeSorter rangeSorter = newNodeSorter();
+                    for (int i = from; i < to; i++) {
+                        rangeSorter.reset(indices[i]);
+                        deltas[i] = rangeSorter.delta();
+                    }
+                });
+            } else {
+                for (int i = 0; i < deltas.length; i++) {
+                    sorter.reset(indices[i]);
+                    deltas[i] = sorter.delta();
+                }
             }
             new IntroSorter() {
 
@@ -646,26 +799,66 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             // Iterate over the started shards interleaving between nodes, and check if they can remain. In the presence of throttling
             // shard movements, the goal of this iteration order is to achieve a fairer movement of shards from the nodes that are
             // offloading the shards.
-            for (Iterator<ShardRouting> it = allocation.routingNodes().nodeInterleavedShardIterator(); it.hasNext(); ) {
-                ShardRouting shardRouting = it.next();
-                final MoveDecision moveDecision = decideMove(shardRouting);
-                if (moveDecision.isDecisionTaken() && moveDecision.forceMove()) {
-                    final ModelNode sourceNode = nodes.get(shardRouting.currentNodeId());
-                    final ModelNode targetNode = nodes.get(moveDecision.getTargetNode().getId());
-                    sourceNode.removeShard(shardRouting);
-                    Tuple<ShardRouting, ShardRouting> relocatingShards = routingNodes.relocateShard(shardRouting, targetNode.getNodeId(),
-                        allocation.clusterInfo().getShardSize(shardRouting,
-                                                              ShardRouting.UNAVAILABLE_EXPECTED_SHARD_SIZE), allocation.changes());
-                    targetNode.addShard(relocatingShards.v2());
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("Moved shard [{}] to node [{}]", shardRouting, targetNode.getRoutingNode());
+            final Iterator<ShardRouting> it = allocation.routingNodes().nodeInterleavedShardIterator();
+            if (pool == null) {
+                while (it.hasNext()) {
+                    ShardRouting shardRouting = it.next();
+                    moveShard(shardRouting, decideMove(shardRouting));
+                }
+                return;
+            }
+            // The iterator works on a copy of the shards, so we can take them in batches and decide whether they can remain in
+            // parallel. These decisions are only valid until a shard moves, after which the rest of the batch is decided in order.
+            final ShardRouting[] batch = new ShardRouting[MOVE_BATCH_SIZE];
+            final Decision[] canRemain = new Decision[MOVE_BATCH_SIZE];
+            while (it.hasNext()) {
+                int size = 0;
+                while (size < batch.length && it.hasNext()) {
+                    batch[size++] = it.next();
+                }
+                forEachRange(size, (from, to) -> {
+                    for (int i = from; i < to; i++) {
+                        final ShardRouting shardRouting = batch[i];
+                        canRemain[i] = shardRouting.started()
+                            ? allocation.deciders().canRemain(shardRouting, nodes.get(shardRouting.currentNodeId()).getRoutingNode(),
+                                allocation)
+                            : null;
                     }
-                } else if (moveDecision.isDecisionTaken() && moveDecision.canRemain() == false) {
-                    logger.trace("[{}][{}] can't move", shardRouting.index(), shardRouting.id());
+                });
+                boolean moved = false;
+                for (int i = 0; i < size; i++) {
+                    final ShardRouting shardRouting = batch[i];
+                    final MoveDecision moveDecision = moved || canRemain[i] == null
+                        ? decideMove(shardRouting) : decideMove(shardRouting, canRemain[i]);
+                    moved |= moveShard(shardRouting, moveDecision);
                 }
+                Arrays.fill(batch, 0, size, null);
+                Arrays.fill(canRemain, 0, size, null);
             }
         }
 
+        /**
+         * Applies the given move decision to the shard, returns {@code true} if the shard was moved.
+         */
+        private boolean moveShard(ShardRouting shardRouting, MoveDecision moveDecision) {
+            if (moveDecision.isDecisionTaken() && moveDecision.forceMove()) {
+                final ModelNode sourceNode = nodes.get(shardRouting.currentNodeId());
+                final ModelNode targetNode = nodes.get(moveDecision.getTargetNode().getId());
+                sourceNode.removeShard(shardRouting);
+                Tuple<ShardRouting, ShardRouting> relocatingShards = routingNodes.relocateShard(shardRouting, targetNode.getNodeId(),
+                    allocation.clusterInfo().getShardSize(shardRouting,
+                                                          ShardRouting.UNAVAILABLE_EXPECTED_SHARD_SIZE), allocation.changes());
+                targetNode.addShard(relocatingShards.v2());
+                if (logger.isTraceEnabled()) {
+                    logger.trace("Moved shard [{}] to node [{}]", shardRouting, targetNode.getRoutingNode());
+                }
+                return true;
+            } else if (moveDecision.isDecisionTaken() && moveDecision.canRemain() == false) {
+                logger.trace("[{}][{}] can't move", shardRouting.index(), shardRouting.id());
+            }
+            return false;
+        }
+
         /**
          * Makes a decision on whether to move a started shard to another node.  The following rules apply
          * to the {@link MoveDecision} return object:
@@ -684,11 +877,20 @@ public class BalancedShardsAllocator implements ShardsAllocator {
                 return MoveDecision.NOT_TAKEN;
             }
 
-            final boolean explain = allocation.debugDecision();
             final ModelNode sourceNode = nodes.get(shardRouting.currentNodeId());
             assert sourceNode != null && sourceNode.containsShard(shardRouting);
             RoutingNode routingNode = sourceNode.getRoutingNode();
-            Decision canRemain = allocation.deciders().canRemain(shardRouting, routingNode, allocation);
+            return decideMove(shardRouting, allocation.deciders().canRemain(shardRouting, routingNode, allocation));
+        }
+
+        /**
+         * Makes a decision on whether to move a started shard to another node given the decision on whether it can remain on
+         * its current node, see {@link #decideMove(ShardRouting)}.
+         */
+        private MoveDecision decideMove(final ShardRouting shardRouting, final Decision canRemain) {
+            assert shardRouting.started();
+            final boolean explain = allocation.debugDecision();
+            final ModelNode sourceNode = nodes.get(shardRouting.currentNodeId());
             if (canRemain.type() != Decision.Type.NO) {
                 return MoveDecision.stay(canRemain);
             }
@@ -898,7 +1100,19 @@ public class BalancedShardsAllocator implements ShardsAllocator {
              * iteration order is different for each run and makes testing hard */
             Map<String, NodeAllocationResult> nodeExplanationMap = explain ? new HashMap<>() : null;
             List<Tuple<String, Float>> nodeWeights = explain ? new ArrayList<>() : null;
-            for (ModelNode node : nodes.values()) {
+            // decide for all the nodes upfront if we can do it in parallel, otherwise only for the nodes that may be picked
+            final Decision[] decisions = isParallel(allNodes.length) ? new Decision[allNodes.length] : null;
+            if (decisions != null) {
+                forEachRange(allNodes.length, (from, to) -> {
+                    for (int i = from; i < to; i++) {
+                        if (allNodes[i].containsShard(shard) == false || explain) {
+                            decisions[i] = allocation.deciders().canAllocate(shard, allNodes[i].getRoutingNode(), allocation);
+                        }
+                    }
+                });
+            }
+            for (int i = 0; i < allNodes.length; i++) {
+                final ModelNode node = allNodes[i];
                 if (node.containsShard(shard) && explain == false) {
                     // decision is NO without needing to check anything further, so short circuit
                     continue;
@@ -911,7 +1125,8 @@ public class BalancedShardsAllocator implements ShardsAllocator {
                     continue;
                 }
 
-                Decision currentDecision = allocation.deciders().canAllocate(shard, node.getRoutingNode(), allocation);
+                Decision currentDecision = decisions != null
+                    ? decisions[i] : allocation.deciders().canAllocate(shard, node.getRoutingNode(), allocation);
                 if (explain) {
                     nodeExplanationMap.put(node.getNodeId(),
                         new NodeAllocationResult(node.getRoutingNode().node(), currentDecision, 0));
@@ -1027,6 +1242,11 @@ public class BalancedShardsAllocator implements ShardsAllocator {
 
     }
 
+    @FunctionalInterface
+    private interface RangeConsumer {
+        void accept(int from, int to);
+    }
+
     static class ModelNode implements Iterable<ModelIndex> {
         private final Map<String, ModelIndex> indices = new HashMap<>();
         private int numShards = 0;
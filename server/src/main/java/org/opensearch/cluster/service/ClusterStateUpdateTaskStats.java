@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.service;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.ToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The time the cluster state update tasks of each source spent in the queue of the {@link MasterService} before they were executed,
+ * and the number of batches that were executed ahead of their priority because they had waited for too long.
+ */
+public class ClusterStateUpdateTaskStats implements Writeable, ToXContentFragment {
+
+    private final long starvedBatchCount;
+    private final Map<String, QueueTimeStats> queueTimePerSource;
+
+    public ClusterStateUpdateTaskStats(long starvedBatchCount, Map<String, QueueTimeStats> queueTimePerSource) {
+        this.starvedBatchCount = starvedBatchCount;
+        this.queueTimePerSource = Collections.unmodifiableMap(queueTimePerSource);
+    }
+
+    public ClusterStateUpdateTaskStats(StreamInput in) throws IOException {
+        starvedBatchCount = in.readVLong();
+        queueTimePerSource = in.readMap(StreamInput::readString, QueueTimeStats::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(starvedBatchCount);
+        out.writeMap(queueTimePerSource, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+    }
+
+    /**
+     * The number of batches of lower priority tasks that were executed ahead of a higher priority batch because their oldest
+     * task had been queued for longer than {@link MasterService#MASTER_SERVICE_STARVATION_THRESHOLD_SETTING}.
+     */
+    public long getStarvedBatchCount() {
+        return starvedBatchCount;
+    }
+
+    /**
+     * The queue times of the executed tasks, keyed by their source without the indices, snapshots, ... it names.
+     */
+    public Map<String, QueueTimeStats> getQueueTimePerSource() {
+        return queueTimePerSource;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("cluster_state_update_tasks");
+        builder.field("starved_batch_count", starvedBatchCount);
+        builder.startObject("sources");
+        for (Map.Entry<String, QueueTimeStats> entry : queueTimePerSource.entrySet()) {
+            builder.field(entry.getKey(), entry.getValue());
+        }
+        builder.endObject();
+        return builder.endObject();
+    }
+
+    /**
+     * The distribution of the queue times of the tasks of a single source.
+     */
+    public static class QueueTimeStats implements Writeable, ToXContentObject {
+
+        private final long count;
+        private final long p50QueueTimeInMillis;
+        private final long p90QueueTimeInMillis;
+        private final long p99QueueTimeInMillis;
+        private final long maxQueueTimeInMillis;
+
+        public QueueTimeStats(long count, long p50QueueTimeInMillis, long p90QueueTimeInMillis, long p99QueueTimeInMillis,
+                              long maxQueueTimeInMillis) {
+            this.count = count;
+            this.p50QueueTimeInMillis = p50QueueTimeInMillis;
+            this.p90QueueTimeInMillis = p90QueueTimeInMillis;
+            this.p99QueueTimeInMillis = p99QueueTimeInMillis;
+            this.maxQueueTimeInMillis = maxQueueTimeInMillis;
+        }
+
+        public QueueTimeStats(StreamInput in) throws IOException {
+            count = in.readVLong();
+            p50QueueTimeInMillis = in.readVLong();
+            p90QueueTimeInMillis = in.readVLong();
+            p99QueueTimeInMillis = in.readVLong();
+            maxQueueTimeInMillis = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(count);
+            out.writeVLong(p50QueueTimeInMillis);
+            out.writeVLong(p90QueueTimeInMillis);
+            out.writeVLong(p99QueueTimeInMillis);
+            out.writeVLong(maxQueueTimeInMillis);
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getP50QueueTimeInMillis() {
+            return p50QueueTimeInMillis;
+        }
+
+        public long getP90QueueTimeInMillis() {
+            return p90QueueTimeInMillis;
+        }
+
+        public long getP99QueueTimeInMillis() {
+            return p99QueueTimeInMillis;
+        }
+
+        public long getMaxQueueTimeInMillis() {
+            return maxQueueTimeInMillis;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field("count", count);
+            builder.humanReadableField("p50_queue_time_in_millis", "p50_queue_time", new TimeValue(p50QueueTimeInMillis));
+            builder.humanReadableField("p90_queue_time_in_millis", "p90_queue_time", new TimeValue(p90QueueTimeInMillis));
+            builder.humanReadableField("p99_queue_time_in_millis", "p99_queue_time", new TimeValue(p99QueueTimeInMillis));
+            builder.humanReadableField("max_queue_time_in_millis", "max_queue_time", new TimeValue(maxQueueTimeInMillis));
+            return builder.endObject();
+        }
+    }
+}
@@ -90,6 +90,15 @@ public class MasterService extends AbstractLifecycleComponent {
         Setting.positiveTimeSetting("cluster.service.slow_master_task_logging_threshold", TimeValue.timeValueSeconds(10),
             Setting.Property.Dynamic, Setting.Property.NodeScope);
 
+    /**
+     * How long the oldest task of a batch may be queued before the batch is executed ahead of higher priority batches, so that
+     * a steady stream of higher priority tasks cannot starve the others. A negative value, the default, executes batches strictly
+     * by priority.
+     */
+    public static final Setting<TimeValue> MASTER_SERVICE_STARVATION_THRESHOLD_SETTING =
+        Setting.timeSetting("cluster.service.master_task_starvation_threshold", TimeValue.MINUS_ONE, TimeValue.MINUS_ONE,
+            Setting.Property.Dynamic, Setting.Property.NodeScope);
+
     static final String MASTER_UPDATE_THREAD_NAME = "masterService#updateTask";
 
     ClusterStatePublisher clusterStatePublisher;
@@ -100,6 +109,8 @@ public class MasterService extends AbstractLifecycleComponent {
 
     private volatile TimeValue slowTaskLoggingThreshold;
 
+    private volatile TimeValue starvationThreshold;
+
     protected final ThreadPool threadPool;
 
     private volatile PrioritizedOpenSearchThreadPoolExecutor threadPoolExecutor;
@@ -111,6 +122,9 @@ public class MasterService extends AbstractLifecycleComponent {
         this.slowTaskLoggingThreshold = MASTER_SERVICE_SLOW_TASK_LOGGING_THRESHOLD_SETTING.get(settings);
         clusterSettings.addSettingsUpdateConsumer(MASTER_SERVICE_SLOW_TASK_LOGGING_THRESHOLD_SETTING, this::setSlowTaskLoggingThreshold);
 
+        this.starvationThreshold = MASTER_SERVICE_STARVATION_THRESHOLD_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(MASTER_SERVICE_STARVATION_THRESHOLD_SETTING, this::setStarvationThreshold);
+
         this.threadPool = threadPool;
     }
 
@@ -118,6 +132,13 @@ public class MasterService extends AbstractLifecycleComponent {
         this.slowTaskLoggingThreshold = slowTaskLoggingThreshold;
     }
 
+    private synchronized void setStarvationThreshold(TimeValue starvationThreshold) {
+        this.starvationThreshold = starvationThreshold;
+        if (taskBatcher != null) {
+            taskBatcher.setStarvationThreshold(starvationThreshold);
+        }
+    }
+
     public synchronized void setClusterStatePublisher(ClusterStatePublisher publisher) {
         clusterStatePublisher = publisher;
     }
@@ -132,6 +153,7 @@ public class MasterService extends AbstractLifecycleComponent {
         Objects.requireNonNull(clusterStateSupplier, "please set a cluster state supplier before starting");
         threadPoolExecutor = createThreadPoolExecutor();
         taskBatcher = new Batcher(logger, threadPoolExecutor);
+        taskBatcher.setStarvationThreshold(starvationThreshold);
     }
 
     protected PrioritizedOpenSearchThreadPoolExecutor createThreadPoolExecutor() {
@@ -492,6 +514,17 @@ public class MasterService extends AbstractLifecycleComponent {
         return threadPoolExecutor.getNumberOfPendingTasks();
     }
 
+    /**
+     * Returns the time the executed tasks spent in the queue, per task source.
+     */
+    public ClusterStateUpdateTaskStats getTaskStats() {
+        final Batcher taskBatcher = this.taskBatcher;
+        if (taskBatcher == null) {
+            return new ClusterStateUpdateTaskStats(0, Collections.emptyMap());
+        }
+        return taskBatcher.stats();
+    }
+
     /**
      * Returns the maximum wait time for tasks in the queue
      *
@@ -32,6 +32,7 @@
 
 package org.opensearch.cluster.service;
 
+import org.HdrHistogram.Histogram;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Priority;
@@ -47,25 +48,48 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Batching support for {@link PrioritizedOpenSearchThreadPoolExecutor}
  * Tasks that share the same batching key are batched (see {@link BatchedTask#batchingKey})
+ * <p>
+ * Batches are executed in the order of the priority of their tasks. So that a steady stream of higher priority tasks cannot starve
+ * the tasks of lower priority, the batch whose oldest task has been queued for longer than the starvation threshold (see
+ * {@link #setStarvationThreshold(TimeValue)}) is executed ahead of the next higher priority batch, unless that batch has
+ * {@link Priority#IMMEDIATE} priority.
  */
 public abstract class TaskBatcher {
 
+    // two significant digits are plenty for queue times and keep the histograms small
+    private static final int SIGNIFICANT_VALUE_DIGITS = 2;
+    // the sources of some tasks still name what they apply to, the queue times of the sources beyond this limit are recorded together
+    static final int MAX_QUEUE_TIME_SOURCES = 100;
+    static final String OTHER_QUEUE_TIME_SOURCES = "_other";
+
     private final Logger logger;
     private final PrioritizedOpenSearchThreadPoolExecutor threadExecutor;
     // package visible for tests
     final Map<Object, LinkedHashSet<BatchedTask>> tasksPerBatchingKey = new HashMap<>();
+    private final Map<String, Histogram> queueTimesPerSource = new HashMap<>();
+    private final AtomicLong starvedBatchCount = new AtomicLong();
+    private volatile long starvationThresholdMillis = -1;
 
     public TaskBatcher(Logger logger, PrioritizedOpenSearchThreadPoolExecutor threadExecutor) {
         this.logger = logger;
         this.threadExecutor = threadExecutor;
     }
 
+    /**
+     * Sets how long the oldest task of a batch may be queued before the batch is executed ahead of higher priority batches.
+     * A negative threshold executes batches strictly by priority.
+     */
+    public void setStarvationThreshold(TimeValue starvationThreshold) {
+        this.starvationThresholdMillis = starvationThreshold.millis();
+    }
+
     public void submitTasks(List<? extends BatchedTask> tasks, @Nullable TimeValue timeout) throws OpenSearchRejectedExecutionException {
         if (tasks.isEmpty()) {
             return;
@@ -137,32 +161,118 @@ public abstract class TaskBatcher {
         // if this task is already processed, it shouldn't execute other tasks with same batching key that arrived later,
         // to give other tasks with different batching key a chance to execute.
         if (updateTask.processed.get() == false) {
-            final List<BatchedTask> toExecute = new ArrayList<>();
-            final Map<String, List<BatchedTask>> processTasksBySource = new HashMap<>();
-            synchronized (tasksPerBatchingKey) {
-                LinkedHashSet<BatchedTask> pending = tasksPerBatchingKey.remove(updateTask.batchingKey);
-                if (pending != null) {
-                    for (BatchedTask task : pending) {
-                        if (task.processed.getAndSet(true) == false) {
-                            logger.trace("will process {}", task);
-                            toExecute.add(task);
-                            processTasksBySource.computeIfAbsent(task.source, s -> new ArrayList<>()).add(task);
-                        } else {
-                            logger.trace("skipping {}, already processed", task);
-                        }
+            final BatchedTask starvedTask = findStarvedTask(updateTask);
+            if (starvedTask != null) {
+                logger.debug("executing {} ahead of {}, its oldest task was queued [{}ms] ago", starvedTask, updateTask,
+                    starvedTask.getAgeInMillis());
+                starvedBatchCount.incrementAndGet();
+                runBatch(starvedTask);
+            }
+            runBatch(updateTask);
+        }
+    }
+
+    /**
+     * Returns the oldest task of the lower priority batch that has been queued for the longest time, if it has been queued for
+     * longer than the starvation threshold.
+     */
+    @Nullable
+    private BatchedTask findStarvedTask(BatchedTask updateTask) {
+        final long starvationThresholdMillis = this.starvationThresholdMillis;
+        if (starvationThresholdMillis < 0 || updateTask.priority() == Priority.IMMEDIATE) {
+            return null;
+        }
+        BatchedTask starvedTask = null;
+        long starvedTaskAgeInMillis = starvationThresholdMillis;
+        synchronized (tasksPerBatchingKey) {
+            for (LinkedHashSet<BatchedTask> pending : tasksPerBatchingKey.values()) {
+                // the first task of a batch is the oldest one, all tasks of a batch usually share the same priority
+                final BatchedTask oldestTask = pending.iterator().next();
+                if (oldestTask.batchingKey != updateTask.batchingKey && oldestTask.priority().after(updateTask.priority())) {
+                    final long ageInMillis = oldestTask.getAgeInMillis();
+                    if (ageInMillis > starvedTaskAgeInMillis) {
+                        starvedTask = oldestTask;
+                        starvedTaskAgeInMillis = ageInMillis;
+                    }
+                }
+            }
+        }
+        return starvedTask;
+    }
+
+    private void runBatch(BatchedTask updateTask) {
+        final List<BatchedTask> toExecute = new ArrayList<>();
+        final Map<String, List<BatchedTask>> processTasksBySource = new HashMap<>();
+        synchronized (tasksPerBatchingKey) {
+            LinkedHashSet<BatchedTask> pending = tasksPerBatchingKey.remove(updateTask.batchingKey);
+            if (pending != null) {
+                for (BatchedTask task : pending) {
+                    if (task.processed.getAndSet(true) == false) {
+                        logger.trace("will process {}", task);
+                        toExecute.add(task);
+                        processTasksBySource.computeIfAbsent(task.source, s -> new ArrayList<>()).add(task);
+                    } else {
+                        logger.trace("skipping {}, already processed", task);
                     }
                 }
             }
+        }
 
-            if (toExecute.isEmpty() == false) {
-                final String tasksSummary = processTasksBySource.entrySet().stream().map(entry -> {
-                    String tasks = updateTask.describeTasks(entry.getValue());
-                    return tasks.isEmpty() ? entry.getKey() : entry.getKey() + "[" + tasks + "]";
-                }).reduce((s1, s2) -> s1 + ", " + s2).orElse("");
+        if (toExecute.isEmpty() == false) {
+            recordQueueTimes(toExecute);
+            final String tasksSummary = processTasksBySource.entrySet().stream().map(entry -> {
+                String tasks = updateTask.describeTasks(entry.getValue());
+                return tasks.isEmpty() ? entry.getKey() : entry.getKey() + "[" + tasks + "]";
+            }).reduce((s1, s2) -> s1 + ", " + s2).orElse("");
+
+            run(updateTask.batchingKey, toExecute, tasksSummary);
+        }
+    }
 
-                run(updateTask.batchingKey, toExecute, tasksSummary);
+    private void recordQueueTimes(List<BatchedTask> tasks) {
+        synchronized (queueTimesPerSource) {
+            for (BatchedTask task : tasks) {
+                String source = queueTimeSource(task.source);
+                if (queueTimesPerSource.containsKey(source) == false && queueTimesPerSource.size() >= MAX_QUEUE_TIME_SOURCES) {
+                    source = OTHER_QUEUE_TIME_SOURCES;
+                }
+                queueTimesPerSource.computeIfAbsent(source, k -> new Histogram(SIGNIFICANT_VALUE_DIGITS))
+                    .recordValue(Math.max(0L, task.getAgeInMillis()));
+            }
+        }
+    }
+
+    /**
+     * Returns the source under which the queue time of a task with the given source is recorded: the source up to its first
+     * bracket, which is where the sources of most tasks start to name the indices, snapshots, ... they apply to.
+     */
+    static String queueTimeSource(String source) {
+        int end = source.length();
+        for (int i = 0; i < source.length(); i++) {
+            final char c = source.charAt(i);
+            if (c == '[' || c == '(' || c == '{') {
+                end = i;
+                break;
+            }
+        }
+        final String trimmed = source.substring(0, end).trim();
+        return trimmed.isEmpty() ? source : trimmed;
+    }
+
+    /**
+     * Returns the queue times of the tasks that were executed so far, per task source, see {@link #queueTimeSource(String)}.
+     */
+    public ClusterStateUpdateTaskStats stats() {
+        final Map<String, ClusterStateUpdateTaskStats.QueueTimeStats> queueTimePerSource = new HashMap<>();
+        synchronized (queueTimesPerSource) {
+            for (Map.Entry<String, Histogram> entry : queueTimesPerSource.entrySet()) {
+                final Histogram queueTimes = entry.getValue();
+                queueTimePerSource.put(entry.getKey(), new ClusterStateUpdateTaskStats.QueueTimeStats(queueTimes.getTotalCount(),
+                    queueTimes.getValueAtPercentile(50), queueTimes.getValueAtPercentile(90), queueTimes.getValueAtPercentile(99),
+                    queueTimes.getMaxValue()));
             }
         }
+        return new ClusterStateUpdateTaskStats(starvedBatchCount.get(), queueTimePerSource);
     }
 
     /**
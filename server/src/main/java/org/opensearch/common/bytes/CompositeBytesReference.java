@@ -41,6 +41,8 @@ import org.apache.lucene.util.RamUsageEstimator;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -213,4 +215,11 @@ public final class CompositeBytesReference extends AbstractBytesReference {
     public long ramBytesUsed() {
        return ramBytesUsed;
     }
+
+    /**
+     * Returns the references that this reference is composed of, in order.
+     */
+    public List<BytesReference> references() {
+        return Collections.unmodifiableList(Arrays.asList(references));
+    }
 }
@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.bytes;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefIterator;
+import org.apache.lucene.util.FutureObjects;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.io.Channels;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A reference to a region of a file that is only read when its bytes are accessed. A transport that can send a file region
+ * straight from the file to the network, e.g. with {@code sendfile}, does so without ever reading it, any other consumer reads
+ * the region into a heap buffer each time it iterates over it.
+ * <p>
+ * The file must not change or be deleted as long as the reference is in use.
+ */
+public final class FileRegionBytesReference extends AbstractBytesReference {
+
+    private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(FileRegionBytesReference.class);
+
+    private final Path file;
+    private final long position;
+    private final int length;
+
+    public FileRegionBytesReference(Path file, long position, int length) {
+        if (position < 0 || length < 0) {
+            throw new IllegalArgumentException("invalid region [" + position + "][" + length + "] of [" + file + "]");
+        }
+        this.file = file;
+        this.position = position;
+        this.length = length;
+    }
+
+    /**
+     * The file that holds the bytes.
+     */
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * The position of the first byte in the file.
+     */
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public byte get(int index) {
+        FutureObjects.checkIndex(index, length);
+        return read(index, 1)[0];
+    }
+
+    @Override
+    public BytesReference slice(int from, int length) {
+        FutureObjects.checkFromIndexSize(from, length, this.length);
+        if (from == 0 && length == this.length) {
+            return this;
+        }
+        return new FileRegionBytesReference(file, position + from, length);
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return SHALLOW_SIZE;
+    }
+
+    @Override
+    public BytesRef toBytesRef() {
+        return new BytesRef(read(0, length));
+    }
+
+    @Override
+    public BytesRefIterator iterator() {
+        return new BytesRefIterator() {
+            boolean consumed = length == 0;
+
+            @Override
+            public BytesRef next() throws IOException {
+                if (consumed) {
+                    return null;
+                }
+                consumed = true;
+                return new BytesRef(readRegion(0, length));
+            }
+        };
+    }
+
+    private byte[] read(int offset, int length) {
+        try {
+            return readRegion(offset, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to read [" + length + "] bytes at [" + (position + offset) + "] of [" + file + "]", e);
+        }
+    }
+
+    private byte[] readRegion(int offset, int length) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return Channels.readFromFileChannel(channel, position + offset, length);
+        }
+    }
+}
@@ -38,10 +38,13 @@ import org.opensearch.common.util.concurrent.ReleasableLock;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -65,14 +68,12 @@ import java.util.function.ToLongBiFunction;
  * if they are reading a segment that a writer is writing to).
  * <p>
  * The LRU functionality is backed by a single doubly-linked list chaining the entries in order of insertion. This
- * LRU list is protected by a lock that serializes all writes to it. There are opportunities for improvements
- * here if write throughput is a concern.
- * <ol>
- * <li>LRU list mutations could be inserted into a blocking queue that a single thread is reading from
- * and applying to the LRU list.</li>
- * <li>Promotions could be deferred for entries that were "recently" promoted.</li>
- * <li>Locks on the list could be taken per node being modified instead of globally.</li>
- * </ol>
+ * LRU list is protected by a lock that serializes all writes to it. With the default {@link EvictionPolicy#LRU} policy,
+ * every cache hit also takes this lock to promote the entry it read, which can make the lock a point of contention
+ * under high hit rates. The {@link EvictionPolicy#TINY_LFU} policy instead records hits into striped, lossy read
+ * buffers that are replayed against the LRU list in batches by whichever thread next holds the lock, so readers never
+ * wait for it, and it uses an approximate frequency of recent accesses to decide whether new entries are worth
+ * admitting when the cache is full.
  * <p>
  * Evictions only occur after a mutation to the cache (meaning an entry promotion, a cache insertion, or a manual
  * invalidation) or an explicit call to {@link #refresh()}.
@@ -110,6 +111,15 @@ public class Cache<K, V> {
     private RemovalListener<K, V> removalListener = notification -> {
     };
 
+    // the policy deciding how entries are promoted and evicted
+    private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+
+    // the hits that were not applied to the LRU list yet, only used by the TINY_LFU eviction policy
+    private ReadBuffer<Entry<K, V>> readBuffer;
+
+    // the access frequency of keys, only used by the TINY_LFU eviction policy and protected by the LRU lock
+    private FrequencySketch frequencySketch;
+
     // use CacheBuilder to construct
     Cache() {
     }
@@ -157,6 +167,49 @@ public class Cache<K, V> {
         this.removalListener = removalListener;
     }
 
+    void setEvictionPolicy(EvictionPolicy evictionPolicy) {
+        Objects.requireNonNull(evictionPolicy);
+        this.evictionPolicy = evictionPolicy;
+        if (evictionPolicy == EvictionPolicy.TINY_LFU) {
+            this.readBuffer = new ReadBuffer<>();
+            this.frequencySketch = new FrequencySketch();
+        } else {
+            this.readBuffer = null;
+            this.frequencySketch = null;
+        }
+    }
+
+    // pkg-private for testing
+    EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    /**
+     * The policy used to promote entries on access and to choose which entries to evict when the cache exceeds its
+     * maximum weight.
+     */
+    public enum EvictionPolicy {
+        /**
+         * Every hit promotes its entry to the head of the LRU list while holding the LRU lock, and the least recently
+         * used entries are evicted first.
+         */
+        LRU,
+        /**
+         * Hits are buffered and applied to the LRU list in batches without blocking readers on the LRU lock. When an
+         * insertion makes the cache exceed its maximum weight, the new entry is only admitted if its key was accessed
+         * more frequently than the key of the least recently used entry, otherwise the new entry is evicted instead.
+         */
+        TINY_LFU;
+
+        public static EvictionPolicy parse(String policy) {
+            try {
+                return EvictionPolicy.valueOf(policy.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("unknown cache eviction policy [" + policy + "]");
+            }
+        }
+    }
+
     /**
      * The relative time used to track time-based evictions.
      *
@@ -379,11 +432,27 @@ public class Cache<K, V> {
         if (entry == null) {
             return null;
         } else {
-            promote(entry, now);
+            if (readBuffer != null) {
+                recordRead(entry, now);
+            } else {
+                promote(entry, now);
+            }
             return entry.value;
         }
     }
 
+    private void recordRead(Entry<K, V> entry, long now) {
+        if (readBuffer.offer(entry)) {
+            // the buffer of this thread is full, apply the buffered reads unless another thread is already holding the LRU lock, in
+            // which case the buffered reads will be applied once it is done
+            try (ReleasableLock lock = lruLock.tryAcquire()) {
+                if (lock != null) {
+                    evict(now, null);
+                }
+            }
+        }
+    }
+
     /**
      * If the specified key is not already associated with a value (or is mapped to null), attempts to compute its
      * value using the given mapping function and enters it into this map unless null. The load method for a given key
@@ -403,7 +472,7 @@ public class Cache<K, V> {
         // we have to eagerly evict expired entries or our putIfAbsent call below will fail
         V value = get(key, now, e -> {
             try (ReleasableLock ignored = lruLock.acquire()) {
-                evictEntry(e);
+                evictEntry(e, RemovalNotification.RemovalReason.EXPIRED);
             }
         });
         if (value == null) {
@@ -555,6 +624,9 @@ public class Cache<K, V> {
             }
             try (ReleasableLock ignored = lruLock.acquire()) {
                 h = head;
+                if (readBuffer != null) {
+                    readBuffer.drain(e -> {});
+                }
                 Arrays.stream(segments).forEach(segment -> segment.map = new HashMap<>());
                 Entry<K, V> current = head;
                 while (current != null) {
@@ -584,7 +656,7 @@ public class Cache<K, V> {
     public void refresh() {
         long now = now();
         try (ReleasableLock ignored = lruLock.acquire()) {
-            evict(now);
+            evict(now, null);
         }
     }
 
@@ -741,6 +813,7 @@ public class Cache<K, V> {
 
     private boolean promote(Entry<K, V> entry, long now) {
         boolean promoted = true;
+        Entry<K, V> candidate = null;
         try (ReleasableLock ignored = lruLock.acquire()) {
             switch (entry.state) {
                 case DELETED:
@@ -751,31 +824,66 @@ public class Cache<K, V> {
                     break;
                 case NEW:
                     linkAtHead(entry);
+                    if (frequencySketch != null) {
+                        frequencySketch.ensureCapacity(count);
+                        frequencySketch.increment(entry.key.hashCode());
+                        candidate = entry;
+                    }
                     break;
             }
             if (promoted) {
-                evict(now);
+                evict(now, candidate);
             }
         }
         return promoted;
     }
 
-    private void evict(long now) {
+    /**
+     * Applies the buffered reads to the LRU list, then evicts entries from the tail of the LRU list while the cache
+     * exceeds its maximum weight or the tail is expired.
+     *
+     * @param now       the current relative time
+     * @param candidate the entry that was just inserted if the frequency of its key must be compared against the
+     *                  frequency of the least recently used key before evicting the latter, otherwise null
+     */
+    private void evict(long now, Entry<K, V> candidate) {
         assert lruLock.isHeldByCurrentThread();
 
+        if (readBuffer != null) {
+            readBuffer.drain(this::applyRead);
+        }
         while (tail != null && shouldPrune(tail, now)) {
-            evictEntry(tail);
+            Entry<K, V> victim = tail;
+            if (candidate != null && candidate != victim && candidate.state == State.EXISTING && isExpired(victim, now) == false) {
+                if (frequencySketch.frequency(candidate.key.hashCode()) <= frequencySketch.frequency(victim.key.hashCode())) {
+                    victim = candidate;
+                }
+                // the candidate is only compared against the first victim
+                candidate = null;
+            }
+            evictEntry(victim, isExpired(victim, now) ? RemovalNotification.RemovalReason.EXPIRED
+                : RemovalNotification.RemovalReason.EVICTED);
         }
     }
 
-    private void evictEntry(Entry<K, V> entry) {
+    private void applyRead(Entry<K, V> entry) {
+        assert lruLock.isHeldByCurrentThread();
+
+        frequencySketch.increment(entry.key.hashCode());
+        // entries that are still being loaded are linked by the thread that loads them
+        if (entry.state == State.EXISTING) {
+            relinkAtHead(entry);
+        }
+    }
+
+    private void evictEntry(Entry<K, V> entry, RemovalNotification.RemovalReason removalReason) {
         assert lruLock.isHeldByCurrentThread();
 
         CacheSegment<K, V> segment = getCacheSegment(entry.key);
         if (segment != null) {
             segment.remove(entry.key, entry.value, f -> {});
         }
-        delete(entry, RemovalNotification.RemovalReason.EVICTED);
+        delete(entry, removalReason);
     }
 
     private void delete(Entry<K, V> entry, RemovalNotification.RemovalReason removalReason) {
@@ -871,4 +979,75 @@ public class Cache<K, V> {
     private CacheSegment<K, V> getCacheSegment(K key) {
         return segments[key.hashCode() & 0xff];
     }
+
+    /**
+     * A lossy buffer of the entries that were read since the buffer was last drained. Readers are spread over stripes
+     * according to their thread id and publish entries without taking a lock; when their stripe is full, the entry is
+     * dropped which only loses its promotion in the LRU list. The buffer must only be drained by one thread at a time.
+     *
+     * @param <E> the type of the buffered elements
+     */
+    static final class ReadBuffer<E> {
+        static final int NUMBER_OF_STRIPES = 16;
+        static final int STRIPE_SIZE = 32;
+
+        @SuppressWarnings("unchecked") private final Stripe<E>[] stripes = new Stripe[NUMBER_OF_STRIPES];
+
+        ReadBuffer() {
+            for (int i = 0; i < stripes.length; i++) {
+                stripes[i] = new Stripe<>();
+            }
+        }
+
+        /**
+         * Adds an element to the stripe of the current thread.
+         *
+         * @param element the element to add
+         * @return true if the stripe is full and should be drained
+         */
+        boolean offer(E element) {
+            final Stripe<E> stripe = stripes[(int) Thread.currentThread().getId() & (NUMBER_OF_STRIPES - 1)];
+            final long writes = stripe.writes.get();
+            final long size = writes - stripe.reads;
+            if (size >= STRIPE_SIZE) {
+                return true;
+            }
+            if (stripe.writes.compareAndSet(writes, writes + 1)) {
+                stripe.elements.lazySet((int) (writes & (STRIPE_SIZE - 1)), element);
+                return size + 1 == STRIPE_SIZE;
+            }
+            // another reader won the slot, dropping this read is fine
+            return false;
+        }
+
+        /**
+         * Removes the buffered elements and passes them to the given consumer.
+         *
+         * @param consumer the consumer of the buffered elements
+         */
+        void drain(Consumer<E> consumer) {
+            for (Stripe<E> stripe : stripes) {
+                long reads = stripe.reads;
+                final long writes = stripe.writes.get();
+                while (reads < writes) {
+                    final int index = (int) (reads & (STRIPE_SIZE - 1));
+                    final E element = stripe.elements.get(index);
+                    if (element == null) {
+                        // the reader that claimed this slot did not publish its element yet, it will be drained next time
+                        break;
+                    }
+                    stripe.elements.lazySet(index, null);
+                    consumer.accept(element);
+                    reads++;
+                }
+                stripe.reads = reads;
+            }
+        }
+
+        private static final class Stripe<E> {
+            final AtomicReferenceArray<E> elements = new AtomicReferenceArray<>(STRIPE_SIZE);
+            final AtomicLong writes = new AtomicLong();
+            volatile long reads;
+        }
+    }
 }
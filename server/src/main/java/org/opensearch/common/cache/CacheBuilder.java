@@ -43,6 +43,7 @@ public class CacheBuilder<K, V> {
     private long expireAfterWriteNanos = -1;
     private ToLongBiFunction<K, V> weigher;
     private RemovalListener<K, V> removalListener;
+    private Cache.EvictionPolicy evictionPolicy;
 
     public static <K, V> CacheBuilder<K, V> builder() {
         return new CacheBuilder<>();
@@ -103,6 +104,17 @@ public class CacheBuilder<K, V> {
         return this;
     }
 
+    /**
+     * Sets the policy used to promote entries on access and to choose which entries to evict, see {@link Cache.EvictionPolicy}.
+     *
+     * @param evictionPolicy The eviction policy of the cache. Must not be {@code null}.
+     */
+    public CacheBuilder<K, V> setEvictionPolicy(Cache.EvictionPolicy evictionPolicy) {
+        Objects.requireNonNull(evictionPolicy);
+        this.evictionPolicy = evictionPolicy;
+        return this;
+    }
+
     public Cache<K, V> build() {
         Cache<K, V> cache = new Cache<>();
         if (maximumWeight != -1) {
@@ -120,6 +132,9 @@ public class CacheBuilder<K, V> {
         if (removalListener != null) {
             cache.setRemovalListener(removalListener);
         }
+        if (evictionPolicy != null) {
+            cache.setEvictionPolicy(evictionPolicy);
+        }
         return cache;
     }
 }
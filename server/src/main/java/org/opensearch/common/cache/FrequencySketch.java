@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+/**
+ * An approximation of how often keys were recently accessed, used by {@link Cache.EvictionPolicy#TINY_LFU} to decide
+ * whether a new entry should be admitted into the cache at the expense of the entry it would evict.
+ * <p>
+ * This is a count-min sketch of depth four with 4-bit counters packed sixteen to a {@code long}. Counters saturate at
+ * 15 and are all halved once the number of increments reaches ten times the number of counters of a row, so that keys
+ * which are no longer accessed lose their frequency over time. The sketch grows with the number of entries in the
+ * cache, up to a fixed maximum, and forgets all frequencies when it does.
+ * <p>
+ * This class is not thread-safe; the cache only uses it while holding its LRU lock.
+ */
+final class FrequencySketch {
+
+    static final int MAXIMUM_CAPACITY = 1 << 18;
+
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private long[] table;
+    private int sampleSize;
+    private int size;
+
+    FrequencySketch() {
+        resize(16);
+    }
+
+    /**
+     * Grows the sketch if it is too small to track the frequency of the given number of keys accurately.
+     *
+     * @param expectedSize the number of keys in the cache
+     */
+    void ensureCapacity(long expectedSize) {
+        if (expectedSize > table.length && table.length < MAXIMUM_CAPACITY) {
+            resize((int) Math.min(expectedSize, MAXIMUM_CAPACITY));
+        }
+    }
+
+    /**
+     * Returns the estimated number of recent accesses of the key with the given hash code, at most 15.
+     */
+    int frequency(int hashCode) {
+        final int hash = spread(hashCode);
+        final int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < SEEDS.length; i++) {
+            final int offset = (start + i) << 2;
+            final int count = (int) ((table[indexOf(hash, i)] >>> offset) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an access of the key with the given hash code.
+     */
+    void increment(int hashCode) {
+        final int hash = spread(hashCode);
+        final int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            added |= incrementAt(indexOf(hash, i), (start + i) << 2);
+        }
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    // pkg-private for testing
+    int capacity() {
+        return table.length;
+    }
+
+    private boolean incrementAt(int index, int offset) {
+        final long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size >>>= 1;
+    }
+
+    private void resize(int capacity) {
+        table = new long[Integer.highestOneBit(capacity - 1) << 1];
+        sampleSize = 10 * table.length;
+        size = 0;
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return ((int) h) & (table.length - 1);
+    }
+
+    // spreads the bits of hash codes of poor quality, such as small integers
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
@@ -33,7 +33,11 @@
 package org.opensearch.common.cache;
 
 public class RemovalNotification<K, V> {
-    public enum RemovalReason {REPLACED, INVALIDATED, EVICTED}
+    /**
+     * Why an entry was removed: {@code EVICTED} entries made room for others, {@code EXPIRED} ones weren't accessed or
+     * written for longer than the cache keeps entries.
+     */
+    public enum RemovalReason {REPLACED, INVALIDATED, EVICTED, EXPIRED}
 
     private final K key;
     private final V value;
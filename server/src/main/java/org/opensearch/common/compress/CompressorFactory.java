@@ -44,6 +44,12 @@ public class CompressorFactory {
 
     public static final Compressor COMPRESSOR = new DeflateCompressor();
 
+    /**
+     * Only used to publish cluster states, see {@link org.opensearch.cluster.coordination.PublicationTransportHandler}. Bytes that
+     * are compressed with it are not detected by {@link #compressor(BytesReference)}.
+     */
+    public static final Compressor LZ4_COMPRESSOR = new Lz4Compressor();
+
     public static boolean isCompressed(BytesReference bytes) {
         return compressor(bytes) != null;
     }
@@ -69,6 +75,20 @@ public class CompressorFactory {
         return null;
     }
 
+    /**
+     * Returns the compressor with the given name, either {@code deflate} or {@code lz4}.
+     */
+    public static Compressor compressorForName(String name) {
+        switch (name) {
+            case "deflate":
+                return COMPRESSOR;
+            case "lz4":
+                return LZ4_COMPRESSOR;
+            default:
+                throw new IllegalArgumentException("unknown compressor [" + name + "], must be one of [deflate, lz4]");
+        }
+    }
+
     /** true if the bytes were compressed with LZF*/
     private static boolean isAncient(BytesReference bytes) {
         return bytes.length() >= 3 &&
@@ -0,0 +1,339 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.compress;
+
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.store.ByteArrayDataOutput;
+import org.apache.lucene.util.compress.LZ4;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.internal.io.Streams;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * {@link Compressor} implementation based on the LZ4 compression algorithm, which trades some compression ratio for much
+ * cheaper compression and decompression than {@link DeflateCompressor}.
+ * <p>
+ * The content is split into blocks of at most {@code 64KB} that are compressed independently. Each block is written as the
+ * vInt encoded length of its uncompressed content, the vInt encoded length of its compressed content and the compressed
+ * content itself. The stream is terminated by a block with an uncompressed length of {@code 0}.
+ */
+public class Lz4Compressor implements Compressor {
+
+    // An arbitrary header that we use to identify compressed streams, see DeflateCompressor
+    private static final byte[] HEADER = new byte[]{'L', 'Z', '4', '\0'};
+    private static final int BLOCK_SIZE = 1 << 16;
+    // the worst case size of a compressed block, LZ4 adds at most one byte per 255 bytes of incompressible content
+    private static final int MAX_COMPRESSED_BLOCK_SIZE = BLOCK_SIZE + BLOCK_SIZE / 255 + 16;
+
+    @Override
+    public boolean isCompressed(BytesReference bytes) {
+        if (bytes.length() < HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length; ++i) {
+            if (bytes.get(i) != HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int headerLength() {
+        return HEADER.length;
+    }
+
+    // The block buffers and hash table of a stream, reused across the streams of a thread
+    private static final class Buffers {
+        final byte[] block = new byte[BLOCK_SIZE];
+        final byte[] compressed = new byte[MAX_COMPRESSED_BLOCK_SIZE];
+        LZ4.FastCompressionHashTable hashTable;
+        // true if these buffers are currently used by a stream and are not available for re-use
+        boolean inUse;
+
+        static Buffers acquire(ThreadLocal<Buffers> threadLocal) {
+            final Buffers current = threadLocal.get();
+            if (current.inUse) {
+                // Nested streams should not happen but we still handle them safely by using fresh buffers
+                return new Buffers();
+            }
+            current.inUse = true;
+            return current;
+        }
+    }
+
+    private static final ThreadLocal<Buffers> inputBuffersRef = ThreadLocal.withInitial(Buffers::new);
+    private static final ThreadLocal<Buffers> outputBuffersRef = ThreadLocal.withInitial(Buffers::new);
+
+    @Override
+    public InputStream threadLocalInputStream(InputStream in) throws IOException {
+        final byte[] headerBytes = new byte[HEADER.length];
+        int len = 0;
+        while (len < headerBytes.length) {
+            final int read = in.read(headerBytes, len, headerBytes.length - len);
+            if (read == -1) {
+                break;
+            }
+            len += read;
+        }
+        if (len != HEADER.length || Arrays.equals(headerBytes, HEADER) == false) {
+            throw new IllegalArgumentException("Input stream is not compressed with LZ4!");
+        }
+        return new Lz4InputStream(in, Buffers.acquire(inputBuffersRef));
+    }
+
+    @Override
+    public OutputStream threadLocalOutputStream(OutputStream out) throws IOException {
+        out.write(HEADER);
+        return new Lz4OutputStream(out, Buffers.acquire(outputBuffersRef));
+    }
+
+    private static final ThreadLocal<BytesStreamOutput> baos = ThreadLocal.withInitial(BytesStreamOutput::new);
+
+    @Override
+    public BytesReference uncompress(BytesReference bytesReference) throws IOException {
+        final BytesStreamOutput buffer = baos.get();
+        try (InputStream in = threadLocalInputStream(bytesReference.streamInput())) {
+            Streams.copy(in, buffer, false);
+        } catch (IOException | RuntimeException e) {
+            buffer.reset();
+            throw e;
+        }
+        final BytesReference res = buffer.copyBytes();
+        buffer.reset();
+        return res;
+    }
+
+    @Override
+    public BytesReference compress(BytesReference bytesReference) throws IOException {
+        final BytesStreamOutput buffer = baos.get();
+        try (OutputStream out = threadLocalOutputStream(buffer)) {
+            bytesReference.writeTo(out);
+        } catch (IOException | RuntimeException e) {
+            buffer.reset();
+            throw e;
+        }
+        final BytesReference res = buffer.copyBytes();
+        buffer.reset();
+        return res;
+    }
+
+    private static final class Lz4OutputStream extends OutputStream {
+        private final OutputStream out;
+        private final Buffers buffers;
+        private final ByteArrayDataOutput compressedOut = new ByteArrayDataOutput();
+        private final byte[] blockHeader = new byte[10];
+        private int blockLength;
+        private boolean closed;
+
+        Lz4OutputStream(OutputStream out, Buffers buffers) {
+            this.out = out;
+            this.buffers = buffers;
+            if (buffers.hashTable == null) {
+                buffers.hashTable = new LZ4.FastCompressionHashTable();
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureOpen();
+            if (blockLength == BLOCK_SIZE) {
+                writeBlock();
+            }
+            buffers.block[blockLength++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ensureOpen();
+            while (len > 0) {
+                if (blockLength == BLOCK_SIZE) {
+                    writeBlock();
+                }
+                final int toCopy = Math.min(len, BLOCK_SIZE - blockLength);
+                System.arraycopy(b, off, buffers.block, blockLength, toCopy);
+                blockLength += toCopy;
+                off += toCopy;
+                len -= toCopy;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            ensureOpen();
+            if (blockLength > 0) {
+                writeBlock();
+            }
+            out.flush();
+        }
+
+        private void writeBlock() throws IOException {
+            compressedOut.reset(buffers.compressed);
+            LZ4.compress(buffers.block, 0, blockLength, compressedOut, buffers.hashTable);
+            final int compressedLength = compressedOut.getPosition();
+            int headerLength = writeVInt(blockLength, 0);
+            headerLength = writeVInt(compressedLength, headerLength);
+            out.write(blockHeader, 0, headerLength);
+            out.write(buffers.compressed, 0, compressedLength);
+            blockLength = 0;
+        }
+
+        private int writeVInt(int value, int offset) {
+            while ((value & ~0x7F) != 0) {
+                blockHeader[offset++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            blockHeader[offset++] = (byte) value;
+            return offset;
+        }
+
+        private void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            try {
+                if (blockLength > 0) {
+                    writeBlock();
+                }
+                // the end of stream marker
+                out.write(0);
+            } finally {
+                closed = true;
+                buffers.inUse = false;
+                out.close();
+            }
+        }
+    }
+
+    private static final class Lz4InputStream extends InputStream {
+        private final InputStream in;
+        private final Buffers buffers;
+        private final ByteArrayDataInput compressedIn = new ByteArrayDataInput();
+        private int blockOffset;
+        private int blockLength;
+        private boolean eos;
+        private boolean closed;
+
+        Lz4InputStream(InputStream in, Buffers buffers) {
+            this.in = in;
+            this.buffers = buffers;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (ensureAvailable() == false) {
+                return -1;
+            }
+            return buffers.block[blockOffset++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (ensureAvailable() == false) {
+                return -1;
+            }
+            final int toCopy = Math.min(len, blockLength - blockOffset);
+            System.arraycopy(buffers.block, blockOffset, b, off, toCopy);
+            blockOffset += toCopy;
+            return toCopy;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return closed ? 0 : blockLength - blockOffset;
+        }
+
+        // reads the next block if the current one has been consumed, returns false at the end of the stream
+        private boolean ensureAvailable() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            while (blockOffset == blockLength) {
+                if (eos) {
+                    return false;
+                }
+                readBlock();
+            }
+            return true;
+        }
+
+        private void readBlock() throws IOException {
+            final int length = readVInt();
+            if (length == 0) {
+                eos = true;
+                return;
+            }
+            final int compressedLength = readVInt();
+            if (length > BLOCK_SIZE || compressedLength > MAX_COMPRESSED_BLOCK_SIZE) {
+                throw new IOException("Invalid LZ4 block of length [" + length + "] and compressed length [" + compressedLength + "]");
+            }
+            int read = 0;
+            while (read < compressedLength) {
+                final int n = in.read(buffers.compressed, read, compressedLength - read);
+                if (n == -1) {
+                    throw new EOFException("Unexpected end of LZ4 input stream");
+                }
+                read += n;
+            }
+            compressedIn.reset(buffers.compressed, 0, compressedLength);
+            final int decompressed;
+            try {
+                decompressed = LZ4.decompress(compressedIn, length, buffers.block, 0);
+            } catch (IndexOutOfBoundsException e) {
+                throw new IOException("Corrupted LZ4 block", e);
+            }
+            if (decompressed != length || compressedIn.eof() == false) {
+                throw new IOException("Corrupted LZ4 block, expected [" + length + "] bytes but decompressed [" + decompressed + "]");
+            }
+            blockOffset = 0;
+            blockLength = length;
+        }
+
+        private int readVInt() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                final int b = in.read();
+                if (b == -1) {
+                    throw new EOFException("Unexpected end of LZ4 input stream");
+                }
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Invalid vInt in LZ4 input stream");
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            buffers.inUse = false;
+            in.close();
+        }
+    }
+}
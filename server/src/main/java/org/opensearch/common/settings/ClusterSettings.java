@@ -58,6 +58,7 @@ import org.opensearch.cluster.coordination.JoinHelper;
 import org.opensearch.cluster.coordination.LagDetector;
 import org.opensearch.cluster.coordination.LeaderChecker;
 import org.opensearch.cluster.coordination.NoMasterBlockService;
+import org.opensearch.cluster.coordination.PublicationTransportHandler;
 import org.opensearch.cluster.coordination.Reconfigurator;
 import org.opensearch.cluster.metadata.IndexGraveyard;
 import org.opensearch.cluster.metadata.Metadata;
@@ -101,6 +102,8 @@ import org.opensearch.http.HttpTransportSettings;
 import org.opensearch.index.IndexModule;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.IndexingPressure;
+import org.opensearch.index.ShardIndexingPressure;
+import org.opensearch.index.translog.TranslogSyncScheduler;
 import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.IndicesRequestCache;
@@ -129,6 +132,7 @@ import org.opensearch.script.ScriptService;
 import org.opensearch.search.SearchModule;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.aggregations.MultiBucketConsumerService;
+import org.opensearch.search.backpressure.SearchBackpressureService;
 import org.opensearch.search.fetch.subphase.highlight.FastVectorHighlighter;
 import org.opensearch.snapshots.InternalSnapshotsInfoService;
 import org.opensearch.snapshots.SnapshotsService;
@@ -221,6 +225,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
             BalancedShardsAllocator.INDEX_BALANCE_FACTOR_SETTING,
             BalancedShardsAllocator.SHARD_BALANCE_FACTOR_SETTING,
             BalancedShardsAllocator.THRESHOLD_SETTING,
+            BalancedShardsAllocator.PARALLELISM_SETTING,
             BreakerSettings.CIRCUIT_BREAKER_LIMIT_SETTING,
             BreakerSettings.CIRCUIT_BREAKER_OVERHEAD_SETTING,
             BreakerSettings.CIRCUIT_BREAKER_TYPE,
@@ -252,6 +257,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
             RecoverySettings.INDICES_RECOVERY_INTERNAL_ACTION_TIMEOUT_SETTING,
             RecoverySettings.INDICES_RECOVERY_INTERNAL_LONG_ACTION_TIMEOUT_SETTING,
             RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING,
+            RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_FILES_SETTING,
             RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING,
             ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_INITIAL_PRIMARIES_RECOVERIES_SETTING,
             ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_CONCURRENT_INCOMING_RECOVERIES_SETTING,
@@ -337,10 +343,15 @@ public final class ClusterSettings extends AbstractScopedSettings {
             ClusterApplierService.CLUSTER_SERVICE_SLOW_TASK_LOGGING_THRESHOLD_SETTING,
             ClusterService.USER_DEFINED_METADATA,
             MasterService.MASTER_SERVICE_SLOW_TASK_LOGGING_THRESHOLD_SETTING,
+            MasterService.MASTER_SERVICE_STARVATION_THRESHOLD_SETTING,
             SearchService.DEFAULT_SEARCH_TIMEOUT_SETTING,
             SearchService.DEFAULT_ALLOW_PARTIAL_SEARCH_RESULTS,
             ElectMasterService.DISCOVERY_ZEN_MINIMUM_MASTER_NODES_SETTING,
             TransportSearchAction.SHARD_COUNT_LIMIT_SETTING,
+            TransportSearchAction.STREAMING_AGGS_REDUCE_SETTING,
+            TransportSearchAction.HEDGED_REQUESTS_SETTING,
+            TransportSearchAction.HEDGED_REQUESTS_PERCENTILE_SETTING,
+            TransportSearchAction.HEDGED_REQUESTS_MIN_DELAY_SETTING,
             RemoteClusterService.REMOTE_CLUSTER_SKIP_UNAVAILABLE,
             RemoteClusterService.SEARCH_REMOTE_CLUSTER_SKIP_UNAVAILABLE,
             SniffConnectionStrategy.REMOTE_CONNECTIONS_PER_CLUSTER,
@@ -443,8 +454,15 @@ public final class ClusterSettings extends AbstractScopedSettings {
             ScriptService.CONTEXTS_ALLOWED_SETTING,
             IndicesService.INDICES_CACHE_CLEAN_INTERVAL_SETTING,
             IndicesFieldDataCache.INDICES_FIELDDATA_CACHE_SIZE_KEY,
+            IndicesFieldDataCache.INDICES_FIELDDATA_CACHE_EVICTION_POLICY,
             IndicesRequestCache.INDICES_CACHE_QUERY_SIZE,
             IndicesRequestCache.INDICES_CACHE_QUERY_EXPIRE,
+            IndicesRequestCache.INDICES_CACHE_QUERY_EVICTION_POLICY,
+            IndicesRequestCache.INDICES_CACHE_QUERY_DISK_SIZE,
+            IndicesRequestCache.INDICES_CACHE_QUERY_DISK_INDEX_SIZE,
+            TranslogSyncScheduler.GROUP_COMMIT_ENABLED_SETTING,
+            TranslogSyncScheduler.GROUP_COMMIT_MAX_WAIT_SETTING,
+            TranslogSyncScheduler.GROUP_COMMIT_MAX_BATCH_SIZE_SETTING,
             HunspellService.HUNSPELL_LAZY_LOAD,
             HunspellService.HUNSPELL_IGNORE_CASE,
             HunspellService.HUNSPELL_DICTIONARY_OPTIONS,
@@ -542,6 +560,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
             FastVectorHighlighter.SETTING_TV_HIGHLIGHT_MULTI_VALUE,
             Node.BREAKER_TYPE_KEY,
             OperationRouting.USE_ADAPTIVE_REPLICA_SELECTION_SETTING,
+            OperationRouting.ADAPTIVE_REPLICA_SELECTION_RANKING_SETTING,
+            OperationRouting.ADAPTIVE_REPLICA_SELECTION_PERCENTILE_SETTING,
             IndexGraveyard.SETTING_MAX_TOMBSTONES,
             PersistentTasksClusterService.CLUSTER_TASKS_ALLOCATION_RECHECK_INTERVAL_SETTING,
             EnableAssignmentDecider.CLUSTER_TASKS_ALLOCATION_ENABLE_SETTING,
@@ -554,6 +574,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
             ElectionSchedulerFactory.ELECTION_DURATION_SETTING,
             Coordinator.PUBLISH_TIMEOUT_SETTING,
             Coordinator.PUBLISH_INFO_TIMEOUT_SETTING,
+            PublicationTransportHandler.PUBLISH_COMPRESSION_SETTING,
             JoinHelper.JOIN_TIMEOUT_SETTING,
             FollowersChecker.FOLLOWER_CHECK_TIMEOUT_SETTING,
             FollowersChecker.FOLLOWER_CHECK_INTERVAL_SETTING,
@@ -574,7 +595,25 @@ public final class ClusterSettings extends AbstractScopedSettings {
             FsHealthService.ENABLED_SETTING,
             FsHealthService.REFRESH_INTERVAL_SETTING,
             FsHealthService.SLOW_PATH_LOGGING_THRESHOLD_SETTING,
-            IndexingPressure.MAX_INDEXING_BYTES)));
+            IndexingPressure.MAX_INDEXING_BYTES,
+            ShardIndexingPressure.SHARD_INDEXING_PRESSURE_ENABLED,
+            ShardIndexingPressure.NODE_SOFT_LIMIT,
+            ShardIndexingPressure.SHARD_MIN_LIMIT,
+            ShardIndexingPressure.LOWER_OPERATING_FACTOR,
+            ShardIndexingPressure.OPTIMAL_OPERATING_FACTOR,
+            ShardIndexingPressure.THROUGHPUT_DEGRADATION_FACTOR,
+            ShardIndexingPressure.THROUGHPUT_REQUEST_WINDOW,
+            ShardIndexingPressure.SUCCESSFUL_REQUEST_ELAPSED_TIMEOUT,
+            ShardIndexingPressure.MAX_OUTSTANDING_REQUESTS,
+            SearchBackpressureService.ENABLED_SETTING,
+            SearchBackpressureService.INTERVAL_SETTING,
+            SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING,
+            SearchBackpressureService.CPU_THRESHOLD_SETTING,
+            SearchBackpressureService.HEAP_THRESHOLD_SETTING,
+            SearchBackpressureService.TASK_CPU_TIME_THRESHOLD_SETTING,
+            SearchBackpressureService.TASK_HEAP_THRESHOLD_SETTING,
+            SearchBackpressureService.TASK_ELAPSED_TIME_THRESHOLD_SETTING,
+            SearchBackpressureService.MAX_CANCELLATIONS_PER_INTERVAL_SETTING)));
 
     public static List<SettingUpgrader<?>> BUILT_IN_SETTING_UPGRADERS = Collections.unmodifiableList(Arrays.asList(
             SniffConnectionStrategy.SEARCH_REMOTE_CLUSTER_SEEDS_UPGRADER,
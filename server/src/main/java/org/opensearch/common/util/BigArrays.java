@@ -443,6 +443,15 @@ public class BigArrays {
         return this.circuitBreakingInstance;
     }
 
+    /**
+     * Return an instance of this BigArrays class that recycles pages like this
+     * instance but neither checks nor adjusts any circuit breaker, for arrays
+     * whose memory is already accounted for by their owner
+     */
+    public BigArrays withoutCircuitBreaker() {
+        return new BigArrays(recycler, null, breakerName);
+    }
+
     public CircuitBreakerService breakerService() {
         return this.circuitBreakingInstance.breakerService;
     }
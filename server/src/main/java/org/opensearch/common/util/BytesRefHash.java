@@ -33,7 +33,9 @@
 package org.opensearch.common.util;
 
 import com.carrotsearch.hppc.BitMixer;
+import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 
@@ -44,7 +46,9 @@ import org.opensearch.common.lease.Releasables;
  *  re-hashing and capacity is always a multiple of 2 for faster identification of buckets.
  *  This class is not thread-safe.
  */
-public final class BytesRefHash extends AbstractHash {
+public final class BytesRefHash extends AbstractHash implements Accountable {
+
+    private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(BytesRefHash.class);
 
     private LongArray startOffsets;
     private ByteArray bytes;
@@ -172,6 +176,11 @@ public final class BytesRefHash extends AbstractHash {
         reset(code, id);
     }
 
+    @Override
+    public long ramBytesUsed() {
+        return BASE_RAM_BYTES_USED + ids.ramBytesUsed() + startOffsets.ramBytesUsed() + bytes.ramBytesUsed() + hashes.ramBytesUsed();
+    }
+
     @Override
     public void close() {
         try (Releasable releasable = Releasables.wrap(bytes, hashes, startOffsets)) {
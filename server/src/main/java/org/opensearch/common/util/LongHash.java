@@ -32,6 +32,8 @@
 
 package org.opensearch.common.util;
 
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.lease.Releasable;
 
 /**
@@ -42,7 +44,9 @@ import org.opensearch.common.lease.Releasable;
  * This class is not thread-safe.
  */
 // IDs are internally stored as id + 1 so that 0 encodes for an empty slot
-public final class LongHash extends AbstractHash {
+public final class LongHash extends AbstractHash implements Accountable {
+
+    private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(LongHash.class);
 
     private LongArray keys;
 
@@ -131,6 +135,11 @@ public final class LongHash extends AbstractHash {
         reset(key, id);
     }
 
+    @Override
+    public long ramBytesUsed() {
+        return BASE_RAM_BYTES_USED + ids.ramBytesUsed() + keys.ramBytesUsed();
+    }
+
     @Override
     public void close() {
         try (Releasable releasable = keys) {
@@ -38,11 +38,15 @@ import org.apache.lucene.util.automaton.CharacterRunAutomaton;
 import org.apache.lucene.util.automaton.Operations;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.common.Booleans;
+import org.opensearch.common.CheckedBiConsumer;
 import org.opensearch.common.Numbers;
 import org.opensearch.common.Strings;
 import org.opensearch.common.regex.Regex;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentParser;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -216,16 +220,52 @@ public class XContentMapValues {
      */
     public static Function<Map<String, ?>, Map<String, Object>> filter(String[] includes, String[] excludes) {
         CharacterRunAutomaton matchAllAutomaton = new CharacterRunAutomaton(Automata.makeAnyString());
+        CharacterRunAutomaton include = includeAutomaton(includes, matchAllAutomaton);
+        CharacterRunAutomaton exclude = excludeAutomaton(excludes);
 
-        CharacterRunAutomaton include;
+        // NOTE: We cannot use Operations.minus because of the special case that
+        // we want all sub properties to match as soon as an object matches
+
+        return (map) -> filter(map,
+            include, 0,
+            exclude, 0,
+            matchAllAutomaton);
+    }
+
+    /**
+     * Returns a function that copies the object the parser is positioned on to the builder, keeping the same properties as
+     * {@link #filter(String[], String[])} would. Unlike filtering the map of the object, the properties are copied from the
+     * tokens of the parser without building any map, and in the order of the parser. The parser is left on the end of the
+     * object.
+     */
+    public static CheckedBiConsumer<XContentParser, XContentBuilder, IOException> streamingFilter(String[] includes,
+                                                                                                 String[] excludes) {
+        CharacterRunAutomaton matchAllAutomaton = new CharacterRunAutomaton(Automata.makeAnyString());
+        CharacterRunAutomaton include = includeAutomaton(includes, matchAllAutomaton);
+        CharacterRunAutomaton exclude = excludeAutomaton(excludes);
+
+        return (parser, builder) -> {
+            if (parser.currentToken() != XContentParser.Token.START_OBJECT) {
+                throw new OpenSearchParseException("expected an object to filter but got [{}]", parser.currentToken());
+            }
+            PendingStructure root = new PendingStructure(null, null, false);
+            filter(parser, builder, root, include, 0, exclude, 0, matchAllAutomaton);
+            // an object without any of the included properties is still an object
+            root.write(builder);
+            builder.endObject();
+        };
+    }
+
+    private static CharacterRunAutomaton includeAutomaton(String[] includes, CharacterRunAutomaton matchAllAutomaton) {
         if (includes == null || includes.length == 0) {
-            include = matchAllAutomaton;
-        } else {
-            Automaton includeA = Regex.simpleMatchToAutomaton(includes);
-            includeA = makeMatchDotsInFieldNames(includeA);
-            include = new CharacterRunAutomaton(includeA);
+            return matchAllAutomaton;
         }
+        Automaton includeA = Regex.simpleMatchToAutomaton(includes);
+        includeA = makeMatchDotsInFieldNames(includeA);
+        return new CharacterRunAutomaton(includeA);
+    }
 
+    private static CharacterRunAutomaton excludeAutomaton(String[] excludes) {
         Automaton excludeA;
         if (excludes == null || excludes.length == 0) {
             excludeA = Automata.makeEmpty();
@@ -233,15 +273,7 @@ public class XContentMapValues {
             excludeA = Regex.simpleMatchToAutomaton(excludes);
             excludeA = makeMatchDotsInFieldNames(excludeA);
         }
-        CharacterRunAutomaton exclude = new CharacterRunAutomaton(excludeA);
-
-        // NOTE: We cannot use Operations.minus because of the special case that
-        // we want all sub properties to match as soon as an object matches
-
-        return (map) -> filter(map,
-            include, 0,
-            exclude, 0,
-            matchAllAutomaton);
+        return new CharacterRunAutomaton(excludeA);
     }
 
     /** Make matches on objects also match dots in field names.
@@ -366,6 +398,163 @@ public class XContentMapValues {
         return filtered;
     }
 
+    /**
+     * An object or an array whose start is only written to the builder along with its first filtered value, so that
+     * objects and arrays without any filtered value can be left out like {@link #filter(Map, CharacterRunAutomaton, int,
+     * CharacterRunAutomaton, int, CharacterRunAutomaton)} does.
+     */
+    private static final class PendingStructure {
+        private final PendingStructure parent;
+        private final String fieldName;
+        private final boolean array;
+        private boolean written;
+
+        PendingStructure(PendingStructure parent, String fieldName, boolean array) {
+            this.parent = parent;
+            this.fieldName = fieldName;
+            this.array = array;
+        }
+
+        void write(XContentBuilder builder) throws IOException {
+            if (written) {
+                return;
+            }
+            if (parent != null) {
+                parent.write(builder);
+            }
+            if (fieldName != null) {
+                builder.field(fieldName);
+            }
+            if (array) {
+                builder.startArray();
+            } else {
+                builder.startObject();
+            }
+            written = true;
+        }
+    }
+
+    private static void filter(XContentParser parser, XContentBuilder builder, PendingStructure object,
+            CharacterRunAutomaton includeAutomaton, int initialIncludeState,
+            CharacterRunAutomaton excludeAutomaton, int initialExcludeState,
+            CharacterRunAutomaton matchAllAutomaton) throws IOException {
+        XContentParser.Token token;
+        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+            String key = parser.currentName();
+            token = parser.nextToken();
+
+            int includeState = step(includeAutomaton, key, initialIncludeState);
+            if (includeState == -1) {
+                parser.skipChildren();
+                continue;
+            }
+
+            int excludeState = step(excludeAutomaton, key, initialExcludeState);
+            if (excludeState != -1 && excludeAutomaton.isAccept(excludeState)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            CharacterRunAutomaton subIncludeAutomaton = includeAutomaton;
+            int subIncludeState = includeState;
+            if (includeAutomaton.isAccept(includeState)) {
+                if (excludeState == -1 || excludeAutomaton.step(excludeState, '.') == -1) {
+                    // the exclude has no chances to match inner properties
+                    object.write(builder);
+                    builder.field(key);
+                    builder.copyCurrentStructure(parser);
+                    continue;
+                } else {
+                    // the object matched, so consider that the include matches every inner property
+                    // we only care about excludes now
+                    subIncludeAutomaton = matchAllAutomaton;
+                    subIncludeState = 0;
+                }
+            }
+
+            if (token == XContentParser.Token.START_OBJECT) {
+
+                subIncludeState = subIncludeAutomaton.step(subIncludeState, '.');
+                if (subIncludeState == -1) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (excludeState != -1) {
+                    excludeState = excludeAutomaton.step(excludeState, '.');
+                }
+
+                PendingStructure value = new PendingStructure(object, key, false);
+                if (includeAutomaton.isAccept(includeState)) {
+                    value.write(builder);
+                }
+                filter(parser, builder, value, subIncludeAutomaton, subIncludeState, excludeAutomaton, excludeState, matchAllAutomaton);
+                if (value.written) {
+                    builder.endObject();
+                }
+
+            } else if (token == XContentParser.Token.START_ARRAY) {
+
+                PendingStructure value = new PendingStructure(object, key, true);
+                if (includeAutomaton.isAccept(includeState)) {
+                    value.write(builder);
+                }
+                filterArray(parser, builder, value, subIncludeAutomaton, subIncludeState, excludeAutomaton, excludeState,
+                    matchAllAutomaton);
+                if (value.written) {
+                    builder.endArray();
+                }
+
+            } else {
+
+                // leaf property
+                if (includeAutomaton.isAccept(includeState)
+                        && (excludeState == -1 || excludeAutomaton.isAccept(excludeState) == false)) {
+                    object.write(builder);
+                    builder.field(key);
+                    builder.copyCurrentStructure(parser);
+                }
+
+            }
+        }
+    }
+
+    private static void filterArray(XContentParser parser, XContentBuilder builder, PendingStructure array,
+            CharacterRunAutomaton includeAutomaton, int initialIncludeState,
+            CharacterRunAutomaton excludeAutomaton, int initialExcludeState,
+            CharacterRunAutomaton matchAllAutomaton) throws IOException {
+        boolean isInclude = includeAutomaton.isAccept(initialIncludeState);
+        XContentParser.Token token;
+        while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
+            if (token == XContentParser.Token.START_OBJECT) {
+                int includeState = includeAutomaton.step(initialIncludeState, '.');
+                if (includeState == -1) {
+                    parser.skipChildren();
+                    continue;
+                }
+                int excludeState = initialExcludeState;
+                if (excludeState != -1) {
+                    excludeState = excludeAutomaton.step(excludeState, '.');
+                }
+                PendingStructure value = new PendingStructure(array, null, false);
+                filter(parser, builder, value, includeAutomaton, includeState, excludeAutomaton, excludeState, matchAllAutomaton);
+                if (value.written) {
+                    builder.endObject();
+                }
+            } else if (token == XContentParser.Token.START_ARRAY) {
+                PendingStructure value = new PendingStructure(array, null, true);
+                filterArray(parser, builder, value, includeAutomaton, initialIncludeState, excludeAutomaton, initialExcludeState,
+                    matchAllAutomaton);
+                if (value.written) {
+                    builder.endArray();
+                }
+            } else if (isInclude) {
+                // #22557: only accept this array value if the key we are on is accepted:
+                array.write(builder);
+                builder.copyCurrentStructure(parser);
+            }
+        }
+    }
+
     public static boolean isObject(Object node) {
         return node instanceof Map;
     }
@@ -33,6 +33,9 @@
 package org.opensearch.discovery;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
+import org.opensearch.cluster.service.ClusterStateUpdateTaskStats;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -47,10 +50,17 @@ public class DiscoveryStats implements Writeable, ToXContentFragment {
 
     private final PendingClusterStateStats queueStats;
     private final PublishClusterStateStats publishStats;
+    private final ClusterStateUpdateTaskStats clusterStateUpdateTaskStats;
 
     public DiscoveryStats(PendingClusterStateStats queueStats, PublishClusterStateStats publishStats) {
+        this(queueStats, publishStats, null);
+    }
+
+    public DiscoveryStats(PendingClusterStateStats queueStats, PublishClusterStateStats publishStats,
+                          @Nullable ClusterStateUpdateTaskStats clusterStateUpdateTaskStats) {
         this.queueStats = queueStats;
         this.publishStats = publishStats;
+        this.clusterStateUpdateTaskStats = clusterStateUpdateTaskStats;
     }
 
     public DiscoveryStats(StreamInput in) throws IOException {
@@ -61,6 +71,11 @@ public class DiscoveryStats implements Writeable, ToXContentFragment {
         } else {
             publishStats = null;
         }
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            clusterStateUpdateTaskStats = in.readOptionalWriteable(ClusterStateUpdateTaskStats::new);
+        } else {
+            clusterStateUpdateTaskStats = null;
+        }
     }
 
     @Override
@@ -70,6 +85,9 @@ public class DiscoveryStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(LegacyESVersion.V_6_1_0)) {
             out.writeOptionalWriteable(publishStats);
         }
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeOptionalWriteable(clusterStateUpdateTaskStats);
+        }
     }
 
     @Override
@@ -81,6 +99,9 @@ public class DiscoveryStats implements Writeable, ToXContentFragment {
         if (publishStats != null) {
             publishStats.toXContent(builder, params);
         }
+        if (clusterStateUpdateTaskStats != null) {
+            clusterStateUpdateTaskStats.toXContent(builder, params);
+        }
         builder.endObject();
         return builder;
     }
@@ -96,4 +117,9 @@ public class DiscoveryStats implements Writeable, ToXContentFragment {
     public PublishClusterStateStats getPublishStats() {
         return publishStats;
     }
+
+    @Nullable
+    public ClusterStateUpdateTaskStats getClusterStateUpdateTaskStats() {
+        return clusterStateUpdateTaskStats;
+    }
 }
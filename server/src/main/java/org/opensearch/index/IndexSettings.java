@@ -92,6 +92,12 @@ public final class IndexSettings {
             (value) -> Translog.Durability.valueOf(value.toUpperCase(Locale.ROOT)), Property.Dynamic, Property.IndexScope);
     public static final Setting<Boolean> INDEX_WARMER_ENABLED_SETTING =
         Setting.boolSetting("index.warmer.enabled", true, Property.Dynamic, Property.IndexScope);
+    /**
+     * How long a refresh waits for the warmers of the new reader before making it searchable and letting the warmers complete
+     * in the background. Defaults to {@code -1}, which waits until the warmers complete.
+     */
+    public static final Setting<TimeValue> INDEX_WARMER_MAX_STALENESS_SETTING =
+        Setting.timeSetting("index.warmer.max_staleness", TimeValue.MINUS_ONE, TimeValue.MINUS_ONE, Property.Dynamic, Property.IndexScope);
     public static final Setting<String> INDEX_CHECK_ON_STARTUP =
         new Setting<>("index.shard.check_on_startup", "false", (s) -> {
             switch (s) {
@@ -348,6 +354,14 @@ public final class IndexSettings {
     public static final Setting<Boolean> INDEX_SEARCH_THROTTLED = Setting.boolSetting("index.search.throttled", false,
         Property.IndexScope, Property.PrivateIndex, Property.Dynamic);
 
+    /**
+     * Enables searching the segments of a shard concurrently on the
+     * {@link org.opensearch.threadpool.ThreadPool.Names#INDEX_SEARCHER} thread-pool. The leaves of the shard are grouped into
+     * slices which are collected in parallel and reduced once all slices are done.
+     */
+    public static final Setting<Boolean> INDEX_CONCURRENT_SEGMENT_SEARCH_SETTING =
+        Setting.boolSetting("index.search.concurrent_segment_search.enabled", false, Property.IndexScope, Property.Dynamic);
+
     /**
      * Determines a balance between file-based and operations-based peer recoveries. The number of operations that will be used in an
      * operations-based peer recovery is limited to this proportion of the total number of documents in the shard (including deleted
@@ -407,6 +421,7 @@ public final class IndexSettings {
     }
 
     private volatile boolean warmerEnabled;
+    private volatile TimeValue warmerMaxStaleness;
     private volatile int maxResultWindow;
     private volatile int maxInnerResultWindow;
     private volatile int maxAdjacencyMatrixFilters;
@@ -422,6 +437,7 @@ public final class IndexSettings {
     private volatile String defaultPipeline;
     private volatile String requiredPipeline;
     private volatile boolean searchThrottled;
+    private volatile boolean concurrentSegmentSearch;
     private volatile long mappingNestedFieldsLimit;
     private volatile long mappingNestedDocsLimit;
     private volatile long mappingTotalFieldsLimit;
@@ -511,6 +527,7 @@ public final class IndexSettings {
         numberOfShards = settings.getAsInt(IndexMetadata.SETTING_NUMBER_OF_SHARDS, null);
 
         this.searchThrottled = INDEX_SEARCH_THROTTLED.get(settings);
+        this.concurrentSegmentSearch = scopedSettings.get(INDEX_CONCURRENT_SEGMENT_SEARCH_SETTING);
         this.queryStringLenient = QUERY_STRING_LENIENT_SETTING.get(settings);
         this.queryStringAnalyzeWildcard = QUERY_STRING_ANALYZE_WILDCARD.get(nodeSettings);
         this.queryStringAllowLeadingWildcard = QUERY_STRING_ALLOW_LEADING_WILDCARD.get(nodeSettings);
@@ -528,6 +545,7 @@ public final class IndexSettings {
         softDeleteRetentionOperations = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING);
         retentionLeaseMillis = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING).millis();
         warmerEnabled = scopedSettings.get(INDEX_WARMER_ENABLED_SETTING);
+        warmerMaxStaleness = scopedSettings.get(INDEX_WARMER_MAX_STALENESS_SETTING);
         maxResultWindow = scopedSettings.get(MAX_RESULT_WINDOW_SETTING);
         maxInnerResultWindow = scopedSettings.get(MAX_INNER_RESULT_WINDOW_SETTING);
         maxAdjacencyMatrixFilters = scopedSettings.get(MAX_ADJACENCY_MATRIX_FILTERS_SETTING);
@@ -585,6 +603,7 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(MAX_NGRAM_DIFF_SETTING, this::setMaxNgramDiff);
         scopedSettings.addSettingsUpdateConsumer(MAX_SHINGLE_DIFF_SETTING, this::setMaxShingleDiff);
         scopedSettings.addSettingsUpdateConsumer(INDEX_WARMER_ENABLED_SETTING, this::setEnableWarmer);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_WARMER_MAX_STALENESS_SETTING, this::setWarmerMaxStaleness);
         scopedSettings.addSettingsUpdateConsumer(INDEX_GC_DELETES_SETTING, this::setGCDeletes);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING, this::setTranslogFlushThresholdSize);
         scopedSettings.addSettingsUpdateConsumer(INDEX_FLUSH_AFTER_MERGE_THRESHOLD_SIZE_SETTING, this::setFlushAfterMergeThresholdSize);
@@ -605,6 +624,7 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(FINAL_PIPELINE, this::setRequiredPipeline);
         scopedSettings.addSettingsUpdateConsumer(INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING, this::setSoftDeleteRetentionOperations);
         scopedSettings.addSettingsUpdateConsumer(INDEX_SEARCH_THROTTLED, this::setSearchThrottled);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_CONCURRENT_SEGMENT_SEARCH_SETTING, this::setConcurrentSegmentSearch);
         scopedSettings.addSettingsUpdateConsumer(INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING, this::setRetentionLeaseMillis);
         scopedSettings.addSettingsUpdateConsumer(INDEX_MAPPING_NESTED_FIELDS_LIMIT_SETTING, this::setMappingNestedFieldsLimit);
         scopedSettings.addSettingsUpdateConsumer(INDEX_MAPPING_NESTED_DOCS_LIMIT_SETTING, this::setMappingNestedDocsLimit);
@@ -793,6 +813,18 @@ public final class IndexSettings {
         this.warmerEnabled = enableWarmer;
     }
 
+    /**
+     * Returns how long a refresh waits for the warmers of the new reader before making it searchable, or a negative value
+     * if it waits until the warmers complete.
+     */
+    public TimeValue getWarmerMaxStaleness() {
+        return warmerMaxStaleness;
+    }
+
+    private void setWarmerMaxStaleness(TimeValue warmerMaxStaleness) {
+        this.warmerMaxStaleness = warmerMaxStaleness;
+    }
+
     /**
      * Returns the translog sync interval. This is the interval in which the transaction log is asynchronously fsynced unless
      * the transaction log is fsyncing on every operations
@@ -1101,6 +1133,18 @@ public final class IndexSettings {
         this.searchThrottled = searchThrottled;
     }
 
+    /**
+     * Returns true if the segments of this index should be searched concurrently using the
+     * {@link org.opensearch.threadpool.ThreadPool.Names#INDEX_SEARCHER} thread-pool
+     */
+    public boolean isConcurrentSegmentSearchEnabled() {
+        return concurrentSegmentSearch;
+    }
+
+    private void setConcurrentSegmentSearch(boolean concurrentSegmentSearch) {
+        this.concurrentSegmentSearch = concurrentSegmentSearch;
+    }
+
     public long getMappingNestedFieldsLimit() {
         return mappingNestedFieldsLimit;
     }
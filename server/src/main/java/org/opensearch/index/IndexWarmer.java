@@ -37,6 +37,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.IndexFieldDataService;
 import org.opensearch.index.mapper.MappedFieldType;
@@ -45,6 +46,7 @@ import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardState;
 import org.opensearch.threadpool.ThreadPool;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -58,10 +60,12 @@ public final class IndexWarmer {
 
     private static final Logger logger = LogManager.getLogger(IndexWarmer.class);
 
+    private final ThreadPool threadPool;
     private final List<Listener> listeners;
 
     IndexWarmer(ThreadPool threadPool, IndexFieldDataService indexFieldDataService,
                 Listener... listeners) {
+        this.threadPool = threadPool;
         ArrayList<Listener> list = new ArrayList<>();
         final Executor executor = threadPool.executor(ThreadPool.Names.WARMER);
         list.add(new FieldDataWarmer(executor, indexFieldDataService));
@@ -82,11 +86,39 @@ public final class IndexWarmer {
         }
         shard.warmerService().onPreWarm();
         long time = System.nanoTime();
+        final TimeValue maxStaleness = settings.getWarmerMaxStaleness();
+        if (maxStaleness.nanos() < 0) {
+            awaitTermination(warmReader(reader, shard));
+            onPostWarm(shard, time);
+            return;
+        }
+        // the warmers may outlive the refresh that makes the reader searchable, and the reader with it
+        reader.incRef();
+        List<TerminationHandle> terminationHandles = Collections.emptyList();
+        boolean terminated = false;
+        try {
+            terminationHandles = warmReader(reader, shard);
+            terminated = awaitTermination(terminationHandles, time + maxStaleness.nanos());
+        } finally {
+            if (terminated) {
+                release(reader);
+                onPostWarm(shard, time);
+            } else {
+                completeInBackground(reader, shard, terminationHandles, time);
+            }
+        }
+    }
+
+    private List<TerminationHandle> warmReader(OpenSearchDirectoryReader reader, IndexShard shard) {
         final List<TerminationHandle> terminationHandles = new ArrayList<>();
         // get a handle on pending tasks
         for (final Listener listener : listeners) {
             terminationHandles.add(listener.warmReader(shard, reader));
         }
+        return terminationHandles;
+    }
+
+    private static void awaitTermination(List<TerminationHandle> terminationHandles) {
         // wait for termination
         for (TerminationHandle terminationHandle : terminationHandles) {
             try {
@@ -97,6 +129,63 @@ public final class IndexWarmer {
                 break;
             }
         }
+    }
+
+    private static boolean awaitTermination(List<TerminationHandle> terminationHandles, long deadlineInNanos) {
+        for (TerminationHandle terminationHandle : terminationHandles) {
+            try {
+                if (terminationHandle.awaitTermination(Math.max(0, deadlineInNanos - System.nanoTime()), TimeUnit.NANOSECONDS) == false) {
+                    return false;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("top warming has been interrupted, completing it in the background", e);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Waits for the remaining warmers on the generic thread pool since the warmer thread pool may be busy with the warmers
+     * themselves, while the refresh that triggered them makes the reader searchable.
+     */
+    private void completeInBackground(OpenSearchDirectoryReader reader, IndexShard shard,
+                                      List<TerminationHandle> terminationHandles, long time) {
+        final long backgroundTime = System.nanoTime();
+        if (shard.warmerService().logger().isTraceEnabled()) {
+            shard.warmerService().logger().trace("top warming exceeded the max staleness after [{}], completing it in the background",
+                new TimeValue(backgroundTime - time, TimeUnit.NANOSECONDS));
+        }
+        threadPool.generic().execute(new AbstractRunnable() {
+            @Override
+            protected void doRun() {
+                awaitTermination(terminationHandles);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                logger.warn(() -> new ParameterizedMessage("{} failed to complete top warming in the background", shard.shardId()), e);
+            }
+
+            @Override
+            public void onAfter() {
+                release(reader);
+                shard.warmerService().onPostBackgroundWarm(System.nanoTime() - backgroundTime);
+                onPostWarm(shard, time);
+            }
+        });
+    }
+
+    private static void release(OpenSearchDirectoryReader reader) {
+        try {
+            reader.decRef();
+        } catch (IOException e) {
+            logger.warn("failed to release warmed reader", e);
+        }
+    }
+
+    private static void onPostWarm(IndexShard shard, long time) {
         long took = System.nanoTime() - time;
         shard.warmerService().onPostWarm(took);
         if (shard.warmerService().logger().isTraceEnabled()) {
@@ -111,6 +200,30 @@ public final class IndexWarmer {
 
         /** Wait until execution of the warm-up action completes. */
         void awaitTermination() throws InterruptedException;
+
+        /**
+         * Wait until execution of the warm-up action completes or the timeout elapses, and return whether it completed.
+         * Handles that can't wait for a bounded time wait until the execution completes.
+         */
+        default boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            awaitTermination();
+            return true;
+        }
+
+        /** A handle on warm-up tasks that count down the given latch when they complete. */
+        static TerminationHandle of(CountDownLatch latch) {
+            return new TerminationHandle() {
+                @Override
+                public void awaitTermination() throws InterruptedException {
+                    latch.await();
+                }
+
+                @Override
+                public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+                    return latch.await(timeout, unit);
+                }
+            };
+        }
     }
     public interface Listener {
         /** Queue tasks to warm-up the given segments and return handles that allow to wait for termination of the
@@ -170,7 +283,7 @@ public final class IndexWarmer {
                     }
                 });
             }
-            return () -> latch.await();
+            return TerminationHandle.of(latch);
         }
     }
 
@@ -35,11 +35,14 @@ package org.opensearch.index;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.stats.IndexingPressureStats;
+import org.opensearch.index.stats.ShardIndexingPressureStats;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -68,9 +71,16 @@ public class IndexingPressure {
     private final long primaryAndCoordinatingLimits;
     private final long replicaLimits;
 
+    private final ShardIndexingPressure shardIndexingPressure;
+
     public IndexingPressure(Settings settings) {
+        this(settings, new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+    }
+
+    public IndexingPressure(Settings settings, ClusterSettings clusterSettings) {
         this.primaryAndCoordinatingLimits = MAX_INDEXING_BYTES.get(settings).getBytes();
         this.replicaLimits = (long) (this.primaryAndCoordinatingLimits * 1.5);
+        this.shardIndexingPressure = new ShardIndexingPressure(settings, clusterSettings, primaryAndCoordinatingLimits, replicaLimits);
     }
 
 
@@ -157,6 +167,67 @@ public class IndexingPressure {
         return wrapReleasable(() -> this.currentReplicaBytes.getAndAdd(-bytes));
     }
 
+    /**
+     * Like {@link #markPrimaryOperationLocalToCoordinatingNodeStarted(long)}, and accounts the bytes on the shard if shard
+     * indexing pressure is enabled.
+     */
+    public Releasable markPrimaryOperationLocalToCoordinatingNodeStarted(ShardId shardId, long bytes) {
+        final Releasable releasable = markPrimaryOperationLocalToCoordinatingNodeStarted(bytes);
+        if (shardIndexingPressure.isEnabled() == false) {
+            return releasable;
+        }
+        final Releasable shardReleasable = shardIndexingPressure.markPrimaryOperationLocalToCoordinatingNodeStarted(shardId, bytes);
+        return () -> {
+            shardReleasable.close();
+            releasable.close();
+        };
+    }
+
+    /**
+     * Like {@link #markPrimaryOperationStarted(long, boolean)}, and additionally rejects the operation if shard indexing pressure
+     * is enabled and the shard falls behind, see {@link ShardIndexingPressure}.
+     */
+    public Releasable markPrimaryOperationStarted(ShardId shardId, long bytes, boolean forceExecution) {
+        final Releasable releasable = markPrimaryOperationStarted(bytes, forceExecution);
+        if (shardIndexingPressure.isEnabled() == false) {
+            return releasable;
+        }
+        final long nodeBytes = currentCombinedCoordinatingAndPrimaryBytes.get() + currentReplicaBytes.get();
+        final Releasable shardReleasable;
+        try {
+            shardReleasable = shardIndexingPressure.markPrimaryOperationStarted(shardId, bytes, forceExecution, nodeBytes);
+        } catch (OpenSearchRejectedExecutionException e) {
+            releasable.close();
+            throw e;
+        }
+        return () -> {
+            shardReleasable.close();
+            releasable.close();
+        };
+    }
+
+    /**
+     * Like {@link #markReplicaOperationStarted(long, boolean)}, and additionally rejects the operation if shard indexing pressure
+     * is enabled and the shard falls behind, see {@link ShardIndexingPressure}.
+     */
+    public Releasable markReplicaOperationStarted(ShardId shardId, long bytes, boolean forceExecution) {
+        final Releasable releasable = markReplicaOperationStarted(bytes, forceExecution);
+        if (shardIndexingPressure.isEnabled() == false) {
+            return releasable;
+        }
+        final Releasable shardReleasable;
+        try {
+            shardReleasable = shardIndexingPressure.markReplicaOperationStarted(shardId, bytes, forceExecution, currentReplicaBytes.get());
+        } catch (OpenSearchRejectedExecutionException e) {
+            releasable.close();
+            throw e;
+        }
+        return () -> {
+            shardReleasable.close();
+            releasable.close();
+        };
+    }
+
     public long getCurrentCombinedCoordinatingAndPrimaryBytes() {
         return currentCombinedCoordinatingAndPrimaryBytes.get();
     }
@@ -179,4 +250,8 @@ public class IndexingPressure {
             currentCoordinatingBytes.get(), currentPrimaryBytes.get(), currentReplicaBytes.get(), coordinatingRejections.get(),
             primaryRejections.get(), replicaRejections.get(), primaryAndCoordinatingLimits);
     }
+
+    public ShardIndexingPressureStats shardStats() {
+        return shardIndexingPressure.stats();
+    }
 }
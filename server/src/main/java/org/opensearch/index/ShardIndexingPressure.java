@@ -0,0 +1,352 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index;
+
+import org.opensearch.common.ExponentiallyWeightedMovingAverage;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.stats.ShardIndexingPressureStats;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Accounts the primary and replica indexing bytes of each shard of the node on top of the node-wide accounting of
+ * {@link IndexingPressure}, so that a node that runs short of indexing memory only rejects the shards that can't keep up instead
+ * of all of them.
+ * <p>
+ * Every shard has a limit for its primary and one for its replica bytes. A limit starts at a small fraction of the node limit
+ * and follows the load of the shard: it grows when the shard needs more and shrinks again as the outstanding bytes of the shard go
+ * down. As long as the node is below its soft limit, a shard that needs more than its limit simply gets a larger one. Above the
+ * soft limit, a shard that needs more than its limit is rejected if it falls behind, that is if its recent throughput degraded
+ * well below its average throughput, or if it has many outstanding requests and none of them completed for a while.
+ */
+public class ShardIndexingPressure {
+
+    public static final Setting<Boolean> SHARD_INDEXING_PRESSURE_ENABLED =
+        Setting.boolSetting("shard_indexing_pressure.enabled", false, Setting.Property.Dynamic, Setting.Property.NodeScope);
+
+    /**
+     * The fraction of the node limit above which shards that fall behind are rejected.
+     */
+    public static final Setting<Double> NODE_SOFT_LIMIT =
+        Setting.doubleSetting("shard_indexing_pressure.node.soft_limit", 0.7, 0.0, 1.0,
+            Setting.Property.Dynamic, Setting.Property.NodeScope);
+
+    /**
+     * The fraction of the node limit that a shard may always use.
+     */
+    public static final Setting<Double> SHARD_MIN_LIMIT =
+        Setting.doubleSetting("shard_indexing_pressure.shard.min_limit", 0.001, 0.0, 1.0,
+            Setting.Property.Dynamic, Setting.Property.NodeScope);
+
+    /**
+     * The limit of a shard shrinks once the shard uses less than this fraction of it.
+     */
+    public static final Setting<Double> LOWER_OPERATING_FACTOR =
+        Setting.doubleSetting("shard_indexing_pressure.operating_factor.lower", 0.75, 0.0, 1.0,
+            Setting.Property.Dynamic, Setting.Property.NodeScope);
+
+    /**
+     * The fraction of its limit that a shard uses right after its limit was adjusted.
+     */
+    public static final Setting<Double> OPTIMAL_OPERATING_FACTOR =
+        Setting.doubleSetting("shard_indexing_pressure.operating_factor.optimal", 0.85, 0.01, 1.0,
+            Setting.Property.Dynamic, Setting.Property.NodeScope);
+
+    /**
+     * A shard falls behind if its recent throughput is lower than its average throughput divided by this factor.
+     */
+    public static final Setting<Double> THROUGHPUT_DEGRADATION_FACTOR =
+        Setting.doubleSetting("shard_indexing_pressure.throughput.degradation_factor", 5.0, 1.0,
+            Setting.Property.Dynamic, Setting.Property.NodeScope);
+
+    /**
+     * The number of requests that the recent throughput of a shard is averaged over. The recent throughput of a shard is only
+     * compared to its average throughput once that many requests completed, by then it is hardly biased by its initial value.
+     */
+    public static final Setting<Integer> THROUGHPUT_REQUEST_WINDOW =
+        Setting.intSetting("shard_indexing_pressure.throughput.request_window", 2000, 1, Setting.Property.NodeScope);
+
+    /**
+     * A shard with too many outstanding requests falls behind if none of its requests completed for this long.
+     */
+    public static final Setting<TimeValue> SUCCESSFUL_REQUEST_ELAPSED_TIMEOUT =
+        Setting.positiveTimeSetting("shard_indexing_pressure.successful_request.elapsed_timeout", TimeValue.timeValueMinutes(5),
+            Setting.Property.Dynamic, Setting.Property.NodeScope);
+
+    /**
+     * The number of outstanding requests above which a shard whose requests don't complete falls behind.
+     */
+    public static final Setting<Integer> MAX_OUTSTANDING_REQUESTS =
+        Setting.intSetting("shard_indexing_pressure.successful_request.max_outstanding_requests", 100, 1,
+            Setting.Property.Dynamic, Setting.Property.NodeScope);
+
+    /**
+     * Shards without any bytes in flight are forgotten once they were idle for this long.
+     */
+    static final long IDLE_TRACKER_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final ConcurrentMap<ShardId, ShardTracker> trackers = ConcurrentCollections.newConcurrentMap();
+    private final AtomicLong totalRejections = new AtomicLong();
+    private final long primaryNodeLimit;
+    private final long replicaNodeLimit;
+    private final int throughputRequestWindow;
+    private final double throughputAlpha;
+    private final LongSupplier nanoTimeSupplier;
+
+    private volatile boolean enabled;
+    private volatile double nodeSoftLimit;
+    private volatile double shardMinLimit;
+    private volatile double lowerOperatingFactor;
+    private volatile double optimalOperatingFactor;
+    private volatile double throughputDegradationFactor;
+    private volatile long successfulRequestElapsedTimeoutNanos;
+    private volatile int maxOutstandingRequests;
+
+    public ShardIndexingPressure(Settings settings, ClusterSettings clusterSettings, long primaryNodeLimit, long replicaNodeLimit) {
+        this(settings, clusterSettings, primaryNodeLimit, replicaNodeLimit, System::nanoTime);
+    }
+
+    ShardIndexingPressure(Settings settings, ClusterSettings clusterSettings, long primaryNodeLimit, long replicaNodeLimit,
+                          LongSupplier nanoTimeSupplier) {
+        this.primaryNodeLimit = primaryNodeLimit;
+        this.replicaNodeLimit = replicaNodeLimit;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+        this.throughputRequestWindow = THROUGHPUT_REQUEST_WINDOW.get(settings);
+        this.throughputAlpha = 2.0 / (throughputRequestWindow + 1);
+        this.enabled = SHARD_INDEXING_PRESSURE_ENABLED.get(settings);
+        this.nodeSoftLimit = NODE_SOFT_LIMIT.get(settings);
+        this.shardMinLimit = SHARD_MIN_LIMIT.get(settings);
+        this.lowerOperatingFactor = LOWER_OPERATING_FACTOR.get(settings);
+        this.optimalOperatingFactor = OPTIMAL_OPERATING_FACTOR.get(settings);
+        this.throughputDegradationFactor = THROUGHPUT_DEGRADATION_FACTOR.get(settings);
+        this.successfulRequestElapsedTimeoutNanos = SUCCESSFUL_REQUEST_ELAPSED_TIMEOUT.get(settings).nanos();
+        this.maxOutstandingRequests = MAX_OUTSTANDING_REQUESTS.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(SHARD_INDEXING_PRESSURE_ENABLED, this::setEnabled);
+        clusterSettings.addSettingsUpdateConsumer(NODE_SOFT_LIMIT, value -> this.nodeSoftLimit = value);
+        clusterSettings.addSettingsUpdateConsumer(SHARD_MIN_LIMIT, value -> this.shardMinLimit = value);
+        clusterSettings.addSettingsUpdateConsumer(LOWER_OPERATING_FACTOR, value -> this.lowerOperatingFactor = value);
+        clusterSettings.addSettingsUpdateConsumer(OPTIMAL_OPERATING_FACTOR, value -> this.optimalOperatingFactor = value);
+        clusterSettings.addSettingsUpdateConsumer(THROUGHPUT_DEGRADATION_FACTOR, value -> this.throughputDegradationFactor = value);
+        clusterSettings.addSettingsUpdateConsumer(SUCCESSFUL_REQUEST_ELAPSED_TIMEOUT,
+            value -> this.successfulRequestElapsedTimeoutNanos = value.nanos());
+        clusterSettings.addSettingsUpdateConsumer(MAX_OUTSTANDING_REQUESTS, value -> this.maxOutstandingRequests = value);
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (enabled == false) {
+            // operations in flight release their bytes on the trackers they hold
+            trackers.clear();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Marks a primary operation of the given shard as started, {@code nodeBytes} are the coordinating, primary and replica bytes
+     * of the node including the operation.
+     */
+    Releasable markPrimaryOperationStarted(ShardId shardId, long bytes, boolean forceExecution, long nodeBytes) {
+        final ShardTracker tracker = getTracker(shardId);
+        return markOperationStarted(shardId, "primary", tracker.primary, bytes, forceExecution,
+            forceExecution == false && nodeBytes > nodeSoftLimit * primaryNodeLimit, primaryNodeLimit);
+    }
+
+    /**
+     * Accounts the bytes of a primary operation of the given shard that the node already accepted as a coordinating operation.
+     */
+    Releasable markPrimaryOperationLocalToCoordinatingNodeStarted(ShardId shardId, long bytes) {
+        final ShardTracker tracker = getTracker(shardId);
+        return markOperationStarted(shardId, "primary", tracker.primary, bytes, true, false, primaryNodeLimit);
+    }
+
+    /**
+     * Marks a replica operation of the given shard as started, {@code nodeBytes} are the replica bytes of the node including the
+     * operation.
+     */
+    Releasable markReplicaOperationStarted(ShardId shardId, long bytes, boolean forceExecution, long nodeBytes) {
+        final ShardTracker tracker = getTracker(shardId);
+        return markOperationStarted(shardId, "replica", tracker.replica, bytes, forceExecution,
+            forceExecution == false && nodeBytes > nodeSoftLimit * replicaNodeLimit, replicaNodeLimit);
+    }
+
+    private Releasable markOperationStarted(ShardId shardId, String operation, OperationTracker tracker, long bytes,
+                                            boolean forceExecution, boolean nodeUnderPressure, long nodeLimit) {
+        final long minLimit = (long) (shardMinLimit * nodeLimit);
+        final long currentBytes = tracker.currentBytes.addAndGet(bytes);
+        final long startTime = nanoTimeSupplier.getAsLong();
+        final long limit = Math.max(minLimit, tracker.limit.get());
+        if (currentBytes > limit) {
+            if (nodeUnderPressure) {
+                final String reason = fallingBehind(tracker, startTime);
+                if (reason != null) {
+                    tracker.currentBytes.getAndAdd(-bytes);
+                    tracker.rejections.getAndIncrement();
+                    totalRejections.getAndIncrement();
+                    if (THROUGHPUT_DEGRADATION.equals(reason)) {
+                        tracker.throughputDegradationRejections.getAndIncrement();
+                    } else {
+                        tracker.lastSuccessfulRequestRejections.getAndIncrement();
+                    }
+                    throw new OpenSearchRejectedExecutionException("rejected execution of " + operation + " operation on shard " +
+                        shardId + " [" + reason + ", " +
+                        "shard_" + operation + "_bytes=" + (currentBytes - bytes) + ", " +
+                        operation + "_operation_bytes=" + bytes + ", " +
+                        "shard_max_" + operation + "_bytes=" + limit + "]", false);
+                }
+            }
+            final long newLimit = (long) Math.ceil(currentBytes / optimalOperatingFactor);
+            tracker.limit.accumulateAndGet(newLimit, Math::max);
+        }
+        tracker.outstandingRequests.getAndIncrement();
+        tracker.totalBytes.getAndAdd(bytes);
+        return () -> {
+            final long endTime = nanoTimeSupplier.getAsLong();
+            tracker.outstandingRequests.getAndDecrement();
+            tracker.completed(bytes, endTime - startTime, endTime);
+            final long remainingBytes = tracker.currentBytes.addAndGet(-bytes);
+            final long currentLimit = tracker.limit.get();
+            if (currentLimit > minLimit && remainingBytes < currentLimit * lowerOperatingFactor) {
+                final long shrunkLimit = Math.max(minLimit, (long) Math.ceil(remainingBytes / optimalOperatingFactor));
+                tracker.limit.compareAndSet(currentLimit, shrunkLimit);
+            }
+        };
+    }
+
+    private static final String THROUGHPUT_DEGRADATION = "throughput_degradation";
+    private static final String LAST_SUCCESSFUL_REQUEST = "last_successful_request";
+
+    /**
+     * Returns why the shard falls behind, or {@code null} if it keeps up.
+     */
+    private String fallingBehind(OperationTracker tracker, long now) {
+        if (tracker.completedRequests.get() >= throughputRequestWindow) {
+            final double averageThroughput = tracker.averageThroughput();
+            if (tracker.recentThroughput.getAverage() < averageThroughput / throughputDegradationFactor) {
+                return THROUGHPUT_DEGRADATION;
+            }
+        }
+        if (tracker.outstandingRequests.get() >= maxOutstandingRequests
+            && now - tracker.lastSuccessfulRequestTimestamp > successfulRequestElapsedTimeoutNanos) {
+            return LAST_SUCCESSFUL_REQUEST;
+        }
+        return null;
+    }
+
+    private ShardTracker getTracker(ShardId shardId) {
+        ShardTracker tracker = trackers.get(shardId);
+        if (tracker == null) {
+            final long now = nanoTimeSupplier.getAsLong();
+            removeIdleTrackers(now);
+            tracker = trackers.computeIfAbsent(shardId, k -> new ShardTracker(now, throughputAlpha));
+        }
+        return tracker;
+    }
+
+    /**
+     * Forgets the shards that were idle for a while, e.g. because they were closed or moved away. An operation that picked up a
+     * tracker before it was removed still accounts its bytes on it, they just don't show up in the stats anymore.
+     */
+    private void removeIdleTrackers(long now) {
+        trackers.forEach((shardId, tracker) -> {
+            if (tracker.isIdle(now)) {
+                trackers.remove(shardId, tracker);
+            }
+        });
+    }
+
+    public ShardIndexingPressureStats stats() {
+        final Map<ShardId, ShardIndexingPressureStats.ShardStats> shardStats = new HashMap<>();
+        for (Map.Entry<ShardId, ShardTracker> entry : trackers.entrySet()) {
+            final ShardTracker tracker = entry.getValue();
+            shardStats.put(entry.getKey(), new ShardIndexingPressureStats.ShardStats(
+                tracker.primary.stats((long) (shardMinLimit * primaryNodeLimit)),
+                tracker.replica.stats((long) (shardMinLimit * replicaNodeLimit))));
+        }
+        return new ShardIndexingPressureStats(enabled, totalRejections.get(), shardStats);
+    }
+
+    private static final class ShardTracker {
+        final OperationTracker primary;
+        final OperationTracker replica;
+
+        ShardTracker(long now, double throughputAlpha) {
+            this.primary = new OperationTracker(now, throughputAlpha);
+            this.replica = new OperationTracker(now, throughputAlpha);
+        }
+
+        boolean isIdle(long now) {
+            return primary.isIdle(now) && replica.isIdle(now);
+        }
+    }
+
+    private static final class OperationTracker {
+        final AtomicLong currentBytes = new AtomicLong();
+        final AtomicLong totalBytes = new AtomicLong();
+        final AtomicLong limit = new AtomicLong();
+        final AtomicLong outstandingRequests = new AtomicLong();
+        final AtomicLong rejections = new AtomicLong();
+        final AtomicLong throughputDegradationRejections = new AtomicLong();
+        final AtomicLong lastSuccessfulRequestRejections = new AtomicLong();
+        final AtomicLong completedRequests = new AtomicLong();
+        final AtomicLong completedBytes = new AtomicLong();
+        final AtomicLong completedLatencyInNanos = new AtomicLong();
+        final ExponentiallyWeightedMovingAverage recentThroughput;
+        volatile long lastSuccessfulRequestTimestamp;
+
+        OperationTracker(long now, double throughputAlpha) {
+            this.lastSuccessfulRequestTimestamp = now;
+            this.recentThroughput = new ExponentiallyWeightedMovingAverage(throughputAlpha, 0);
+        }
+
+        void completed(long bytes, long latencyInNanos, long now) {
+            final long latency = Math.max(1, latencyInNanos);
+            completedBytes.getAndAdd(bytes);
+            completedLatencyInNanos.getAndAdd(latency);
+            completedRequests.getAndIncrement();
+            recentThroughput.addValue(throughput(bytes, latency));
+            lastSuccessfulRequestTimestamp = now;
+        }
+
+        /**
+         * The bytes per millisecond over all completed requests.
+         */
+        double averageThroughput() {
+            return throughput(completedBytes.get(), completedLatencyInNanos.get());
+        }
+
+        boolean isIdle(long now) {
+            return currentBytes.get() == 0 && now - lastSuccessfulRequestTimestamp > IDLE_TRACKER_TIMEOUT_NANOS;
+        }
+
+        ShardIndexingPressureStats.OperationStats stats(long minLimit) {
+            return new ShardIndexingPressureStats.OperationStats(currentBytes.get(), totalBytes.get(), Math.max(minLimit, limit.get()),
+                outstandingRequests.get(), rejections.get(), throughputDegradationRejections.get(),
+                lastSuccessfulRequestRejections.get(), recentThroughput.getAverage(), averageThroughput());
+        }
+
+        private static double throughput(long bytes, long latencyInNanos) {
+            return latencyInNanos == 0 ? 0 : bytes / (latencyInNanos / 1_000_000.0);
+        }
+    }
+}
@@ -289,7 +289,7 @@ public final class BitsetFilterCache extends AbstractIndexComponent
                     });
                 }
             }
-            return () -> latch.await();
+            return TerminationHandle.of(latch);
         }
 
     }
@@ -32,6 +32,7 @@
 
 package org.opensearch.index.cache.request;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -47,6 +48,10 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
     private long evictions;
     private long hitCount;
     private long missCount;
+    private long diskSize;
+    private long diskEvictions;
+    private long diskHitCount;
+    private long diskMissCount;
 
     public RequestCacheStats() {
     }
@@ -56,13 +61,28 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         evictions = in.readVLong();
         hitCount = in.readVLong();
         missCount = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            diskSize = in.readVLong();
+            diskEvictions = in.readVLong();
+            diskHitCount = in.readVLong();
+            diskMissCount = in.readVLong();
+        }
     }
 
     public RequestCacheStats(long memorySize, long evictions, long hitCount, long missCount) {
+        this(memorySize, evictions, hitCount, missCount, 0, 0, 0, 0);
+    }
+
+    public RequestCacheStats(long memorySize, long evictions, long hitCount, long missCount,
+                             long diskSize, long diskEvictions, long diskHitCount, long diskMissCount) {
         this.memorySize = memorySize;
         this.evictions = evictions;
         this.hitCount = hitCount;
         this.missCount = missCount;
+        this.diskSize = diskSize;
+        this.diskEvictions = diskEvictions;
+        this.diskHitCount = diskHitCount;
+        this.diskMissCount = diskMissCount;
     }
 
     public void add(RequestCacheStats stats) {
@@ -70,6 +90,10 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         this.evictions += stats.evictions;
         this.hitCount += stats.hitCount;
         this.missCount += stats.missCount;
+        this.diskSize += stats.diskSize;
+        this.diskEvictions += stats.diskEvictions;
+        this.diskHitCount += stats.diskHitCount;
+        this.diskMissCount += stats.diskMissCount;
     }
 
     public long getMemorySizeInBytes() {
@@ -92,12 +116,43 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         return this.missCount;
     }
 
+    /**
+     * The size of the values that were evicted from the heap and are stored in the disk tier.
+     */
+    public ByteSizeValue getDiskSize() {
+        return new ByteSizeValue(diskSize);
+    }
+
+    public long getDiskEvictions() {
+        return this.diskEvictions;
+    }
+
+    /**
+     * The number of lookups that missed the heap and found the value in the disk tier.
+     */
+    public long getDiskHitCount() {
+        return this.diskHitCount;
+    }
+
+    /**
+     * The number of lookups that missed the heap and the disk tier.
+     */
+    public long getDiskMissCount() {
+        return this.diskMissCount;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeVLong(memorySize);
         out.writeVLong(evictions);
         out.writeVLong(hitCount);
         out.writeVLong(missCount);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeVLong(diskSize);
+            out.writeVLong(diskEvictions);
+            out.writeVLong(diskHitCount);
+            out.writeVLong(diskMissCount);
+        }
     }
 
     @Override
@@ -107,6 +162,12 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.EVICTIONS, getEvictions());
         builder.field(Fields.HIT_COUNT, getHitCount());
         builder.field(Fields.MISS_COUNT, getMissCount());
+        builder.startObject(Fields.DISK);
+        builder.humanReadableField(Fields.SIZE_IN_BYTES, Fields.SIZE, getDiskSize());
+        builder.field(Fields.EVICTIONS, getDiskEvictions());
+        builder.field(Fields.HIT_COUNT, getDiskHitCount());
+        builder.field(Fields.MISS_COUNT, getDiskMissCount());
+        builder.endObject();
         builder.endObject();
         return builder;
     }
@@ -118,5 +179,8 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         static final String EVICTIONS = "evictions";
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+        static final String DISK = "disk";
+        static final String SIZE = "size";
+        static final String SIZE_IN_BYTES = "size_in_bytes";
     }
 }
@@ -95,6 +95,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Comparator;
@@ -363,6 +364,22 @@ public abstract class Engine implements Closeable {
      */
     public abstract IndexResult index(Index index) throws IOException;
 
+    /**
+     * Perform the given document index operations on the engine, in order. Engines may write the operations that can't conflict
+     * with any other write, i.e. appends of documents with auto-generated ids on the primary, as a single batch.
+     * @param operations the operations to perform
+     * @return the {@link IndexResult} of each operation, in the order of the operations
+     *
+     * Note: engine level failures (i.e. persistent engine failures) are thrown
+     */
+    public List<IndexResult> indexBatch(List<Index> operations) throws IOException {
+        final List<IndexResult> results = new ArrayList<>(operations.size());
+        for (Index operation : operations) {
+            results.add(index(operation));
+        }
+        return results;
+    }
+
     /**
      * Perform document delete operation on the engine
      * @param delete operation to perform
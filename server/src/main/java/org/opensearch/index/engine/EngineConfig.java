@@ -138,6 +138,15 @@ public final class EngineConfig {
     public static final Setting<Boolean> INDEX_OPTIMIZE_AUTO_GENERATED_IDS = Setting.boolSetting("index.optimize_auto_generated_id", true,
         Property.IndexScope, Property.Dynamic);
 
+    /**
+     * Configures the engine to hold the version map entries of the documents indexed between two refreshes in pages of the
+     * {@link org.opensearch.common.util.BigArrays} of the translog rather than in a concurrent hash map. This avoids allocating
+     * several objects per indexed document, at the cost of synchronizing the access to the map, which pays off for indices with
+     * high update rates. This setting is only read when the engine is created. The default is <code>false</code>
+     */
+    public static final Setting<Boolean> INDEX_PAGED_VERSION_MAP_SETTING = Setting.boolSetting("index.version_map.paged", false,
+        Property.IndexScope);
+
     private final TranslogConfig translogConfig;
 
     /**
@@ -359,6 +368,13 @@ public final class EngineConfig {
         return indexSettings.getValue(INDEX_OPTIMIZE_AUTO_GENERATED_IDS);
     }
 
+    /**
+     * returns true if the version map of the engine is backed by pages of big arrays, see {@link #INDEX_PAGED_VERSION_MAP_SETTING}
+     */
+    public boolean isPagedVersionMapEnabled() {
+        return indexSettings.getValue(INDEX_PAGED_VERSION_MAP_SETTING);
+    }
+
     /**
      * Return the sort order of this index, or null if the index has no sort.
      */
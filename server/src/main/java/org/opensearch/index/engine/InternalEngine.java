@@ -72,6 +72,7 @@ import org.opensearch.common.Booleans;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.SuppressForbidden;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lucene.LoggerInfoStream;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
@@ -114,8 +115,11 @@ import org.opensearch.threadpool.ThreadPool;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -155,7 +159,7 @@ public class InternalEngine extends Engine {
 
     // A uid (in the form of BytesRef) to the version map
     // we use the hashed variant since we iterate over it and check removal and additions on existing keys
-    private final LiveVersionMap versionMap = new LiveVersionMap();
+    private final LiveVersionMap versionMap;
 
     private volatile SegmentInfos lastCommittedSegmentInfos;
 
@@ -229,6 +233,9 @@ public class InternalEngine extends Engine {
             engineConfig.getIndexSettings().getTranslogRetentionAge().getMillis(),
             engineConfig.getIndexSettings().getTranslogRetentionTotalFiles()
         );
+        // the pages of a paged version map are accounted by LiveVersionMap#ramBytesUsed, which the indexing memory controller tracks
+        this.versionMap = engineConfig.isPagedVersionMapEnabled()
+            ? new LiveVersionMap(engineConfig.getTranslogConfig().getBigArrays().withoutCircuitBreaker()) : new LiveVersionMap();
         store.incRef();
         IndexWriter writer = null;
         Translog translog = null;
@@ -979,19 +986,7 @@ public class InternalEngine extends Engine {
                     }
                     indexResult.setTranslogLocation(location);
                 }
-                if (plan.indexIntoLucene && indexResult.getResultType() == Result.Type.SUCCESS) {
-                    final Translog.Location translogLocation = trackTranslogLocation.get() ? indexResult.getTranslogLocation() : null;
-                    versionMap.maybePutIndexUnderLock(index.uid().bytes(),
-                        new IndexVersionValue(translogLocation, plan.versionForIndexing, index.seqNo(), index.primaryTerm()));
-                }
-                localCheckpointTracker.markSeqNoAsProcessed(indexResult.getSeqNo());
-                if (indexResult.getTranslogLocation() == null) {
-                    // the op is coming from the translog (and is hence persisted already) or it does not have a sequence number
-                    assert index.origin().isFromTranslog() || indexResult.getSeqNo() == SequenceNumbers.UNASSIGNED_SEQ_NO;
-                    localCheckpointTracker.markSeqNoAsPersisted(indexResult.getSeqNo());
-                }
-                indexResult.setTook(System.nanoTime() - index.startTime());
-                indexResult.freeze();
+                markAsIndexed(index, plan, indexResult);
                 return indexResult;
             } finally {
                 releaseInFlightDocs(reservedDocs);
@@ -1010,6 +1005,175 @@ public class InternalEngine extends Engine {
         }
     }
 
+    /**
+     * Records an index operation whose result is known, and which is in the translog if it has to, in the version map and the
+     * local checkpoint tracker. Must be called while holding the lock of the operation's uid.
+     */
+    private void markAsIndexed(Index index, IndexingStrategy plan, IndexResult indexResult) {
+        if (plan.indexIntoLucene && indexResult.getResultType() == Result.Type.SUCCESS) {
+            final Translog.Location translogLocation = trackTranslogLocation.get() ? indexResult.getTranslogLocation() : null;
+            versionMap.maybePutIndexUnderLock(index.uid().bytes(),
+                new IndexVersionValue(translogLocation, plan.versionForIndexing, index.seqNo(), index.primaryTerm()));
+        }
+        localCheckpointTracker.markSeqNoAsProcessed(indexResult.getSeqNo());
+        if (indexResult.getTranslogLocation() == null) {
+            // the op is coming from the translog (and is hence persisted already) or it does not have a sequence number
+            assert index.origin().isFromTranslog() || indexResult.getSeqNo() == SequenceNumbers.UNASSIGNED_SEQ_NO;
+            localCheckpointTracker.markSeqNoAsPersisted(indexResult.getSeqNo());
+        }
+        indexResult.setTook(System.nanoTime() - index.startTime());
+        indexResult.freeze();
+    }
+
+    /**
+     * Indexes the operations in order like {@link #index(Index)} does, but appends the documents of the operations that come from the
+     * primary with an auto-generated id that can't have been indexed before to Lucene with a single call and to the translog with a
+     * single write, under a single acquisition of the engine's locks. The other operations are indexed one at a time.
+     */
+    @Override
+    public List<IndexResult> indexBatch(List<Index> operations) throws IOException {
+        final List<IndexResult> results = new ArrayList<>(operations.size());
+        final List<Index> appendOnly = new ArrayList<>(operations.size());
+        for (Index operation : operations) {
+            assert Objects.equals(operation.uid().field(), IdFieldMapper.NAME) : operation.uid().field();
+            if (operation.origin() == Operation.Origin.PRIMARY && operation.isRetry() == false && canOptimizeAddDocument(operation)) {
+                appendOnly.add(operation);
+            } else {
+                results.addAll(appendBatch(appendOnly));
+                appendOnly.clear();
+                results.add(index(operation));
+            }
+        }
+        results.addAll(appendBatch(appendOnly));
+        return results;
+    }
+
+    private List<IndexResult> appendBatch(List<Index> operations) throws IOException {
+        if (operations.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final IndexResult[] results = new IndexResult[operations.size()];
+        final IndexingStrategy plan = IndexingStrategy.optimizedAppendOnly(1L, 0);
+        final List<Releasable> uidLocks = new ArrayList<>(operations.size());
+        try (ReleasableLock releasableLock = readLock.acquire()) {
+            ensureOpen();
+            int reservedDocs = 0;
+            try (Releasable indexThrottle = throttle.acquireThrottle()) {
+                // the operations to append, with their sequence numbers once they are generated
+                final Index[] appended = new Index[operations.size()];
+                final List<ParseContext.Document> docs = new ArrayList<>();
+                for (int i = 0; i < operations.size(); i++) {
+                    final Index index = operations.get(i);
+                    assert assertIncomingSequenceNumber(index.origin(), index.seqNo());
+                    // the uid is only locked if a retry of the operation is in flight, which has to be resolved by index(Index)
+                    final Releasable uidLock = versionMap.tryAcquireLock(index.uid().bytes());
+                    if (uidLock != null) {
+                        uidLocks.add(uidLock);
+                        if (mayHaveBeenIndexedBefore(index) == false) {
+                            appended[i] = index;
+                            docs.addAll(index.docs());
+                        }
+                    }
+                }
+                if (docs.isEmpty() == false && tryAcquireInFlightDocs(operations.get(0), docs.size()) == null) {
+                    reservedDocs = docs.size();
+                    for (int i = 0; i < appended.length; i++) {
+                        final Index index = appended[i];
+                        if (index != null) {
+                            lastWriteNanos = index.startTime();
+                            appended[i] = new Index(index.uid(), index.parsedDoc(), generateSeqNoForOperationOnPrimary(index),
+                                index.primaryTerm(), index.version(), index.versionType(), index.origin(), index.startTime(),
+                                index.getAutoGeneratedIdTimestamp(), index.isRetry(), index.getIfSeqNo(), index.getIfPrimaryTerm());
+                        }
+                    }
+                    appendIntoLucene(appended, docs, plan, results);
+                    appendToTranslog(appended, results);
+                    for (int i = 0; i < appended.length; i++) {
+                        if (appended[i] != null) {
+                            markAsIndexed(appended[i], plan, results[i]);
+                        }
+                    }
+                }
+                // else the batch would exceed the maximum number of documents, index(Index) fails the operations that exceed it
+            } finally {
+                Releasables.close(uidLocks);
+                releaseInFlightDocs(reservedDocs);
+            }
+        } catch (RuntimeException | IOException e) {
+            try {
+                maybeFailEngine("index batch of [" + operations.size() + "] operations", e);
+            } catch (Exception inner) {
+                e.addSuppressed(inner);
+            }
+            throw e;
+        }
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                results[i] = index(operations.get(i));
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private void appendIntoLucene(Index[] appended, List<ParseContext.Document> docs, IndexingStrategy plan, IndexResult[] results)
+        throws IOException {
+        for (Index index : appended) {
+            if (index != null) {
+                index.parsedDoc().updateSeqID(index.seqNo(), index.primaryTerm());
+                index.parsedDoc().version().setLongValue(plan.versionForIndexing);
+                assert assertDocDoesNotExist(index, false);
+            }
+        }
+        try {
+            addDocs(docs, indexWriter);
+        } catch (Exception ex) {
+            if (ex instanceof AlreadyClosedException || indexWriter.getTragicException() != null) {
+                throw ex;
+            }
+            /*
+             * A document failure, which made Lucene drop all the documents of the batch: add the documents of each operation on their
+             * own to fail the operations of the failing documents only.
+             */
+            for (int i = 0; i < appended.length; i++) {
+                if (appended[i] != null) {
+                    results[i] = indexIntoLucene(appended[i], plan);
+                }
+            }
+            return;
+        }
+        for (int i = 0; i < appended.length; i++) {
+            final Index index = appended[i];
+            if (index != null) {
+                results[i] = new IndexResult(plan.versionForIndexing, index.primaryTerm(), index.seqNo(), plan.currentNotFoundOrDeleted);
+            }
+        }
+    }
+
+    private void appendToTranslog(Index[] appended, IndexResult[] results) throws IOException {
+        final List<Translog.Operation> operations = new ArrayList<>(appended.length);
+        for (int i = 0; i < appended.length; i++) {
+            if (appended[i] != null && results[i].getResultType() == Result.Type.SUCCESS) {
+                operations.add(new Translog.Index(appended[i], results[i]));
+            }
+        }
+        final Iterator<Translog.Location> locations = translog.add(operations).iterator();
+        for (int i = 0; i < appended.length; i++) {
+            final Index index = appended[i];
+            if (index == null) {
+                continue;
+            }
+            if (results[i].getResultType() == Result.Type.SUCCESS) {
+                results[i].setTranslogLocation(locations.next());
+            } else {
+                // if we have document failure, record it as a no-op in the translog and Lucene with the generated seq_no
+                final NoOp noOp = new NoOp(results[i].getSeqNo(), index.primaryTerm(), index.origin(),
+                    index.startTime(), results[i].getFailure().toString());
+                results[i].setTranslogLocation(innerNoOp(noOp).getTranslogLocation());
+            }
+        }
+        assert locations.hasNext() == false;
+    }
+
     protected final IndexingStrategy planIndexingAsNonPrimary(Index index) throws IOException {
         assert assertNonPrimaryOrigin(index);
         // needs to maintain the auto_id timestamp in case this replica becomes primary
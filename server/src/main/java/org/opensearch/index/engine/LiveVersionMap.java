@@ -36,7 +36,9 @@ import org.apache.lucene.search.ReferenceManager;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.KeyedLock;
 
@@ -81,6 +83,23 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             this.map = map;
         }
 
+        /**
+         * Returns the bytes used by this map. For a {@link PagedVersionMap} these are the bytes actually held by its pages, otherwise
+         * they are estimated for each entry.
+         */
+        long ramBytesUsed() {
+            return map instanceof PagedVersionMap ? ((PagedVersionMap) map).ramBytesUsed() : ramBytesUsed.get();
+        }
+
+        /**
+         * Releases the pages of a {@link PagedVersionMap}, after which the map behaves as an empty map.
+         */
+        void close() {
+            if (map instanceof PagedVersionMap) {
+                ((PagedVersionMap) map).close();
+            }
+        }
+
         VersionValue get(BytesRef key) {
             return map.get(key);
         }
@@ -118,6 +137,10 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
 
     private static final class Maps {
 
+        // If not null, the current maps are backed by pages of these big arrays instead of being concurrent hash maps
+        @Nullable
+        final BigArrays bigArrays;
+
         // All writes (adds and deletes) go into here:
         final VersionLookup current;
 
@@ -130,15 +153,26 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         final boolean previousMapsNeededSafeAccess;
 
 
-        Maps(VersionLookup current, VersionLookup old, boolean previousMapsNeededSafeAccess) {
+        Maps(BigArrays bigArrays, VersionLookup current, VersionLookup old, boolean previousMapsNeededSafeAccess) {
+            this.bigArrays = bigArrays;
             this.current = current;
             this.old = old;
             this.previousMapsNeededSafeAccess = previousMapsNeededSafeAccess;
         }
 
+        Maps(@Nullable BigArrays bigArrays) {
+            this(bigArrays, newVersionLookup(bigArrays, 0), VersionLookup.EMPTY, false);
+        }
+
         Maps() {
-            this(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency()),
-                VersionLookup.EMPTY, false);
+            this(null);
+        }
+
+        private static VersionLookup newVersionLookup(@Nullable BigArrays bigArrays, int expectedSize) {
+            if (bigArrays == null) {
+                return new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(expectedSize));
+            }
+            return new VersionLookup(new PagedVersionMap(bigArrays, expectedSize));
         }
 
         boolean isSafeAccessMode() {
@@ -156,15 +190,14 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          * Builds a new map for the refresh transition this should be called in beforeRefresh()
          */
         Maps buildTransitionMap() {
-            return new Maps(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(current.size())), current,
-                shouldInheritSafeAccess());
+            return new Maps(bigArrays, newVersionLookup(bigArrays, current.size()), current, shouldInheritSafeAccess());
         }
 
         /**
          * builds a new map that invalidates the old map but maintains the current. This should be called in afterRefresh()
          */
         Maps invalidateOldMap() {
-            return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess);
+            return new Maps(bigArrays, current, VersionLookup.EMPTY, previousMapsNeededSafeAccess);
         }
 
         void put(BytesRef uid, VersionValue version) {
@@ -204,7 +237,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
     // All deletes also go here, and delete "tombstones" are retained after refresh:
     private final Map<BytesRef, DeleteVersionValue> tombstones = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
 
-    private volatile Maps maps = new Maps();
+    private volatile Maps maps;
     // we maintain a second map that only receives the updates that we skip on the actual map (unsafe ops)
     // this map is only maintained if assertions are enabled
     private volatile Maps unsafeKeysMap = new Maps();
@@ -249,6 +282,18 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      */
     private final AtomicLong ramBytesUsedTombstones = new AtomicLong();
 
+    LiveVersionMap() {
+        this(null);
+    }
+
+    /**
+     * Creates a version map whose adds are held in pages of the given big arrays between two refreshes if not null, and in concurrent
+     * hash maps otherwise. Tombstones are always held in a concurrent hash map since they outlive refreshes.
+     */
+    LiveVersionMap(@Nullable BigArrays bigArrays) {
+        this.maps = new Maps(bigArrays);
+    }
+
     @Override
     public void beforeRefresh() throws IOException {
         // Start sending all updates after this point to the new
@@ -270,7 +315,10 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         // reopen, and so any concurrent indexing requests can still sneak in a few additions to that current map that are in fact
         // reflected in the previous reader.   We don't touch tombstones here: they expire on their own index.gc_deletes timeframe:
 
-        maps = maps.invalidateOldMap();
+        final Maps previousMaps = maps;
+        maps = previousMaps.invalidateOldMap();
+        // lookups that still see the previous maps fall back to the reader that was just refreshed
+        previousMaps.old.close();
         assert (unsafeKeysMap = unsafeKeysMap.invalidateOldMap()) != null;
 
     }
@@ -428,7 +476,11 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Called when this index is closed.
      */
     synchronized void clear() {
+        final Maps previousMaps = maps;
+        // the index is closed, there is no need to keep the maps backed by pages
         maps = new Maps();
+        previousMaps.current.close();
+        previousMaps.old.close();
         tombstones.clear();
         // NOTE: we can't zero this here, because a refresh thread could be calling InternalEngine.pruneDeletedTombstones at the same time,
         // and this will lead to an assert trip.  Presumably it's fine if our ramBytesUsedTombstones is non-zero after clear since the
@@ -438,7 +490,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
 
     @Override
     public long ramBytesUsed() {
-        return maps.current.ramBytesUsed.get() + ramBytesUsedTombstones.get();
+        return maps.current.ramBytesUsed() + ramBytesUsedTombstones.get();
     }
 
     /**
@@ -446,7 +498,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * don't clear on refresh.
      */
     long ramBytesUsedForRefresh() {
-        return maps.current.ramBytesUsed.get();
+        return maps.current.ramBytesUsed();
     }
 
     /**
@@ -454,7 +506,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * except does not include tombstones because they don't clear on refresh.
      */
     long getRefreshingBytes() {
-        return maps.old.ramBytesUsed.get();
+        return maps.old.ramBytesUsed();
     }
 
     @Override
@@ -486,6 +538,13 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         return keyedLock.acquire(uid);
     }
 
+    /**
+     * Like {@link #acquireLock(BytesRef)} but returns {@code null} instead of waiting if another thread holds the lock.
+     */
+    Releasable tryAcquireLock(BytesRef uid) {
+        return keyedLock.tryAcquire(uid);
+    }
+
     boolean assertKeyedLockHeldByCurrentThread(BytesRef uid) {
         assert keyedLock.isHeldByCurrentThread(uid) : "Thread [" + Thread.currentThread().getName() +
             "], uid [" + uid.utf8ToString() + "]";
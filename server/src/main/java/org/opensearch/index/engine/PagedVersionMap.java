@@ -0,0 +1,263 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import com.carrotsearch.hppc.BitMixer;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BytesRefHash;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.index.translog.Translog;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A concurrent map of _id bytes to {@link IndexVersionValue}s that keeps its keys and values in pages of {@link BigArrays}
+ * rather than in a {@link java.util.concurrent.ConcurrentHashMap}. A map that holds millions of uids between two refreshes is a
+ * handful of large arrays whose pages are recycled once the map is {@link #close() closed}, instead of millions of small
+ * objects that have to be promoted and collected by the garbage collector.
+ * <p>
+ * The map is split into segments guarded by their own lock, each made of a {@link BytesRefHash} that maps the uid to a dense id
+ * and of a {@link LongArray} that holds the fields of the version value at that id. Version values are materialized on read.
+ * Entries are removed by clearing their value, the uid itself is only released when the map is closed. Reads and removals
+ * on a closed map behave as if the map was empty, and writes are ignored.
+ */
+final class PagedVersionMap extends AbstractMap<BytesRef, VersionValue> implements Accountable, Releasable {
+
+    private static final int SEGMENT_BITS = 4;
+    private static final int SEGMENTS = 1 << SEGMENT_BITS;
+
+    // the fields of a value, stored at id * FIELDS in the values of a segment
+    private static final int VERSION = 0;
+    private static final int SEQ_NO = 1;
+    private static final int TERM = 2;
+    private static final int GENERATION = 3;
+    private static final int TRANSLOG_LOCATION = 4;
+    private static final int SIZE = 5;
+    private static final int FIELDS = 6;
+
+    // the values of the size field of an entry that was removed, or that has no translog location, out of the range of int sizes
+    private static final long REMOVED = Long.MIN_VALUE;
+    private static final long NO_LOCATION = Long.MIN_VALUE + 1;
+
+    private final BigArrays bigArrays;
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final AtomicLong ramBytesUsed = new AtomicLong();
+
+    PagedVersionMap(BigArrays bigArrays, int expectedSize) {
+        this.bigArrays = bigArrays;
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(expectedSize / SEGMENTS);
+        }
+    }
+
+    private Segment segment(int hash) {
+        return segments[BitMixer.mix32(hash) >>> (Integer.SIZE - SEGMENT_BITS)];
+    }
+
+    @Override
+    public VersionValue get(Object key) {
+        if (key instanceof BytesRef == false) {
+            return null;
+        }
+        final BytesRef uid = (BytesRef) key;
+        return segment(uid.hashCode()).get(uid);
+    }
+
+    @Override
+    public VersionValue put(BytesRef uid, VersionValue value) {
+        assert value instanceof IndexVersionValue : "only index operations are tracked by the paged map but got " + value;
+        return segment(uid.hashCode()).put(uid, value);
+    }
+
+    @Override
+    public VersionValue remove(Object key) {
+        if (key instanceof BytesRef == false) {
+            return null;
+        }
+        final BytesRef uid = (BytesRef) key;
+        return segment(uid.hashCode()).remove(uid);
+    }
+
+    @Override
+    public int size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return Math.toIntExact(size);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Segment segment : segments) {
+            if (segment.size > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a point in time copy of the entries of this map.
+     */
+    @Override
+    public Set<Entry<BytesRef, VersionValue>> entrySet() {
+        final Map<BytesRef, VersionValue> copy = new HashMap<>();
+        for (Segment segment : segments) {
+            segment.copyTo(copy);
+        }
+        return copy.entrySet();
+    }
+
+    /**
+     * Returns the bytes held by the arrays backing this map.
+     */
+    @Override
+    public long ramBytesUsed() {
+        return ramBytesUsed.get();
+    }
+
+    @Override
+    public void close() {
+        for (Segment segment : segments) {
+            segment.close();
+        }
+    }
+
+    private final class Segment {
+        private final long initialCapacity;
+        private final BytesRef spare = new BytesRef();
+        // lazily allocated on the first write, so that maps that don't see any operation between two refreshes are free
+        private BytesRefHash uids;
+        private LongArray values;
+        private long ramBytesUsed;
+        private boolean closed;
+        // the number of live entries, read without the lock
+        private volatile long size;
+
+        Segment(long initialCapacity) {
+            this.initialCapacity = Math.max(1, initialCapacity);
+        }
+
+        synchronized VersionValue get(BytesRef uid) {
+            if (uids == null) {
+                return null;
+            }
+            final long id = uids.find(uid);
+            return id < 0 ? null : read(id);
+        }
+
+        synchronized VersionValue put(BytesRef uid, VersionValue value) {
+            if (closed) {
+                return null;
+            }
+            if (uids == null) {
+                uids = new BytesRefHash(initialCapacity, bigArrays);
+                values = bigArrays.newLongArray(initialCapacity * FIELDS, false);
+            }
+            // look the uid up before adding it, as adding grows a full hash even if the uid is already there
+            long id = uids.find(uid);
+            final VersionValue previous;
+            if (id >= 0) {
+                previous = read(id);
+            } else {
+                id = uids.add(uid);
+                values = bigArrays.grow(values, (id + 1) * FIELDS);
+                previous = null;
+            }
+            final long offset = id * FIELDS;
+            values.set(offset + VERSION, value.version);
+            values.set(offset + SEQ_NO, value.seqNo);
+            values.set(offset + TERM, value.term);
+            final Translog.Location location = value.getLocation();
+            if (location == null) {
+                values.set(offset + SIZE, NO_LOCATION);
+            } else {
+                values.set(offset + GENERATION, location.generation);
+                values.set(offset + TRANSLOG_LOCATION, location.translogLocation);
+                values.set(offset + SIZE, location.size);
+            }
+            if (previous == null) {
+                size++;
+            }
+            updateRamBytesUsed();
+            return previous;
+        }
+
+        synchronized VersionValue remove(BytesRef uid) {
+            if (uids == null) {
+                return null;
+            }
+            final long id = uids.find(uid);
+            if (id < 0) {
+                return null;
+            }
+            final VersionValue previous = read(id);
+            if (previous != null) {
+                values.set(id * FIELDS + SIZE, REMOVED);
+                size--;
+            }
+            return previous;
+        }
+
+        private VersionValue read(long id) {
+            final long offset = id * FIELDS;
+            final long locationSize = values.get(offset + SIZE);
+            if (locationSize == REMOVED) {
+                return null;
+            }
+            final Translog.Location location = locationSize == NO_LOCATION ? null
+                : new Translog.Location(values.get(offset + GENERATION), values.get(offset + TRANSLOG_LOCATION), (int) locationSize);
+            return new IndexVersionValue(location, values.get(offset + VERSION), values.get(offset + SEQ_NO), values.get(offset + TERM));
+        }
+
+        private void updateRamBytesUsed() {
+            final long newRamBytesUsed = uids.ramBytesUsed() + values.ramBytesUsed();
+            if (newRamBytesUsed != ramBytesUsed) {
+                PagedVersionMap.this.ramBytesUsed.addAndGet(newRamBytesUsed - ramBytesUsed);
+                ramBytesUsed = newRamBytesUsed;
+            }
+        }
+
+        synchronized void copyTo(Map<BytesRef, VersionValue> copy) {
+            if (uids == null) {
+                return;
+            }
+            for (long id = 0; id < uids.size(); id++) {
+                final VersionValue value = read(id);
+                if (value != null) {
+                    copy.put(BytesRef.deepCopyOf(uids.get(id, spare)), value);
+                }
+            }
+        }
+
+        synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            size = 0;
+            if (uids != null) {
+                Releasables.close(uids, values);
+                uids = null;
+                values = null;
+                PagedVersionMap.this.ramBytesUsed.addAndGet(-ramBytesUsed);
+                ramBytesUsed = 0;
+            }
+        }
+    }
+}
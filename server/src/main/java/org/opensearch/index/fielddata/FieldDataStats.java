@@ -32,12 +32,14 @@
 
 package org.opensearch.index.fielddata;
 
+import org.opensearch.Version;
 import org.opensearch.common.FieldMemoryStats;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 
@@ -50,9 +52,21 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
     private static final String MEMORY_SIZE = "memory_size";
     private static final String MEMORY_SIZE_IN_BYTES = "memory_size_in_bytes";
     private static final String EVICTIONS = "evictions";
+    private static final String HIT_COUNT = "hit_count";
+    private static final String MISS_COUNT = "miss_count";
     private static final String FIELDS = "fields";
+    private static final String GLOBAL_ORDINALS = "global_ordinals";
+    private static final String BUILD_COUNT = "build_count";
+    private static final String REUSED_COUNT = "reused_count";
+    private static final String BUILD_TIME = "build_time";
+    private static final String BUILD_TIME_IN_MILLIS = "build_time_in_millis";
     private long memorySize;
     private long evictions;
+    private long hitCount;
+    private long missCount;
+    private long globalOrdinalsBuildCount;
+    private long globalOrdinalsReusedCount;
+    private long globalOrdinalsBuildTimeInMillis;
     @Nullable
     private FieldMemoryStats fields;
 
@@ -63,18 +77,36 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
     public FieldDataStats(StreamInput in) throws IOException {
         memorySize = in.readVLong();
         evictions = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            hitCount = in.readVLong();
+            missCount = in.readVLong();
+            globalOrdinalsBuildCount = in.readVLong();
+            globalOrdinalsReusedCount = in.readVLong();
+            globalOrdinalsBuildTimeInMillis = in.readVLong();
+        }
         fields = in.readOptionalWriteable(FieldMemoryStats::new);
     }
 
-    public FieldDataStats(long memorySize, long evictions, @Nullable FieldMemoryStats fields) {
+    public FieldDataStats(long memorySize, long evictions, long hitCount, long missCount, long globalOrdinalsBuildCount,
+                          long globalOrdinalsReusedCount, long globalOrdinalsBuildTimeInMillis, @Nullable FieldMemoryStats fields) {
         this.memorySize = memorySize;
         this.evictions = evictions;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.globalOrdinalsBuildCount = globalOrdinalsBuildCount;
+        this.globalOrdinalsReusedCount = globalOrdinalsReusedCount;
+        this.globalOrdinalsBuildTimeInMillis = globalOrdinalsBuildTimeInMillis;
         this.fields = fields;
     }
 
     public void add(FieldDataStats stats) {
         this.memorySize += stats.memorySize;
         this.evictions += stats.evictions;
+        this.hitCount += stats.hitCount;
+        this.missCount += stats.missCount;
+        this.globalOrdinalsBuildCount += stats.globalOrdinalsBuildCount;
+        this.globalOrdinalsReusedCount += stats.globalOrdinalsReusedCount;
+        this.globalOrdinalsBuildTimeInMillis += stats.globalOrdinalsBuildTimeInMillis;
         if (stats.fields != null) {
             if (fields == null) {
                 fields = stats.fields.copy();
@@ -96,6 +128,43 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
         return this.evictions;
     }
 
+    public long getHitCount() {
+        return this.hitCount;
+    }
+
+    public long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * The number of times global ordinals were built.
+     */
+    public long getGlobalOrdinalsBuildCount() {
+        return this.globalOrdinalsBuildCount;
+    }
+
+    /**
+     * The number of global ordinals builds that reused the ordinal map of the previous reader.
+     */
+    public long getGlobalOrdinalsReusedCount() {
+        return this.globalOrdinalsReusedCount;
+    }
+
+    /**
+     * The ratio of global ordinals builds that reused the ordinal map of the previous reader, or 0 if none were built.
+     */
+    public double getGlobalOrdinalsReuseRatio() {
+        return globalOrdinalsBuildCount == 0 ? 0 : (double) globalOrdinalsReusedCount / globalOrdinalsBuildCount;
+    }
+
+    public long getGlobalOrdinalsBuildTimeInMillis() {
+        return this.globalOrdinalsBuildTimeInMillis;
+    }
+
+    public TimeValue getGlobalOrdinalsBuildTime() {
+        return new TimeValue(globalOrdinalsBuildTimeInMillis);
+    }
+
     @Nullable
     public FieldMemoryStats getFields() {
         return fields;
@@ -105,6 +174,13 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
     public void writeTo(StreamOutput out) throws IOException {
         out.writeVLong(memorySize);
         out.writeVLong(evictions);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeVLong(hitCount);
+            out.writeVLong(missCount);
+            out.writeVLong(globalOrdinalsBuildCount);
+            out.writeVLong(globalOrdinalsReusedCount);
+            out.writeVLong(globalOrdinalsBuildTimeInMillis);
+        }
         out.writeOptionalWriteable(fields);
     }
 
@@ -113,6 +189,13 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
         builder.startObject(FIELDDATA);
         builder.humanReadableField(MEMORY_SIZE_IN_BYTES, MEMORY_SIZE, getMemorySize());
         builder.field(EVICTIONS, getEvictions());
+        builder.field(HIT_COUNT, getHitCount());
+        builder.field(MISS_COUNT, getMissCount());
+        builder.startObject(GLOBAL_ORDINALS);
+        builder.field(BUILD_COUNT, getGlobalOrdinalsBuildCount());
+        builder.field(REUSED_COUNT, getGlobalOrdinalsReusedCount());
+        builder.humanReadableField(BUILD_TIME_IN_MILLIS, BUILD_TIME, getGlobalOrdinalsBuildTime());
+        builder.endObject();
         if (fields != null) {
             fields.toXContent(builder, FIELDS, MEMORY_SIZE_IN_BYTES, MEMORY_SIZE);
         }
@@ -127,11 +210,17 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
         FieldDataStats that = (FieldDataStats) o;
         return memorySize == that.memorySize &&
             evictions == that.evictions &&
+            hitCount == that.hitCount &&
+            missCount == that.missCount &&
+            globalOrdinalsBuildCount == that.globalOrdinalsBuildCount &&
+            globalOrdinalsReusedCount == that.globalOrdinalsReusedCount &&
+            globalOrdinalsBuildTimeInMillis == that.globalOrdinalsBuildTimeInMillis &&
             Objects.equals(fields, that.fields);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(memorySize, evictions, fields);
+        return Objects.hash(memorySize, evictions, hitCount, missCount, globalOrdinalsBuildCount, globalOrdinalsReusedCount,
+            globalOrdinalsBuildTimeInMillis, fields);
     }
 }
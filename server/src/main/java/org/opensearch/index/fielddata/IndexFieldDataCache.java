@@ -68,6 +68,22 @@ public interface IndexFieldDataCache {
          * Called after the fielddata is unloaded
          */
         default void onRemoval(ShardId shardId, String fieldName, boolean wasEvicted, long sizeInBytes){}
+
+        /**
+         * Called when the fielddata was found in the cache
+         */
+        default void onHit(ShardId shardId, String fieldName) {}
+
+        /**
+         * Called when the fielddata was not found in the cache, before it is loaded
+         */
+        default void onMiss(ShardId shardId, String fieldName) {}
+
+        /**
+         * Called after global ordinals were built, either by merging the terms of all segments or by reusing the ordinal map
+         * of previously built global ordinals
+         */
+        default void onGlobalOrdinalsBuilt(ShardId shardId, String fieldName, long buildTimeInNanos, boolean ordinalMapReused) {}
     }
 
     class None implements IndexFieldDataCache {
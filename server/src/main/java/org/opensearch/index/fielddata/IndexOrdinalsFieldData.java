@@ -35,6 +35,8 @@ package org.opensearch.index.fielddata;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.OrdinalMap;
+import org.opensearch.common.Nullable;
+import org.opensearch.index.fielddata.ordinals.GlobalOrdinalsBuilder;
 
 
 /**
@@ -55,6 +57,15 @@ public interface IndexOrdinalsFieldData extends IndexFieldData.Global<LeafOrdina
     @Override
     IndexOrdinalsFieldData loadGlobalDirect(DirectoryReader indexReader) throws Exception;
 
+    /**
+     * Load a global view of the ordinals for the given {@link IndexReader}, reusing the ordinal map of
+     * previously built global ordinals if they were built on the same segments.
+     */
+    default IndexOrdinalsFieldData loadGlobalDirect(DirectoryReader indexReader,
+                                                    @Nullable GlobalOrdinalsBuilder.ReusableOrdinalMap previous) throws Exception {
+        return loadGlobalDirect(indexReader);
+    }
+
     /**
      * Returns the underlying {@link OrdinalMap} for this fielddata
      * or null if global ordinals are not needed (constant value or single segment).
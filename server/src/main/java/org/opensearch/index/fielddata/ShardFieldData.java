@@ -43,11 +43,17 @@ import org.opensearch.index.shard.ShardId;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 public class ShardFieldData implements IndexFieldDataCache.Listener {
 
     private final CounterMetric evictionsMetric = new CounterMetric();
     private final CounterMetric totalMetric = new CounterMetric();
+    private final CounterMetric hitsMetric = new CounterMetric();
+    private final CounterMetric missesMetric = new CounterMetric();
+    private final CounterMetric globalOrdinalsBuildMetric = new CounterMetric();
+    private final CounterMetric globalOrdinalsReusedMetric = new CounterMetric();
+    private final CounterMetric globalOrdinalsBuildTimeMetric = new CounterMetric();
     private final ConcurrentMap<String, CounterMetric> perFieldTotals = ConcurrentCollections.newConcurrentMap();
 
     public FieldDataStats stats(String... fields) {
@@ -60,8 +66,10 @@ public class ShardFieldData implements IndexFieldDataCache.Listener {
                 }
             }
         }
-        return new FieldDataStats(totalMetric.count(), evictionsMetric.count(), fieldTotals == null ? null :
-            new FieldMemoryStats(fieldTotals));
+        return new FieldDataStats(totalMetric.count(), evictionsMetric.count(), hitsMetric.count(), missesMetric.count(),
+            globalOrdinalsBuildMetric.count(), globalOrdinalsReusedMetric.count(),
+            TimeUnit.NANOSECONDS.toMillis(globalOrdinalsBuildTimeMetric.count()),
+            fieldTotals == null ? null : new FieldMemoryStats(fieldTotals));
     }
 
     @Override
@@ -80,6 +88,25 @@ public class ShardFieldData implements IndexFieldDataCache.Listener {
         }
     }
 
+    @Override
+    public void onHit(ShardId shardId, String fieldName) {
+        hitsMetric.inc();
+    }
+
+    @Override
+    public void onMiss(ShardId shardId, String fieldName) {
+        missesMetric.inc();
+    }
+
+    @Override
+    public void onGlobalOrdinalsBuilt(ShardId shardId, String fieldName, long buildTimeInNanos, boolean ordinalMapReused) {
+        globalOrdinalsBuildMetric.inc();
+        globalOrdinalsBuildTimeMetric.inc(buildTimeInNanos);
+        if (ordinalMapReused) {
+            globalOrdinalsReusedMetric.inc();
+        }
+    }
+
     @Override
     public void onRemoval(ShardId shardId, String fieldName, boolean wasEvicted, long sizeInBytes) {
         if (wasEvicted) {
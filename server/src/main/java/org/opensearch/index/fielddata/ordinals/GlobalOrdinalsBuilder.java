@@ -35,10 +35,12 @@ package org.opensearch.index.fielddata.ordinals;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.OrdinalMap;
 import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.packed.PackedInts;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.fielddata.IndexOrdinalsFieldData;
@@ -48,6 +50,7 @@ import org.opensearch.index.fielddata.plain.AbstractLeafOrdinalsFieldData;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.concurrent.TimeUnit;
@@ -65,29 +68,57 @@ public enum GlobalOrdinalsBuilder {
     public static IndexOrdinalsFieldData build(final IndexReader indexReader, IndexOrdinalsFieldData indexFieldData,
             CircuitBreakerService breakerService, Logger logger,
             Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction) throws IOException {
+        return build(indexReader, indexFieldData, null, breakerService, logger, scriptFunction);
+    }
+
+    /**
+     * Build global ordinals for the provided {@link IndexReader}, reusing the ordinal map of the global ordinals that were
+     * previously built for the same field if the reader still has the same segments. This is typically the case after a
+     * refresh that only deleted documents or updated doc values.
+     */
+    public static IndexOrdinalsFieldData build(final IndexReader indexReader, IndexOrdinalsFieldData indexFieldData,
+            @Nullable ReusableOrdinalMap previous, CircuitBreakerService breakerService, Logger logger,
+            Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction) throws IOException {
         assert indexReader.leaves().size() > 1;
         long startTimeNS = System.nanoTime();
 
         final LeafOrdinalsFieldData[] atomicFD = new LeafOrdinalsFieldData[indexReader.leaves().size()];
         final SortedSetDocValues[] subs = new SortedSetDocValues[indexReader.leaves().size()];
+        IndexReader.CacheKey[] segmentKeys = new IndexReader.CacheKey[indexReader.leaves().size()];
+        final long[] segmentValueCounts = new long[indexReader.leaves().size()];
         for (int i = 0; i < indexReader.leaves().size(); ++i) {
-            atomicFD[i] = indexFieldData.load(indexReader.leaves().get(i));
+            final LeafReaderContext context = indexReader.leaves().get(i);
+            atomicFD[i] = indexFieldData.load(context);
             subs[i] = atomicFD[i].getOrdinalsValues();
+            segmentValueCounts[i] = subs[i].getValueCount();
+            final IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+            if (cacheHelper == null) {
+                segmentKeys = null;
+            } else if (segmentKeys != null) {
+                segmentKeys[i] = cacheHelper.getKey();
+            }
         }
-        final OrdinalMap ordinalMap = OrdinalMap.build(null, subs, PackedInts.DEFAULT);
+        final boolean reused = previous != null && previous.matches(segmentKeys, segmentValueCounts);
+        final OrdinalMap ordinalMap = reused ? previous.ordinalMap : OrdinalMap.build(null, subs, PackedInts.DEFAULT);
+        // a reused ordinal map is accounted for by each cached global ordinals that references it, the same way as a
+        // rebuilt one would be, so that releasing the global ordinals of the previous reader keeps the breaker consistent
         final long memorySizeInBytes = ordinalMap.ramBytesUsed();
         breakerService.getBreaker(CircuitBreaker.FIELDDATA).addWithoutBreaking(memorySizeInBytes);
 
+        final long buildTimeInNanos = System.nanoTime() - startTimeNS;
         if (logger.isDebugEnabled()) {
             logger.debug(
-                    "global-ordinals [{}][{}] took [{}]",
+                    "global-ordinals [{}][{}] took [{}], reused ordinal map [{}]",
                     indexFieldData.getFieldName(),
                     ordinalMap.getValueCount(),
-                    new TimeValue(System.nanoTime() - startTimeNS, TimeUnit.NANOSECONDS)
+                    new TimeValue(buildTimeInNanos, TimeUnit.NANOSECONDS),
+                    reused
             );
         }
+        final ReusableOrdinalMap reusableOrdinalMap = segmentKeys == null
+            ? null : new ReusableOrdinalMap(segmentKeys, segmentValueCounts, ordinalMap);
         return new GlobalOrdinalsIndexFieldData(indexFieldData.getFieldName(), indexFieldData.getValuesSourceType(),
-                atomicFD, ordinalMap, memorySizeInBytes, scriptFunction
+                atomicFD, ordinalMap, memorySizeInBytes, scriptFunction, reusableOrdinalMap, buildTimeInNanos, reused
         );
     }
 
@@ -121,8 +152,55 @@ public enum GlobalOrdinalsBuilder {
         }
         final OrdinalMap ordinalMap = OrdinalMap.build(null, subs, PackedInts.DEFAULT);
         return new GlobalOrdinalsIndexFieldData(indexFieldData.getFieldName(), indexFieldData.getValuesSourceType(),
-                atomicFD, ordinalMap, 0, AbstractLeafOrdinalsFieldData.DEFAULT_SCRIPT_FUNCTION
+                atomicFD, ordinalMap, 0, AbstractLeafOrdinalsFieldData.DEFAULT_SCRIPT_FUNCTION, null, 0, false
         );
     }
 
+    /**
+     * The {@link OrdinalMap} of global ordinals together with the segments it was built on. The segments are identified
+     * by their core cache keys so that holding on to this object doesn't prevent the segments from being released.
+     */
+    public static final class ReusableOrdinalMap {
+        private final IndexReader.CacheKey[] segmentKeys;
+        private final long[] segmentValueCounts;
+        private final OrdinalMap ordinalMap;
+
+        ReusableOrdinalMap(IndexReader.CacheKey[] segmentKeys, long[] segmentValueCounts, OrdinalMap ordinalMap) {
+            this.segmentKeys = segmentKeys;
+            this.segmentValueCounts = segmentValueCounts;
+            this.ordinalMap = ordinalMap;
+        }
+
+        /**
+         * Whether the ordinal map was built on the segment with the given core cache key.
+         */
+        public boolean containsSegment(IndexReader.CacheKey segmentKey) {
+            for (IndexReader.CacheKey key : segmentKeys) {
+                if (key == segmentKey) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Register the given listener to be notified when any of the segments of the ordinal map are closed.
+         */
+        public void addClosedListener(IndexReader indexReader, IndexReader.ClosedListener listener) {
+            for (LeafReaderContext context : indexReader.leaves()) {
+                final IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+                if (cacheHelper != null && containsSegment(cacheHelper.getKey())) {
+                    cacheHelper.addClosedListener(listener);
+                }
+            }
+        }
+
+        private boolean matches(@Nullable IndexReader.CacheKey[] segmentKeys, long[] segmentValueCounts) {
+            // segment ordinals are mapped by the position of the segment in the reader, so the segments must be in the same order
+            return segmentKeys != null
+                && Arrays.equals(this.segmentKeys, segmentKeys)
+                && Arrays.equals(this.segmentValueCounts, segmentValueCounts);
+        }
+    }
+
 }
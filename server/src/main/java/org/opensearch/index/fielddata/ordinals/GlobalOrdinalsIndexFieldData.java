@@ -75,25 +75,59 @@ public final class GlobalOrdinalsIndexFieldData implements IndexOrdinalsFieldDat
     private final OrdinalMap ordinalMap;
     private final LeafOrdinalsFieldData[] segmentAfd;
     private final Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction;
+    @Nullable
+    private final GlobalOrdinalsBuilder.ReusableOrdinalMap reusableOrdinalMap;
+    private final long buildTimeInNanos;
+    private final boolean ordinalMapReused;
 
     protected GlobalOrdinalsIndexFieldData(String fieldName,
                                            ValuesSourceType valuesSourceType,
                                            LeafOrdinalsFieldData[] segmentAfd,
                                            OrdinalMap ordinalMap,
                                            long memorySizeInBytes,
-                                           Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction) {
+                                           Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction,
+                                           @Nullable GlobalOrdinalsBuilder.ReusableOrdinalMap reusableOrdinalMap,
+                                           long buildTimeInNanos,
+                                           boolean ordinalMapReused) {
         this.fieldName = fieldName;
         this.valuesSourceType = valuesSourceType;
         this.memorySizeInBytes = memorySizeInBytes;
         this.ordinalMap = ordinalMap;
         this.segmentAfd = segmentAfd;
         this.scriptFunction = scriptFunction;
+        this.reusableOrdinalMap = reusableOrdinalMap;
+        this.buildTimeInNanos = buildTimeInNanos;
+        this.ordinalMapReused = ordinalMapReused;
     }
 
     public IndexOrdinalsFieldData newConsumer(DirectoryReader source) {
         return new Consumer(source);
     }
 
+    /**
+     * The ordinal map of these global ordinals in a form that can be reused by the global ordinals of a later reader,
+     * or null if the segments of the reader can't be identified.
+     */
+    @Nullable
+    public GlobalOrdinalsBuilder.ReusableOrdinalMap getReusableOrdinalMap() {
+        return reusableOrdinalMap;
+    }
+
+    /**
+     * The time it took to build these global ordinals.
+     */
+    public long getBuildTimeInNanos() {
+        return buildTimeInNanos;
+    }
+
+    /**
+     * Whether these global ordinals reused the ordinal map of previously built global ordinals instead of merging the terms
+     * of all segments again.
+     */
+    public boolean isOrdinalMapReused() {
+        return ordinalMapReused;
+    }
+
     @Override
     public LeafOrdinalsFieldData loadDirect(LeafReaderContext context) throws Exception {
         throw new IllegalStateException("loadDirect(LeafReaderContext) should not be called in this context");
@@ -41,6 +41,7 @@ import org.apache.lucene.index.Terms;
 import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.OpenSearchException;
+import org.opensearch.common.Nullable;
 import org.opensearch.index.fielddata.IndexFieldDataCache;
 import org.opensearch.index.fielddata.IndexOrdinalsFieldData;
 import org.opensearch.index.fielddata.LeafOrdinalsFieldData;
@@ -161,9 +162,16 @@ public abstract class AbstractIndexOrdinalsFieldData implements IndexOrdinalsFie
 
     @Override
     public IndexOrdinalsFieldData loadGlobalDirect(DirectoryReader indexReader) throws Exception {
+        return loadGlobalDirect(indexReader, null);
+    }
+
+    @Override
+    public IndexOrdinalsFieldData loadGlobalDirect(DirectoryReader indexReader,
+                                                   @Nullable GlobalOrdinalsBuilder.ReusableOrdinalMap previous) throws Exception {
         return GlobalOrdinalsBuilder.build(
             indexReader,
             this,
+            previous,
             breakerService,
             logger,
             scriptFunction
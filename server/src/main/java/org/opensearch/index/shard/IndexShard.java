@@ -148,6 +148,7 @@ import org.opensearch.index.store.StoreStats;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.TranslogConfig;
 import org.opensearch.index.translog.TranslogStats;
+import org.opensearch.index.translog.TranslogSyncScheduler;
 import org.opensearch.index.warmer.ShardIndexWarmerService;
 import org.opensearch.index.warmer.WarmerStats;
 import org.opensearch.indices.IndexingMemoryController;
@@ -170,6 +171,7 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -309,7 +311,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             final List<IndexingOperationListener> listeners,
             final Runnable globalCheckpointSyncer,
             final RetentionLeaseSyncer retentionLeaseSyncer,
-            final CircuitBreakerService circuitBreakerService) throws IOException {
+            final CircuitBreakerService circuitBreakerService,
+            final TranslogSyncScheduler translogSyncScheduler) throws IOException {
         super(shardRouting.shardId(), indexSettings);
         assert shardRouting.initializing();
         this.shardRouting = shardRouting;
@@ -323,7 +326,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         this.indexSortSupplier = indexSortSupplier;
         this.indexEventListener = indexEventListener;
         this.threadPool = threadPool;
-        this.translogSyncProcessor = createTranslogSyncProcessor(logger, threadPool.getThreadContext(), this::getEngine);
+        this.translogSyncProcessor = createTranslogSyncProcessor(logger, threadPool.getThreadContext(), this::getEngine,
+            Objects.requireNonNull(translogSyncScheduler), path.getRootDataPath(), translogSyncTracker);
         this.mapperService = mapperService;
         this.indexCache = indexCache;
         this.internalIndexingStats = new InternalIndexingStats();
@@ -782,16 +786,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         ensureWriteAllowed(origin);
         Engine.Index operation;
         try {
-            final String resolvedType = mapperService.resolveDocumentType(sourceToParse.type());
-            final SourceToParse sourceWithResolvedType;
-            if (resolvedType.equals(sourceToParse.type())) {
-                sourceWithResolvedType = sourceToParse;
-            } else {
-                sourceWithResolvedType = new SourceToParse(sourceToParse.index(), resolvedType, sourceToParse.id(),
-                    sourceToParse.source(), sourceToParse.getXContentType(), sourceToParse.routing());
-            }
-            operation = prepareIndex(docMapper(resolvedType), sourceWithResolvedType,
-                seqNo, opPrimaryTerm, version, versionType, origin, autoGeneratedTimeStamp, isRetry, ifSeqNo, ifPrimaryTerm);
+            operation = prepareIndex(seqNo, opPrimaryTerm, version, versionType, ifSeqNo, ifPrimaryTerm, autoGeneratedTimeStamp,
+                isRetry, origin, sourceToParse);
             Mapping update = operation.parsedDoc().dynamicMappingsUpdate();
             if (update != null) {
                 return new Engine.IndexResult(update);
@@ -808,6 +804,41 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return index(engine, operation);
     }
 
+    /**
+     * Parses the given source into an index operation on the primary, to be performed with {@link #applyIndexOperationsOnPrimary}.
+     * Throws if the source can't be parsed, the caller has to check whether the parsed document requires a mapping update.
+     */
+    public Engine.Index prepareIndexOperationOnPrimary(long version, VersionType versionType, SourceToParse sourceToParse,
+                                                       long ifSeqNo, long ifPrimaryTerm, long autoGeneratedTimestamp, boolean isRetry) {
+        assert versionType.validateVersionForWrites(version);
+        return prepareIndex(UNASSIGNED_SEQ_NO, getOperationPrimaryTerm(), version, versionType, ifSeqNo, ifPrimaryTerm,
+            autoGeneratedTimestamp, isRetry, Engine.Operation.Origin.PRIMARY, sourceToParse);
+    }
+
+    /**
+     * Performs the given index operations on the primary in order, writing them to the engine as a batch, see
+     * {@link Engine#indexBatch(List)}. The documents of the operations must not require mapping updates.
+     */
+    public List<Engine.IndexResult> applyIndexOperationsOnPrimary(List<Engine.Index> operations) throws IOException {
+        ensureWriteAllowed(Engine.Operation.Origin.PRIMARY);
+        return index(getEngine(), operations);
+    }
+
+    private Engine.Index prepareIndex(long seqNo, long opPrimaryTerm, long version, @Nullable VersionType versionType, long ifSeqNo,
+                                      long ifPrimaryTerm, long autoGeneratedTimeStamp, boolean isRetry, Engine.Operation.Origin origin,
+                                      SourceToParse sourceToParse) {
+        final String resolvedType = mapperService.resolveDocumentType(sourceToParse.type());
+        final SourceToParse sourceWithResolvedType;
+        if (resolvedType.equals(sourceToParse.type())) {
+            sourceWithResolvedType = sourceToParse;
+        } else {
+            sourceWithResolvedType = new SourceToParse(sourceToParse.index(), resolvedType, sourceToParse.id(),
+                sourceToParse.source(), sourceToParse.getXContentType(), sourceToParse.routing());
+        }
+        return prepareIndex(docMapper(resolvedType), sourceWithResolvedType,
+            seqNo, opPrimaryTerm, version, versionType, origin, autoGeneratedTimeStamp, isRetry, ifSeqNo, ifPrimaryTerm);
+    }
+
     public static Engine.Index prepareIndex(DocumentMapperForType docMapper, SourceToParse source, long seqNo,
                                             long primaryTerm, long version, VersionType versionType, Engine.Operation.Origin origin,
                                             long autoGeneratedIdTimestamp, boolean isRetry,
@@ -855,6 +886,37 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return result;
     }
 
+    private List<Engine.IndexResult> index(Engine engine, List<Engine.Index> operations) throws IOException {
+        active.set(true);
+        final List<Engine.Index> preIndexed = new ArrayList<>(operations.size());
+        for (Engine.Index index : operations) {
+            assert index.parsedDoc().dynamicMappingsUpdate() == null : "index operation requires a mapping update " + index.id();
+            preIndexed.add(indexingOperationListeners.preIndex(shardId, index));
+        }
+        final List<Engine.IndexResult> results;
+        try {
+            if (logger.isTraceEnabled()) {
+                logger.trace("index-batch [{}] operations allocation-id [{}] operationPrimaryTerm [{}]",
+                    preIndexed.size(), routingEntry().allocationId(), getOperationPrimaryTerm());
+            }
+            results = engine.indexBatch(preIndexed);
+        } catch (Exception e) {
+            if (logger.isTraceEnabled()) {
+                logger.trace(new ParameterizedMessage("index-batch-fail [{}] operations allocation-id [{}] operationPrimaryTerm [{}]",
+                    preIndexed.size(), routingEntry().allocationId(), getOperationPrimaryTerm()), e);
+            }
+            for (Engine.Index index : preIndexed) {
+                indexingOperationListeners.postIndex(shardId, index, e);
+            }
+            throw e;
+        }
+        assert results.size() == preIndexed.size();
+        for (int i = 0; i < preIndexed.size(); i++) {
+            indexingOperationListeners.postIndex(shardId, preIndexed.get(i), results.get(i));
+        }
+        return results;
+    }
+
     public Engine.NoOpResult markSeqNoAsNoop(long seqNo, long opPrimaryTerm, String reason) throws IOException {
         return markSeqNoAsNoop(getEngine(), seqNo, opPrimaryTerm, reason, Engine.Operation.Origin.REPLICA);
     }
@@ -1082,7 +1144,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     }
 
     public TranslogStats translogStats() {
-        return getEngine().getTranslogStats();
+        final TranslogStats translogStats = getEngine().getTranslogStats();
+        translogSyncTracker.addTo(translogStats);
+        return translogStats;
     }
 
     public CompletionStats completionStats(String... fields) {
@@ -3110,14 +3174,19 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     }
 
     private final AsyncIOProcessor<Translog.Location> translogSyncProcessor;
+    private final TranslogSyncScheduler.Tracker translogSyncTracker = new TranslogSyncScheduler.Tracker();
 
     private static AsyncIOProcessor<Translog.Location> createTranslogSyncProcessor(Logger logger, ThreadContext threadContext,
-                                                                                   Supplier<Engine> engineSupplier) {
+                                                                                   Supplier<Engine> engineSupplier,
+                                                                                   TranslogSyncScheduler translogSyncScheduler,
+                                                                                   Path dataPath,
+                                                                                   TranslogSyncScheduler.Tracker translogSyncTracker) {
         return new AsyncIOProcessor<Translog.Location>(logger, 1024, threadContext) {
             @Override
             protected void write(List<Tuple<Translog.Location, Consumer<Exception>>> candidates) throws IOException {
                 try {
-                    engineSupplier.get().ensureTranslogSynced(candidates.stream().map(Tuple::v1));
+                    translogSyncScheduler.sync(dataPath, translogSyncTracker,
+                        () -> engineSupplier.get().ensureTranslogSynced(candidates.stream().map(Tuple::v1)));
                 } catch (AlreadyClosedException ex) {
                     // that's fine since we already synced everything on engine close - this also is conform with the methods
                     // documentation
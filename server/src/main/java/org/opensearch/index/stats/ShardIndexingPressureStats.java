@@ -0,0 +1,235 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.stats;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.index.shard.ShardId;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * The per-shard indexing pressure stats of a node, see {@link org.opensearch.index.ShardIndexingPressure}.
+ */
+public class ShardIndexingPressureStats implements Writeable, ToXContentFragment {
+
+    private final boolean enabled;
+    private final long totalRejections;
+    private final Map<ShardId, ShardStats> shardStats;
+
+    public ShardIndexingPressureStats(boolean enabled, long totalRejections, Map<ShardId, ShardStats> shardStats) {
+        this.enabled = enabled;
+        this.totalRejections = totalRejections;
+        this.shardStats = shardStats;
+    }
+
+    public ShardIndexingPressureStats(StreamInput in) throws IOException {
+        enabled = in.readBoolean();
+        totalRejections = in.readVLong();
+        shardStats = in.readMap(ShardId::new, ShardStats::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeBoolean(enabled);
+        out.writeVLong(totalRejections);
+        out.writeMap(shardStats, (o, shardId) -> shardId.writeTo(o), (o, stats) -> stats.writeTo(o));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getTotalRejections() {
+        return totalRejections;
+    }
+
+    public Map<ShardId, ShardStats> getShardStats() {
+        return shardStats;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("shard_indexing_pressure");
+        builder.field("enabled", enabled);
+        builder.field("total_rejections", totalRejections);
+        builder.startObject("shards");
+        for (Map.Entry<ShardId, ShardStats> entry : shardStats.entrySet()) {
+            builder.startObject(entry.getKey().toString());
+            entry.getValue().toXContent(builder, params);
+            builder.endObject();
+        }
+        builder.endObject();
+        return builder.endObject();
+    }
+
+    /**
+     * The indexing pressure stats of the primary and the replica operations of a shard.
+     */
+    public static class ShardStats implements Writeable, ToXContentFragment {
+
+        private final OperationStats primary;
+        private final OperationStats replica;
+
+        public ShardStats(OperationStats primary, OperationStats replica) {
+            this.primary = primary;
+            this.replica = replica;
+        }
+
+        public ShardStats(StreamInput in) throws IOException {
+            primary = new OperationStats(in);
+            replica = new OperationStats(in);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            primary.writeTo(out);
+            replica.writeTo(out);
+        }
+
+        public OperationStats getPrimary() {
+            return primary;
+        }
+
+        public OperationStats getReplica() {
+            return replica;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject("primary");
+            primary.toXContent(builder, params);
+            builder.endObject();
+            builder.startObject("replica");
+            replica.toXContent(builder, params);
+            return builder.endObject();
+        }
+    }
+
+    /**
+     * The indexing pressure stats of either the primary or the replica operations of a shard.
+     */
+    public static class OperationStats implements Writeable, ToXContentFragment {
+
+        private final long currentBytes;
+        private final long totalBytes;
+        private final long limit;
+        private final long outstandingRequests;
+        private final long rejections;
+        private final long throughputDegradationRejections;
+        private final long lastSuccessfulRequestRejections;
+        private final double recentThroughput;
+        private final double averageThroughput;
+
+        public OperationStats(long currentBytes, long totalBytes, long limit, long outstandingRequests, long rejections,
+                              long throughputDegradationRejections, long lastSuccessfulRequestRejections, double recentThroughput,
+                              double averageThroughput) {
+            this.currentBytes = currentBytes;
+            this.totalBytes = totalBytes;
+            this.limit = limit;
+            this.outstandingRequests = outstandingRequests;
+            this.rejections = rejections;
+            this.throughputDegradationRejections = throughputDegradationRejections;
+            this.lastSuccessfulRequestRejections = lastSuccessfulRequestRejections;
+            this.recentThroughput = recentThroughput;
+            this.averageThroughput = averageThroughput;
+        }
+
+        public OperationStats(StreamInput in) throws IOException {
+            currentBytes = in.readVLong();
+            totalBytes = in.readVLong();
+            limit = in.readVLong();
+            outstandingRequests = in.readVLong();
+            rejections = in.readVLong();
+            throughputDegradationRejections = in.readVLong();
+            lastSuccessfulRequestRejections = in.readVLong();
+            recentThroughput = in.readDouble();
+            averageThroughput = in.readDouble();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(currentBytes);
+            out.writeVLong(totalBytes);
+            out.writeVLong(limit);
+            out.writeVLong(outstandingRequests);
+            out.writeVLong(rejections);
+            out.writeVLong(throughputDegradationRejections);
+            out.writeVLong(lastSuccessfulRequestRejections);
+            out.writeDouble(recentThroughput);
+            out.writeDouble(averageThroughput);
+        }
+
+        public long getCurrentBytes() {
+            return currentBytes;
+        }
+
+        public long getTotalBytes() {
+            return totalBytes;
+        }
+
+        public long getLimit() {
+            return limit;
+        }
+
+        public long getOutstandingRequests() {
+            return outstandingRequests;
+        }
+
+        public long getRejections() {
+            return rejections;
+        }
+
+        public long getThroughputDegradationRejections() {
+            return throughputDegradationRejections;
+        }
+
+        public long getLastSuccessfulRequestRejections() {
+            return lastSuccessfulRequestRejections;
+        }
+
+        /**
+         * The bytes per millisecond of the recent requests.
+         */
+        public double getRecentThroughput() {
+            return recentThroughput;
+        }
+
+        /**
+         * The bytes per millisecond of all requests.
+         */
+        public double getAverageThroughput() {
+            return averageThroughput;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject("memory");
+            builder.humanReadableField("current_in_bytes", "current", new ByteSizeValue(currentBytes));
+            builder.humanReadableField("total_in_bytes", "total", new ByteSizeValue(totalBytes));
+            builder.humanReadableField("limit_in_bytes", "limit", new ByteSizeValue(limit));
+            builder.endObject();
+            builder.field("outstanding_requests", outstandingRequests);
+            builder.startObject("rejection");
+            builder.field("total", rejections);
+            builder.field("throughput_degradation", throughputDegradationRejections);
+            builder.field("last_successful_request", lastSuccessfulRequestRejections);
+            builder.endObject();
+            builder.startObject("throughput");
+            builder.field("recent_in_bytes_per_millis", recentThroughput);
+            builder.field("average_in_bytes_per_millis", averageThroughput);
+            return builder.endObject();
+        }
+    }
+}
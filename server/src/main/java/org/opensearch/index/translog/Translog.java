@@ -568,6 +568,58 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
         }
     }
 
+    /**
+     * Adds the given operations to the translog, in order, with a single write to the current generation.
+     *
+     * @param operations the operations to add
+     * @return the locations of the operations in the translog, in the order of the operations
+     * @throws IOException if adding the operations to the translog resulted in an I/O exception
+     */
+    public List<Location> add(final List<? extends Operation> operations) throws IOException {
+        if (operations.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final ReleasableBytesStreamOutput out = new ReleasableBytesStreamOutput(bigArrays);
+        try {
+            final int[] ends = new int[operations.size()];
+            final long[] seqNos = new long[operations.size()];
+            for (int i = 0; i < operations.size(); i++) {
+                final long start = out.position();
+                out.skip(Integer.BYTES);
+                writeOperationNoSize(new BufferedChecksumStreamOutput(out), operations.get(i));
+                final long end = out.position();
+                final int operationSize = (int) (end - Integer.BYTES - start);
+                out.seek(start);
+                out.writeInt(operationSize);
+                out.seek(end);
+                ends[i] = Math.toIntExact(end);
+                seqNos[i] = operations.get(i).seqNo();
+            }
+            final BytesReference bytes = out.bytes();
+            try (ReleasableLock ignored = readLock.acquire()) {
+                ensureOpen();
+                for (Operation operation : operations) {
+                    if (operation.primaryTerm() > current.getPrimaryTerm()) {
+                        assert false :
+                            "Operation term is newer than the current term; "
+                                + "current term[" + current.getPrimaryTerm() + "], operation term[" + operation + "]";
+                        throw new IllegalArgumentException("Operation term is newer than the current term; "
+                            + "current term[" + current.getPrimaryTerm() + "], operation term[" + operation + "]");
+                    }
+                }
+                return current.add(bytes, ends, seqNos);
+            }
+        } catch (final AlreadyClosedException | IOException ex) {
+            closeOnTragicEvent(ex);
+            throw ex;
+        } catch (final Exception ex) {
+            closeOnTragicEvent(ex);
+            throw new TranslogException(shardId, "Failed to write [" + operations.size() + "] operations", ex);
+        } finally {
+            Releasables.close(out);
+        }
+    }
+
     /**
      * Tests whether or not the translog generation should be rolled to a new generation. This test
      * is based on the size of the current generation compared to the configured generation
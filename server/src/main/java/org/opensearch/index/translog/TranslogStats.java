@@ -32,6 +32,7 @@
 package org.opensearch.index.translog;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.Strings;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
@@ -49,6 +50,8 @@ public class TranslogStats implements Writeable, ToXContentFragment {
     private long uncommittedSizeInBytes;
     private int  uncommittedOperations;
     private long earliestLastModifiedAge;
+    private long[] groupCommitBatchSizes = new long[TranslogSyncScheduler.BATCH_SIZE_BOUNDS.length + 1];
+    private long[] groupCommitWaitTimes = new long[TranslogSyncScheduler.WAIT_TIME_BOUNDS_MICROS.length + 1];
 
     public TranslogStats() {
     }
@@ -66,6 +69,10 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         if (in.getVersion().onOrAfter(LegacyESVersion.V_6_3_0)) {
             earliestLastModifiedAge = in.readVLong();
         }
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            groupCommitBatchSizes = in.readVLongArray();
+            groupCommitWaitTimes = in.readVLongArray();
+        }
     }
 
     public TranslogStats(int numberOfOperations, long translogSizeInBytes, int uncommittedOperations, long uncommittedSizeInBytes,
@@ -107,6 +114,17 @@ public class TranslogStats implements Writeable, ToXContentFragment {
             this.earliestLastModifiedAge =
                 Math.min(this.earliestLastModifiedAge, translogStats.earliestLastModifiedAge);
         }
+        addGroupCommitStats(translogStats.groupCommitBatchSizes, translogStats.groupCommitWaitTimes);
+    }
+
+    void addGroupCommitStats(long[] batchSizes, long[] waitTimes) {
+        assert batchSizes.length == groupCommitBatchSizes.length && waitTimes.length == groupCommitWaitTimes.length;
+        for (int i = 0; i < batchSizes.length; i++) {
+            groupCommitBatchSizes[i] += batchSizes[i];
+        }
+        for (int i = 0; i < waitTimes.length; i++) {
+            groupCommitWaitTimes[i] += waitTimes[i];
+        }
     }
 
     public long getTranslogSizeInBytes() {
@@ -129,6 +147,32 @@ public class TranslogStats implements Writeable, ToXContentFragment {
 
     public long getEarliestLastModifiedAge() { return earliestLastModifiedAge; }
 
+    /**
+     * the number of translog syncs that ran as part of a group commit round, see {@link TranslogSyncScheduler}
+     */
+    public long getGroupCommitSyncs() {
+        long syncs = 0;
+        for (long count : groupCommitBatchSizes) {
+            syncs += count;
+        }
+        return syncs;
+    }
+
+    /**
+     * the number of group committed syncs per size of their round, in buckets of at most 1, 2, 4, 8, 16, 32, 64, 128 and more syncs
+     */
+    public long[] getGroupCommitBatchSizes() {
+        return groupCommitBatchSizes;
+    }
+
+    /**
+     * the number of group committed syncs per time waited for their round to start, in buckets of at most 0.1, 0.5, 1, 5, 10, 50,
+     * 100 and more milliseconds
+     */
+    public long[] getGroupCommitWaitTimes() {
+        return groupCommitWaitTimes;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject("translog");
@@ -137,10 +181,33 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         builder.field("uncommitted_operations", uncommittedOperations);
         builder.humanReadableField("uncommitted_size_in_bytes", "uncommitted_size", new ByteSizeValue(uncommittedSizeInBytes));
         builder.field("earliest_last_modified_age", earliestLastModifiedAge);
+        final long groupCommitSyncs = getGroupCommitSyncs();
+        if (groupCommitSyncs > 0) {
+            builder.startObject("group_commit");
+            builder.field("syncs", groupCommitSyncs);
+            histogramToXContent(builder, "batch_size_histogram", "le", TranslogSyncScheduler.BATCH_SIZE_BOUNDS, groupCommitBatchSizes);
+            histogramToXContent(builder, "wait_time_histogram", "le_in_micros", TranslogSyncScheduler.WAIT_TIME_BOUNDS_MICROS,
+                groupCommitWaitTimes);
+            builder.endObject();
+        }
         builder.endObject();
         return builder;
     }
 
+    private static void histogramToXContent(XContentBuilder builder, String name, String boundField, long[] bounds, long[] counts)
+        throws IOException {
+        builder.startArray(name);
+        for (int i = 0; i < counts.length; i++) {
+            builder.startObject();
+            if (i < bounds.length) {
+                builder.field(boundField, bounds[i]);
+            }
+            builder.field("count", counts[i]);
+            builder.endObject();
+        }
+        builder.endArray();
+    }
+
     @Override
     public String toString() {
         return Strings.toString(this, true, true);
@@ -157,5 +224,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(LegacyESVersion.V_6_3_0)) {
             out.writeVLong(earliestLastModifiedAge);
         }
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeVLongArray(groupCommitBatchSizes);
+            out.writeVLongArray(groupCommitWaitTimes);
+        }
     }
 }
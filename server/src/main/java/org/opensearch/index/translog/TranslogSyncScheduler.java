@@ -0,0 +1,207 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A node level scheduler that groups the translog syncs of the shards sharing a data path into rounds, so that the
+ * fsyncs of many shards are issued together and can be coalesced by the filesystem into fewer journal commits and
+ * device cache flushes instead of being spread out over time.
+ * <p>
+ * A sync that finds no open round opens one and becomes its leader. Syncs that arrive while the round is open join it,
+ * until the round reaches the maximum batch size. The leader starts the round once the previous round of the data
+ * path completed and, if the previous round had more than one participant, once the maximum wait elapsed. All
+ * participants of a round then run their own sync concurrently. This makes batching adaptive: a lone writer never
+ * waits, while syncs arriving during a round naturally accumulate into the next one.
+ */
+public final class TranslogSyncScheduler {
+
+    public static final Setting<Boolean> GROUP_COMMIT_ENABLED_SETTING =
+        Setting.boolSetting("indices.translog.group_commit.enabled", false, Property.NodeScope);
+    public static final Setting<TimeValue> GROUP_COMMIT_MAX_WAIT_SETTING =
+        Setting.timeSetting("indices.translog.group_commit.max_wait", TimeValue.timeValueMillis(2), TimeValue.ZERO, Property.NodeScope);
+    public static final Setting<Integer> GROUP_COMMIT_MAX_BATCH_SIZE_SETTING =
+        Setting.intSetting("indices.translog.group_commit.max_batch_size", 64, 1, Property.NodeScope);
+
+    // the inclusive upper bounds of the buckets of the batch size histogram, the last bucket is unbounded
+    static final long[] BATCH_SIZE_BOUNDS = { 1, 2, 4, 8, 16, 32, 64, 128 };
+    // the inclusive upper bounds of the buckets of the wait time histogram in microseconds, the last bucket is unbounded
+    static final long[] WAIT_TIME_BOUNDS_MICROS = { 100, 500, 1_000, 5_000, 10_000, 50_000, 100_000 };
+
+    private final boolean enabled;
+    private final long maxWaitNanos;
+    private final int maxBatchSize;
+    private final ConcurrentMap<Object, Group> groups = ConcurrentCollections.newConcurrentMap();
+
+    public TranslogSyncScheduler(Settings settings) {
+        this.enabled = GROUP_COMMIT_ENABLED_SETTING.get(settings);
+        this.maxWaitNanos = GROUP_COMMIT_MAX_WAIT_SETTING.get(settings).nanos();
+        this.maxBatchSize = GROUP_COMMIT_MAX_BATCH_SIZE_SETTING.get(settings);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Runs the given translog sync as part of the next round of the given data path, blocking until the round starts.
+     * If group commit is disabled, the sync runs immediately.
+     *
+     * @param dataPath the data path of the translog, syncs are only grouped with syncs of the same data path
+     * @param tracker  the tracker recording the batch size and wait time of the syncs of the shard
+     * @param sync     the sync to run
+     * @return the value returned by the sync
+     */
+    public <T> T sync(Object dataPath, Tracker tracker, CheckedSupplier<T, IOException> sync) throws IOException {
+        if (enabled == false) {
+            return sync.get();
+        }
+        final Group group = groups.computeIfAbsent(dataPath, k -> new Group());
+        final long enqueuedNanos = System.nanoTime();
+        final Round round = group.join();
+        try {
+            return sync.get();
+        } finally {
+            tracker.record(round.size, round.startNanos - enqueuedNanos);
+            group.leave(round);
+        }
+    }
+
+    private static final class Round {
+        final long deadlineNanos;
+        int size;
+        int running;
+        boolean started;
+        long startNanos;
+
+        Round(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+
+    private final class Group {
+        // the round that accepts participants, null if none is open
+        private Round open;
+        // whether the participants of a round are still syncing
+        private boolean inFlight;
+        private int lastRoundSize;
+
+        synchronized Round join() {
+            Round round = open;
+            final boolean leader = round == null;
+            if (leader) {
+                round = open = new Round(System.nanoTime() + (lastRoundSize > 1 ? maxWaitNanos : 0));
+            }
+            if (++round.size >= maxBatchSize) {
+                // the round is full, the next sync opens a new one
+                open = null;
+                notifyAll();
+            }
+            boolean interrupted = false;
+            try {
+                if (leader) {
+                    while (true) {
+                        try {
+                            if (inFlight) {
+                                wait();
+                            } else {
+                                final long remainingNanos = open == round ? round.deadlineNanos - System.nanoTime() : 0;
+                                if (remainingNanos <= 0) {
+                                    break;
+                                }
+                                TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+                            }
+                        } catch (InterruptedException e) {
+                            // the followers rely on the leader to start the round
+                            interrupted = true;
+                        }
+                    }
+                    if (open == round) {
+                        open = null;
+                    }
+                    inFlight = true;
+                    lastRoundSize = round.size;
+                    round.running = round.size;
+                    round.startNanos = System.nanoTime();
+                    round.started = true;
+                    notifyAll();
+                } else {
+                    while (round.started == false) {
+                        try {
+                            wait();
+                        } catch (InterruptedException e) {
+                            interrupted = true;
+                        }
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return round;
+        }
+
+        synchronized void leave(Round round) {
+            assert round.started && round.running > 0;
+            if (--round.running == 0) {
+                inFlight = false;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Records the batch size and wait time of the grouped syncs of a shard.
+     */
+    public static final class Tracker {
+        private final AtomicLongArray batchSizes = new AtomicLongArray(BATCH_SIZE_BOUNDS.length + 1);
+        private final AtomicLongArray waitTimes = new AtomicLongArray(WAIT_TIME_BOUNDS_MICROS.length + 1);
+
+        void record(int batchSize, long waitNanos) {
+            batchSizes.incrementAndGet(bucket(BATCH_SIZE_BOUNDS, batchSize));
+            waitTimes.incrementAndGet(bucket(WAIT_TIME_BOUNDS_MICROS, TimeUnit.NANOSECONDS.toMicros(waitNanos)));
+        }
+
+        /**
+         * Adds the histograms recorded so far to the given stats.
+         */
+        public void addTo(TranslogStats stats) {
+            stats.addGroupCommitStats(toArray(batchSizes), toArray(waitTimes));
+        }
+
+        private static int bucket(long[] bounds, long value) {
+            for (int i = 0; i < bounds.length; i++) {
+                if (value <= bounds[i]) {
+                    return i;
+                }
+            }
+            return bounds.length;
+        }
+
+        private static long[] toArray(AtomicLongArray counts) {
+            final long[] array = new long[counts.length()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = counts.get(i);
+            }
+            return array;
+        }
+    }
+}
@@ -60,7 +60,9 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -234,6 +236,57 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         return location;
     }
 
+    /**
+     * Adds operations to the translog at once.
+     *
+     * @param data  the bytes of the operations, one after the other
+     * @param ends  the offset in {@code data} of the end of each operation
+     * @param seqNos the sequence number of each operation
+     * @return the locations of the operations in the translog
+     * @throws IOException if writing to the translog resulted in an I/O exception
+     */
+    public List<Translog.Location> add(final BytesReference data, final int[] ends, final long[] seqNos) throws IOException {
+        assert ends.length == seqNos.length && ends[ends.length - 1] == data.length();
+        long bufferedBytesBeforeAdd = this.bufferedBytes;
+        if (bufferedBytesBeforeAdd >= forceWriteThreshold) {
+            writeBufferedOps(Long.MAX_VALUE, bufferedBytesBeforeAdd >= forceWriteThreshold * 4);
+        }
+
+        final List<Translog.Location> locations = new ArrayList<>(ends.length);
+        synchronized (this) {
+            ensureOpen();
+            if (buffer == null) {
+                buffer = new ReleasableBytesStreamOutput(bigArrays);
+            }
+            assert bufferedBytes == buffer.size();
+            final long offset = totalOffset;
+            totalOffset += data.length();
+            data.writeTo(buffer);
+
+            assert minSeqNo != SequenceNumbers.NO_OPS_PERFORMED || operationCounter == 0;
+            assert maxSeqNo != SequenceNumbers.NO_OPS_PERFORMED || operationCounter == 0;
+
+            int start = 0;
+            for (int i = 0; i < ends.length; i++) {
+                final long seqNo = seqNos[i];
+                minSeqNo = SequenceNumbers.min(minSeqNo, seqNo);
+                maxSeqNo = SequenceNumbers.max(maxSeqNo, seqNo);
+
+                nonFsyncedSequenceNumbers.add(seqNo);
+
+                operationCounter++;
+
+                assert assertNoSeqNumberConflict(seqNo, data.slice(start, ends[i] - start));
+
+                locations.add(new Translog.Location(generation, offset + start, ends[i] - start));
+                start = ends[i];
+            }
+            bufferedBytes = buffer.size();
+        }
+
+        return locations;
+    }
+
     private synchronized boolean assertNoSeqNumberConflict(long seqNo, BytesReference data) throws IOException {
         if (seqNo == SequenceNumbers.UNASSIGNED_SEQ_NO) {
             // nothing to do
@@ -45,6 +45,7 @@ public class ShardIndexWarmerService extends AbstractIndexShardComponent {
 
     private final CounterMetric current = new CounterMetric();
     private final MeanMetric warmerMetric = new MeanMetric();
+    private final MeanMetric backgroundWarmerMetric = new MeanMetric();
 
     public ShardIndexWarmerService(ShardId shardId, IndexSettings indexSettings) {
         super(shardId, indexSettings);
@@ -63,7 +64,15 @@ public class ShardIndexWarmerService extends AbstractIndexShardComponent {
         warmerMetric.inc(tookInNanos);
     }
 
+    /**
+     * Called when a warmer completes after the warmed reader was made searchable, in addition to {@link #onPostWarm(long)}.
+     */
+    public void onPostBackgroundWarm(long backgroundTookInNanos) {
+        backgroundWarmerMetric.inc(backgroundTookInNanos);
+    }
+
     public WarmerStats stats() {
-        return new WarmerStats(current.count(), warmerMetric.count(), TimeUnit.NANOSECONDS.toMillis(warmerMetric.sum()));
+        return new WarmerStats(current.count(), warmerMetric.count(), TimeUnit.NANOSECONDS.toMillis(warmerMetric.sum()),
+            backgroundWarmerMetric.count(), TimeUnit.NANOSECONDS.toMillis(backgroundWarmerMetric.sum()));
     }
 }
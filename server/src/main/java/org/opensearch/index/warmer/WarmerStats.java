@@ -32,6 +32,7 @@
 
 package org.opensearch.index.warmer;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -49,6 +50,10 @@ public class WarmerStats implements Writeable, ToXContentFragment {
 
     private long totalTimeInMillis;
 
+    private long backgroundTotal;
+
+    private long backgroundTotalTimeInMillis;
+
     public WarmerStats() {
 
     }
@@ -57,12 +62,22 @@ public class WarmerStats implements Writeable, ToXContentFragment {
         current = in.readVLong();
         total = in.readVLong();
         totalTimeInMillis = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            backgroundTotal = in.readVLong();
+            backgroundTotalTimeInMillis = in.readVLong();
+        }
     }
 
     public WarmerStats(long current, long total, long totalTimeInMillis) {
+        this(current, total, totalTimeInMillis, 0, 0);
+    }
+
+    public WarmerStats(long current, long total, long totalTimeInMillis, long backgroundTotal, long backgroundTotalTimeInMillis) {
         this.current = current;
         this.total = total;
         this.totalTimeInMillis = totalTimeInMillis;
+        this.backgroundTotal = backgroundTotal;
+        this.backgroundTotalTimeInMillis = backgroundTotalTimeInMillis;
     }
 
     public void add(long current, long total, long totalTimeInMillis) {
@@ -78,6 +93,8 @@ public class WarmerStats implements Writeable, ToXContentFragment {
         this.current += warmerStats.current;
         this.total += warmerStats.total;
         this.totalTimeInMillis += warmerStats.totalTimeInMillis;
+        this.backgroundTotal += warmerStats.backgroundTotal;
+        this.backgroundTotalTimeInMillis += warmerStats.backgroundTotalTimeInMillis;
     }
 
     public long current() {
@@ -105,12 +122,36 @@ public class WarmerStats implements Writeable, ToXContentFragment {
         return new TimeValue(totalTimeInMillis);
     }
 
+    /**
+     * The number of warmers that were still executing when the warmed reader was made searchable because they took
+     * longer than the maximum staleness of the index.
+     */
+    public long backgroundTotal() {
+        return this.backgroundTotal;
+    }
+
+    /**
+     * The total time warmers have been executing after the warmed reader was made searchable (in milliseconds).
+     */
+    public long backgroundTotalTimeInMillis() {
+        return this.backgroundTotalTimeInMillis;
+    }
+
+    /**
+     * The total time warmers have been executing after the warmed reader was made searchable.
+     */
+    public TimeValue backgroundTotalTime() {
+        return new TimeValue(backgroundTotalTimeInMillis);
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.WARMER);
         builder.field(Fields.CURRENT, current);
         builder.field(Fields.TOTAL, total);
         builder.humanReadableField(Fields.TOTAL_TIME_IN_MILLIS, Fields.TOTAL_TIME, totalTime());
+        builder.field(Fields.BACKGROUND_TOTAL, backgroundTotal);
+        builder.humanReadableField(Fields.BACKGROUND_TOTAL_TIME_IN_MILLIS, Fields.BACKGROUND_TOTAL_TIME, backgroundTotalTime());
         builder.endObject();
         return builder;
     }
@@ -121,6 +162,9 @@ public class WarmerStats implements Writeable, ToXContentFragment {
         static final String TOTAL = "total";
         static final String TOTAL_TIME = "total_time";
         static final String TOTAL_TIME_IN_MILLIS = "total_time_in_millis";
+        static final String BACKGROUND_TOTAL = "background_total";
+        static final String BACKGROUND_TOTAL_TIME = "background_total_time";
+        static final String BACKGROUND_TOTAL_TIME_IN_MILLIS = "background_total_time_in_millis";
     }
 
     @Override
@@ -128,5 +172,9 @@ public class WarmerStats implements Writeable, ToXContentFragment {
         out.writeVLong(current);
         out.writeVLong(total);
         out.writeVLong(totalTimeInMillis);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeVLong(backgroundTotal);
+            out.writeVLong(backgroundTotalTimeInMillis);
+        }
     }
 }
@@ -65,6 +65,27 @@ abstract class AbstractIndexShardCacheEntity implements IndicesRequestCache.Cach
     @Override
     public final void onRemoval(RemovalNotification<IndicesRequestCache.Key, BytesReference> notification) {
         stats().onRemoval(notification.getKey(), notification.getValue(),
-                notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED);
+                notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED
+                    || notification.getRemovalReason() == RemovalNotification.RemovalReason.EXPIRED);
+    }
+
+    @Override
+    public final void onDiskHit() {
+        stats().onDiskHit();
+    }
+
+    @Override
+    public final void onDiskMiss() {
+        stats().onDiskMiss();
+    }
+
+    @Override
+    public final void onSpilled(IndicesRequestCache.Key key, BytesReference value) {
+        stats().onSpilled(value.length(), key.ramBytesUsed() + RequestCacheDiskTier.ENTRY_RAM_BYTES_USED);
+    }
+
+    @Override
+    public final void onDiskRemoval(IndicesRequestCache.Key key, int length, boolean evicted) {
+        stats().onDiskRemoval(length, key.ramBytesUsed() + RequestCacheDiskTier.ENTRY_RAM_BYTES_USED, evicted);
     }
 }
@@ -38,10 +38,14 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
 import org.opensearch.common.cache.Cache;
 import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.cache.CacheLoader;
@@ -53,16 +57,21 @@ import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.ByteUtils;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
 
 /**
  * The indices request cache allows to cache a shard level request stage responses, helping with improving
@@ -87,32 +96,81 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
      */
     public static final Setting<Boolean> INDEX_CACHE_REQUEST_ENABLED_SETTING =
         Setting.boolSetting("index.requests.cache.enable", true, Property.Dynamic, Property.IndexScope);
+    /**
+     * A setting to cache the results of the aggregations of a request per segment in addition to the result of the shard,
+     * so that a refresh doesn't invalidate the results of the segments it kept. Dynamic like
+     * {@link #INDEX_CACHE_REQUEST_ENABLED_SETTING}, it only applies to requests that use the request cache.
+     */
+    public static final Setting<Boolean> INDEX_CACHE_REQUEST_SEGMENT_LEVEL_SETTING =
+        Setting.boolSetting("index.requests.cache.segment_level.enable", false, Property.Dynamic, Property.IndexScope);
     public static final Setting<ByteSizeValue> INDICES_CACHE_QUERY_SIZE =
         Setting.memorySizeSetting("indices.requests.cache.size", "1%", Property.NodeScope);
     public static final Setting<TimeValue> INDICES_CACHE_QUERY_EXPIRE =
         Setting.positiveTimeSetting("indices.requests.cache.expire", new TimeValue(0), Property.NodeScope);
+    public static final Setting<Cache.EvictionPolicy> INDICES_CACHE_QUERY_EVICTION_POLICY =
+        new Setting<>("indices.requests.cache.eviction_policy", "lru", Cache.EvictionPolicy::parse, Property.NodeScope);
+    /**
+     * The size of the file under the node data path that values evicted from the heap spill into, see {@link RequestCacheDiskTier}.
+     * Defaults to 0, which disables the disk tier.
+     */
+    public static final Setting<ByteSizeValue> INDICES_CACHE_QUERY_DISK_SIZE =
+        Setting.byteSizeSetting("indices.requests.cache.disk.size", ByteSizeValue.ZERO, Property.NodeScope);
+    /**
+     * How much heap the keys of the values in the disk tier may take, on top of {@link #INDICES_CACHE_QUERY_SIZE}. The disk tier
+     * evicts its oldest values once their keys take more. Defaults to a tenth of the default size of the heap tier.
+     */
+    public static final Setting<ByteSizeValue> INDICES_CACHE_QUERY_DISK_INDEX_SIZE =
+        Setting.memorySizeSetting("indices.requests.cache.disk.index_size", "0.1%", Property.NodeScope);
 
     private final ConcurrentMap<CleanupKey, Boolean> registeredClosedListeners = ConcurrentCollections.newConcurrentMap();
     private final Set<CleanupKey> keysToClean = ConcurrentCollections.newConcurrentSet();
     private final ByteSizeValue size;
     private final TimeValue expire;
     private final Cache<Key, BytesReference> cache;
+    @Nullable
+    private final RequestCacheDiskTier<Key> diskTier;
+    // the values that the heap evicted, they are written to the disk tier once the thread that evicted them leaves the cache
+    private final Queue<RemovalNotification<Key, BytesReference>> pendingSpills = ConcurrentCollections.newQueue();
 
     IndicesRequestCache(Settings settings) {
+        this(settings, null);
+    }
+
+    /**
+     * @param diskTierFile the file of the disk tier, or {@code null} if the node has no data path to keep it in
+     */
+    IndicesRequestCache(Settings settings, @Nullable Path diskTierFile) {
         this.size = INDICES_CACHE_QUERY_SIZE.get(settings);
         this.expire = INDICES_CACHE_QUERY_EXPIRE.exists(settings) ? INDICES_CACHE_QUERY_EXPIRE.get(settings) : null;
         long sizeInBytes = size.getBytes();
         CacheBuilder<Key, BytesReference> cacheBuilder = CacheBuilder.<Key, BytesReference>builder()
-            .setMaximumWeight(sizeInBytes).weigher((k, v) -> k.ramBytesUsed() + v.ramBytesUsed()).removalListener(this);
+            .setMaximumWeight(sizeInBytes).weigher((k, v) -> k.ramBytesUsed() + v.ramBytesUsed()).removalListener(this)
+            .setEvictionPolicy(INDICES_CACHE_QUERY_EVICTION_POLICY.get(settings));
         if (expire != null) {
             cacheBuilder.setExpireAfterAccess(expire);
         }
         cache = cacheBuilder.build();
+        final ByteSizeValue diskSize = INDICES_CACHE_QUERY_DISK_SIZE.get(settings);
+        if (diskSize.getBytes() > 0 && diskTierFile != null) {
+            try {
+                diskTier = new RequestCacheDiskTier<>(diskTierFile, diskSize.getBytes(), RequestCacheDiskTier.DEFAULT_REGION_SIZE,
+                    INDICES_CACHE_QUERY_DISK_INDEX_SIZE.get(settings).getBytes(), Key::ramBytesUsed,
+                    (key, length, evicted) -> key.entity.onDiskRemoval(key, length, evicted));
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to create the request cache file [" + diskTierFile + "]", e);
+            }
+        } else {
+            diskTier = null;
+        }
     }
 
     @Override
     public void close() {
         cache.invalidateAll();
+        pendingSpills.clear();
+        if (diskTier != null) {
+            diskTier.close();
+        }
     }
 
     void clear(CacheEntity entity) {
@@ -122,15 +180,49 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
 
     @Override
     public void onRemoval(RemovalNotification<Key, BytesReference> notification) {
-        notification.getKey().entity.onRemoval(notification);
+        final Key key = notification.getKey();
+        key.entity.onRemoval(notification);
+        // expired values aren't worth keeping, and the cache calls this under its LRU lock so evicted ones are written later
+        if (diskTier != null && notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED && key.entity.isOpen()) {
+            pendingSpills.add(notification);
+        }
+    }
+
+    /**
+     * Writes the values that the heap evicted to the disk tier. Called after each write to the heap, outside of the locks of the
+     * heap cache.
+     */
+    private void spillEvicted() {
+        RemovalNotification<Key, BytesReference> notification;
+        while ((notification = pendingSpills.poll()) != null) {
+            final Key key = notification.getKey();
+            if (key.entity.isOpen() == false) {
+                continue;
+            }
+            try {
+                if (diskTier.put(key, notification.getValue())) {
+                    key.entity.onSpilled(key, notification.getValue());
+                }
+            } catch (IOException e) {
+                logger.warn("failed to spill a request cache entry to disk", e);
+            }
+        }
     }
 
     BytesReference getOrCompute(CacheEntity cacheEntity, CheckedSupplier<BytesReference, IOException> loader,
                                 DirectoryReader reader, BytesReference cacheKey) throws Exception {
         assert reader.getReaderCacheHelper() != null;
         final Key key =  new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey);
-        Loader cacheLoader = new Loader(cacheEntity, loader);
-        BytesReference value = cache.computeIfAbsent(key, cacheLoader);
+        Loader cacheLoader = new Loader(cacheEntity, () -> {
+            final BytesReference spilled = loadFromDisk(key);
+            return spilled == null ? loader.get() : spilled;
+        });
+        BytesReference value;
+        try {
+            value = cache.computeIfAbsent(key, cacheLoader);
+        } finally {
+            spillEvicted();
+        }
         if (cacheLoader.isLoaded()) {
             key.entity.onMiss();
             // see if its the first time we see this reader, and make sure to register a cleanup key
@@ -155,7 +247,82 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
      */
     void invalidate(CacheEntity cacheEntity, DirectoryReader reader, BytesReference cacheKey) {
         assert reader.getReaderCacheHelper() != null;
-        cache.invalidate(new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey));
+        final Key key = new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey);
+        cache.invalidate(key);
+        if (diskTier != null) {
+            pendingSpills.removeIf(notification -> notification.getKey().equals(key));
+            diskTier.invalidate(key);
+        }
+    }
+
+    /**
+     * Moves the value of the given key from the disk tier back to the heap, where the caller caches it, if there is one.
+     */
+    private BytesReference loadFromDisk(Key key) {
+        if (diskTier == null) {
+            return null;
+        }
+        final BytesReference value = diskTier.remove(key);
+        if (value == null) {
+            key.entity.onDiskMiss();
+        } else {
+            key.entity.onDiskHit();
+        }
+        return value;
+    }
+
+    /**
+     * Returns the cached value for the given segment, or {@code null} if there is none or the segment can't be cached.
+     * Values of a segment are keyed by the core of the segment, which deletes don't change, and its number of live docs:
+     * a segment only ever gains deletes, so the same number of live docs means the same live docs.
+     */
+    BytesReference getSegmentResult(CacheEntity cacheEntity, LeafReader leaf, BytesReference cacheKey) {
+        if (leaf.getCoreCacheHelper() == null) {
+            return null;
+        }
+        final Key key = new Key(cacheEntity, leaf.getCoreCacheHelper().getKey(), segmentCacheKey(leaf, cacheKey));
+        BytesReference value = cache.get(key);
+        if (value == null) {
+            cacheEntity.onMiss();
+            value = loadFromDisk(key);
+            if (value != null) {
+                // the segment has been cached before, so its core already has a cleanup listener
+                cache.put(key, value);
+                cacheEntity.onCached(key, value);
+                spillEvicted();
+            }
+        } else {
+            cacheEntity.onHit();
+        }
+        return value;
+    }
+
+    /**
+     * Caches a value for the given segment, see {@link #getSegmentResult}. The value is removed once the core of the segment
+     * is closed.
+     */
+    void putSegmentResult(CacheEntity cacheEntity, LeafReader leaf, BytesReference cacheKey, BytesReference value) {
+        final IndexReader.CacheHelper cacheHelper = leaf.getCoreCacheHelper();
+        if (cacheHelper == null) {
+            return;
+        }
+        final Key key = new Key(cacheEntity, cacheHelper.getKey(), segmentCacheKey(leaf, cacheKey));
+        cache.put(key, value);
+        cacheEntity.onCached(key, value);
+        spillEvicted();
+        CleanupKey cleanupKey = new CleanupKey(cacheEntity, cacheHelper.getKey());
+        if (!registeredClosedListeners.containsKey(cleanupKey)) {
+            Boolean previous = registeredClosedListeners.putIfAbsent(cleanupKey, Boolean.TRUE);
+            if (previous == null) {
+                cacheHelper.addClosedListener(cleanupKey);
+            }
+        }
+    }
+
+    private static BytesReference segmentCacheKey(LeafReader leaf, BytesReference cacheKey) {
+        final byte[] numDocs = new byte[Integer.BYTES];
+        ByteUtils.writeIntLE(leaf.numDocs(), numDocs, 0);
+        return CompositeBytesReference.of(cacheKey, new BytesArray(numDocs));
     }
 
     private static class Loader implements CacheLoader<Key, BytesReference> {
@@ -218,6 +385,26 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
          * Called when this entity instance is removed
          */
         void onRemoval(RemovalNotification<Key, BytesReference> notification);
+
+        /**
+         * Called each time this entity misses the heap but has a hit in the disk tier.
+         */
+        void onDiskHit();
+
+        /**
+         * Called each time this entity misses both the heap and the disk tier.
+         */
+        void onDiskMiss();
+
+        /**
+         * Called after a value of this entity that was evicted from the heap was stored in the disk tier.
+         */
+        void onSpilled(Key key, BytesReference value);
+
+        /**
+         * Called when a value of this entity is removed from the disk tier, {@code evicted} if it was overwritten.
+         */
+        void onDiskRemoval(Key key, int length, boolean evicted);
     }
 
     static class Key implements Accountable {
@@ -319,19 +506,21 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
             }
         }
         if (!currentKeysToClean.isEmpty() || !currentFullClean.isEmpty()) {
+            final Predicate<Key> toClean = key -> currentFullClean.contains(key.entity.getCacheIdentity())
+                || currentKeysToClean.contains(new CleanupKey(key.entity, key.readerCacheKey));
             for (Iterator<Key> iterator = cache.keys().iterator(); iterator.hasNext(); ) {
-                Key key = iterator.next();
-                if (currentFullClean.contains(key.entity.getCacheIdentity())) {
+                if (toClean.test(iterator.next())) {
                     iterator.remove();
-                } else {
-                    if (currentKeysToClean.contains(new CleanupKey(key.entity, key.readerCacheKey))) {
-                        iterator.remove();
-                    }
                 }
             }
+            if (diskTier != null) {
+                pendingSpills.removeIf(notification -> toClean.test(notification.getKey()));
+                diskTier.invalidateAll(toClean);
+            }
         }
 
         cache.refresh();
+        spillEvicted();
     }
 
 
@@ -342,6 +531,13 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
         return cache.count();
     }
 
+    /**
+     * Returns the number of values in the disk tier
+     */
+    int diskCount() {
+        return diskTier == null ? 0 : diskTier.count();
+    }
+
     int numRegisteredCloseListeners() { // for testing
         return registeredClosedListeners.size();
     }
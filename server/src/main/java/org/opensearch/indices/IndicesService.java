@@ -37,6 +37,29 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader.CacheHelper;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.DisjunctionMaxQuery;
+import org.apache.lucene.search.DocValuesFieldExistsQuery;
+import org.apache.lucene.search.DocValuesRewriteMethod;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.MultiPhraseQuery;
+import org.apache.lucene.search.MultiTermQuery;
+import org.apache.lucene.search.NormsFieldExistsQuery;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.PointInSetQuery;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.SynonymQuery;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.util.CollectionUtil;
 import org.apache.lucene.util.RamUsageEstimator;
@@ -72,6 +95,7 @@ import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lucene.search.function.FunctionScoreQuery;
 import org.opensearch.common.settings.IndexScopedSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
@@ -130,6 +154,7 @@ import org.opensearch.index.shard.IndexShardState;
 import org.opensearch.index.shard.IndexingOperationListener;
 import org.opensearch.index.shard.IndexingStats;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.translog.TranslogSyncScheduler;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
@@ -141,6 +166,8 @@ import org.opensearch.plugins.IndexStorePlugin;
 import org.opensearch.plugins.PluginsService;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.script.ScriptService;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.SegmentAggregationsCache;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.SearchContext;
@@ -193,6 +220,8 @@ public class IndicesService extends AbstractLifecycleComponent
     private static final Logger logger = LogManager.getLogger(IndicesService.class);
 
     public static final String INDICES_SHARDS_CLOSED_TIMEOUT = "indices.shards_closed_timeout";
+    // the file of the disk tier of the request cache, in the first data path of the node
+    static final String REQUEST_CACHE_DISK_TIER_FILE = "request_cache.bin";
     public static final Setting<TimeValue> INDICES_CACHE_CLEAN_INTERVAL_SETTING =
         Setting.positiveTimeSetting("indices.cache.cleanup_interval", TimeValue.timeValueMinutes(1), Property.NodeScope);
     public static final Setting<Boolean> INDICES_ID_FIELD_DATA_ENABLED_SETTING =
@@ -219,6 +248,7 @@ public class IndicesService extends AbstractLifecycleComponent
     private final CacheCleaner cacheCleaner;
     private final ThreadPool threadPool;
     private final CircuitBreakerService circuitBreakerService;
+    private final TranslogSyncScheduler translogSyncScheduler;
     private final BigArrays bigArrays;
     private final ScriptService scriptService;
     private final ClusterService clusterService;
@@ -271,7 +301,8 @@ public class IndicesService extends AbstractLifecycleComponent
         this.shardsClosedTimeout = settings.getAsTime(INDICES_SHARDS_CLOSED_TIMEOUT, new TimeValue(1, TimeUnit.DAYS));
         this.analysisRegistry = analysisRegistry;
         this.indexNameExpressionResolver = indexNameExpressionResolver;
-        this.indicesRequestCache = new IndicesRequestCache(settings);
+        this.indicesRequestCache = new IndicesRequestCache(settings,
+            nodeEnv.hasNodeFile() ? nodeEnv.nodeDataPaths()[0].resolve(REQUEST_CACHE_DISK_TIER_FILE) : null);
         this.indicesQueryCache = new IndicesQueryCache(settings);
         this.mapperRegistry = mapperRegistry;
         this.namedWriteableRegistry = namedWriteableRegistry;
@@ -280,6 +311,7 @@ public class IndicesService extends AbstractLifecycleComponent
                                                                 () -> Iterables.flatten(this).iterator());
         this.indexScopedSettings = indexScopedSettings;
         this.circuitBreakerService = circuitBreakerService;
+        this.translogSyncScheduler = new TranslogSyncScheduler(settings);
         this.bigArrays = bigArrays;
         this.scriptService = scriptService;
         this.clusterService = clusterService;
@@ -682,7 +714,8 @@ public class IndicesService extends AbstractLifecycleComponent
                 indicesFieldDataCache,
                 namedWriteableRegistry,
                 this::isIdFieldDataEnabled,
-                valuesSourceRegistry
+                valuesSourceRegistry,
+                translogSyncScheduler
         );
     }
 
@@ -1398,6 +1431,10 @@ public class IndicesService extends AbstractLifecycleComponent
     public void loadIntoContext(ShardSearchRequest request, SearchContext context, QueryPhase queryPhase) throws Exception {
         assert canCache(request, context);
         final DirectoryReader directoryReader = context.searcher().getDirectoryReader();
+        if (canCacheSegmentLevel(context)) {
+            // only used if the shard level result needs to be computed
+            context.aggregations().segmentCache(new IndexShardSegmentAggregationsCache(context.indexShard(), request.cacheKey()));
+        }
 
         boolean[] loadedFromCache = new boolean[] { true };
         BytesReference bytesReference = cacheShardLevelResult(context.indexShard(), directoryReader, request.cacheKey(),
@@ -1429,6 +1466,98 @@ public class IndicesService extends AbstractLifecycleComponent
         }
     }
 
+    /**
+     * Can the aggregations of the cacheable shard request also be cached per segment? Only if the index enables it, the
+     * aggregations support it and the docs that the request aggregates in a segment don't depend on the other segments.
+     *
+     * @see IndicesRequestCache#INDEX_CACHE_REQUEST_SEGMENT_LEVEL_SETTING
+     */
+    private static boolean canCacheSegmentLevel(SearchContext context) {
+        if (context.indexShard().indexSettings().getValue(IndicesRequestCache.INDEX_CACHE_REQUEST_SEGMENT_LEVEL_SETTING) == false
+                || context.aggregations() == null
+                || context.aggregations().factories().supportsSegmentLevelCaching() == false) {
+            return false;
+        }
+        // terminate_after stops collecting in the middle of a segment, and a minimum score depends on the statistics of the shard
+        if (context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER || context.minimumScore() != null) {
+            return false;
+        }
+        return matchesIndependentlyOfOtherSegments(context.query());
+    }
+
+    /**
+     * Lucene queries whose matches in a segment only depend on that segment, and that only wrap such queries.
+     */
+    private static final Set<Class<? extends Query>> SEGMENT_LOCAL_QUERIES = Sets.newHashSet(
+        BooleanQuery.class, BoostQuery.class, ConstantScoreQuery.class, DisjunctionMaxQuery.class, IndexOrDocValuesQuery.class,
+        TermQuery.class, TermInSetQuery.class, SynonymQuery.class, PhraseQuery.class, MultiPhraseQuery.class, PointRangeQuery.class,
+        PointInSetQuery.class, MatchAllDocsQuery.class, MatchNoDocsQuery.class, DocValuesFieldExistsQuery.class,
+        NormsFieldExistsQuery.class, FunctionScoreQuery.class);
+
+    /**
+     * The doc values queries of {@link IndexOrDocValuesQuery} are package private in Lucene.
+     */
+    private static final Set<String> SEGMENT_LOCAL_QUERY_CLASS_NAMES = Sets.newHashSet(
+        "org.apache.lucene.document.SortedNumericDocValuesRangeQuery", "org.apache.lucene.document.SortedSetDocValuesRangeQuery",
+        "org.apache.lucene.document.SortedNumericDocValuesSetQuery");
+
+    /**
+     * Returns true if the docs that the query matches in a segment don't depend on the other segments of the shard. Only the queries
+     * that are known to match segment by segment are accepted: terms that are selected across segments (top terms rewrites, more
+     * like this, common terms), joins through shard level global ordinals (has_child, has_parent) or scores that a minimum score is
+     * compared to make the matches of a segment change when other segments change, and the segment level cache entries are not
+     * invalidated when that happens.
+     */
+    static boolean matchesIndependentlyOfOtherSegments(Query query) {
+        final boolean[] independent = new boolean[] { true };
+        query.visit(new QueryVisitor() {
+            @Override
+            public void consumeTerms(Query query, Term... terms) {
+                check(query);
+            }
+
+            @Override
+            public void visitLeaf(Query leaf) {
+                check(leaf);
+            }
+
+            @Override
+            public QueryVisitor getSubVisitor(BooleanClause.Occur occur, Query parent) {
+                // prohibited clauses count too
+                check(parent);
+                return this;
+            }
+
+            private void check(Query query) {
+                if (isSegmentLocal(query) == false) {
+                    independent[0] = false;
+                }
+            }
+        });
+        return independent[0];
+    }
+
+    private static boolean isSegmentLocal(Query query) {
+        if (query instanceof FunctionScoreQuery) {
+            return ((FunctionScoreQuery) query).getMinScore() == null;
+        }
+        if (query instanceof MultiTermQuery) {
+            // prefix, wildcard, regexp and range queries match all the terms of the segment, unless they keep the top terms only
+            final MultiTermQuery.RewriteMethod rewriteMethod = ((MultiTermQuery) query).getRewriteMethod();
+            return rewriteMethod == MultiTermQuery.CONSTANT_SCORE_REWRITE
+                || rewriteMethod == MultiTermQuery.CONSTANT_SCORE_BOOLEAN_REWRITE
+                || rewriteMethod == MultiTermQuery.SCORING_BOOLEAN_REWRITE
+                || rewriteMethod instanceof DocValuesRewriteMethod;
+        }
+        for (Class<?> clazz = query.getClass(); clazz != Query.class && clazz != null; clazz = clazz.getSuperclass()) {
+            // anonymous subclasses of the point queries are created by the field types
+            if (SEGMENT_LOCAL_QUERIES.contains(clazz) || SEGMENT_LOCAL_QUERY_CLASS_NAMES.contains(clazz.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public ByteSizeValue getTotalIndexingBufferBytes() {
         return indexingMemoryController.indexingBufferSize();
     }
@@ -1463,6 +1592,40 @@ public class IndicesService extends AbstractLifecycleComponent
         return indicesRequestCache.getOrCompute(cacheEntity, supplier, reader, cacheKey);
     }
 
+    /**
+     * Caches the results of the aggregations of a request per segment in the request cache, serialized like the results of
+     * shard requests.
+     */
+    private final class IndexShardSegmentAggregationsCache implements SegmentAggregationsCache {
+        private final IndexShardCacheEntity cacheEntity;
+        private final BytesReference cacheKey;
+
+        private IndexShardSegmentAggregationsCache(IndexShard shard, BytesReference cacheKey) {
+            this.cacheEntity = new IndexShardCacheEntity(shard);
+            this.cacheKey = cacheKey;
+        }
+
+        @Override
+        public InternalAggregations get(LeafReaderContext leaf) throws IOException {
+            final BytesReference bytes = indicesRequestCache.getSegmentResult(cacheEntity, leaf.reader(), cacheKey);
+            if (bytes == null) {
+                return null;
+            }
+            try (StreamInput in = new NamedWriteableAwareStreamInput(bytes.streamInput(), namedWriteableRegistry)) {
+                return InternalAggregations.readFrom(in);
+            }
+        }
+
+        @Override
+        public void put(LeafReaderContext leaf, InternalAggregations aggregations) throws IOException {
+            // see cacheShardLevelResult for the expected size
+            try (BytesStreamOutput out = new BytesStreamOutput(512)) {
+                aggregations.writeTo(out);
+                indicesRequestCache.putSegmentResult(cacheEntity, leaf.reader(), cacheKey, out.bytes());
+            }
+        }
+    }
+
     static final class IndexShardCacheEntity extends AbstractIndexShardCacheEntity {
         private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(IndexShardCacheEntity.class);
         private final IndexShard indexShard;
@@ -0,0 +1,250 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefIterator;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * The on-disk tier of the {@link IndicesRequestCache}: a memory-mapped file of a fixed size that values evicted from the heap
+ * spill into. The file is written like a ring buffer, values are appended after the last one and overwrite the oldest ones
+ * once the end of the file is reached, so the tier evicts in insertion order. The keys and the locations of the values stay
+ * on heap, the tier also evicts its oldest values once they take more heap than it is allowed, see {@link #indexRamBytesUsed}.
+ * <p>
+ * The file is split into regions that are mapped separately since a mapping can't exceed 2GB. A value never spans regions,
+ * values larger than a region aren't stored. The file only lives as long as the node, it is deleted when opened and closed.
+ */
+final class RequestCacheDiskTier<K> implements Closeable {
+
+    private static final Logger logger = LogManager.getLogger(RequestCacheDiskTier.class);
+
+    static final int DEFAULT_REGION_SIZE = 1 << 30;
+
+    // the heap that a value takes besides its key: a node of each map, about a header and five references each, its location
+    // and its boxed address
+    static final long ENTRY_RAM_BYTES_USED = 2 * (RamUsageEstimator.NUM_BYTES_OBJECT_HEADER + 5 * RamUsageEstimator.NUM_BYTES_OBJECT_REF)
+        + RamUsageEstimator.shallowSizeOfInstance(Location.class) + RamUsageEstimator.shallowSizeOfInstance(Long.class);
+
+    /**
+     * Called when a value is removed from the tier: {@code evicted} if it was overwritten by another value.
+     */
+    interface RemovalListener<K> {
+        void onRemoval(K key, int length, boolean evicted);
+    }
+
+    private final Path file;
+    private final long regionSize;
+    private final MappedByteBuffer[] regions;
+    private final RemovalListener<K> removalListener;
+    private final long maxIndexRamBytes;
+    private final ToLongFunction<K> keyRamBytesUsed;
+    private final Map<K, Location> locations = new HashMap<>();
+    // the keys by address of their value, to find the values that a write overwrites
+    private final NavigableMap<Long, K> keysByAddress = new TreeMap<>();
+    private long sizeInBytes;
+    private long indexRamBytesUsed;
+    private int writeRegion;
+    private long writeOffset;
+
+    /**
+     * @param maxIndexRamBytes how much heap the keys and locations of the values may take
+     * @param keyRamBytesUsed  the heap that a key takes
+     */
+    RequestCacheDiskTier(Path file, long capacity, int regionSize, long maxIndexRamBytes, ToLongFunction<K> keyRamBytesUsed,
+                         RemovalListener<K> removalListener) throws IOException {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive but was [" + capacity + "]");
+        }
+        this.file = file;
+        this.regionSize = regionSize;
+        this.maxIndexRamBytes = maxIndexRamBytes;
+        this.keyRamBytesUsed = keyRamBytesUsed;
+        this.removalListener = removalListener;
+        this.regions = new MappedByteBuffer[Math.toIntExact((capacity + regionSize - 1) / regionSize)];
+        Files.createDirectories(file.getParent());
+        Files.deleteIfExists(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            for (int i = 0; i < regions.length; i++) {
+                final long start = (long) i * regionSize;
+                regions[i] = channel.map(FileChannel.MapMode.READ_WRITE, start, Math.min(regionSize, capacity - start));
+            }
+        }
+    }
+
+    /**
+     * Stores the value of the given key, overwriting the oldest values if there is not enough space left. Returns false if the
+     * value is empty, larger than a region or its key takes more heap than the tier may take, and wasn't stored.
+     */
+    synchronized boolean put(K key, BytesReference value) throws IOException {
+        final int length = value.length();
+        final long entryRamBytesUsed = entryRamBytesUsed(key);
+        if (length == 0 || length > regions[0].capacity() || entryRamBytesUsed > maxIndexRamBytes) {
+            return false;
+        }
+        invalidate(key);
+        if (writeOffset + length > regions[writeRegion].capacity()) {
+            // the rest of the region is too small, its values are overwritten on the next pass
+            writeRegion = (writeRegion + 1) % regions.length;
+            writeOffset = 0;
+            if (length > regions[writeRegion].capacity()) {
+                // only the last region can be smaller than the others
+                writeRegion = 0;
+            }
+        }
+        final long address = writeRegion * regionSize + writeOffset;
+        // the values at the addresses that this write overwrites are from the previous pass over the file
+        for (Iterator<K> it = keysByAddress.subMap(address, address + length).values().iterator(); it.hasNext(); ) {
+            final K overwritten = it.next();
+            it.remove();
+            evict(overwritten);
+        }
+        final ByteBuffer buffer = regions[writeRegion].duplicate();
+        buffer.position(Math.toIntExact(writeOffset));
+        final BytesRefIterator iterator = value.iterator();
+        BytesRef ref;
+        while ((ref = iterator.next()) != null) {
+            buffer.put(ref.bytes, ref.offset, ref.length);
+        }
+        locations.put(key, new Location(address, length, entryRamBytesUsed));
+        keysByAddress.put(address, key);
+        sizeInBytes += length;
+        indexRamBytesUsed += entryRamBytesUsed;
+        writeOffset += length;
+        // the oldest values are the ones that the next writes overwrite
+        while (indexRamBytesUsed > maxIndexRamBytes) {
+            Map.Entry<Long, K> oldest = keysByAddress.ceilingEntry(address + length);
+            if (oldest == null) {
+                oldest = keysByAddress.firstEntry();
+            }
+            keysByAddress.remove(oldest.getKey());
+            evict(oldest.getValue());
+        }
+        return true;
+    }
+
+    private void evict(K key) {
+        final Location location = locations.remove(key);
+        sizeInBytes -= location.length;
+        indexRamBytesUsed -= location.ramBytesUsed;
+        removalListener.onRemoval(key, location.length, true);
+    }
+
+    /**
+     * The heap that the tier keeps for the value of the given key.
+     */
+    long entryRamBytesUsed(K key) {
+        return keyRamBytesUsed.applyAsLong(key) + ENTRY_RAM_BYTES_USED;
+    }
+
+    /**
+     * Removes the value of the given key and returns it, or returns {@code null} if there is none.
+     */
+    synchronized BytesReference remove(K key) {
+        final Location location = locations.get(key);
+        if (location == null) {
+            return null;
+        }
+        final byte[] bytes = new byte[location.length];
+        final ByteBuffer buffer = regions[Math.toIntExact(location.address / regionSize)].duplicate();
+        buffer.position(Math.toIntExact(location.address % regionSize));
+        buffer.get(bytes);
+        invalidate(key);
+        return new BytesArray(bytes);
+    }
+
+    /**
+     * Removes the values of all the keys that match the given predicate.
+     */
+    synchronized void invalidateAll(Predicate<K> predicate) {
+        for (Iterator<K> it = keysByAddress.values().iterator(); it.hasNext(); ) {
+            final K key = it.next();
+            if (predicate.test(key)) {
+                it.remove();
+                final Location location = locations.remove(key);
+                sizeInBytes -= location.length;
+                indexRamBytesUsed -= location.ramBytesUsed;
+                removalListener.onRemoval(key, location.length, false);
+            }
+        }
+    }
+
+    /**
+     * Removes the value of the given key if there is one.
+     */
+    synchronized void invalidate(K key) {
+        final Location location = locations.remove(key);
+        if (location != null) {
+            keysByAddress.remove(location.address);
+            sizeInBytes -= location.length;
+            indexRamBytesUsed -= location.ramBytesUsed;
+            removalListener.onRemoval(key, location.length, false);
+        }
+    }
+
+    synchronized int count() {
+        return locations.size();
+    }
+
+    synchronized long sizeInBytes() {
+        return sizeInBytes;
+    }
+
+    /**
+     * The heap taken by the keys and the locations of the values.
+     */
+    synchronized long indexRamBytesUsed() {
+        return indexRamBytesUsed;
+    }
+
+    @Override
+    public synchronized void close() {
+        invalidateAll(key -> true);
+        // the regions are unmapped once they are garbage collected, which some file systems require to delete the file
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn(new ParameterizedMessage("failed to delete the request cache file [{}]", file), e);
+        }
+    }
+
+    private static final class Location {
+        final long address;
+        final int length;
+        final long ramBytesUsed;
+
+        Location(long address, int length, long ramBytesUsed) {
+            this.address = address;
+            this.length = length;
+            this.ramBytesUsed = ramBytesUsed;
+        }
+    }
+}
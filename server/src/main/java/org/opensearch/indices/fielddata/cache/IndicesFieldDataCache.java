@@ -56,12 +56,19 @@ import org.opensearch.index.Index;
 import org.opensearch.index.fielddata.LeafFieldData;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.IndexFieldDataCache;
+import org.opensearch.index.fielddata.IndexOrdinalsFieldData;
+import org.opensearch.index.fielddata.ordinals.GlobalOrdinalsBuilder;
+import org.opensearch.index.fielddata.ordinals.GlobalOrdinalsIndexFieldData;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.shard.ShardUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 import java.util.function.ToLongBiFunction;
 
 public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCache.Key, Accountable>, Releasable{
@@ -70,6 +77,8 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
 
     public static final Setting<ByteSizeValue> INDICES_FIELDDATA_CACHE_SIZE_KEY =
         Setting.memorySizeSetting("indices.fielddata.cache.size", new ByteSizeValue(-1), Property.NodeScope);
+    public static final Setting<Cache.EvictionPolicy> INDICES_FIELDDATA_CACHE_EVICTION_POLICY =
+        new Setting<>("indices.fielddata.cache.eviction_policy", "lru", Cache.EvictionPolicy::parse, Property.NodeScope);
     private final IndexFieldDataCache.Listener indicesFieldDataCacheListener;
     private final Cache<Key, Accountable> cache;
 
@@ -77,7 +86,7 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
         this.indicesFieldDataCacheListener = indicesFieldDataCacheListener;
         final long sizeInBytes = INDICES_FIELDDATA_CACHE_SIZE_KEY.get(settings).getBytes();
         CacheBuilder<Key, Accountable> cacheBuilder = CacheBuilder.<Key, Accountable>builder()
-                .removalListener(this);
+                .removalListener(this).setEvictionPolicy(INDICES_FIELDDATA_CACHE_EVICTION_POLICY.get(settings));
         if (sizeInBytes > 0) {
             cacheBuilder.setMaximumWeight(sizeInBytes).weigher(new FieldDataWeigher());
         }
@@ -103,11 +112,18 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
         assert key != null && key.listeners != null;
         IndexFieldCache indexCache = key.indexCache;
         final Accountable value = notification.getValue();
+        final boolean evicted = notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED
+            || notification.getRemovalReason() == RemovalNotification.RemovalReason.EXPIRED;
+        long sizeInBytes = value.ramBytesUsed();
+        if (value instanceof GlobalOrdinalsIndexFieldData && key.shardId != null) {
+            sizeInBytes -= indexCache.onGlobalOrdinalsRemoved(key.shardId,
+                ((GlobalOrdinalsIndexFieldData) value).getReusableOrdinalMap(), evicted);
+        }
         for (IndexFieldDataCache.Listener listener : key.listeners) {
             try {
                 listener.onRemoval(
                     key.shardId, indexCache.fieldName,
-                    notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED, value.ramBytesUsed()
+                    evicted, sizeInBytes
                 );
             } catch (Exception e) {
                 // load anyway since listeners should not throw exceptions
@@ -133,6 +149,8 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
         final String fieldName;
         private final Cache<Key, Accountable> cache;
         private final Listener[] listeners;
+        // the ordinal map of the last global ordinals built for each shard, to be reused if the next reader has the same segments
+        private final Map<ShardId, KeptOrdinalMap> reusableOrdinalMaps = new HashMap<>(); // guarded by this
 
         IndexFieldCache(Logger logger,final Cache<Key, Accountable> cache, Index index, String fieldName, Listener... listeners) {
             this.logger = logger;
@@ -152,8 +170,11 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
                 throw new IllegalArgumentException("Reader " + context.reader() + " does not support caching");
             }
             final Key key = new Key(this, cacheHelper.getKey(), shardId);
+            final boolean[] loaded = new boolean[1];
             //noinspection unchecked
             final Accountable accountable = cache.computeIfAbsent(key, k -> {
+                loaded[0] = true;
+                onLookup(shardId, false);
                 cacheHelper.addClosedListener(IndexFieldCache.this);
                 Collections.addAll(k.listeners, this.listeners);
                 final LeafFieldData fieldData = indexFieldData.loadDirect(context);
@@ -167,6 +188,9 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
                 }
                 return fieldData;
             });
+            if (loaded[0] == false) {
+                onLookup(shardId, true);
+            }
             return (FD) accountable;
         }
 
@@ -180,11 +204,14 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
                 throw new IllegalArgumentException("Reader " + indexReader + " does not support caching");
             }
             final Key key = new Key(this, cacheHelper.getKey(), shardId);
+            final boolean[] loaded = new boolean[1];
             //noinspection unchecked
             final Accountable accountable = cache.computeIfAbsent(key, k -> {
+                loaded[0] = true;
+                onLookup(shardId, false);
                 OpenSearchDirectoryReader.addReaderCloseListener(indexReader, IndexFieldCache.this);
                 Collections.addAll(k.listeners, this.listeners);
-                final Accountable ifd = (Accountable) indexFieldData.loadGlobalDirect(indexReader);
+                final Accountable ifd = loadGlobalDirect(indexReader, indexFieldData, shardId);
                 for (Listener listener : k.listeners) {
                     try {
                         listener.onCache(shardId, fieldName, ifd);
@@ -195,17 +222,125 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
                 }
                 return ifd;
             });
+            if (loaded[0] == false) {
+                onLookup(shardId, true);
+            }
             return (IFD) accountable;
         }
 
+        private Accountable loadGlobalDirect(DirectoryReader indexReader, IndexFieldData.Global<?> indexFieldData,
+                                             @Nullable ShardId shardId) throws Exception {
+            if (indexFieldData instanceof IndexOrdinalsFieldData == false || shardId == null) {
+                return (Accountable) indexFieldData.loadGlobalDirect(indexReader);
+            }
+            final IndexOrdinalsFieldData fieldData = ((IndexOrdinalsFieldData) indexFieldData).loadGlobalDirect(indexReader,
+                getReusableOrdinalMap(shardId));
+            if (fieldData instanceof GlobalOrdinalsIndexFieldData) {
+                final GlobalOrdinalsIndexFieldData globalOrdinals = (GlobalOrdinalsIndexFieldData) fieldData;
+                final GlobalOrdinalsBuilder.ReusableOrdinalMap reusableOrdinalMap = globalOrdinals.getReusableOrdinalMap();
+                if (reusableOrdinalMap != null) {
+                    // forget the ordinal map as soon as one of its segments is closed since it can't be reused anymore
+                    reusableOrdinalMap.addClosedListener(indexReader, this);
+                }
+                final KeptOrdinalMap previous;
+                synchronized (this) {
+                    previous = reusableOrdinalMap == null ? reusableOrdinalMaps.remove(shardId)
+                        : reusableOrdinalMaps.put(shardId, new KeptOrdinalMap(reusableOrdinalMap, globalOrdinals.ramBytesUsed()));
+                }
+                release(shardId, previous);
+                for (Listener listener : listeners) {
+                    try {
+                        listener.onGlobalOrdinalsBuilt(shardId, fieldName, globalOrdinals.getBuildTimeInNanos(),
+                            globalOrdinals.isOrdinalMapReused());
+                    } catch (Exception e) {
+                        // listeners should not throw exceptions
+                        logger.error("Failed to call listener on global ordinals building", e);
+                    }
+                }
+            }
+            return (Accountable) fieldData;
+        }
+
+        private synchronized GlobalOrdinalsBuilder.ReusableOrdinalMap getReusableOrdinalMap(ShardId shardId) {
+            final KeptOrdinalMap kept = reusableOrdinalMaps.get(shardId);
+            return kept == null ? null : kept.reusableOrdinalMap;
+        }
+
+        /**
+         * Called when global ordinals of this field are removed from the cache. Returns the bytes of the global ordinals that
+         * stay accounted for because their ordinal map is kept for reuse, until it is reused or forgotten. The map is forgotten
+         * right away if the global ordinals were evicted, the cache needs the memory back then.
+         */
+        synchronized long onGlobalOrdinalsRemoved(ShardId shardId, @Nullable GlobalOrdinalsBuilder.ReusableOrdinalMap reusableOrdinalMap,
+                                                  boolean evicted) {
+            final KeptOrdinalMap kept = reusableOrdinalMaps.get(shardId);
+            if (reusableOrdinalMap == null || kept == null || kept.reusableOrdinalMap != reusableOrdinalMap) {
+                return 0;
+            }
+            if (evicted) {
+                reusableOrdinalMaps.remove(shardId);
+                return 0;
+            }
+            kept.accounted = true;
+            return kept.sizeInBytes;
+        }
+
+        /**
+         * Releases the bytes of a forgotten ordinal map if they were still accounted for.
+         */
+        private void release(ShardId shardId, @Nullable KeptOrdinalMap kept) {
+            if (kept == null || kept.accounted == false) {
+                return;
+            }
+            for (Listener listener : listeners) {
+                try {
+                    listener.onRemoval(shardId, fieldName, false, kept.sizeInBytes);
+                } catch (Exception e) {
+                    // listeners should not throw exceptions
+                    logger.error("Failed to call listener on ordinal map unloading", e);
+                }
+            }
+        }
+
+        private void releaseReusableOrdinalMaps(Predicate<KeptOrdinalMap> predicate) {
+            final Map<ShardId, KeptOrdinalMap> removed = new HashMap<>();
+            synchronized (this) {
+                for (Iterator<Map.Entry<ShardId, KeptOrdinalMap>> it = reusableOrdinalMaps.entrySet().iterator(); it.hasNext(); ) {
+                    final Map.Entry<ShardId, KeptOrdinalMap> entry = it.next();
+                    if (predicate.test(entry.getValue())) {
+                        removed.put(entry.getKey(), entry.getValue());
+                        it.remove();
+                    }
+                }
+            }
+            removed.forEach(this::release);
+        }
+
+        private void onLookup(ShardId shardId, boolean hit) {
+            for (Listener listener : listeners) {
+                try {
+                    if (hit) {
+                        listener.onHit(shardId, fieldName);
+                    } else {
+                        listener.onMiss(shardId, fieldName);
+                    }
+                } catch (Exception e) {
+                    // listeners should not throw exceptions
+                    logger.error("Failed to call listener on field data cache lookup", e);
+                }
+            }
+        }
+
         @Override
         public void onClose(CacheKey key) throws IOException {
             cache.invalidate(new Key(this, key, null));
+            releaseReusableOrdinalMaps(kept -> kept.reusableOrdinalMap.containsSegment(key));
             // don't call cache.cleanUp here as it would have bad performance implications
         }
 
         @Override
         public void clear() {
+            releaseReusableOrdinalMaps(kept -> true);
             for (Key key : cache.keys()) {
                 if (key.indexCache.index.equals(index)) {
                     cache.invalidate(key);
@@ -217,6 +352,9 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
 
         @Override
         public void clear(String fieldName) {
+            if (this.fieldName.equals(fieldName)) {
+                releaseReusableOrdinalMaps(kept -> true);
+            }
             for (Key key : cache.keys()) {
                 if (key.indexCache.index.equals(index)) {
                     if (key.indexCache.fieldName.equals(fieldName)) {
@@ -231,6 +369,21 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
         }
     }
 
+    /**
+     * An ordinal map that is kept for reuse, {@code accounted} for by the cache once the global ordinals it was built for are
+     * removed from the cache.
+     */
+    private static final class KeptOrdinalMap {
+        final GlobalOrdinalsBuilder.ReusableOrdinalMap reusableOrdinalMap;
+        final long sizeInBytes;
+        boolean accounted; // guarded by the index field cache
+
+        KeptOrdinalMap(GlobalOrdinalsBuilder.ReusableOrdinalMap reusableOrdinalMap, long sizeInBytes) {
+            this.reusableOrdinalMap = reusableOrdinalMap;
+            this.sizeInBytes = sizeInBytes;
+        }
+    }
+
     public static class Key {
         public final IndexFieldCache indexCache;
         public final IndexReader.CacheKey readerKey;
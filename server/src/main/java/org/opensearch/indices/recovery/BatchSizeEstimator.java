@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Sizes the batches that a recovery sends so that the batches in flight keep the link to the target busy: together they should
+ * be at least as large as the bandwidth-delay product of the link. The bandwidth is estimated by the highest rate at which the
+ * target acknowledged bytes, and the delay by the lowest round trip time of a batch.
+ * <p>
+ * As long as the batches in flight limit the rate, the rate measures the size in flight rather than the bandwidth. Sizing the
+ * batches for twice the estimated product then doubles the size in flight each round trip, until the link or the target is
+ * saturated and the rate stops growing.
+ */
+final class BatchSizeEstimator {
+
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final int maxConcurrentBatches;
+    private final LongSupplier relativeTimeInNanos;
+
+    private long acknowledgedBytes;
+    private double maxBytesPerNano;
+    private long minRoundTripNanos = Long.MAX_VALUE;
+
+    BatchSizeEstimator(int minBatchSize, int maxBatchSize, int maxConcurrentBatches, LongSupplier relativeTimeInNanos) {
+        assert minBatchSize > 0 && minBatchSize <= maxBatchSize : minBatchSize + " > " + maxBatchSize;
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.maxConcurrentBatches = maxConcurrentBatches;
+        this.relativeTimeInNanos = relativeTimeInNanos;
+    }
+
+    /**
+     * Returns the size in bytes that the next batch should have.
+     */
+    synchronized int batchSize() {
+        if (minRoundTripNanos == Long.MAX_VALUE) {
+            return minBatchSize;
+        }
+        final double bandwidthDelayProduct = maxBytesPerNano * minRoundTripNanos;
+        final double batchSize = Math.ceil(2 * bandwidthDelayProduct / maxConcurrentBatches);
+        return (int) Math.max(minBatchSize, Math.min(maxBatchSize, batchSize));
+    }
+
+    /**
+     * Records that a batch of the given size is sent. The returned batch must be passed to {@link #onAcknowledged} once the target
+     * acknowledged it.
+     */
+    synchronized SentBatch onSent(long sizeInBytes) {
+        return new SentBatch(sizeInBytes, acknowledgedBytes, relativeTimeInNanos.getAsLong());
+    }
+
+    synchronized void onAcknowledged(SentBatch batch) {
+        final long roundTripNanos = Math.max(1L, relativeTimeInNanos.getAsLong() - batch.sentAtNanos);
+        acknowledgedBytes += batch.sizeInBytes;
+        minRoundTripNanos = Math.min(minRoundTripNanos, roundTripNanos);
+        // the rate at which the target acknowledged bytes while the batch was in flight, including the batch itself
+        maxBytesPerNano = Math.max(maxBytesPerNano, (double) (acknowledgedBytes - batch.acknowledgedBytesWhenSent) / roundTripNanos);
+    }
+
+    static final class SentBatch {
+        private final long sizeInBytes;
+        private final long acknowledgedBytesWhenSent;
+        private final long sentAtNanos;
+
+        private SentBatch(long sizeInBytes, long acknowledgedBytesWhenSent, long sentAtNanos) {
+            this.sizeInBytes = sizeInBytes;
+            this.acknowledgedBytesWhenSent = acknowledgedBytesWhenSent;
+            this.sentAtNanos = sentAtNanos;
+        }
+    }
+}
@@ -342,7 +342,8 @@ public class PeerRecoverySourceService extends AbstractLifecycleComponent implem
                 handler = new RecoverySourceHandler(shard, recoveryTarget, shard.getThreadPool(), request,
                     Math.toIntExact(recoverySettings.getChunkSize().getBytes()),
                     recoverySettings.getMaxConcurrentFileChunks(),
-                    recoverySettings.getMaxConcurrentOperations());
+                    recoverySettings.getMaxConcurrentOperations(),
+                    recoverySettings.getMaxConcurrentFiles());
                 return Tuple.tuple(handler, recoveryTarget);
             }
         }
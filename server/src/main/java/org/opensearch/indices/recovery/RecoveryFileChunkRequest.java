@@ -33,16 +33,22 @@
 package org.opensearch.indices.recovery;
 
 import org.apache.lucene.util.Version;
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.transport.TrailingBytesTransportRequest;
 
 import java.io.IOException;
 
-public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
+public final class RecoveryFileChunkRequest extends RecoveryTransportRequest implements TrailingBytesTransportRequest {
+
+    // the content is written last since 1.0, so that the network layer can send it straight from the file
+    private static final org.opensearch.Version CONTENT_LAST_VERSION = org.opensearch.Version.V_1_0_0;
+
     private final boolean lastChunk;
     private final long recoveryId;
     private final ShardId shardId;
@@ -61,13 +67,15 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
         position = in.readVLong();
         long length = in.readVLong();
         String checksum = in.readString();
-        content = in.readBytesReference();
+        final boolean contentLast = in.getVersion().onOrAfter(CONTENT_LAST_VERSION);
+        final BytesReference inlineContent = contentLast ? null : in.readBytesReference();
         Version writtenBy = Lucene.parseVersionLenient(in.readString(), null);
         assert writtenBy != null;
         metadata = new StoreFileMetadata(name, length, checksum, writtenBy);
         lastChunk = in.readBoolean();
         totalTranslogOps = in.readVInt();
         sourceThrottleTimeInNanos = in.readLong();
+        content = contentLast ? in.readBytesReference() : inlineContent;
     }
 
     public RecoveryFileChunkRequest(long recoveryId, final long requestSeqNo, ShardId shardId, StoreFileMetadata metadata, long position,
@@ -117,6 +125,12 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
+        writeThin(out).writeTo(out);
+    }
+
+    @Override
+    public BytesReference writeThin(StreamOutput out) throws IOException {
+        final boolean contentLast = out.getVersion().onOrAfter(CONTENT_LAST_VERSION);
         super.writeTo(out);
         out.writeLong(recoveryId);
         shardId.writeTo(out);
@@ -124,11 +138,19 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
         out.writeVLong(position);
         out.writeVLong(metadata.length());
         out.writeString(metadata.checksum());
-        out.writeBytesReference(content);
+        if (contentLast == false) {
+            out.writeBytesReference(content);
+        }
         out.writeString(metadata.writtenBy().toString());
         out.writeBoolean(lastChunk);
         out.writeVInt(totalTranslogOps);
         out.writeLong(sourceThrottleTimeInNanos);
+        if (contentLast == false) {
+            return BytesArray.EMPTY;
+        }
+        // the length that prefixes the content when it is read as a bytes reference
+        out.writeVInt(content.length());
+        return content;
     }
 
     @Override
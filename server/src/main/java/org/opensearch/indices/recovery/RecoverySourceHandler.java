@@ -38,6 +38,9 @@ import org.apache.lucene.index.CorruptIndexException;
 import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexFormatTooNewException;
 import org.apache.lucene.index.IndexFormatTooOldException;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FilterDirectory;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.RateLimiter;
@@ -57,6 +60,7 @@ import org.opensearch.common.CheckedRunnable;
 import org.opensearch.common.StopWatch;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.FileRegionBytesReference;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.logging.Loggers;
@@ -64,6 +68,7 @@ import org.opensearch.common.lucene.store.InputStreamIndexInput;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.CancellableThreads;
+import org.opensearch.common.util.concurrent.CountDown;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.FutureUtils;
 import org.opensearch.common.util.concurrent.ListenableFuture;
@@ -88,8 +93,9 @@ import org.opensearch.transport.Transports;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
@@ -101,8 +107,10 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.IntSupplier;
+import java.util.function.Supplier;
 import java.util.stream.StreamSupport;
 
 /**
@@ -127,6 +135,7 @@ public class RecoverySourceHandler {
     private final int chunkSizeInBytes;
     private final RecoveryTargetHandler recoveryTarget;
     private final int maxConcurrentFileChunks;
+    private final int maxConcurrentFiles;
     private final int maxConcurrentOperations;
     private final ThreadPool threadPool;
     private final CancellableThreads cancellableThreads = new CancellableThreads();
@@ -135,7 +144,7 @@ public class RecoverySourceHandler {
 
     public RecoverySourceHandler(IndexShard shard, RecoveryTargetHandler recoveryTarget, ThreadPool threadPool,
                                  StartRecoveryRequest request, int fileChunkSizeInBytes, int maxConcurrentFileChunks,
-                                 int maxConcurrentOperations) {
+                                 int maxConcurrentOperations, int maxConcurrentFiles) {
         this.shard = shard;
         this.recoveryTarget = recoveryTarget;
         this.threadPool = threadPool;
@@ -145,6 +154,7 @@ public class RecoverySourceHandler {
         this.chunkSizeInBytes = fileChunkSizeInBytes;
         // if the target is on an old version, it won't be able to handle out-of-order file chunks.
         this.maxConcurrentFileChunks = request.targetNode().getVersion().onOrAfter(LegacyESVersion.V_6_7_0) ? maxConcurrentFileChunks : 1;
+        this.maxConcurrentFiles = request.targetNode().getVersion().onOrAfter(LegacyESVersion.V_6_7_0) ? maxConcurrentFiles : 1;
         this.maxConcurrentOperations = maxConcurrentOperations;
     }
 
@@ -716,12 +726,19 @@ public class RecoverySourceHandler {
         sender.start();
     }
 
+    /**
+     * The largest batch of operations that phase 2 sends, as a multiple of the chunk size that batches start with.
+     */
+    static final long MAX_OPERATION_BATCH_SIZE_IN_CHUNKS = 16;
+
     private static class OperationChunkRequest implements MultiChunkTransfer.ChunkRequest {
         final List<Translog.Operation> operations;
+        final long sizeInBytes;
         final boolean lastChunk;
 
-        OperationChunkRequest(List<Translog.Operation> operations, boolean lastChunk) {
+        OperationChunkRequest(List<Translog.Operation> operations, long sizeInBytes, boolean lastChunk) {
             this.operations = operations;
+            this.sizeInBytes = sizeInBytes;
             this.lastChunk = lastChunk;
         }
 
@@ -740,6 +757,7 @@ public class RecoverySourceHandler {
         private final RetentionLeases retentionLeases;
         private final long mappingVersion;
         private int lastBatchCount = 0; // used to estimate the count of the subsequent batch.
+        private final BatchSizeEstimator batchSizes;
         private final AtomicInteger skippedOps = new AtomicInteger();
         private final AtomicInteger sentOps = new AtomicInteger();
         private final AtomicLong targetLocalCheckpoint = new AtomicLong(SequenceNumbers.NO_OPS_PERFORMED);
@@ -755,6 +773,10 @@ public class RecoverySourceHandler {
             this.maxSeqNoOfUpdatesOrDeletes = maxSeqNoOfUpdatesOrDeletes;
             this.retentionLeases = retentionLeases;
             this.mappingVersion = mappingVersion;
+            // batches grow from the chunk size with the throughput and round trip time to the target
+            this.batchSizes = new BatchSizeEstimator(chunkSizeInBytes,
+                Math.toIntExact(Math.min(Integer.MAX_VALUE, MAX_OPERATION_BATCH_SIZE_IN_CHUNKS * chunkSizeInBytes)),
+                maxConcurrentOperations, System::nanoTime);
         }
 
         @Override
@@ -764,6 +786,7 @@ public class RecoverySourceHandler {
             assert Transports.assertNotTransportThread("[phase2]");
             cancellableThreads.checkForCancel();
             final List<Translog.Operation> ops = lastBatchCount > 0 ? new ArrayList<>(lastBatchCount) : new ArrayList<>();
+            final int maxBatchSizeInBytes = batchSizes.batchSize();
             long batchSizeInBytes = 0L;
             Translog.Operation operation;
             while ((operation = snapshot.next()) != null) {
@@ -780,17 +803,18 @@ public class RecoverySourceHandler {
                 sentOps.incrementAndGet();
 
                 // check if this request is past bytes threshold, and if so, send it off
-                if (batchSizeInBytes >= chunkSizeInBytes) {
+                if (batchSizeInBytes >= maxBatchSizeInBytes) {
                     break;
                 }
             }
             lastBatchCount = ops.size();
-            return new OperationChunkRequest(ops, operation == null);
+            return new OperationChunkRequest(ops, batchSizeInBytes, operation == null);
         }
 
         @Override
         protected void executeChunkRequest(OperationChunkRequest request, ActionListener<Void> listener) {
             cancellableThreads.checkForCancel();
+            final BatchSizeEstimator.SentBatch sentBatch = batchSizes.onSent(request.sizeInBytes);
             recoveryTarget.indexTranslogOperations(
                 request.operations,
                 snapshot.totalOperations(),
@@ -799,6 +823,7 @@ public class RecoverySourceHandler {
                 retentionLeases,
                 mappingVersion,
                 ActionListener.delegateFailure(listener, (l, newCheckpoint) -> {
+                    batchSizes.onAcknowledged(sentBatch);
                     targetLocalCheckpoint.updateAndGet(curr -> SequenceNumbers.max(curr, newCheckpoint));
                     l.onResponse(null);
                 }));
@@ -912,8 +937,52 @@ public class RecoverySourceHandler {
     void sendFiles(Store store, StoreFileMetadata[] files, IntSupplier translogOps, ActionListener<Void> listener) {
         ArrayUtil.timSort(files, Comparator.comparingLong(StoreFileMetadata::length)); // send smallest first
 
+        // the files are dealt out to the senders in turn, so that each of them sends its smallest files first
+        final int numSenders = Math.max(1, Math.min(maxConcurrentFiles, files.length));
+        final List<List<StoreFileMetadata>> filesPerSender = new ArrayList<>(numSenders);
+        for (int i = 0; i < numSenders; i++) {
+            filesPerSender.add(new ArrayList<>());
+        }
+        for (int i = 0; i < files.length; i++) {
+            filesPerSender.get(i % numSenders).add(files[i]);
+        }
+        // a failure stops the other senders at their next chunk, sending the files completes once all of them stopped
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        final CountDown pendingSenders = new CountDown(numSenders);
+        final ActionListener<Void> senderListener = new ActionListener<Void>() {
+            @Override
+            public void onResponse(Void aVoid) {
+                onSenderCompleted();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                failure.compareAndSet(null, e);
+                onSenderCompleted();
+            }
+
+            private void onSenderCompleted() {
+                if (pendingSenders.countDown()) {
+                    if (failure.get() == null) {
+                        listener.onResponse(null);
+                    } else {
+                        listener.onFailure(failure.get());
+                    }
+                }
+            }
+        };
+        for (List<StoreFileMetadata> senderFiles : filesPerSender) {
+            sendFiles(store, senderFiles, translogOps, failure::get, senderListener);
+        }
+    }
+
+    private void sendFiles(Store store, List<StoreFileMetadata> files, IntSupplier translogOps, Supplier<Exception> otherFailure,
+                           ActionListener<Void> listener) {
+        // the chunks of files on a file system only refer to the file, so that the transport can send them without reading them
+        final Directory directory = FilterDirectory.unwrap(store.directory());
+        final Path fileSystemDirectory = directory instanceof FSDirectory ? ((FSDirectory) directory).getDirectory() : null;
         final MultiChunkTransfer<StoreFileMetadata, FileChunk>multiFileSender = new MultiChunkTransfer<StoreFileMetadata, FileChunk>(
-            logger, threadPool.getThreadContext(), listener, maxConcurrentFileChunks, Arrays.asList(files)) {
+            logger, threadPool.getThreadContext(), listener, maxConcurrentFileChunks, files) {
 
                 final Deque<byte[]> buffers = new ConcurrentLinkedDeque<>();
                 InputStreamIndexInput currentInput = null;
@@ -923,6 +992,14 @@ public class RecoverySourceHandler {
                 protected void onNewResource(StoreFileMetadata md) throws IOException {
                     offset = 0;
                     IOUtils.close(currentInput, () -> currentInput = null);
+                    if (fileSystemDirectory != null) {
+                        final long fileLength = Files.size(fileSystemDirectory.resolve(md.name()));
+                        if (fileLength < md.length()) {
+                            throw new CorruptIndexException("file truncated; length=" + md.length() + " file length=" + fileLength,
+                                md.name());
+                        }
+                        return;
+                    }
                     final IndexInput indexInput = store.directory().openInput(md.name(), IOContext.READONCE);
                     currentInput = new InputStreamIndexInput(indexInput, md.length()) {
                         @Override
@@ -944,6 +1021,17 @@ public class RecoverySourceHandler {
                 protected FileChunk nextChunkRequest(StoreFileMetadata md) throws IOException {
                     assert Transports.assertNotTransportThread("read file chunk");
                     cancellableThreads.checkForCancel();
+                    if (otherFailure.get() != null) {
+                        throw new IllegalStateException("stopped sending [" + md.name() + "] as sending another file failed");
+                    }
+                    if (fileSystemDirectory != null) {
+                        final int length = Math.toIntExact(Math.min(chunkSizeInBytes, md.length() - offset));
+                        final boolean lastChunk = offset + length == md.length();
+                        final BytesReference content = new FileRegionBytesReference(fileSystemDirectory.resolve(md.name()), offset, length);
+                        final FileChunk chunk = new FileChunk(md, content, offset, lastChunk, () -> {});
+                        offset += length;
+                        return chunk;
+                    }
                     final byte[] buffer = acquireBuffer();
                     final int bytesRead = currentInput.read(buffer);
                     if (bytesRead == -1) {
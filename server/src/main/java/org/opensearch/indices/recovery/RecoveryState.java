@@ -33,6 +33,7 @@
 package org.opensearch.indices.recovery;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.routing.RecoverySource;
 import org.opensearch.cluster.routing.ShardRouting;
@@ -378,6 +379,10 @@ public class RecoveryState implements ToXContentFragment, Writeable {
         static final String SOURCE_THROTTLE_TIME_IN_MILLIS = "source_throttle_time_in_millis";
         static final String TARGET_THROTTLE_TIME = "target_throttle_time";
         static final String TARGET_THROTTLE_TIME_IN_MILLIS = "target_throttle_time_in_millis";
+        static final String WRITE_TIME = "write_time";
+        static final String WRITE_TIME_IN_MILLIS = "write_time_in_millis";
+        static final String REPLAY_TIME = "replay_time";
+        static final String REPLAY_TIME_IN_MILLIS = "replay_time_in_millis";
     }
 
     public static class Timer implements Writeable {
@@ -497,6 +502,7 @@ public class RecoveryState implements ToXContentFragment, Writeable {
         private int total = UNKNOWN;
         private int totalOnStart = UNKNOWN;
         private int totalLocal = UNKNOWN;
+        private long replayTimeInNanos;
 
         public Translog() {
         }
@@ -509,6 +515,9 @@ public class RecoveryState implements ToXContentFragment, Writeable {
             if (in.getVersion().onOrAfter(LegacyESVersion.V_7_4_0)) {
                 totalLocal = in.readVInt();
             }
+            if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+                replayTimeInNanos = in.readVLong();
+            }
         }
 
         @Override
@@ -520,6 +529,9 @@ public class RecoveryState implements ToXContentFragment, Writeable {
             if (out.getVersion().onOrAfter(LegacyESVersion.V_7_4_0)) {
                 out.writeVInt(totalLocal);
             }
+            if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+                out.writeVLong(replayTimeInNanos);
+            }
         }
 
         public synchronized void reset() {
@@ -528,6 +540,7 @@ public class RecoveryState implements ToXContentFragment, Writeable {
             total = UNKNOWN;
             totalOnStart = UNKNOWN;
             totalLocal = UNKNOWN;
+            replayTimeInNanos = 0;
         }
 
         public synchronized void incrementRecoveredOperations() {
@@ -601,6 +614,17 @@ public class RecoveryState implements ToXContentFragment, Writeable {
             return totalLocal;
         }
 
+        /**
+         * Adds to the time spent applying the operations that the source sent.
+         */
+        public synchronized void addReplayTime(long timeInNanos) {
+            replayTimeInNanos += timeInNanos;
+        }
+
+        public synchronized TimeValue replayTime() {
+            return TimeValue.timeValueNanos(replayTimeInNanos);
+        }
+
         public synchronized float recoveredPercent() {
             if (total == UNKNOWN) {
                 return -1.f;
@@ -618,6 +642,7 @@ public class RecoveryState implements ToXContentFragment, Writeable {
             builder.field(Fields.PERCENT, String.format(Locale.ROOT, "%1.1f%%", recoveredPercent()));
             builder.field(Fields.TOTAL_ON_START, totalOnStart);
             builder.humanReadableField(Fields.TOTAL_TIME_IN_MILLIS, Fields.TOTAL_TIME, new TimeValue(time()));
+            builder.humanReadableField(Fields.REPLAY_TIME_IN_MILLIS, Fields.REPLAY_TIME, replayTime());
             return builder;
         }
     }
@@ -821,6 +846,7 @@ public class RecoveryState implements ToXContentFragment, Writeable {
 
         private long sourceThrottlingInNanos = UNKNOWN;
         private long targetThrottleTimeInNanos = UNKNOWN;
+        private long writeTimeInNanos;
 
         public Index() {
             this(new RecoveryFilesDetails());
@@ -835,6 +861,9 @@ public class RecoveryState implements ToXContentFragment, Writeable {
             fileDetails = new RecoveryFilesDetails(in);
             sourceThrottlingInNanos = in.readLong();
             targetThrottleTimeInNanos = in.readLong();
+            if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+                writeTimeInNanos = in.readVLong();
+            }
         }
 
         @Override
@@ -843,6 +872,9 @@ public class RecoveryState implements ToXContentFragment, Writeable {
             fileDetails.writeTo(out);
             out.writeLong(sourceThrottlingInNanos);
             out.writeLong(targetThrottleTimeInNanos);
+            if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+                out.writeVLong(writeTimeInNanos);
+            }
         }
 
         public synchronized List<FileDetail> fileDetails() {
@@ -854,6 +886,7 @@ public class RecoveryState implements ToXContentFragment, Writeable {
             fileDetails.clear();
             sourceThrottlingInNanos = UNKNOWN;
             targetThrottleTimeInNanos = UNKNOWN;
+            writeTimeInNanos = 0;
         }
 
         public synchronized void addFileDetail(String name, long length, boolean reused) {
@@ -892,6 +925,17 @@ public class RecoveryState implements ToXContentFragment, Writeable {
             return TimeValue.timeValueNanos(targetThrottleTimeInNanos);
         }
 
+        /**
+         * Adds to the time spent writing the file chunks that the source sent to disk.
+         */
+        public synchronized void addWriteTime(long timeInNanos) {
+            writeTimeInNanos += timeInNanos;
+        }
+
+        public synchronized TimeValue writeTime() {
+            return TimeValue.timeValueNanos(writeTimeInNanos);
+        }
+
         /**
          * total number of files that are part of this recovery, both re-used and recovered
          */
@@ -1065,6 +1109,7 @@ public class RecoveryState implements ToXContentFragment, Writeable {
             builder.humanReadableField(Fields.TOTAL_TIME_IN_MILLIS, Fields.TOTAL_TIME, new TimeValue(time()));
             builder.humanReadableField(Fields.SOURCE_THROTTLE_TIME_IN_MILLIS, Fields.SOURCE_THROTTLE_TIME, sourceThrottling());
             builder.humanReadableField(Fields.TARGET_THROTTLE_TIME_IN_MILLIS, Fields.TARGET_THROTTLE_TIME, targetThrottling());
+            builder.humanReadableField(Fields.WRITE_TIME_IN_MILLIS, Fields.WRITE_TIME, writeTime());
             return builder;
         }
 
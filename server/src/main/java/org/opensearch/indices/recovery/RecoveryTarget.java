@@ -379,6 +379,7 @@ public class RecoveryTarget extends AbstractRefCounted implements RecoveryTarget
              * the policy.
              */
             indexShard().updateRetentionLeasesOnReplica(retentionLeases);
+            final long startTimeInNanos = System.nanoTime();
             for (Translog.Operation operation : operations) {
                 Engine.Result result = indexShard().applyTranslogOperation(operation, Engine.Operation.Origin.PEER_RECOVERY);
                 if (result.getResultType() == Engine.Result.Type.MAPPING_UPDATE_REQUIRED) {
@@ -394,6 +395,7 @@ public class RecoveryTarget extends AbstractRefCounted implements RecoveryTarget
             // update stats only after all operations completed (to ensure that mapping updates don't mess with stats)
             translog.incrementRecoveredOperations(operations.size());
             indexShard().sync();
+            translog.addReplayTime(System.nanoTime() - startTimeInNanos);
             // roll over / flush / trim if needed
             indexShard().afterWriteOperation();
             return indexShard().getLocalCheckpoint();
@@ -488,7 +490,9 @@ public class RecoveryTarget extends AbstractRefCounted implements RecoveryTarget
                                boolean lastChunk, int totalTranslogOps, ActionListener<Void> listener) {
         try {
             state().getTranslog().totalOperations(totalTranslogOps);
+            final long startTimeInNanos = System.nanoTime();
             multiFileWriter.writeFileChunk(fileMetadata, position, content, lastChunk);
+            state().getIndex().addWriteTime(System.nanoTime() - startTimeInNanos);
             listener.onResponse(null);
         } catch (Exception e) {
             listener.onFailure(e);
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.monitor.jvm;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+
+/**
+ * Reads the CPU time and the heap allocations of individual threads from the {@link ThreadMXBean}.
+ */
+public class ThreadResourceProbe {
+
+    private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    private static final Method getThreadAllocatedBytes;
+    private static final boolean cpuTimeSupported;
+
+    static {
+        getThreadAllocatedBytes = getMethod("getThreadAllocatedBytes", long.class);
+        boolean supported = false;
+        try {
+            supported = threadMXBean.isThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+        } catch (Exception e) {
+            // not available
+        }
+        cpuTimeSupported = supported;
+    }
+
+    private static class ThreadResourceProbeHolder {
+        private static final ThreadResourceProbe INSTANCE = new ThreadResourceProbe();
+    }
+
+    public static ThreadResourceProbe getInstance() {
+        return ThreadResourceProbeHolder.INSTANCE;
+    }
+
+    private ThreadResourceProbe() {
+    }
+
+    /**
+     * Returns the CPU time in nanoseconds that the given thread used so far, or -1 if not supported or if the thread is not alive.
+     */
+    public long getThreadCpuTime(long threadId) {
+        if (cpuTimeSupported == false) {
+            return -1;
+        }
+        try {
+            return threadMXBean.getThreadCpuTime(threadId);
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the bytes that the given thread allocated on the heap so far, or -1 if not supported or if the thread is not alive.
+     */
+    public long getThreadAllocatedBytes(long threadId) {
+        if (getThreadAllocatedBytes == null) {
+            return -1;
+        }
+        try {
+            return (long) getThreadAllocatedBytes.invoke(threadMXBean, threadId);
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns a given method of the com.sun.management.ThreadMXBean,
+     * or null if the method is not found or unavailable.
+     */
+    private static Method getMethod(String methodName, Class<?>... parameterTypes) {
+        try {
+            final Class<?> clazz = Class.forName("com.sun.management.ThreadMXBean");
+            if (clazz.isInstance(threadMXBean) == false) {
+                return null;
+            }
+            final Method method = clazz.getMethod(methodName, parameterTypes);
+            final Method isEnabled = clazz.getMethod("isThreadAllocatedMemoryEnabled");
+            return (boolean) isEnabled.invoke(threadMXBean) ? method : null;
+        } catch (Exception t) {
+            // not available
+            return null;
+        }
+    }
+}
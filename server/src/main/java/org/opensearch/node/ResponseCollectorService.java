@@ -40,6 +40,7 @@ import org.opensearch.common.ExponentiallyWeightedMovingAverage;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 
 import java.io.IOException;
@@ -48,19 +49,31 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
 /**
  * Collects statistics about queue size, response time, and service time of
  * tasks executed on each node, making the EWMA of the values available to the
- * coordinating node.
+ * coordinating node. It also keeps the distribution of the recent response
+ * times of each node, see {@link #getResponseTimePercentile}.
  */
 public final class ResponseCollectorService implements ClusterStateListener {
 
     private static final double ALPHA = 0.3;
 
+    static final long RESPONSE_TIME_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(5);
+
     private final ConcurrentMap<String, NodeStatistics> nodeIdToStats = ConcurrentCollections.newConcurrentMap();
+    private final ConcurrentMap<String, ResponseTimeHistogram> nodeIdToResponseTimes = ConcurrentCollections.newConcurrentMap();
+    private final LongSupplier relativeTimeInNanos;
 
     public ResponseCollectorService(ClusterService clusterService) {
+        this(clusterService, System::nanoTime);
+    }
+
+    public ResponseCollectorService(ClusterService clusterService, LongSupplier relativeTimeInNanos) {
+        this.relativeTimeInNanos = relativeTimeInNanos;
         clusterService.addListener(this);
     }
 
@@ -75,6 +88,7 @@ public final class ResponseCollectorService implements ClusterStateListener {
 
     void removeNode(String nodeId) {
         nodeIdToStats.remove(nodeId);
+        nodeIdToResponseTimes.remove(nodeId);
     }
 
     public void addNodeStatistics(String nodeId, int queueSize, long responseTimeNanos, long avgServiceTimeNanos) {
@@ -92,6 +106,65 @@ public final class ResponseCollectorService implements ClusterStateListener {
         });
     }
 
+    /**
+     * Records the time it took the given node to respond to a search request. Unlike the response
+     * time passed to {@link #addNodeStatistics}, this is always an actual response time.
+     */
+    public void addResponseTime(String nodeId, long responseTimeNanos) {
+        responseTimes(nodeId).record(responseTimeNanos);
+    }
+
+    /**
+     * Registers a search request that is sent to the given node, until the returned releasable is
+     * closed. A node that stopped responding has no recent response times, the age of the requests
+     * it didn't respond to yet stands in for them, see {@link #getResponseTimePercentile}.
+     */
+    public Releasable startRequest(String nodeId) {
+        return responseTimes(nodeId).startRequest();
+    }
+
+    private ResponseTimeHistogram responseTimes(String nodeId) {
+        ResponseTimeHistogram responseTimes = nodeIdToResponseTimes.get(nodeId);
+        if (responseTimes == null) {
+            responseTimes = nodeIdToResponseTimes.computeIfAbsent(nodeId,
+                id -> new ResponseTimeHistogram(RESPONSE_TIME_WINDOW_NANOS, relativeTimeInNanos));
+        }
+        return responseTimes;
+    }
+
+    /**
+     * Returns the response time in nanoseconds of the given node at the given percentile, over
+     * the last complete window of a few seconds, but no less than the time the oldest request that
+     * is in flight to the node has been waiting. Returns {@code -1} if the node didn't respond to
+     * any search request in that window and has no request in flight.
+     */
+    public long getResponseTimePercentile(String nodeId, double percentile) {
+        final ResponseTimeHistogram responseTimes = nodeIdToResponseTimes.get(nodeId);
+        if (responseTimes == null) {
+            return -1;
+        }
+        return Math.max(responseTimes.percentile(percentile), responseTimes.oldestInFlightRequestAge());
+    }
+
+    /**
+     * Returns the response time in nanoseconds of the given node at the given percentile, over
+     * the last window in which the node responded to any search request, or {@code -1} if it never
+     * did.
+     */
+    public long getLastKnownResponseTimePercentile(String nodeId, double percentile) {
+        final ResponseTimeHistogram responseTimes = nodeIdToResponseTimes.get(nodeId);
+        return responseTimes == null ? -1 : responseTimes.lastKnownPercentile(percentile);
+    }
+
+    /**
+     * Returns how long in nanoseconds the oldest search request that is in flight to the given node
+     * has been waiting for a response, or {@code -1} if there is no request in flight.
+     */
+    public long getOldestInFlightRequestAge(String nodeId) {
+        final ResponseTimeHistogram responseTimes = nodeIdToResponseTimes.get(nodeId);
+        return responseTimes == null ? -1 : responseTimes.oldestInFlightRequestAge();
+    }
+
     public Map<String, ComputedNodeStats> getAllNodeStatistics() {
         final int clientNum = nodeIdToStats.size();
         // Transform the mutable object internally used for accounting into the computed version
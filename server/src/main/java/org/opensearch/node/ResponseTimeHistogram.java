@@ -0,0 +1,185 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.node;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.opensearch.common.lease.Releasable;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * The distribution of the response times of a node over a sliding window. Response times are recorded into an HdrHistogram
+ * {@link Recorder}, which doesn't lock writers, and the histogram of the recorder is swapped out once per window. Percentiles
+ * are read from the histogram of the last complete window, so that they don't depend on the few samples of a window that just
+ * started and so that a stall of the node shows up in full once the responses it delayed are in.
+ * <p>
+ * Windows are rolled by both writers and readers once they are over, so that a window never holds the responses of a longer
+ * interval after the node was idle. The histogram also keeps track of the requests that are in flight to the node: a node that
+ * stalls completely doesn't respond at all, but the age of its oldest request tells how slow it is at least.
+ */
+final class ResponseTimeHistogram {
+
+    // two significant digits are plenty to rank nodes and keep the histograms small
+    private static final int SIGNIFICANT_VALUE_DIGITS = 2;
+
+    private final Recorder recorder = new Recorder(SIGNIFICANT_VALUE_DIGITS);
+    private final long windowNanos;
+    private final LongSupplier relativeTimeInNanos;
+    private final ConcurrentSkipListSet<InFlightRequest> inFlightRequests = new ConcurrentSkipListSet<>();
+    private final AtomicLong requestIds = new AtomicLong();
+    private volatile Window window;
+
+    ResponseTimeHistogram(long windowNanos, LongSupplier relativeTimeInNanos) {
+        if (windowNanos <= 0) {
+            throw new IllegalArgumentException("window must be positive but was [" + windowNanos + "]");
+        }
+        this.windowNanos = windowNanos;
+        this.relativeTimeInNanos = relativeTimeInNanos;
+        this.window = new Window(relativeTimeInNanos.getAsLong(), null, null);
+    }
+
+    void record(long responseTimeNanos) {
+        currentWindow();
+        recorder.recordValue(Math.max(0L, responseTimeNanos));
+    }
+
+    /**
+     * Returns the response time at the given percentile of the responses of the last complete window, or {@code -1} if there were
+     * no responses in that window.
+     */
+    long percentile(double percentile) {
+        return Percentiles.get(currentWindow().recent, percentile);
+    }
+
+    /**
+     * Returns the response time at the given percentile of the responses of the last window that had any, or {@code -1} if the
+     * node never responded.
+     */
+    long lastKnownPercentile(double percentile) {
+        return Percentiles.get(currentWindow().lastKnown, percentile);
+    }
+
+    /**
+     * Registers a request that was sent to the node, until the returned request is {@link InFlightRequest#close() closed}.
+     */
+    InFlightRequest startRequest() {
+        final InFlightRequest request = new InFlightRequest(relativeTimeInNanos.getAsLong(), requestIds.incrementAndGet());
+        inFlightRequests.add(request);
+        return request;
+    }
+
+    /**
+     * Returns how long the oldest request that is in flight to the node has been waiting for a response, or {@code -1} if there is
+     * no request in flight.
+     */
+    long oldestInFlightRequestAge() {
+        final InFlightRequest oldest;
+        try {
+            oldest = inFlightRequests.first();
+        } catch (NoSuchElementException e) {
+            return -1;
+        }
+        return Math.max(0L, relativeTimeInNanos.getAsLong() - oldest.startNanos);
+    }
+
+    private Window currentWindow() {
+        Window window = this.window;
+        final long now = relativeTimeInNanos.getAsLong();
+        if (now - window.startNanos >= windowNanos) {
+            synchronized (this) {
+                window = this.window;
+                final long elapsedNanos = now - window.startNanos;
+                if (elapsedNanos >= windowNanos) {
+                    final Histogram histogram = recorder.getIntervalHistogram();
+                    final Percentiles responses = histogram.getTotalCount() == 0 ? null : new Percentiles(histogram);
+                    // if more than a window went by then the responses were recorded before the last complete window, which had none
+                    final Percentiles recent = elapsedNanos < 2 * windowNanos ? responses : null;
+                    window = new Window(now, recent, responses != null ? responses : window.lastKnown);
+                    this.window = window;
+                }
+            }
+        }
+        return window;
+    }
+
+    private static final class Window {
+        final long startNanos;
+        // the responses of the window before the one that started at startNanos
+        final Percentiles recent;
+        // the responses of the last window that had any
+        final Percentiles lastKnown;
+
+        Window(long startNanos, Percentiles recent, Percentiles lastKnown) {
+            this.startNanos = startNanos;
+            this.recent = recent;
+            this.lastKnown = lastKnown;
+        }
+    }
+
+    private static final class Percentiles {
+        private final Histogram histogram;
+        // the last percentile that was read, most readers ask for the same one
+        private volatile Percentile last;
+
+        Percentiles(Histogram histogram) {
+            this.histogram = histogram;
+        }
+
+        static long get(Percentiles percentiles, double percentile) {
+            if (percentiles == null) {
+                return -1;
+            }
+            final Percentile last = percentiles.last;
+            if (last != null && last.percentile == percentile) {
+                return last.value;
+            }
+            final long value = percentiles.histogram.getValueAtPercentile(percentile);
+            percentiles.last = new Percentile(percentile, value);
+            return value;
+        }
+    }
+
+    private static final class Percentile {
+        final double percentile;
+        final long value;
+
+        Percentile(double percentile, long value) {
+            this.percentile = percentile;
+            this.value = value;
+        }
+    }
+
+    /**
+     * A request that is in flight to the node, ordered by the time it was sent.
+     */
+    final class InFlightRequest implements Comparable<InFlightRequest>, Releasable {
+        private final long startNanos;
+        private final long id;
+
+        private InFlightRequest(long startNanos, long id) {
+            this.startNanos = startNanos;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(InFlightRequest other) {
+            final int compare = Long.compare(startNanos, other.startNanos);
+            return compare != 0 ? compare : Long.compare(id, other.id);
+        }
+
+        @Override
+        public void close() {
+            inFlightRequests.remove(this);
+        }
+    }
+}
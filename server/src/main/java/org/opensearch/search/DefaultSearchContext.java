@@ -44,6 +44,7 @@ import org.opensearch.action.search.SearchShardTask;
 import org.opensearch.action.search.SearchType;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Nullable;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lucene.search.Queries;
 import org.opensearch.common.unit.TimeValue;
@@ -87,6 +88,7 @@ import org.opensearch.search.rescore.RescoreContext;
 import org.opensearch.search.slice.SliceBuilder;
 import org.opensearch.search.sort.SortAndFormats;
 import org.opensearch.search.suggest.SuggestionSearchContext;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -95,6 +97,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.LongSupplier;
 
 final class DefaultSearchContext extends SearchContext {
@@ -191,8 +194,10 @@ final class DefaultSearchContext extends SearchContext {
         this.indexShard = readerContext.indexShard();
         this.clusterService = clusterService;
         this.engineSearcher = readerContext.acquireSearcher("search");
+        final Executor searcherExecutor = indexService.getIndexSettings().isConcurrentSegmentSearchEnabled()
+            ? trackingResourcesOfTask(indexShard.getThreadPool().executor(ThreadPool.Names.INDEX_SEARCHER)) : null;
         this.searcher = new ContextIndexSearcher(engineSearcher.getIndexReader(), engineSearcher.getSimilarity(),
-            engineSearcher.getQueryCache(), engineSearcher.getQueryCachingPolicy(), lowLevelCancellation);
+            engineSearcher.getQueryCache(), engineSearcher.getQueryCachingPolicy(), lowLevelCancellation, searcherExecutor);
         this.relativeTimeSupplier = relativeTimeSupplier;
         this.timeout = timeout;
         this.minNodeVersion = minNodeVersion;
@@ -815,6 +820,23 @@ final class DefaultSearchContext extends SearchContext {
         return profilers;
     }
 
+    /**
+     * Wraps the executor that searches the slices of the shard so that the slice threads account their resources to the task of
+     * this context, like the thread that executes the phase does.
+     */
+    private Executor trackingResourcesOfTask(Executor executor) {
+        return command -> executor.execute(() -> {
+            final SearchShardTask task = this.task;
+            if (task == null) {
+                command.run();
+            } else {
+                try (Releasable ignored = task.startResourceTracking()) {
+                    command.run();
+                }
+            }
+        });
+    }
+
     public void setProfilers(Profilers profilers) {
         this.profilers = profilers;
     }
@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.util.Accountable;
+import org.opensearch.common.lease.Releasable;
+
+import java.util.List;
+
+/**
+ * Merges the results of an aggregation into a running state as they arrive instead of buffering them until they can be
+ * reduced together. Implementations typically keep the keys and doc counts of the buckets in primitive arrays and only
+ * materialize the aggregation when {@link #build()} is called.
+ *
+ * @see InternalAggregation#newAccumulator(InternalAggregation.ReduceContext)
+ */
+public abstract class AggregationAccumulator implements Accountable, Releasable {
+
+    /**
+     * Merges the given aggregation into this accumulator. Returns {@code false}, leaving the accumulator unchanged, if the
+     * aggregation cannot be merged, for instance because it was built on a field of a different type. The caller is then
+     * expected to {@link #build()} the accumulator and to fall back to {@link InternalAggregation#reduce(List,
+     * InternalAggregation.ReduceContext)}.
+     */
+    public abstract boolean accept(InternalAggregation aggregation);
+
+    /**
+     * Builds the partial reduction of all the aggregations accepted so far.
+     */
+    public abstract InternalAggregation build();
+
+    /**
+     * Returns an estimation of the heap retained by this accumulator.
+     */
+    @Override
+    public abstract long ramBytesUsed();
+}
@@ -70,6 +70,11 @@ public class AggregationPhase {
                 context.aggregations().aggregators(aggregators);
                 if (!collectors.isEmpty()) {
                     Collector collector = MultiBucketCollector.wrap(collectors);
+                    if (context.aggregations().segmentCache() != null && context.getProfilers() == null
+                            && factories.supportsSegmentLevelCaching()) {
+                        collector = new SegmentCachingBucketCollector(context, context.aggregations().segmentCache(),
+                            (BucketCollector) collector);
+                    }
                     ((BucketCollector)collector).preCollection();
                     if (context.getProfilers() != null) {
                         collector = new InternalProfileCollector(collector, CollectorResult.REASON_AGGREGATION,
@@ -84,6 +89,57 @@ public class AggregationPhase {
         }
     }
 
+    /**
+     * Returns true if the aggregations of the request can be collected concurrently across the slices of the shard,
+     * see {@link AggregatorFactories#supportsConcurrentSegmentSearch()}.
+     */
+    public static boolean supportsConcurrentSegmentSearch(SearchContext context) {
+        if (context.aggregations() == null) {
+            return true;
+        }
+        // segments whose results are cached must be collected sequentially, see SegmentCachingBucketCollector
+        return context.queryCollectors().get(AggregationPhase.class) instanceof SegmentCachingBucketCollector == false
+            && context.aggregations().factories().supportsConcurrentSegmentSearch();
+    }
+
+    /**
+     * Creates a new set of the non-global top level aggregators of the request that collect a single slice of the shard
+     * when segments are searched concurrently. The aggregators of all slices are reduced with {@link #reduceSlices}.
+     * Also used to collect single segments whose results are cached, see {@link SegmentAggregationsCache}.
+     */
+    public static List<Aggregator> createSliceAggregators(SearchContext context) throws IOException {
+        Aggregator[] aggregators = context.aggregations().factories().createTopLevelAggregators(context);
+        List<Aggregator> sliceAggregators = new ArrayList<>(aggregators.length);
+        for (Aggregator aggregator : aggregators) {
+            if (aggregator instanceof GlobalAggregator == false) {
+                sliceAggregators.add(aggregator);
+            }
+        }
+        return sliceAggregators;
+    }
+
+    /**
+     * Builds the aggregations of each slice and reduces them in slice order into a single partial result that is used by
+     * {@link #execute(SearchContext)} in place of the top level aggregators created by {@link #preProcess(SearchContext)}.
+     */
+    public static void reduceSlices(SearchContext context, List<List<Aggregator>> slices) throws IOException {
+        List<InternalAggregations> sliceResults = new ArrayList<>(slices.size());
+        for (List<Aggregator> sliceAggregators : slices) {
+            List<InternalAggregation> aggregations = new ArrayList<>(sliceAggregators.size());
+            // each slice is accounted separately against the maximum number of buckets, like a shard would be
+            context.aggregations().resetBucketMultiConsumer();
+            for (Aggregator aggregator : sliceAggregators) {
+                aggregator.postCollection();
+                aggregations.add(aggregator.buildTopLevel());
+            }
+            sliceResults.add(InternalAggregations.from(aggregations));
+        }
+        // aggregations that support concurrent segment search don't use scripts, neither to collect nor to reduce
+        InternalAggregation.ReduceContext reduceContext = InternalAggregation.ReduceContext.forPartialReduction(context.bigArrays(),
+            null, context.request().source().aggregations()::buildPipelineTree);
+        context.aggregations().sliceAggregations(InternalAggregations.reduce(sliceResults, reduceContext));
+    }
+
     public void execute(SearchContext context) {
         if (context.aggregations() == null) {
             context.queryResult().aggregations(null);
@@ -95,6 +151,15 @@ public class AggregationPhase {
             return;
         }
 
+        Collector queryCollector = context.queryCollectors().get(AggregationPhase.class);
+        if (queryCollector instanceof SegmentCachingBucketCollector) {
+            try {
+                ((SegmentCachingBucketCollector) queryCollector).postCollection();
+            } catch (IOException e) {
+                throw new AggregationExecutionException("Failed to build the aggregations of the segments", e);
+            }
+        }
+
         Aggregator[] aggregators = context.aggregations().aggregators();
         List<Aggregator> globals = new ArrayList<>();
         for (int i = 0; i < aggregators.length; i++) {
@@ -129,8 +194,14 @@ public class AggregationPhase {
         }
 
         List<InternalAggregation> aggregations = new ArrayList<>(aggregators.length);
+        InternalAggregations sliceAggregations = context.aggregations().sliceAggregations();
         context.aggregations().resetBucketMultiConsumer();
         for (Aggregator aggregator : context.aggregations().aggregators()) {
+            if (sliceAggregations != null && aggregator instanceof GlobalAggregator == false) {
+                // this aggregator didn't collect anything, the slices or segments of the shard were collected separately
+                aggregations.add(sliceAggregations.get(aggregator.name()));
+                continue;
+            }
             try {
                 aggregator.postCollection();
                 aggregations.add(aggregator.buildTopLevel());
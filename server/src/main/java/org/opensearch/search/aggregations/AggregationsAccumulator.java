@@ -0,0 +1,176 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.util.Accountable;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.search.aggregations.InternalAggregation.ReduceContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Incrementally reduces {@link InternalAggregations} as they arrive, so that a partial reduction of many shard results
+ * doesn't need to hold all of them at once. Each aggregation is merged into the {@link AggregationAccumulator} created by
+ * the first mapped aggregation of its name. Aggregations that don't support accumulation, or that cannot be merged into
+ * the accumulator, are reduced pairwise into a running partial reduction instead.
+ * <p>
+ * The result of {@link #build} is a partial reduction, it must be reduced again with a
+ * {@link ReduceContext} for the final reduction. This class is not thread-safe.
+ */
+public final class AggregationsAccumulator implements Accountable, Releasable {
+
+    private final ReduceContext reduceContext;
+    // a HashMap to preserve the order of the aggregations built by InternalAggregations#reduce
+    private final Map<String, Slot> slots = new HashMap<>();
+    private long ramBytesUsed;
+
+    public AggregationsAccumulator(ReduceContext reduceContext) {
+        assert reduceContext.isFinalReduce() == false : "accumulators only perform partial reductions";
+        this.reduceContext = reduceContext;
+    }
+
+    /**
+     * Merges the given aggregations into this accumulator.
+     */
+    public void accept(InternalAggregations aggregations) {
+        for (Aggregation aggregation : aggregations) {
+            final Slot slot = slots.computeIfAbsent(aggregation.getName(), k -> new Slot());
+            final long before = slot.ramBytesUsed();
+            slot.accept((InternalAggregation) aggregation);
+            ramBytesUsed += slot.ramBytesUsed() - before;
+        }
+    }
+
+    /**
+     * Returns {@code true} if no aggregation was merged into this accumulator.
+     */
+    public boolean isEmpty() {
+        return slots.isEmpty();
+    }
+
+    /**
+     * Builds the partial reduction of all the aggregations merged so far.
+     *
+     * @param ctor used to build the {@link InternalAggregations}, see {@link InternalAggregations#reduce(List, ReduceContext, Function)}
+     */
+    public InternalAggregations build(Function<List<InternalAggregation>, InternalAggregations> ctor) {
+        final List<InternalAggregation> reduced = new ArrayList<>(slots.size());
+        for (Slot slot : slots.values()) {
+            reduced.add(slot.build());
+        }
+        return ctor.apply(reduced);
+    }
+
+    /**
+     * Returns an estimation of the heap retained by this accumulator. Aggregations that are merged into an
+     * {@link AggregationAccumulator} report their actual size, the running reductions of other aggregations are estimated
+     * by their serialized size. Serializing is expensive, so that size is only measured again once the number of reductions
+     * has doubled since the last measurement and the estimate lags behind running reductions that keep growing.
+     */
+    @Override
+    public long ramBytesUsed() {
+        return ramBytesUsed;
+    }
+
+    @Override
+    public void close() {
+        Releasables.close(slots.values());
+    }
+
+    private final class Slot implements Releasable {
+        private AggregationAccumulator accumulator;
+        // the running reduction of the aggregations that are not merged into the accumulator
+        private InternalAggregation reduced;
+        // true if the running reduction is a single aggregation that was never reduced
+        private boolean needsReduce;
+        private long reducedBytes;
+        // the number of aggregations in the running reduction, and the number after which its size is measured again
+        private long reducedCount;
+        private long measureAtCount = 1;
+        // true if the aggregations of this slot could not be merged into an accumulator
+        private boolean fallback;
+
+        void accept(InternalAggregation aggregation) {
+            if (accumulator != null) {
+                if (accumulator.accept(aggregation)) {
+                    return;
+                }
+                fallback();
+            } else if (fallback == false && aggregation.isMapped()) {
+                final AggregationAccumulator newAccumulator = aggregation.newAccumulator(reduceContext);
+                if (newAccumulator != null) {
+                    // replay the unmapped aggregations that arrived before the first mapped one
+                    if (newAccumulator.accept(aggregation) && (reduced == null || newAccumulator.accept(reduced))) {
+                        accumulator = newAccumulator;
+                        reduced = null;
+                        reducedBytes = 0;
+                        reducedCount = 0;
+                        measureAtCount = 1;
+                        return;
+                    }
+                    newAccumulator.close();
+                }
+                fallback = true;
+            }
+            reduce(aggregation, false);
+        }
+
+        private void fallback() {
+            final InternalAggregation accumulated = accumulator.build();
+            accumulator.close();
+            accumulator = null;
+            fallback = true;
+            reduce(accumulated, true);
+        }
+
+        private void reduce(InternalAggregation aggregation, boolean alreadyReduced) {
+            if (reduced == null) {
+                reduced = aggregation;
+                needsReduce = alreadyReduced == false;
+            } else {
+                // mapped aggregations lead the reduction, see InternalAggregations#reduce
+                final List<InternalAggregation> toReduce = reduced.isMapped() || aggregation.isMapped() == false
+                    ? Arrays.asList(reduced, aggregation) : Arrays.asList(aggregation, reduced);
+                reduced = toReduce.get(0).reduce(toReduce, reduceContext);
+                needsReduce = false;
+            }
+            if (++reducedCount >= measureAtCount) {
+                reducedBytes = InternalAggregations.from(Collections.singletonList(reduced)).getSerializedSize();
+                measureAtCount = reducedCount * 2;
+            }
+        }
+
+        InternalAggregation build() {
+            if (accumulator != null) {
+                return accumulator.build();
+            }
+            if (needsReduce && reduced.mustReduceOnSingleInternalAgg()) {
+                return reduced.reduce(Collections.singletonList(reduced), reduceContext);
+            }
+            return reduced;
+        }
+
+        long ramBytesUsed() {
+            return accumulator != null ? accumulator.ramBytesUsed() : reducedBytes;
+        }
+
+        @Override
+        public void close() {
+            Releasables.close(accumulator);
+            accumulator = null;
+        }
+    }
+}
@@ -47,6 +47,7 @@ import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.query.Rewriteable;
 import org.opensearch.search.aggregations.bucket.global.GlobalAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.global.GlobalAggregatorFactory;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.aggregations.pipeline.PipelineAggregator;
 import org.opensearch.search.aggregations.pipeline.PipelineAggregator.PipelineTree;
@@ -240,6 +241,42 @@ public class AggregatorFactories {
         return factories.length;
     }
 
+    /**
+     * Returns true if all the factories and their sub-factories support concurrent segment search.
+     * Global aggregators are ignored since they always collect the whole shard sequentially.
+     *
+     * @see AggregatorFactory#supportsConcurrentSegmentSearch()
+     */
+    public boolean supportsConcurrentSegmentSearch() {
+        for (AggregatorFactory factory : factories) {
+            if (factory instanceof GlobalAggregatorFactory) {
+                continue;
+            }
+            if (factory.supportsConcurrentSegmentSearch() == false || factory.factories.supportsConcurrentSegmentSearch() == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if all the factories and their sub-factories support segment level caching.
+     * Global aggregators are ignored since they are never cached per segment.
+     *
+     * @see AggregatorFactory#supportsSegmentLevelCaching()
+     */
+    public boolean supportsSegmentLevelCaching() {
+        for (AggregatorFactory factory : factories) {
+            if (factory instanceof GlobalAggregatorFactory) {
+                continue;
+            }
+            if (factory.supportsSegmentLevelCaching() == false || factory.factories.supportsSegmentLevelCaching() == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * A mutable collection of {@link AggregationBuilder}s and
      * {@link PipelineAggregationBuilder}s.
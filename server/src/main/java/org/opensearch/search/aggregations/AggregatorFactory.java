@@ -94,6 +94,24 @@ public abstract class AggregatorFactory {
         return parent;
     }
 
+    /**
+     * Returns true if several aggregators created by this factory can collect disjoint slices of a shard concurrently
+     * and have their results reduced afterwards. Aggregations must opt in since their aggregators may rely on state
+     * of the search context that is not safe to share between threads, such as the search lookup used by scripts.
+     */
+    public boolean supportsConcurrentSegmentSearch() {
+        return false;
+    }
+
+    /**
+     * Returns true if the results that aggregators created by this factory build for each segment of a shard can be cached
+     * and reduced into the result of the whole shard. It takes {@link #supportsConcurrentSegmentSearch() concurrent segment
+     * search support} and a reduction that loses nothing no matter how many segments the shard has.
+     */
+    public boolean supportsSegmentLevelCaching() {
+        return supportsConcurrentSegmentSearch();
+    }
+
     /**
      * Returns the aggregation subtype for nodes usage stats.
      * <p>
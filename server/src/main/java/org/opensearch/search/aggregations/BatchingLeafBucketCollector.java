@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.search.Scorable;
+
+import java.io.IOException;
+
+/**
+ * A {@link LeafBucketCollector} that buffers the docs that the searcher collects one at a time and hands them over to
+ * {@link #collect(int[], int, long)} a batch at a time, so that implementations can load the values of a whole batch in a
+ * tight loop before folding them into their buckets.
+ * <p>
+ * A batch is collected when it is full and when a doc is collected in another bucket. The aggregator must call
+ * {@link #flush()} to collect the last batch of a leaf before it reads the state built by the collector, typically when
+ * the collector of the next leaf is created and in {@link AggregatorBase#doPostCollection()}. The scorer is not positioned
+ * on the docs of a batch, this collector can't be used by aggregations that need scores.
+ */
+public abstract class BatchingLeafBucketCollector extends LeafBucketCollector {
+
+    /**
+     * The maximum number of docs in a batch.
+     */
+    public static final int BATCH_SIZE = 128;
+
+    private final int[] docs = new int[BATCH_SIZE];
+    private int count;
+    private long owningBucketOrd;
+
+    @Override
+    public final void setScorer(Scorable scorer) {
+        // batches are collected after the scorer moved on, see the class documentation
+    }
+
+    @Override
+    public final void collect(int doc, long owningBucketOrd) throws IOException {
+        if (count > 0 && (count == docs.length || owningBucketOrd != this.owningBucketOrd)) {
+            flush();
+        }
+        this.owningBucketOrd = owningBucketOrd;
+        docs[count++] = doc;
+    }
+
+    /**
+     * Collects the docs that are buffered, if any.
+     */
+    public final void flush() throws IOException {
+        if (count > 0) {
+            final int batchSize = count;
+            count = 0;
+            collect(docs, batchSize, owningBucketOrd);
+        }
+    }
+
+    @Override
+    public abstract void collect(int[] docs, int count, long owningBucketOrd) throws IOException;
+}
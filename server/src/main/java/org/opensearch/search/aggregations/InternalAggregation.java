@@ -273,6 +273,16 @@ public abstract class InternalAggregation implements Aggregation, NamedWriteable
      */
     public abstract InternalAggregation reduce(List<InternalAggregation> aggregations, ReduceContext reduceContext);
 
+    /**
+     * Creates an {@link AggregationAccumulator} that merges aggregations of the same type as this one one at a time, producing the
+     * same result as a partial {@link #reduce(List, ReduceContext)} of all of them, or returns {@code null} if this aggregation
+     * doesn't support incremental reduction. The accumulator may reject this aggregation itself, for instance if its buckets
+     * are not sorted in a way that allows to merge them incrementally.
+     */
+    public AggregationAccumulator newAccumulator(ReduceContext reduceContext) {
+        return null;
+    }
+
     /**
      * Signal the framework if the {@linkplain InternalAggregation#reduce(List, ReduceContext)} phase needs to be called
      * when there is only one {@linkplain InternalAggregation}.
@@ -41,6 +41,8 @@ public class SearchContextAggregations {
     private final AggregatorFactories factories;
     private final MultiBucketConsumer multiBucketConsumer;
     private Aggregator[] aggregators;
+    private InternalAggregations sliceAggregations;
+    private SegmentAggregationsCache segmentCache;
 
     /**
      * Creates a new aggregation context with the parsed aggregator factories
@@ -67,6 +69,38 @@ public class SearchContextAggregations {
         this.aggregators = aggregators;
     }
 
+    /**
+     * Returns the reduced results of the non-global top level aggregators if they were collected
+     * concurrently across slices of the shard, or <code>null</code> otherwise.
+     */
+    public InternalAggregations sliceAggregations() {
+        return sliceAggregations;
+    }
+
+    /**
+     * Registers the reduced results of the non-global top level aggregators that collected the slices of the shard concurrently.
+     * They replace the results of the aggregators registered with {@link #aggregators(Aggregator[])} that didn't collect anything.
+     */
+    public void sliceAggregations(InternalAggregations sliceAggregations) {
+        this.sliceAggregations = sliceAggregations;
+    }
+
+    /**
+     * Returns the cache of the results of the non-global top level aggregators for single segments, or <code>null</code>
+     * if they are not cached per segment.
+     */
+    public SegmentAggregationsCache segmentCache() {
+        return segmentCache;
+    }
+
+    /**
+     * Registers a cache that the non-global top level aggregators should read the results of segments from rather than
+     * collecting them. It is only used if all the aggregations support segment level caching.
+     */
+    public void segmentCache(SegmentAggregationsCache segmentCache) {
+        this.segmentCache = segmentCache;
+    }
+
     /**
      * Returns a consumer for multi bucket aggregation that checks the total number of buckets
      * created in the response
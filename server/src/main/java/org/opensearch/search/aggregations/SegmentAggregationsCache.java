@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.opensearch.common.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Caches the results that the non-global top level aggregators of a request build for single segments of the shard, so
+ * that a refresh only requires the segments it added to be aggregated again.
+ *
+ * @see AggregatorFactory#supportsSegmentLevelCaching()
+ */
+public interface SegmentAggregationsCache {
+
+    /**
+     * Returns the cached results of the aggregations of the request for the given segment, or {@code null} if there are none.
+     */
+    @Nullable
+    InternalAggregations get(LeafReaderContext leaf) throws IOException;
+
+    /**
+     * Caches the results of the aggregations of the request for the given segment, which was collected in full.
+     */
+    void put(LeafReaderContext leaf, InternalAggregations aggregations) throws IOException;
+}
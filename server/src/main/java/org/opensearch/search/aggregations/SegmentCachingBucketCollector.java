@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.ScoreMode;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the non-global top level aggregations of a request one segment at a time, with a new set of aggregators for each
+ * segment, and reads the results of the segments it collected before from a {@link SegmentAggregationsCache}. The results of
+ * all segments are reduced by {@link #postCollection()} into the result of the shard, which replaces the results of the top
+ * level aggregators like the {@link SearchContextAggregations#sliceAggregations() results of slices} do.
+ * <p>
+ * Segments must be collected sequentially: a segment is known to be collected in full once the next one starts.
+ */
+final class SegmentCachingBucketCollector extends BucketCollector {
+
+    private final SearchContext context;
+    private final SegmentAggregationsCache cache;
+    // the top level aggregators of the request, they only collect if the search doesn't visit any segment
+    private final BucketCollector topLevelCollector;
+    private final List<InternalAggregations> segmentResults = new ArrayList<>();
+    private LeafReaderContext currentLeaf;
+    private List<Aggregator> currentAggregators;
+
+    SegmentCachingBucketCollector(SearchContext context, SegmentAggregationsCache cache, BucketCollector topLevelCollector) {
+        this.context = context;
+        this.cache = cache;
+        this.topLevelCollector = topLevelCollector;
+    }
+
+    @Override
+    public ScoreMode scoreMode() {
+        return topLevelCollector.scoreMode();
+    }
+
+    @Override
+    public void preCollection() throws IOException {
+        topLevelCollector.preCollection();
+    }
+
+    @Override
+    public LeafBucketCollector getLeafCollector(LeafReaderContext ctx) throws IOException {
+        finishCurrentLeaf(true);
+        final InternalAggregations cached = cache.get(ctx);
+        if (cached != null) {
+            segmentResults.add(cached);
+            throw new CollectionTerminatedException();
+        }
+        currentLeaf = ctx;
+        currentAggregators = AggregationPhase.createSliceAggregators(context);
+        final BucketCollector collector = MultiBucketCollector.wrap(currentAggregators);
+        collector.preCollection();
+        return collector.getLeafCollector(ctx);
+    }
+
+    /**
+     * Builds the results of the last segment, caching them unless the search timed out before it was collected in full,
+     * and reduces the results of all segments.
+     */
+    @Override
+    public void postCollection() throws IOException {
+        finishCurrentLeaf(context.queryResult().searchTimedOut() == false);
+        if (segmentResults.isEmpty()) {
+            return;
+        }
+        // aggregations that support segment level caching don't use scripts, neither to collect nor to reduce
+        InternalAggregation.ReduceContext reduceContext = InternalAggregation.ReduceContext.forPartialReduction(context.bigArrays(),
+            null, context.request().source().aggregations()::buildPipelineTree);
+        context.aggregations().sliceAggregations(InternalAggregations.reduce(segmentResults, reduceContext));
+    }
+
+    private void finishCurrentLeaf(boolean complete) throws IOException {
+        if (currentLeaf == null) {
+            return;
+        }
+        List<InternalAggregation> aggregations = new ArrayList<>(currentAggregators.size());
+        // each segment is accounted separately against the maximum number of buckets, like a slice would be
+        context.aggregations().resetBucketMultiConsumer();
+        for (Aggregator aggregator : currentAggregators) {
+            aggregator.postCollection();
+            aggregations.add(aggregator.buildTopLevel());
+        }
+        final InternalAggregations result = InternalAggregations.from(aggregations);
+        segmentResults.add(result);
+        if (complete) {
+            cache.put(currentLeaf, result);
+        }
+        currentLeaf = null;
+        currentAggregators = null;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket;
+
+import org.apache.lucene.util.IntroSorter;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.common.util.ObjectArray;
+import org.opensearch.search.aggregations.AggregationAccumulator;
+import org.opensearch.search.aggregations.AggregationsAccumulator;
+import org.opensearch.search.aggregations.InternalAggregation.ReduceContext;
+import org.opensearch.search.aggregations.InternalAggregations;
+
+/**
+ * Base class for the {@link AggregationAccumulator}s of multi-bucket aggregations. Subclasses map the key of each bucket to
+ * a dense ordinal, this class accumulates the doc count of the buckets in a {@link LongArray} and their sub-aggregations in
+ * an {@link AggregationsAccumulator} per ordinal.
+ * <p>
+ * The arrays are allocated with a non recycling {@link BigArrays} that doesn't account for them in the circuit breakers: the
+ * user of the accumulator is expected to do it based on {@link #ramBytesUsed()}.
+ */
+public abstract class BucketsAccumulator extends AggregationAccumulator {
+
+    protected final BigArrays bigArrays = BigArrays.NON_RECYCLING_INSTANCE;
+    private final ReduceContext reduceContext;
+    private LongArray docCounts;
+    private ObjectArray<AggregationsAccumulator> subAggregations;
+    private long subAggregationsBytes;
+
+    protected BucketsAccumulator(ReduceContext reduceContext) {
+        this.reduceContext = reduceContext;
+        this.docCounts = bigArrays.newLongArray(1, true);
+        this.subAggregations = bigArrays.newObjectArray(1);
+    }
+
+    /**
+     * Merges the doc count and sub-aggregations of a bucket into the bucket with the given ordinal.
+     */
+    protected final void collectBucket(long ord, long docCount, InternalAggregations aggregations) {
+        docCounts = bigArrays.grow(docCounts, ord + 1);
+        docCounts.increment(ord, docCount);
+        if (aggregations.asList().isEmpty()) {
+            return;
+        }
+        subAggregations = bigArrays.grow(subAggregations, ord + 1);
+        AggregationsAccumulator accumulator = subAggregations.get(ord);
+        if (accumulator == null) {
+            accumulator = new AggregationsAccumulator(reduceContext);
+            subAggregations.set(ord, accumulator);
+        }
+        final long before = accumulator.ramBytesUsed();
+        accumulator.accept(aggregations);
+        subAggregationsBytes += accumulator.ramBytesUsed() - before;
+    }
+
+    protected final long docCount(long ord) {
+        return docCounts.get(ord);
+    }
+
+    /**
+     * Builds the partial reduction of the sub-aggregations of the bucket with the given ordinal.
+     */
+    protected final InternalAggregations subAggregations(long ord) {
+        final AggregationsAccumulator accumulator = ord < subAggregations.size() ? subAggregations.get(ord) : null;
+        return accumulator == null ? InternalAggregations.EMPTY : accumulator.build(InternalAggregations::from);
+    }
+
+    /**
+     * Compares the keys of the buckets with the given ordinals.
+     */
+    protected abstract int compareKeys(long ord1, long ord2);
+
+    /**
+     * Returns the ordinals {@code [0, numBuckets)} sorted by the key of their bucket.
+     */
+    protected final int[] sortedOrds(long numBuckets, boolean ascending) {
+        final int[] ords = new int[Math.toIntExact(numBuckets)];
+        for (int i = 0; i < ords.length; i++) {
+            ords[i] = i;
+        }
+        new IntroSorter() {
+            int pivot;
+
+            @Override
+            protected void swap(int i, int j) {
+                final int tmp = ords[i];
+                ords[i] = ords[j];
+                ords[j] = tmp;
+            }
+
+            @Override
+            protected void setPivot(int i) {
+                pivot = ords[i];
+            }
+
+            @Override
+            protected int comparePivot(int j) {
+                final int cmp = compareKeys(pivot, ords[j]);
+                return ascending ? cmp : -cmp;
+            }
+        }.sort(0, ords.length);
+        return ords;
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return docCounts.ramBytesUsed() + subAggregations.ramBytesUsed() + subAggregationsBytes;
+    }
+
+    @Override
+    public void close() {
+        for (long i = 0; i < subAggregations.size(); i++) {
+            Releasables.close(subAggregations.get(i));
+        }
+        Releasables.close(docCounts, subAggregations);
+    }
+}
@@ -511,8 +511,8 @@ final class CompositeAggregator extends BucketsAggregator {
             @Override
             public void collect(int doc, long zeroBucket) throws IOException {
                 assert zeroBucket == 0;
-                Integer slot = queue.compareCurrent();
-                if (slot != null) {
+                int slot = queue.compareCurrent();
+                if (slot != -1) {
                     // The candidate key is a top bucket.
                     // We can defer the collection of this document/bucket to the sub collector
                     subCollector.collect(doc, slot);
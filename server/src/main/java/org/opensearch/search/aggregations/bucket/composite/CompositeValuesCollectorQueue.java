@@ -32,9 +32,9 @@
 
 package org.opensearch.search.aggregations.bucket.composite;
 
+import com.carrotsearch.hppc.BitMixer;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.CollectionTerminatedException;
-import org.apache.lucene.util.PriorityQueue;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
@@ -42,42 +42,33 @@ import org.opensearch.common.util.IntArray;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
- * A specialized {@link PriorityQueue} implementation for composite buckets.
+ * A specialized priority queue for composite buckets. The values of the buckets are stored per source in the
+ * primitive arrays of the {@link SingleDimensionValuesSource}s and the queue only handles slots, the indices of
+ * the buckets in these arrays: a binary heap of slots orders the buckets and an open addressing hash table of
+ * slots finds the bucket of a candidate. Both compare the values in place, so collecting a document doesn't
+ * allocate.
  */
-final class CompositeValuesCollectorQueue extends PriorityQueue<Integer> implements Releasable {
-    private class Slot {
-        int value;
-
-        Slot(int initial) {
-            this.value = initial;
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            Slot slot = (Slot) o;
-            return CompositeValuesCollectorQueue.this.equals(value, slot.value);
-        }
-
-        @Override
-        public int hashCode() {
-            return CompositeValuesCollectorQueue.this.hashCode(value);
-        }
-    }
-
+public final class CompositeValuesCollectorQueue implements Releasable {
     // the slot for the current candidate
     private static final int CANDIDATE_SLOT = Integer.MAX_VALUE;
+    // the initial capacity of the hash table, it doubles whenever it is half full
+    private static final int INITIAL_TABLE_CAPACITY = 16;
 
     private final BigArrays bigArrays;
     private final int maxSize;
-    private final Map<Slot, Integer> map;
     private final SingleDimensionValuesSource<?>[] arrays;
 
+    // the slots ordered as a binary heap with the least competitive bucket on top
+    private IntArray heap;
+    private int size;
+    // the hash code of the values in each slot
+    private IntArray hashes;
+    // the hash table of the slots: 0 marks an empty entry, any other value is a slot + 1
+    private IntArray table;
+    private int mask;
+
     private IntArray docCounts;
     private boolean afterKeyIsSet = false;
 
@@ -88,12 +79,10 @@ final class CompositeValuesCollectorQueue extends PriorityQueue<Integer> impleme
      * @param size The number of composite buckets to keep.
      * @param afterKey composite key
      */
-    CompositeValuesCollectorQueue(BigArrays bigArrays, SingleDimensionValuesSource<?>[] sources, int size, CompositeKey afterKey) {
-        super(size);
+    public CompositeValuesCollectorQueue(BigArrays bigArrays, SingleDimensionValuesSource<?>[] sources, int size, CompositeKey afterKey) {
         this.bigArrays = bigArrays;
         this.maxSize = size;
         this.arrays = sources;
-        this.map = new HashMap<>(size);
         if (afterKey != null) {
             assert afterKey.size() == sources.length;
             afterKeyIsSet = true;
@@ -101,27 +90,64 @@ final class CompositeValuesCollectorQueue extends PriorityQueue<Integer> impleme
                 sources[i].setAfter(afterKey.get(i));
             }
         }
-        this.docCounts = bigArrays.newIntArray(1, false);
+        boolean success = false;
+        try {
+            this.heap = bigArrays.newIntArray(1, false);
+            this.hashes = bigArrays.newIntArray(1, false);
+            this.table = bigArrays.newIntArray(INITIAL_TABLE_CAPACITY, true);
+            this.mask = INITIAL_TABLE_CAPACITY - 1;
+            this.docCounts = bigArrays.newIntArray(1, false);
+            success = true;
+        } finally {
+            if (success == false) {
+                close();
+            }
+        }
     }
 
-    @Override
-    protected boolean lessThan(Integer a, Integer b) {
-        return compare(a, b) > 0;
+    /**
+     * The number of buckets in the queue.
+     */
+    public int size() {
+        return size;
     }
 
     /**
      * Whether the queue is full or not.
      */
     boolean isFull() {
-        return size() >= maxSize;
+        return size >= maxSize;
+    }
+
+    /**
+     * Returns the slot of the least competitive bucket.
+     */
+    int top() {
+        assert size > 0;
+        return heap.get(0);
+    }
+
+    /**
+     * Removes the least competitive bucket from the queue and returns its slot.
+     */
+    int pop() {
+        assert size > 0;
+        final int slot = heap.get(0);
+        removeFromTable(slot);
+        size--;
+        if (size > 0) {
+            heap.set(0, heap.get(size));
+            downHeap(0);
+        }
+        return slot;
     }
 
     /**
      * Compares the current candidate with the values in the queue and returns
-     * the slot if the candidate is already in the queue or null if the candidate is not present.
+     * the slot if the candidate is already in the queue or -1 if the candidate is not present.
      */
-    Integer compareCurrent() {
-        return map.get(new Slot(CANDIDATE_SLOT));
+    int compareCurrent() {
+        return findInTable(hashCode(CANDIDATE_SLOT));
     }
 
     /**
@@ -135,7 +161,7 @@ final class CompositeValuesCollectorQueue extends PriorityQueue<Integer> impleme
      * Returns the upper value (inclusive) of the leading source.
      */
     Comparable getUpperValueLeadSource() throws IOException {
-        return size() >= maxSize ? arrays[0].toComparable(top()) : null;
+        return size >= maxSize ? arrays[0].toComparable(top()) : null;
     }
     /**
      * Returns the document count in <code>slot</code>.
@@ -233,7 +259,7 @@ final class CompositeValuesCollectorQueue extends PriorityQueue<Integer> impleme
      * Creates the collector that will visit the composite buckets of the matching documents.
      * The provided collector <code>in</code> is called on each composite bucket.
      */
-    LeafBucketCollector getLeafCollector(LeafReaderContext context, LeafBucketCollector in) throws IOException {
+    public LeafBucketCollector getLeafCollector(LeafReaderContext context, LeafBucketCollector in) throws IOException {
         return getLeafCollector(null, context, in);
     }
     /**
@@ -276,10 +302,11 @@ final class CompositeValuesCollectorQueue extends PriorityQueue<Integer> impleme
      *
      * @throws CollectionTerminatedException if the current collection can be terminated early due to index sorting.
      */
-    boolean addIfCompetitive(int indexSortSourcePrefix) {
+    public boolean addIfCompetitive(int indexSortSourcePrefix) {
         // checks if the candidate key is competitive
-        Integer topSlot = compareCurrent();
-        if (topSlot != null) {
+        final int hash = hashCode(CANDIDATE_SLOT);
+        final int topSlot = findInTable(hash);
+        if (topSlot != -1) {
             // this key is already in the top N, skip it
             docCounts.increment(topSlot, 1);
             return true;
@@ -297,7 +324,7 @@ final class CompositeValuesCollectorQueue extends PriorityQueue<Integer> impleme
                 return false;
             }
         }
-        if (size() >= maxSize) {
+        if (size >= maxSize) {
             // the tree map is full, check if the candidate key should be kept
             int cmp = compare(CANDIDATE_SLOT, top());
             if (cmp > 0) {
@@ -311,25 +338,133 @@ final class CompositeValuesCollectorQueue extends PriorityQueue<Integer> impleme
             }
         }
         // the candidate key is competitive
-        final int newSlot;
-        if (size() >= maxSize) {
-            // the queue is full, we replace the last key with this candidate
-            int slot = pop();
-            map.remove(new Slot(slot));
-            // and we recycle the deleted slot
-            newSlot = slot;
+        if (size >= maxSize) {
+            // the queue is full, we recycle the slot of the last key for this candidate
+            final int slot = top();
+            removeFromTable(slot);
+            copyCurrent(slot);
+            addToTable(slot, hash);
+            downHeap(0);
         } else {
-            newSlot = size();
+            final int slot = size++;
+            copyCurrent(slot);
+            addToTable(slot, hash);
+            heap = bigArrays.grow(heap, size);
+            heap.set(slot, slot);
+            upHeap(slot);
         }
-        // move the candidate key to its new slot
-        copyCurrent(newSlot);
-        map.put(new Slot(newSlot), newSlot);
-        add(newSlot);
         return true;
     }
 
+    /**
+     * Whether the bucket in <code>slot1</code> is more competitive than the one in <code>slot2</code>.
+     */
+    private boolean lessThan(int slot1, int slot2) {
+        return compare(slot1, slot2) > 0;
+    }
+
+    private void upHeap(int index) {
+        final int slot = heap.get(index);
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            final int parentSlot = heap.get(parent);
+            if (lessThan(slot, parentSlot) == false) {
+                break;
+            }
+            heap.set(index, parentSlot);
+            index = parent;
+        }
+        heap.set(index, slot);
+    }
+
+    private void downHeap(int index) {
+        final int slot = heap.get(index);
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            int childSlot = heap.get(child);
+            if (child + 1 < size) {
+                final int rightSlot = heap.get(child + 1);
+                if (lessThan(rightSlot, childSlot)) {
+                    child++;
+                    childSlot = rightSlot;
+                }
+            }
+            if (lessThan(childSlot, slot) == false) {
+                break;
+            }
+            heap.set(index, childSlot);
+            index = child;
+        }
+        heap.set(index, slot);
+    }
+
+    private int findInTable(int hash) {
+        for (int index = BitMixer.mix32(hash) & mask; ; index = (index + 1) & mask) {
+            final int entry = table.get(index);
+            if (entry == 0) {
+                return -1;
+            }
+            final int slot = entry - 1;
+            if (hashes.get(slot) == hash && equals(CANDIDATE_SLOT, slot)) {
+                return slot;
+            }
+        }
+    }
+
+    private void addToTable(int slot, int hash) {
+        hashes = bigArrays.grow(hashes, slot + 1);
+        hashes.set(slot, hash);
+        if (2 * size > table.size()) {
+            // keep the table at most half full, the occupied slots are the ones up to size
+            Releasables.close(table);
+            table = null;
+            table = bigArrays.newIntArray(2 * (mask + 1), true);
+            mask = Math.toIntExact(table.size()) - 1;
+            for (int i = 0; i < size; i++) {
+                if (i != slot) {
+                    insert(i, hashes.get(i));
+                }
+            }
+        }
+        insert(slot, hash);
+    }
+
+    private void insert(int slot, int hash) {
+        int index = BitMixer.mix32(hash) & mask;
+        while (table.get(index) != 0) {
+            index = (index + 1) & mask;
+        }
+        table.set(index, slot + 1);
+    }
+
+    private void removeFromTable(int slot) {
+        int index = BitMixer.mix32(hashes.get(slot)) & mask;
+        while (table.get(index) != slot + 1) {
+            index = (index + 1) & mask;
+        }
+        // shifts back the entries that follow in the run, so that lookups don't stop at the removed entry
+        table.set(index, 0);
+        for (int next = (index + 1) & mask; ; next = (next + 1) & mask) {
+            final int entry = table.get(next);
+            if (entry == 0) {
+                return;
+            }
+            final int home = BitMixer.mix32(hashes.get(entry - 1)) & mask;
+            // the entry can move to the removed index if its home isn't cyclically in (index, next]
+            final boolean stays = index <= next ? (index < home && home <= next) : (index < home || home <= next);
+            if (stays == false) {
+                table.set(index, entry);
+                table.set(next, 0);
+                index = next;
+            }
+        }
+    }
+
     @Override
     public void close() {
-        Releasables.close(docCounts);
+        Releasables.close(heap, hashes, table, docCounts);
     }
 }
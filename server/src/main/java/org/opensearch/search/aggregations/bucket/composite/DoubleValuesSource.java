@@ -50,16 +50,16 @@ import java.io.IOException;
 /**
  * A {@link SingleDimensionValuesSource} for doubles.
  */
-class DoubleValuesSource extends SingleDimensionValuesSource<Double> {
+public class DoubleValuesSource extends SingleDimensionValuesSource<Double> {
     private final CheckedFunction<LeafReaderContext, SortedNumericDoubleValues, IOException> docValuesFunc;
     private final BitArray bits;
     private DoubleArray values;
     private double currentValue;
     private boolean missingCurrentValue;
 
-    DoubleValuesSource(BigArrays bigArrays, MappedFieldType fieldType,
-                       CheckedFunction<LeafReaderContext, SortedNumericDoubleValues, IOException> docValuesFunc,
-                       DocValueFormat format, boolean missingBucket, int size, int reverseMul) {
+    public DoubleValuesSource(BigArrays bigArrays, MappedFieldType fieldType,
+                              CheckedFunction<LeafReaderContext, SortedNumericDoubleValues, IOException> docValuesFunc,
+                              DocValueFormat format, boolean missingBucket, int size, int reverseMul) {
         super(bigArrays, format, fieldType, missingBucket, size, reverseMul);
         this.docValuesFunc = docValuesFunc;
         this.bits = missingBucket ? new BitArray(100, bigArrays) : null;
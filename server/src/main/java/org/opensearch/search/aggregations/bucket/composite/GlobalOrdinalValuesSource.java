@@ -54,7 +54,7 @@ import static org.apache.lucene.index.SortedSetDocValues.NO_MORE_ORDS;
 /**
  * A {@link SingleDimensionValuesSource} for global ordinals.
  */
-class GlobalOrdinalValuesSource extends SingleDimensionValuesSource<BytesRef> {
+public class GlobalOrdinalValuesSource extends SingleDimensionValuesSource<BytesRef> {
     private final CheckedFunction<LeafReaderContext, SortedSetDocValues, IOException> docValuesFunc;
     private LongArray values;
     private SortedSetDocValues lookup;
@@ -65,9 +65,9 @@ class GlobalOrdinalValuesSource extends SingleDimensionValuesSource<BytesRef> {
     private long lastLookupOrd = -1;
     private BytesRef lastLookupValue;
 
-    GlobalOrdinalValuesSource(BigArrays bigArrays, MappedFieldType type,
-                              CheckedFunction<LeafReaderContext, SortedSetDocValues, IOException> docValuesFunc,
-                              DocValueFormat format, boolean missingBucket, int size, int reverseMul) {
+    public GlobalOrdinalValuesSource(BigArrays bigArrays, MappedFieldType type,
+                                     CheckedFunction<LeafReaderContext, SortedSetDocValues, IOException> docValuesFunc,
+                                     DocValueFormat format, boolean missingBucket, int size, int reverseMul) {
         super(bigArrays, format, type, missingBucket, size, reverseMul);
         this.docValuesFunc = docValuesFunc;
         this.values = bigArrays.newLongArray(Math.min(size, 100), false);
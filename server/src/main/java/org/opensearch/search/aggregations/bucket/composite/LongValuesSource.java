@@ -62,7 +62,7 @@ import java.util.function.ToLongFunction;
 /**
  * A {@link SingleDimensionValuesSource} for longs.
  */
-class LongValuesSource extends SingleDimensionValuesSource<Long> {
+public class LongValuesSource extends SingleDimensionValuesSource<Long> {
     private final BigArrays bigArrays;
     private final CheckedFunction<LeafReaderContext, SortedNumericDocValues, IOException> docValuesFunc;
     private final LongUnaryOperator rounding;
@@ -72,9 +72,9 @@ class LongValuesSource extends SingleDimensionValuesSource<Long> {
     private long currentValue;
     private boolean missingCurrentValue;
 
-    LongValuesSource(BigArrays bigArrays,
-                     MappedFieldType fieldType, CheckedFunction<LeafReaderContext, SortedNumericDocValues, IOException> docValuesFunc,
-                     LongUnaryOperator rounding, DocValueFormat format, boolean missingBucket, int size, int reverseMul) {
+    public LongValuesSource(BigArrays bigArrays, MappedFieldType fieldType,
+                            CheckedFunction<LeafReaderContext, SortedNumericDocValues, IOException> docValuesFunc,
+                            LongUnaryOperator rounding, DocValueFormat format, boolean missingBucket, int size, int reverseMul) {
         super(bigArrays, format, fieldType, missingBucket, size, reverseMul);
         this.bigArrays = bigArrays;
         this.docValuesFunc = docValuesFunc;
@@ -48,7 +48,7 @@ import java.io.IOException;
 /**
  * A source that can record and compare values of similar type.
  */
-abstract class SingleDimensionValuesSource<T extends Comparable<T>> implements Releasable {
+public abstract class SingleDimensionValuesSource<T extends Comparable<T>> implements Releasable {
     protected final BigArrays bigArrays;
     protected final DocValueFormat format;
     @Nullable
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.histogram;
+
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.LongHash;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregation.ReduceContext;
+import org.opensearch.search.aggregations.bucket.BucketsAccumulator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Accumulates {@link InternalDateHistogram}s, keeping the keys of the buckets in a {@link LongHash}. Like a partial
+ * {@link InternalDateHistogram#reduce}, the accumulated buckets are sorted by key and neither filtered by
+ * {@code min_doc_count} nor completed with empty buckets.
+ */
+final class DateHistogramAccumulator extends BucketsAccumulator {
+
+    private final InternalDateHistogram prototype;
+    private final LongHash keys;
+
+    DateHistogramAccumulator(InternalDateHistogram prototype, ReduceContext reduceContext) {
+        super(reduceContext);
+        this.prototype = prototype;
+        this.keys = new LongHash(1, bigArrays);
+    }
+
+    @Override
+    public boolean accept(InternalAggregation aggregation) {
+        if (aggregation instanceof InternalDateHistogram == false) {
+            return false;
+        }
+        for (InternalDateHistogram.Bucket bucket : ((InternalDateHistogram) aggregation).getBuckets()) {
+            long ord = keys.add(bucket.key);
+            if (ord < 0) {
+                ord = -1 - ord;
+            }
+            collectBucket(ord, bucket.docCount, bucket.aggregations);
+        }
+        return true;
+    }
+
+    @Override
+    protected int compareKeys(long ord1, long ord2) {
+        return Long.compare(keys.get(ord1), keys.get(ord2));
+    }
+
+    @Override
+    public InternalAggregation build() {
+        final int[] ords = sortedOrds(keys.size(), true);
+        final List<InternalDateHistogram.Bucket> buckets = new ArrayList<>(ords.length);
+        for (int ord : ords) {
+            buckets.add(prototype.createBucket(keys.get(ord), docCount(ord), subAggregations(ord)));
+        }
+        return prototype.create(buckets);
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return super.ramBytesUsed() + keys.ramBytesUsed();
+    }
+
+    @Override
+    public void close() {
+        try {
+            super.close();
+        } finally {
+            Releasables.close(keys);
+        }
+    }
+}
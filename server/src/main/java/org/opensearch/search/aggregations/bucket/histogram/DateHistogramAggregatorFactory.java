@@ -132,4 +132,9 @@ public final class DateHistogramAggregatorFactory extends ValuesSourceAggregator
         return new DateHistogramAggregator(name, factories, rounding, null, order, keyed, minDocCount, extendedBounds, hardBounds,
             config, searchContext, parent, CardinalityUpperBound.NONE, metadata);
     }
+
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        return config.script() == null;
+    }
 }
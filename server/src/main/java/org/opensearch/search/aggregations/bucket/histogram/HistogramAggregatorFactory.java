@@ -130,4 +130,9 @@ public final class HistogramAggregatorFactory extends ValuesSourceAggregatorFact
         return new NumericHistogramAggregator(name, factories, interval, offset, order, keyed, minDocCount, extendedBounds,
             hardBounds, config, searchContext, parent, CardinalityUpperBound.NONE, metadata);
     }
+
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        return config.script() == null;
+    }
 }
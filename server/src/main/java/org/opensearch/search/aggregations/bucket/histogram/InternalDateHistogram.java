@@ -38,6 +38,7 @@ import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.AggregationAccumulator;
 import org.opensearch.search.aggregations.Aggregations;
 import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.InternalAggregation;
@@ -297,6 +298,11 @@ public final class InternalDateHistogram extends InternalMultiBucketAggregation<
         return new InternalDateHistogram(name, buckets, order, minDocCount, offset, emptyBucketInfo, format, keyed, metadata);
     }
 
+    @Override
+    public AggregationAccumulator newAccumulator(ReduceContext reduceContext) {
+        return new DateHistogramAccumulator(this, reduceContext);
+    }
+
     @Override
     public Bucket createBucket(InternalAggregations aggregations, Bucket prototype) {
         return new Bucket(prototype.key, prototype.docCount, prototype.keyed, prototype.format, aggregations);
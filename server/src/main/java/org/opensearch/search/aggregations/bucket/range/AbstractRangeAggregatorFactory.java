@@ -115,4 +115,9 @@ public class AbstractRangeAggregatorFactory<R extends Range> extends ValuesSourc
                 metadata
             );
     }
+
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        return config.script() == null;
+    }
 }
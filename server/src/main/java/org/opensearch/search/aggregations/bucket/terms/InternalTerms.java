@@ -251,7 +251,7 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
         return thisReduceOrder != null ? thisReduceOrder : order;
     }
 
-    private long getDocCountError(InternalTerms<?, ?> terms) {
+    long getDocCountError(InternalTerms<?, ?> terms) {
         int size = terms.getBuckets().size();
         if (size == 0 || size < terms.getShardSize() || isKeyOrder(terms.order)) {
             return 0;
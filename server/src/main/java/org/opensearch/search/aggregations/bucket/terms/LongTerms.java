@@ -35,6 +35,7 @@ import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.AggregationAccumulator;
 import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
@@ -156,6 +157,11 @@ public class LongTerms extends InternalMappedTerms<LongTerms, LongTerms.Bucket>
                 prototype.format);
     }
 
+    @Override
+    public AggregationAccumulator newAccumulator(ReduceContext reduceContext) {
+        return new LongTermsAccumulator(this, reduceContext);
+    }
+
     @Override
     protected LongTerms create(String name, List<Bucket> buckets, BucketOrder reduceOrder, long docCountError, long otherDocCount) {
         return new LongTerms(name, reduceOrder, order, requiredSize, minDocCount, getMetadata(), format, shardSize,
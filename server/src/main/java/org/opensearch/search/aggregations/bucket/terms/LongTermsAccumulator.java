@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.terms;
+
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.LongHash;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.InternalAggregation.ReduceContext;
+import org.opensearch.search.aggregations.InternalAggregations;
+
+/**
+ * Accumulates {@link LongTerms}, keeping the terms in a {@link LongHash}.
+ */
+final class LongTermsAccumulator extends TermsAccumulator<LongTerms, LongTerms.Bucket> {
+
+    private final LongHash keys;
+    private boolean rawFormat;
+    private boolean unsignedLongFormat;
+
+    LongTermsAccumulator(LongTerms prototype, ReduceContext reduceContext) {
+        super(prototype, reduceContext);
+        this.keys = new LongHash(1, bigArrays);
+    }
+
+    @Override
+    protected boolean canAccept(LongTerms terms) {
+        // LongTerms#reduce converts the terms to doubles if the raw and unsigned long formats are mixed
+        final boolean raw = rawFormat || terms.format == DocValueFormat.RAW;
+        final boolean unsignedLong = unsignedLongFormat || terms.format == DocValueFormat.UNSIGNED_LONG_SHIFTED;
+        if (raw && unsignedLong) {
+            return false;
+        }
+        rawFormat = raw;
+        unsignedLongFormat = unsignedLong;
+        return true;
+    }
+
+    @Override
+    protected long addKey(LongTerms.Bucket bucket) {
+        return keys.add(bucket.term);
+    }
+
+    @Override
+    protected long numKeys() {
+        return keys.size();
+    }
+
+    @Override
+    protected int compareKeys(long ord1, long ord2) {
+        return Long.compare(keys.get(ord1), keys.get(ord2));
+    }
+
+    @Override
+    protected LongTerms.Bucket createBucket(long ord, long docCount, InternalAggregations aggregations, long docCountError) {
+        final LongTerms prototype = prototype();
+        return new LongTerms.Bucket(keys.get(ord), docCount, aggregations, prototype.showTermDocCountError, docCountError,
+            prototype.format);
+    }
+
+    @Override
+    protected long keysRamBytesUsed() {
+        return keys.ramBytesUsed();
+    }
+
+    @Override
+    public void close() {
+        try {
+            super.close();
+        } finally {
+            Releasables.close(keys);
+        }
+    }
+}
@@ -36,6 +36,7 @@ import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.AggregationAccumulator;
 import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.InternalAggregations;
 
@@ -152,6 +153,11 @@ public class StringTerms extends InternalMappedTerms<StringTerms, StringTerms.Bu
         return new Bucket(prototype.termBytes, docCount, aggs, prototype.showDocCountError, docCountError, format);
     }
 
+    @Override
+    public AggregationAccumulator newAccumulator(ReduceContext reduceContext) {
+        return new StringTermsAccumulator(this, reduceContext);
+    }
+
     @Override
     protected StringTerms create(String name, List<Bucket> buckets, BucketOrder reduceOrder, long docCountError, long otherDocCount) {
         return new StringTerms(name, reduceOrder, order, requiredSize, minDocCount, getMetadata(), format, shardSize,
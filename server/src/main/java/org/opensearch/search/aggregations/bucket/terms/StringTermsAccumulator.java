@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.terms;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.BytesRefHash;
+import org.opensearch.search.aggregations.InternalAggregation.ReduceContext;
+import org.opensearch.search.aggregations.InternalAggregations;
+
+/**
+ * Accumulates {@link StringTerms}, keeping the terms in a {@link BytesRefHash}.
+ */
+final class StringTermsAccumulator extends TermsAccumulator<StringTerms, StringTerms.Bucket> {
+
+    private final BytesRefHash keys;
+    private final BytesRef spare1 = new BytesRef();
+    private final BytesRef spare2 = new BytesRef();
+
+    StringTermsAccumulator(StringTerms prototype, ReduceContext reduceContext) {
+        super(prototype, reduceContext);
+        this.keys = new BytesRefHash(1, bigArrays);
+    }
+
+    @Override
+    protected boolean canAccept(StringTerms terms) {
+        return true;
+    }
+
+    @Override
+    protected long addKey(StringTerms.Bucket bucket) {
+        return keys.add(bucket.termBytes);
+    }
+
+    @Override
+    protected long numKeys() {
+        return keys.size();
+    }
+
+    @Override
+    protected int compareKeys(long ord1, long ord2) {
+        return keys.get(ord1, spare1).compareTo(keys.get(ord2, spare2));
+    }
+
+    @Override
+    protected StringTerms.Bucket createBucket(long ord, long docCount, InternalAggregations aggregations, long docCountError) {
+        final StringTerms prototype = prototype();
+        return new StringTerms.Bucket(BytesRef.deepCopyOf(keys.get(ord, spare1)), docCount, aggregations,
+            prototype.showTermDocCountError, docCountError, prototype.format);
+    }
+
+    @Override
+    protected long keysRamBytesUsed() {
+        return keys.ramBytesUsed();
+    }
+
+    @Override
+    public void close() {
+        try {
+            super.close();
+        } finally {
+            Releasables.close(keys);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.terms;
+
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregation.ReduceContext;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.InternalOrder;
+import org.opensearch.search.aggregations.bucket.BucketsAccumulator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.opensearch.search.aggregations.InternalOrder.isKeyAsc;
+import static org.opensearch.search.aggregations.InternalOrder.isKeyOrder;
+
+/**
+ * Accumulates {@link InternalMappedTerms} one at a time, following the same doc count error arithmetic as a partial
+ * {@link InternalTerms#reduce}. Only results whose buckets are sorted by key can be accumulated, which is the case of all
+ * the results of nodes on or after {@link org.opensearch.LegacyESVersion#V_7_10_0}.
+ */
+abstract class TermsAccumulator<A extends InternalMappedTerms<A, B>, B extends InternalTerms.Bucket<B>> extends BucketsAccumulator {
+
+    private final A prototype;
+    // the per bucket doc count errors, minus the doc count error of the aggregations they come from
+    private LongArray docCountErrors;
+    private long sumDocCountError;
+    private long otherDocCount;
+    private int count;
+    // the reduce order of the first aggregation that has buckets
+    private BucketOrder reduceOrder;
+
+    TermsAccumulator(A prototype, ReduceContext reduceContext) {
+        super(reduceContext);
+        this.prototype = prototype;
+        this.docCountErrors = bigArrays.newLongArray(1, false);
+    }
+
+    /**
+     * Returns {@code true} if the given terms can be merged with the terms accumulated so far. This is the last check before
+     * the terms are merged, implementations can update their state when they return {@code true}.
+     */
+    protected abstract boolean canAccept(A terms);
+
+    /**
+     * Adds the key of the given bucket, returns its ordinal if it is new or {@code -1 - ordinal} if it was already present.
+     */
+    protected abstract long addKey(B bucket);
+
+    protected abstract long numKeys();
+
+    /**
+     * Creates the bucket with the given ordinal.
+     */
+    protected abstract B createBucket(long ord, long docCount, InternalAggregations aggregations, long docCountError);
+
+    protected abstract long keysRamBytesUsed();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean accept(InternalAggregation aggregation) {
+        if (aggregation instanceof UnmappedTerms) {
+            // unmapped terms have no buckets, no doc count error and no other doc count
+            count++;
+            return true;
+        }
+        if (aggregation.getClass() != prototype.getClass()) {
+            return false;
+        }
+        final A terms = (A) aggregation;
+        final boolean hasBuckets = terms.getBuckets().isEmpty() == false;
+        if (hasBuckets) {
+            if (reduceOrder == null ? isKeyOrder(terms.reduceOrder) == false : reduceOrder.equals(terms.reduceOrder) == false) {
+                return false;
+            }
+        }
+        if (canAccept(terms) == false) {
+            return false;
+        }
+        if (hasBuckets && reduceOrder == null) {
+            reduceOrder = terms.reduceOrder;
+        }
+        count++;
+        otherDocCount += terms.getSumOfOtherDocCounts();
+        final long thisAggDocCountError = prototype.getDocCountError(terms);
+        if (sumDocCountError != -1) {
+            sumDocCountError = thisAggDocCountError == -1 ? -1 : sumDocCountError + thisAggDocCountError;
+        }
+        for (B bucket : terms.getBuckets()) {
+            final long docCountError = bucket.docCountError - thisAggDocCountError;
+            long ord = addKey(bucket);
+            if (ord < 0) {
+                ord = -1 - ord;
+                final long current = docCountErrors.get(ord);
+                if (current != -1) {
+                    docCountErrors.set(ord, docCountError == -1 ? -1 : current + docCountError);
+                }
+            } else {
+                docCountErrors = bigArrays.grow(docCountErrors, ord + 1);
+                docCountErrors.set(ord, docCountError);
+            }
+            collectBucket(ord, bucket.docCount, bucket.aggregations);
+        }
+        return true;
+    }
+
+    @Override
+    public InternalAggregation build() {
+        BucketOrder thisReduceOrder = reduceOrder != null ? reduceOrder : prototype.order;
+        if (isKeyOrder(thisReduceOrder)) {
+            thisReduceOrder = InternalOrder.key(isKeyAsc(thisReduceOrder));
+        }
+        final int[] ords = sortedOrds(numKeys(), isKeyAsc(thisReduceOrder));
+        // we can prune the list on partial reduce if the aggregation is ordered by key and not filtered, see InternalTerms#reduce
+        final int size = isKeyOrder(prototype.order) && prototype.minDocCount == 0 ? Math.min(prototype.requiredSize, ords.length)
+            : ords.length;
+        final List<B> buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final int ord = ords[i];
+            final long docCountError = sumDocCountError == -1 ? -1 : docCountErrors.get(ord) + sumDocCountError;
+            buckets.add(createBucket(ord, docCount(ord), subAggregations(ord), docCountError));
+        }
+        final long docCountError = sumDocCountError == -1 ? -1 : (count == 1 ? 0 : sumDocCountError);
+        return prototype.create(prototype.getName(), buckets, thisReduceOrder, docCountError, otherDocCount);
+    }
+
+    protected final A prototype() {
+        return prototype;
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return super.ramBytesUsed() + docCountErrors.ramBytesUsed() + keysRamBytesUsed();
+    }
+
+    @Override
+    public void close() {
+        try {
+            super.close();
+        } finally {
+            Releasables.close(docCountErrors);
+        }
+    }
+}
@@ -475,4 +475,14 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
         }
     }
 
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        return config.script() == null;
+    }
+
+    @Override
+    public boolean supportsSegmentLevelCaching() {
+        // the top shard_size terms of each segment don't add up to the top terms of the shard
+        return false;
+    }
 }
@@ -37,6 +37,7 @@ import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.DoubleArray;
 import org.opensearch.common.util.LongArray;
+import org.opensearch.index.fielddata.NumericDoubleValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
@@ -87,6 +88,27 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue {
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        final NumericDoubleValues singleton = DoubleValuesBatchCollector.unwrapBatchable(valuesSource, values);
+        if (singleton != null) {
+            return batching(new DoubleValuesBatchCollector(singleton) {
+                @Override
+                protected void collectValues(double[] values, int count, long bucket) {
+                    counts = bigArrays.grow(counts, bucket + 1);
+                    sums = bigArrays.grow(sums, bucket + 1);
+                    compensations = bigArrays.grow(compensations, bucket + 1);
+                    if (count == 0) {
+                        return;
+                    }
+                    counts.increment(bucket, count);
+                    kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+                    for (int i = 0; i < count; i++) {
+                        kahanSummation.add(values[i]);
+                    }
+                    sums.set(bucket, kahanSummation.value());
+                    compensations.set(bucket, kahanSummation.delta());
+                }
+            });
+        }
 
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -80,4 +80,9 @@ class AvgAggregatorFactory extends ValuesSourceAggregatorFactory {
             .getAggregator(AvgAggregationBuilder.REGISTRY_KEY, config)
             .build(name, config, searchContext, parent, metadata);
     }
+
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        return config.script() == null;
+    }
 }
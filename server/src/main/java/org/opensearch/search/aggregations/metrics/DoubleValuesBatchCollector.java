@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.index.fielddata.FieldData;
+import org.opensearch.index.fielddata.NumericDoubleValues;
+import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+import org.opensearch.search.aggregations.BatchingLeafBucketCollector;
+import org.opensearch.search.aggregations.support.ValuesSource;
+
+import java.io.IOException;
+
+/**
+ * Collects the docs of a single-valued numeric field a batch at a time: the values of a batch are loaded into an array
+ * and then folded into the bucket by {@link #collectValues}.
+ */
+abstract class DoubleValuesBatchCollector extends BatchingLeafBucketCollector {
+
+    private final NumericDoubleValues values;
+    private final double[] batch = new double[BATCH_SIZE];
+
+    DoubleValuesBatchCollector(NumericDoubleValues values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns the single-valued view of the given values if they can be collected in batches, {@code null} otherwise.
+     */
+    static NumericDoubleValues unwrapBatchable(ValuesSource.Numeric valuesSource, SortedNumericDoubleValues values) {
+        return valuesSource.needsScores() ? null : FieldData.unwrapSingleton(values);
+    }
+
+    @Override
+    public final void collect(int[] docs, int count, long owningBucketOrd) throws IOException {
+        int numValues = 0;
+        for (int i = 0; i < count; i++) {
+            if (values.advanceExact(docs[i])) {
+                batch[numValues++] = values.doubleValue();
+            }
+        }
+        collectValues(batch, numValues, owningBucketOrd);
+    }
+
+    /**
+     * Folds the first {@code count} values of {@code values}, which may be none, into the bucket owned by
+     * {@code owningBucketOrd}.
+     */
+    protected abstract void collectValues(double[] values, int count, long owningBucketOrd);
+}
@@ -88,4 +88,9 @@ class ExtendedStatsAggregatorFactory extends ValuesSourceAggregatorFactory {
             .getAggregator(ExtendedStatsAggregationBuilder.REGISTRY_KEY, config)
             .build(name, config, searchContext, parent, sigma, metadata);
     }
+
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        return config.script() == null;
+    }
 }
@@ -120,6 +120,27 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue {
         }
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues allValues = valuesSource.doubleValues(ctx);
+        final NumericDoubleValues singleton = DoubleValuesBatchCollector.unwrapBatchable(valuesSource, allValues);
+        if (singleton != null) {
+            return batching(new DoubleValuesBatchCollector(singleton) {
+                @Override
+                protected void collectValues(double[] values, int count, long bucket) {
+                    if (bucket >= maxes.size()) {
+                        long from = maxes.size();
+                        maxes = bigArrays.grow(maxes, bucket + 1);
+                        maxes.fill(from, maxes.size(), Double.NEGATIVE_INFINITY);
+                    }
+                    if (count == 0) {
+                        return;
+                    }
+                    double max = maxes.get(bucket);
+                    for (int i = 0; i < count; i++) {
+                        max = Math.max(max, values[i]);
+                    }
+                    maxes.set(bucket, max);
+                }
+            });
+        }
         final NumericDoubleValues values = MultiValueMode.MAX.select(allValues);
         return new LeafBucketCollectorBase(sub, allValues) {
 
@@ -35,14 +35,20 @@ package org.opensearch.search.aggregations.metrics;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorBase;
 import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.BatchingLeafBucketCollector;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
 import java.util.Map;
 
 public abstract class MetricsAggregator extends AggregatorBase {
+
+    // the collector of the last leaf if it collects docs in batches
+    private BatchingLeafBucketCollector lastBatchingCollector;
+
     protected MetricsAggregator(String name, SearchContext context, Aggregator parent, Map<String, Object> metadata) throws IOException {
         super(name, AggregatorFactories.EMPTY, context, parent, CardinalityUpperBound.NONE, metadata);
         /*
@@ -51,6 +57,34 @@ public abstract class MetricsAggregator extends AggregatorBase {
          */
     }
 
+    /**
+     * Returns the given collector for the current leaf. Its last batch is collected before the collector of the next
+     * leaf is created and when the collection ends.
+     */
+    protected final LeafBucketCollector batching(BatchingLeafBucketCollector collector) {
+        assert lastBatchingCollector == null : "the collector of the previous leaf wasn't flushed";
+        lastBatchingCollector = collector;
+        return collector;
+    }
+
+    private void flushLastBatchingCollector() throws IOException {
+        if (lastBatchingCollector != null) {
+            final BatchingLeafBucketCollector collector = lastBatchingCollector;
+            lastBatchingCollector = null;
+            collector.flush();
+        }
+    }
+
+    @Override
+    protected void preGetSubLeafCollectors() throws IOException {
+        flushLastBatchingCollector();
+    }
+
+    @Override
+    protected void doPostCollection() throws IOException {
+        flushLastBatchingCollector();
+    }
+
     /**
      * Build an aggregation for data that has been collected into
      * {@code owningBucketOrd}.
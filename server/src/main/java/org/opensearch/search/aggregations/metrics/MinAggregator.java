@@ -120,6 +120,27 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue {
         }
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues allValues = valuesSource.doubleValues(ctx);
+        final NumericDoubleValues singleton = DoubleValuesBatchCollector.unwrapBatchable(valuesSource, allValues);
+        if (singleton != null) {
+            return batching(new DoubleValuesBatchCollector(singleton) {
+                @Override
+                protected void collectValues(double[] values, int count, long bucket) {
+                    if (bucket >= mins.size()) {
+                        long from = mins.size();
+                        mins = bigArrays.grow(mins, bucket + 1);
+                        mins.fill(from, mins.size(), Double.POSITIVE_INFINITY);
+                    }
+                    if (count == 0) {
+                        return;
+                    }
+                    double min = mins.get(bucket);
+                    for (int i = 0; i < count; i++) {
+                        min = Math.min(min, values[i]);
+                    }
+                    mins.set(bucket, min);
+                }
+            });
+        }
         final NumericDoubleValues values = MultiValueMode.MIN.select(allValues);
         return new LeafBucketCollectorBase(sub, allValues) {
 
@@ -80,4 +80,9 @@ class MinAggregatorFactory extends ValuesSourceAggregatorFactory {
             .getAggregator(MinAggregationBuilder.REGISTRY_KEY, config)
             .build(name, config, searchContext, parent, metadata);
     }
+
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        return config.script() == null;
+    }
 }
@@ -37,6 +37,7 @@ import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.DoubleArray;
 import org.opensearch.common.util.LongArray;
+import org.opensearch.index.fielddata.NumericDoubleValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
@@ -95,24 +96,39 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
         if (valuesSource == null) {
             return LeafBucketCollector.NO_OP_COLLECTOR;
         }
-        final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        final NumericDoubleValues singleton = DoubleValuesBatchCollector.unwrapBatchable(valuesSource, values);
+        if (singleton != null) {
+            return batching(new DoubleValuesBatchCollector(singleton) {
+                @Override
+                protected void collectValues(double[] values, int count, long bucket) {
+                    maybeGrow(bucket);
+                    if (count == 0) {
+                        return;
+                    }
+                    counts.increment(bucket, count);
+                    double min = mins.get(bucket);
+                    double max = maxes.get(bucket);
+                    kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+                    for (int i = 0; i < count; i++) {
+                        final double value = values[i];
+                        kahanSummation.add(value);
+                        min = Math.min(min, value);
+                        max = Math.max(max, value);
+                    }
+                    sums.set(bucket, kahanSummation.value());
+                    compensations.set(bucket, kahanSummation.delta());
+                    mins.set(bucket, min);
+                    maxes.set(bucket, max);
+                }
+            });
+        }
 
         return new LeafBucketCollectorBase(sub, values) {
             @Override
             public void collect(int doc, long bucket) throws IOException {
-                if (bucket >= counts.size()) {
-                    final long from = counts.size();
-                    final long overSize = BigArrays.overSize(bucket + 1);
-                    counts = bigArrays.resize(counts, overSize);
-                    sums = bigArrays.resize(sums, overSize);
-                    compensations = bigArrays.resize(compensations, overSize);
-                    mins = bigArrays.resize(mins, overSize);
-                    maxes = bigArrays.resize(maxes, overSize);
-                    mins.fill(from, overSize, Double.POSITIVE_INFINITY);
-                    maxes.fill(from, overSize, Double.NEGATIVE_INFINITY);
-                }
+                maybeGrow(bucket);
 
                 if (values.advanceExact(doc)) {
                     final int valuesCount = values.docValueCount();
@@ -140,6 +156,21 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
         };
     }
 
+    private void maybeGrow(long bucket) {
+        if (bucket >= counts.size()) {
+            final BigArrays bigArrays = context.bigArrays();
+            final long from = counts.size();
+            final long overSize = BigArrays.overSize(bucket + 1);
+            counts = bigArrays.resize(counts, overSize);
+            sums = bigArrays.resize(sums, overSize);
+            compensations = bigArrays.resize(compensations, overSize);
+            mins = bigArrays.resize(mins, overSize);
+            maxes = bigArrays.resize(maxes, overSize);
+            mins.fill(from, overSize, Double.POSITIVE_INFINITY);
+            maxes.fill(from, overSize, Double.NEGATIVE_INFINITY);
+        }
+    }
+
     @Override
     public boolean hasMetric(String name) {
         try {
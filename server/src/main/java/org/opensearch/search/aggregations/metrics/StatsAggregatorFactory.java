@@ -83,4 +83,9 @@ class StatsAggregatorFactory extends ValuesSourceAggregatorFactory {
             .getAggregator(StatsAggregationBuilder.REGISTRY_KEY, config)
             .build(name, config, searchContext, parent, metadata);
     }
+
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        return config.script() == null;
+    }
 }
@@ -36,6 +36,7 @@ import org.apache.lucene.search.ScoreMode;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.DoubleArray;
+import org.opensearch.index.fielddata.NumericDoubleValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
@@ -88,6 +89,25 @@ public class SumAggregator extends NumericMetricsAggregator.SingleValue {
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        final NumericDoubleValues singleton = DoubleValuesBatchCollector.unwrapBatchable(valuesSource, values);
+        if (singleton != null) {
+            return batching(new DoubleValuesBatchCollector(singleton) {
+                @Override
+                protected void collectValues(double[] values, int count, long bucket) {
+                    sums = bigArrays.grow(sums, bucket + 1);
+                    compensations = bigArrays.grow(compensations, bucket + 1);
+                    if (count == 0) {
+                        return;
+                    }
+                    kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+                    for (int i = 0; i < count; i++) {
+                        kahanSummation.add(values[i]);
+                    }
+                    compensations.set(bucket, kahanSummation.delta());
+                    sums.set(bucket, kahanSummation.value());
+                }
+            });
+        }
         return new LeafBucketCollectorBase(sub, values) {
             @Override
             public void collect(int doc, long bucket) throws IOException {
@@ -84,4 +84,9 @@ class SumAggregatorFactory extends ValuesSourceAggregatorFactory {
             .getAggregator(SumAggregationBuilder.REGISTRY_KEY, config)
             .build(name, config, searchContext, parent, metadata);
     }
+
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        return config.script() == null;
+    }
 }
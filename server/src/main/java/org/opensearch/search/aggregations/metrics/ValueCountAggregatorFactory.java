@@ -76,4 +76,9 @@ class ValueCountAggregatorFactory extends ValuesSourceAggregatorFactory {
             .getAggregator(ValueCountAggregationBuilder.REGISTRY_KEY, config)
             .build(name, config, searchContext, parent, metadata);
     }
+
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        return config.script() == null;
+    }
 }
@@ -0,0 +1,244 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.component.AbstractLifecycleComponent;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.monitor.jvm.JvmInfo;
+import org.opensearch.monitor.process.ProcessProbe;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Cancels the search shard tasks that consume the most resources while the node is in duress, before the search thread pool
+ * and the heap of the node spiral out of control.
+ * <p>
+ * The node is in duress once its CPU or its heap usage exceeded their thresholds for a number of successive checks. Then the
+ * search shard tasks that used more CPU time, allocated more heap or ran longer than their thresholds are cancelled, the ones that
+ * allocated the most heap first, up to a maximum number of tasks per check.
+ */
+public class SearchBackpressureService extends AbstractLifecycleComponent {
+
+    private static final Logger logger = LogManager.getLogger(SearchBackpressureService.class);
+
+    public static final Setting<Boolean> ENABLED_SETTING =
+        Setting.boolSetting("search_backpressure.enabled", false, Setting.Property.Dynamic, Setting.Property.NodeScope);
+    public static final Setting<TimeValue> INTERVAL_SETTING =
+        Setting.timeSetting("search_backpressure.interval", TimeValue.timeValueSeconds(1), TimeValue.timeValueMillis(1),
+            Setting.Property.NodeScope);
+    public static final Setting<Integer> NUM_SUCCESSIVE_BREACHES_SETTING =
+        Setting.intSetting("search_backpressure.node_duress.num_successive_breaches", 3, 1,
+            Setting.Property.Dynamic, Setting.Property.NodeScope);
+    public static final Setting<Double> CPU_THRESHOLD_SETTING =
+        Setting.doubleSetting("search_backpressure.node_duress.cpu_threshold", 0.9, 0.0, 1.0,
+            Setting.Property.Dynamic, Setting.Property.NodeScope);
+    public static final Setting<Double> HEAP_THRESHOLD_SETTING =
+        Setting.doubleSetting("search_backpressure.node_duress.heap_threshold", 0.7, 0.0, 1.0,
+            Setting.Property.Dynamic, Setting.Property.NodeScope);
+    public static final Setting<TimeValue> TASK_CPU_TIME_THRESHOLD_SETTING =
+        Setting.timeSetting("search_backpressure.search_shard_task.cpu_time_threshold", TimeValue.timeValueSeconds(15),
+            TimeValue.ZERO, Setting.Property.Dynamic, Setting.Property.NodeScope);
+    /**
+     * The heap that a task may allocate, as a fraction of the maximum heap of the node.
+     */
+    public static final Setting<Double> TASK_HEAP_THRESHOLD_SETTING =
+        Setting.doubleSetting("search_backpressure.search_shard_task.heap_threshold", 0.005, 0.0, 1.0,
+            Setting.Property.Dynamic, Setting.Property.NodeScope);
+    public static final Setting<TimeValue> TASK_ELAPSED_TIME_THRESHOLD_SETTING =
+        Setting.timeSetting("search_backpressure.search_shard_task.elapsed_time_threshold", TimeValue.timeValueSeconds(30),
+            TimeValue.ZERO, Setting.Property.Dynamic, Setting.Property.NodeScope);
+    public static final Setting<Integer> MAX_CANCELLATIONS_PER_INTERVAL_SETTING =
+        Setting.intSetting("search_backpressure.max_cancellations_per_interval", 3, 1,
+            Setting.Property.Dynamic, Setting.Property.NodeScope);
+
+    private final ThreadPool threadPool;
+    private final TaskManager taskManager;
+    private final TimeValue interval;
+    private final DoubleSupplier cpuUsageSupplier;
+    private final DoubleSupplier heapUsageSupplier;
+    private final LongSupplier maxHeapSupplier;
+    private final LongSupplier nanoTimeSupplier;
+
+    private volatile boolean enabled;
+    private volatile int numSuccessiveBreaches;
+    private volatile double cpuThreshold;
+    private volatile double heapThreshold;
+    private volatile long taskCpuTimeThresholdNanos;
+    private volatile double taskHeapThreshold;
+    private volatile long taskElapsedTimeThresholdNanos;
+    private volatile int maxCancellationsPerInterval;
+
+    private volatile Scheduler.Cancellable scheduledFuture;
+    private volatile int successiveBreaches;
+
+    private final AtomicLong cancellationCount = new AtomicLong();
+    private final AtomicLong cpuTimeCancellationCount = new AtomicLong();
+    private final AtomicLong heapCancellationCount = new AtomicLong();
+    private final AtomicLong elapsedTimeCancellationCount = new AtomicLong();
+    private final AtomicLong limitReachedCount = new AtomicLong();
+
+    public SearchBackpressureService(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool, TaskManager taskManager) {
+        this(settings, clusterSettings, threadPool, taskManager, () -> ProcessProbe.getInstance().getProcessCpuPercent() / 100.0,
+            SearchBackpressureService::heapUsage, () -> JvmInfo.jvmInfo().getMem().getHeapMax().getBytes(), System::nanoTime);
+    }
+
+    SearchBackpressureService(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool, TaskManager taskManager,
+                              DoubleSupplier cpuUsageSupplier, DoubleSupplier heapUsageSupplier, LongSupplier maxHeapSupplier,
+                              LongSupplier nanoTimeSupplier) {
+        this.threadPool = threadPool;
+        this.taskManager = taskManager;
+        this.cpuUsageSupplier = cpuUsageSupplier;
+        this.heapUsageSupplier = heapUsageSupplier;
+        this.maxHeapSupplier = maxHeapSupplier;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+        this.interval = INTERVAL_SETTING.get(settings);
+        this.enabled = ENABLED_SETTING.get(settings);
+        this.numSuccessiveBreaches = NUM_SUCCESSIVE_BREACHES_SETTING.get(settings);
+        this.cpuThreshold = CPU_THRESHOLD_SETTING.get(settings);
+        this.heapThreshold = HEAP_THRESHOLD_SETTING.get(settings);
+        this.taskCpuTimeThresholdNanos = TASK_CPU_TIME_THRESHOLD_SETTING.get(settings).nanos();
+        this.taskHeapThreshold = TASK_HEAP_THRESHOLD_SETTING.get(settings);
+        this.taskElapsedTimeThresholdNanos = TASK_ELAPSED_TIME_THRESHOLD_SETTING.get(settings).nanos();
+        this.maxCancellationsPerInterval = MAX_CANCELLATIONS_PER_INTERVAL_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(ENABLED_SETTING, value -> this.enabled = value);
+        clusterSettings.addSettingsUpdateConsumer(NUM_SUCCESSIVE_BREACHES_SETTING, value -> this.numSuccessiveBreaches = value);
+        clusterSettings.addSettingsUpdateConsumer(CPU_THRESHOLD_SETTING, value -> this.cpuThreshold = value);
+        clusterSettings.addSettingsUpdateConsumer(HEAP_THRESHOLD_SETTING, value -> this.heapThreshold = value);
+        clusterSettings.addSettingsUpdateConsumer(TASK_CPU_TIME_THRESHOLD_SETTING, value -> this.taskCpuTimeThresholdNanos = value.nanos());
+        clusterSettings.addSettingsUpdateConsumer(TASK_HEAP_THRESHOLD_SETTING, value -> this.taskHeapThreshold = value);
+        clusterSettings.addSettingsUpdateConsumer(TASK_ELAPSED_TIME_THRESHOLD_SETTING,
+            value -> this.taskElapsedTimeThresholdNanos = value.nanos());
+        clusterSettings.addSettingsUpdateConsumer(MAX_CANCELLATIONS_PER_INTERVAL_SETTING,
+            value -> this.maxCancellationsPerInterval = value);
+    }
+
+    private static double heapUsage() {
+        final MemoryUsage usage = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        return usage.getMax() <= 0 ? 0 : (double) usage.getUsed() / usage.getMax();
+    }
+
+    @Override
+    protected void doStart() {
+        scheduledFuture = threadPool.scheduleWithFixedDelay(new AbstractRunnable() {
+            @Override
+            public void onFailure(Exception e) {
+                logger.warn("failed to check for search tasks to cancel", e);
+            }
+
+            @Override
+            protected void doRun() {
+                checkAndCancel();
+            }
+        }, interval, ThreadPool.Names.GENERIC);
+    }
+
+    @Override
+    protected void doStop() {
+        scheduledFuture.cancel();
+    }
+
+    @Override
+    protected void doClose() {
+    }
+
+    /**
+     * Checks whether the node is in duress and if so cancels the search shard tasks that consume the most resources.
+     */
+    void checkAndCancel() {
+        if (enabled == false) {
+            successiveBreaches = 0;
+            return;
+        }
+        final boolean breached = cpuUsageSupplier.getAsDouble() >= cpuThreshold || heapUsageSupplier.getAsDouble() >= heapThreshold;
+        successiveBreaches = breached ? successiveBreaches + 1 : 0;
+        if (successiveBreaches < numSuccessiveBreaches) {
+            return;
+        }
+
+        final long now = nanoTimeSupplier.getAsLong();
+        final long taskHeapThresholdBytes = (long) (taskHeapThreshold * maxHeapSupplier.getAsLong());
+        final List<TaskUsage> candidates = new ArrayList<>();
+        for (CancellableTask task : taskManager.getCancellableTasks().values()) {
+            if (task instanceof SearchShardTask && task.isCancelled() == false) {
+                final SearchShardTask searchShardTask = (SearchShardTask) task;
+                final TaskUsage usage = new TaskUsage(searchShardTask, searchShardTask.getCpuTimeNanos(),
+                    searchShardTask.getAllocatedBytes(), now - task.getStartTimeNanos());
+                if (usage.cpuTimeNanos > taskCpuTimeThresholdNanos || usage.allocatedBytes > taskHeapThresholdBytes
+                    || usage.elapsedTimeNanos > taskElapsedTimeThresholdNanos) {
+                    candidates.add(usage);
+                }
+            }
+        }
+        candidates.sort(Comparator.comparingLong((TaskUsage usage) -> usage.allocatedBytes)
+            .thenComparingLong(usage -> usage.cpuTimeNanos).reversed());
+
+        final int maxCancellations = maxCancellationsPerInterval;
+        if (candidates.size() > maxCancellations) {
+            limitReachedCount.getAndIncrement();
+        }
+        for (TaskUsage usage : candidates.subList(0, Math.min(maxCancellations, candidates.size()))) {
+            final List<String> reasons = new ArrayList<>();
+            if (usage.cpuTimeNanos > taskCpuTimeThresholdNanos) {
+                cpuTimeCancellationCount.getAndIncrement();
+                reasons.add("cpu time [" + TimeValue.timeValueNanos(usage.cpuTimeNanos) + "] exceeded ["
+                    + TimeValue.timeValueNanos(taskCpuTimeThresholdNanos) + "]");
+            }
+            if (usage.allocatedBytes > taskHeapThresholdBytes) {
+                heapCancellationCount.getAndIncrement();
+                reasons.add("heap allocations [" + usage.allocatedBytes + "b] exceeded [" + taskHeapThresholdBytes + "b]");
+            }
+            if (usage.elapsedTimeNanos > taskElapsedTimeThresholdNanos) {
+                elapsedTimeCancellationCount.getAndIncrement();
+                reasons.add("elapsed time [" + TimeValue.timeValueNanos(usage.elapsedTimeNanos) + "] exceeded ["
+                    + TimeValue.timeValueNanos(taskElapsedTimeThresholdNanos) + "]");
+            }
+            final String reason = "cancelled by search backpressure while the node is in duress: " + String.join(", ", reasons);
+            logger.debug("cancelling task [{}]: {}", usage.task.getId(), reason);
+            cancellationCount.getAndIncrement();
+            taskManager.cancel(usage.task, reason, () -> {});
+        }
+    }
+
+    public SearchBackpressureStats stats() {
+        return new SearchBackpressureStats(enabled, enabled && successiveBreaches >= numSuccessiveBreaches, cancellationCount.get(),
+            cpuTimeCancellationCount.get(), heapCancellationCount.get(), elapsedTimeCancellationCount.get(), limitReachedCount.get());
+    }
+
+    private static final class TaskUsage {
+        final SearchShardTask task;
+        final long cpuTimeNanos;
+        final long allocatedBytes;
+        final long elapsedTimeNanos;
+
+        TaskUsage(SearchShardTask task, long cpuTimeNanos, long allocatedBytes, long elapsedTimeNanos) {
+            this.task = task;
+            this.cpuTimeNanos = cpuTimeNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.elapsedTimeNanos = elapsedTimeNanos;
+        }
+    }
+}
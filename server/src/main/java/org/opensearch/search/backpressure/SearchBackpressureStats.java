@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * The search shard tasks that {@link SearchBackpressureService} cancelled on a node.
+ */
+public class SearchBackpressureStats implements Writeable, ToXContentFragment {
+
+    private final boolean enabled;
+    private final boolean inDuress;
+    private final long cancellationCount;
+    private final long cpuTimeCancellationCount;
+    private final long heapCancellationCount;
+    private final long elapsedTimeCancellationCount;
+    private final long limitReachedCount;
+
+    public SearchBackpressureStats(boolean enabled, boolean inDuress, long cancellationCount, long cpuTimeCancellationCount,
+                                   long heapCancellationCount, long elapsedTimeCancellationCount, long limitReachedCount) {
+        this.enabled = enabled;
+        this.inDuress = inDuress;
+        this.cancellationCount = cancellationCount;
+        this.cpuTimeCancellationCount = cpuTimeCancellationCount;
+        this.heapCancellationCount = heapCancellationCount;
+        this.elapsedTimeCancellationCount = elapsedTimeCancellationCount;
+        this.limitReachedCount = limitReachedCount;
+    }
+
+    public SearchBackpressureStats(StreamInput in) throws IOException {
+        enabled = in.readBoolean();
+        inDuress = in.readBoolean();
+        cancellationCount = in.readVLong();
+        cpuTimeCancellationCount = in.readVLong();
+        heapCancellationCount = in.readVLong();
+        elapsedTimeCancellationCount = in.readVLong();
+        limitReachedCount = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeBoolean(enabled);
+        out.writeBoolean(inDuress);
+        out.writeVLong(cancellationCount);
+        out.writeVLong(cpuTimeCancellationCount);
+        out.writeVLong(heapCancellationCount);
+        out.writeVLong(elapsedTimeCancellationCount);
+        out.writeVLong(limitReachedCount);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isInDuress() {
+        return inDuress;
+    }
+
+    public long getCancellationCount() {
+        return cancellationCount;
+    }
+
+    public long getCpuTimeCancellationCount() {
+        return cpuTimeCancellationCount;
+    }
+
+    public long getHeapCancellationCount() {
+        return heapCancellationCount;
+    }
+
+    public long getElapsedTimeCancellationCount() {
+        return elapsedTimeCancellationCount;
+    }
+
+    /**
+     * The number of checks that found more tasks to cancel than they were allowed to cancel.
+     */
+    public long getLimitReachedCount() {
+        return limitReachedCount;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("search_backpressure");
+        builder.field("enabled", enabled);
+        builder.field("in_duress", inDuress);
+        builder.startObject("search_shard_task");
+        builder.field("cancellation_count", cancellationCount);
+        builder.field("limit_reached_count", limitReachedCount);
+        builder.startObject("cancellation_breakup");
+        builder.field("cpu_time", cpuTimeCancellationCount);
+        builder.field("heap", heapCancellationCount);
+        builder.field("elapsed_time", elapsedTimeCancellationCount);
+        builder.endObject();
+        builder.endObject();
+        return builder.endObject();
+    }
+}
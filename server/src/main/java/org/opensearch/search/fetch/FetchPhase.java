@@ -95,6 +95,12 @@ import static java.util.Collections.emptyMap;
 public class FetchPhase {
     private static final Logger LOGGER = LogManager.getLogger(FetchPhase.class);
 
+    /**
+     * The maximum average distance between the doc ids of the docs to fetch from a segment for their stored fields to be
+     * loaded sequentially.
+     */
+    static final int DENSE_DOCS_MAX_AVERAGE_GAP = 16;
+
     private final FetchSubPhase[] fetchSubPhases;
 
     public FetchPhase(List<FetchSubPhase> fetchSubPhases) {
@@ -137,7 +143,6 @@ public class FetchPhase {
         int currentReaderIndex = -1;
         LeafReaderContext currentReaderContext = null;
         CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader = null;
-        boolean hasSequentialDocs = hasSequentialDocs(docs);
         for (int index = 0; index < context.docIdsToLoadSize(); index++) {
             if (context.isCancelled()) {
                 throw new TaskCancelledException("cancelled");
@@ -149,11 +154,11 @@ public class FetchPhase {
                     currentReaderContext = context.searcher().getIndexReader().leaves().get(readerIndex);
                     currentReaderIndex = readerIndex;
                     if (currentReaderContext.reader() instanceof SequentialStoredFieldsLeafReader
-                            && hasSequentialDocs && docs.length >= 10) {
-                        // All the docs to fetch are adjacent but Lucene stored fields are optimized
-                        // for random access and don't optimize for sequential access - except for merging.
-                        // So we do a little hack here and pretend we're going to do merges in order to
-                        // get better sequential access.
+                            && hasDenseDocs(docs, index, endOfLeaf(docs, index, currentReaderContext))) {
+                        // The docs to fetch in this segment are close to each other but Lucene stored fields are optimized
+                        // for random access and decompress the block of a document for each document they load - except
+                        // for merging. So we do a little hack here and pretend we're going to do merges in order to
+                        // decompress each block once for all the docs it contains.
                         SequentialStoredFieldsLeafReader lf = (SequentialStoredFieldsLeafReader) currentReaderContext.reader();
                         fieldReader = lf.getSequentialStoredFieldsReader()::visitDocument;
                     } else {
@@ -585,10 +590,25 @@ public class FetchPhase {
     }
 
     /**
-     * Returns <code>true</code> if the provided <code>docs</code> are
-     * stored sequentially (Dn = Dn-1 + 1).
+     * Returns the index of the first of the provided <code>docs</code>, from <code>from</code>, that doesn't belong to
+     * the given segment.
+     */
+    private static int endOfLeaf(DocIdToIndex[] docs, int from, LeafReaderContext leafReaderContext) {
+        final int maxDoc = leafReaderContext.docBase + leafReaderContext.reader().maxDoc();
+        int to = from;
+        while (to < docs.length && docs[to].docId < maxDoc) {
+            to++;
+        }
+        return to;
+    }
+
+    /**
+     * Returns <code>true</code> if there are at least 10 of the provided <code>docs</code> between <code>from</code>
+     * (inclusive) and <code>to</code> (exclusive) and they are on average at most {@link #DENSE_DOCS_MAX_AVERAGE_GAP} docs
+     * apart, so that many of them share a block of stored fields.
      */
-    static boolean hasSequentialDocs(DocIdToIndex[] docs) {
-        return docs.length > 0 && docs[docs.length-1].docId - docs[0].docId == docs.length - 1;
+    static boolean hasDenseDocs(DocIdToIndex[] docs, int from, int to) {
+        final int count = to - from;
+        return count >= 10 && docs[to - 1].docId - docs[from].docId < (long) count * DENSE_DOCS_MAX_AVERAGE_GAP;
     }
 }
@@ -33,6 +33,7 @@
 package org.opensearch.search.fetch.subphase;
 
 import org.opensearch.common.Booleans;
+import org.opensearch.common.CheckedBiConsumer;
 import org.opensearch.common.ParseField;
 import org.opensearch.common.ParsingException;
 import org.opensearch.common.Strings;
@@ -66,6 +67,7 @@ public class FetchSourceContext implements Writeable, ToXContentObject {
     private final String[] includes;
     private final String[] excludes;
     private Function<Map<String, ?>, Map<String, Object>> filter;
+    private CheckedBiConsumer<XContentParser, XContentBuilder, IOException> streamingFilter;
 
     public FetchSourceContext(boolean fetchSource, String[] includes, String[] excludes) {
         this.fetchSource = fetchSource;
@@ -247,4 +249,15 @@ public class FetchSourceContext implements Writeable, ToXContentObject {
         }
         return filter;
     }
+
+    /**
+     * Returns a filter function that copies the source object the parser is positioned on to the builder,
+     * keeping the same properties as {@link #getFilter()}.
+     */
+    public CheckedBiConsumer<XContentParser, XContentBuilder, IOException> getStreamingFilter() {
+        if (streamingFilter == null) {
+            streamingFilter = XContentMapValues.streamingFilter(includes, excludes);
+        }
+        return streamingFilter;
+    }
 }
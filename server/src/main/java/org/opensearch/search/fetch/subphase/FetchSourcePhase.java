@@ -36,7 +36,11 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.OpenSearchException;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.DeprecationHandler;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
 import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.fetch.FetchContext;
 import org.opensearch.search.fetch.FetchSubPhase;
@@ -56,6 +60,8 @@ public final class FetchSourcePhase implements FetchSubPhase {
         }
         String index = fetchContext.getIndexName();
         assert fetchSourceContext.fetchSource();
+        // the sub phases that run after this one load the source as a map that the filtering can reuse
+        boolean streamingFilter = fetchContext.fetchFieldsContext() == null && fetchContext.highlight() == null;
 
         return new FetchSubPhaseProcessor() {
             @Override
@@ -65,12 +71,12 @@ public final class FetchSourcePhase implements FetchSubPhase {
 
             @Override
             public void process(HitContext hitContext) {
-                hitExecute(index, fetchSourceContext, hitContext);
+                hitExecute(index, fetchSourceContext, streamingFilter, hitContext);
             }
         };
     }
 
-    private void hitExecute(String index, FetchSourceContext fetchSourceContext, HitContext hitContext) {
+    private void hitExecute(String index, FetchSourceContext fetchSourceContext, boolean streamingFilter, HitContext hitContext) {
 
         final boolean nestedHit = hitContext.hit().getNestedIdentity() != null;
         SourceLookup source = hitContext.sourceLookup();
@@ -90,6 +96,12 @@ public final class FetchSourcePhase implements FetchSubPhase {
             return;
         }
 
+        // Filter the source without parsing it into a map, unless it has already been parsed.
+        if (nestedHit == false && streamingFilter && source.source() == null) {
+            hitContext.hit().sourceRef(filterSource(fetchSourceContext, source.internalSourceRef()));
+            return;
+        }
+
         // Otherwise, filter the source and add it to the hit.
         Object value = source.filter(fetchSourceContext);
         if (nestedHit) {
@@ -117,6 +129,19 @@ public final class FetchSourcePhase implements FetchSubPhase {
         }
     }
 
+    private static BytesReference filterSource(FetchSourceContext fetchSourceContext, BytesReference source) {
+        try (XContentParser parser = XContentHelper.createParser(NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION, source)) {
+            BytesStreamOutput streamOutput = new BytesStreamOutput(Math.min(1024, source.length()));
+            XContentBuilder builder = new XContentBuilder(parser.contentType().xContent(), streamOutput);
+            parser.nextToken();
+            fetchSourceContext.getStreamingFilter().accept(parser, builder);
+            return BytesReference.bytes(builder);
+        } catch (IOException e) {
+            throw new OpenSearchException("Error filtering source", e);
+        }
+    }
+
     private static boolean containsFilters(FetchSourceContext context) {
         return context.includes().length != 0 || context.excludes().length != 0;
     }
@@ -62,6 +62,9 @@ import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.CombinedBitSet;
 import org.apache.lucene.util.SparseFixedBitSet;
+import org.apache.lucene.util.ThreadInterruptedException;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.search.DocValueFormat;
@@ -76,10 +79,15 @@ import org.opensearch.search.query.QuerySearchResult;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Context-aware extension of {@link IndexSearcher}.
@@ -91,25 +99,49 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
      */
     private static int CHECK_CANCELLED_SCORER_INTERVAL = 1 << 11;
 
+    /**
+     * The maximum number of documents and segments that are grouped in a single slice when segments are searched concurrently.
+     * These are the same limits that Lucene uses for {@link IndexSearcher#slices}.
+     */
+    static final int MAX_DOCS_PER_SLICE = 250_000;
+    static final int MAX_SEGMENTS_PER_SLICE = 5;
+
     private AggregatedDfs aggregatedDfs;
     private QueryProfiler profiler;
     private MutableQueryTimeout cancellable;
+    @Nullable
+    private final Executor executor;
+    private final List<List<LeafReaderContext>> slices;
 
     public ContextIndexSearcher(IndexReader reader, Similarity similarity,
                                 QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
                                 boolean wrapWithExitableDirectoryReader) throws IOException {
-        this(reader, similarity, queryCache, queryCachingPolicy, new MutableQueryTimeout(), wrapWithExitableDirectoryReader);
+        this(reader, similarity, queryCache, queryCachingPolicy, wrapWithExitableDirectoryReader, null);
+    }
+
+    /**
+     * Creates a searcher that collects slices of the index concurrently on the provided <code>executor</code> when it
+     * is searched with a {@link CollectorManager}. A <code>null</code> executor searches all segments sequentially.
+     */
+    public ContextIndexSearcher(IndexReader reader, Similarity similarity,
+                                QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
+                                boolean wrapWithExitableDirectoryReader, @Nullable Executor executor) throws IOException {
+        this(reader, similarity, queryCache, queryCachingPolicy, new MutableQueryTimeout(), wrapWithExitableDirectoryReader, executor);
     }
 
     private ContextIndexSearcher(IndexReader reader, Similarity similarity,
                                  QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
                                  MutableQueryTimeout cancellable,
-                                 boolean wrapWithExitableDirectoryReader) throws IOException {
+                                 boolean wrapWithExitableDirectoryReader,
+                                 @Nullable Executor executor) throws IOException {
         super(wrapWithExitableDirectoryReader ? new ExitableDirectoryReader((DirectoryReader) reader, cancellable) : reader);
         setSimilarity(similarity);
         setQueryCache(queryCache);
         setQueryCachingPolicy(queryCachingPolicy);
         this.cancellable = cancellable;
+        this.executor = executor;
+        this.slices = executor == null ? Collections.singletonList(leafContexts)
+            : computeSlices(leafContexts, MAX_DOCS_PER_SLICE, MAX_SEGMENTS_PER_SLICE);
     }
 
     public void setProfiler(QueryProfiler profiler) {
@@ -213,6 +245,117 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         }
     }
 
+    /**
+     * Returns true if this searcher has an executor and more than one slice, in which case
+     * {@link #search(Query, CollectorManager)} collects the slices concurrently.
+     */
+    public boolean allowConcurrentSegmentSearch() {
+        return executor != null && slices.size() > 1;
+    }
+
+    /**
+     * Returns the slices that are collected concurrently by {@link #search(Query, CollectorManager)}.
+     */
+    List<List<LeafReaderContext>> getLeafSlices() {
+        return slices;
+    }
+
+    /**
+     * Searches each slice of the index with its own collector created by the provided <code>collectorManager</code>.
+     * All slices but the first one are submitted to the executor, the first one is collected by the calling thread.
+     * The calling thread always waits for all slices to complete before it reduces the collectors or rethrows the first failure,
+     * so that exceptions such as {@link ExitableDirectoryReader} cancellations are propagated as is.
+     */
+    @Override
+    public <C extends Collector, T> T search(Query query, CollectorManager<C, T> collectorManager) throws IOException {
+        if (allowConcurrentSegmentSearch() == false) {
+            return super.search(query, collectorManager);
+        }
+        final List<C> collectors = new ArrayList<>(slices.size());
+        ScoreMode scoreMode = null;
+        for (int i = 0; i < slices.size(); i++) {
+            final C collector = collectorManager.newCollector();
+            if (scoreMode == null) {
+                scoreMode = collector.scoreMode();
+            } else if (scoreMode != collector.scoreMode()) {
+                throw new IllegalStateException("CollectorManager does not always produce collectors with the same score mode");
+            }
+            collectors.add(collector);
+        }
+        final Weight weight = createWeight(rewrite(query), scoreMode, 1);
+        searchSlices(weight, collectors);
+        return collectorManager.reduce(collectors);
+    }
+
+    private void searchSlices(Weight weight, List<? extends Collector> collectors) throws IOException {
+        final List<FutureTask<Void>> tasks = new ArrayList<>(slices.size() - 1);
+        for (int i = 1; i < slices.size(); i++) {
+            final List<LeafReaderContext> slice = slices.get(i);
+            final Collector collector = collectors.get(i);
+            final FutureTask<Void> task = new FutureTask<>(() -> {
+                search(slice, weight, collector);
+                return null;
+            });
+            tasks.add(task);
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // the executor is saturated, collect the slice on the calling thread instead
+                task.run();
+            }
+        }
+        Exception failure = null;
+        try {
+            search(slices.get(0), weight, collectors.get(0));
+        } catch (Exception e) {
+            failure = e;
+        }
+        for (FutureTask<Void> task : tasks) {
+            try {
+                task.get();
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                failure = ExceptionsHelper.useOrSuppress(failure, cause instanceof Exception ? (Exception) cause : e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = ExceptionsHelper.useOrSuppress(failure, new ThreadInterruptedException(e));
+            }
+        }
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure != null) {
+            throw new RuntimeException(failure);
+        }
+    }
+
+    /**
+     * Groups consecutive leaves into slices of at most <code>maxDocsPerSlice</code> documents and <code>maxSegmentsPerSlice</code>
+     * segments. Unlike {@link IndexSearcher#slices} the leaves are not reordered by size: slices are in doc id order so that hits
+     * with equal sort values that are merged across slices are tie-broken as they would be by a sequential search.
+     */
+    static List<List<LeafReaderContext>> computeSlices(List<LeafReaderContext> leaves, int maxDocsPerSlice, int maxSegmentsPerSlice) {
+        final List<List<LeafReaderContext>> slices = new ArrayList<>();
+        List<LeafReaderContext> current = new ArrayList<>();
+        long currentDocs = 0;
+        for (LeafReaderContext leaf : leaves) {
+            final int maxDoc = leaf.reader().maxDoc();
+            if (current.isEmpty() == false
+                && (currentDocs + maxDoc > maxDocsPerSlice || current.size() >= maxSegmentsPerSlice)) {
+                slices.add(Collections.unmodifiableList(current));
+                current = new ArrayList<>();
+                currentDocs = 0;
+            }
+            current.add(leaf);
+            currentDocs += maxDoc;
+        }
+        if (current.isEmpty() == false || slices.isEmpty()) {
+            slices.add(Collections.unmodifiableList(current));
+        }
+        return Collections.unmodifiableList(slices);
+    }
+
     /**
      * Lower-level search API.
      *
@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query;
+
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.AggregationPhase;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.BucketCollector;
+import org.opensearch.search.aggregations.MultiBucketCollector;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.opensearch.search.query.QueryCollectorContext.createFilteredCollectorContext;
+import static org.opensearch.search.query.QueryCollectorContext.createMinScoreCollectorContext;
+import static org.opensearch.search.query.QueryCollectorContext.createMultiCollectorContext;
+import static org.opensearch.search.query.TopDocsCollectorContext.createTopDocsCollectorContext;
+import static org.opensearch.search.query.TopDocsCollectorContext.shortcutTotalHitCount;
+
+/**
+ * A {@link CollectorManager} that creates an independent collector chain (top docs, post filter, aggregations and minimum score)
+ * for each slice of the shard when segments are searched concurrently.
+ * The results of the slices are merged in slice order by {@link #postProcess(QuerySearchResult)} rather than
+ * {@link #reduce(Collection)}, so that partial results are also available when the search timed out.
+ */
+final class ConcurrentQueryCollectorManager implements CollectorManager<Collector, Void> {
+    private final SearchContext searchContext;
+    private final int totalHitCount;
+    private final List<TopDocsCollectorContext> topDocsContexts = new ArrayList<>();
+    private final List<List<Aggregator>> sliceAggregators = new ArrayList<>();
+
+    ConcurrentQueryCollectorManager(SearchContext searchContext, Query query, boolean hasFilterCollector) throws IOException {
+        this.searchContext = searchContext;
+        // the shortcut total hit count is computed on the whole index rather than for each slice
+        if (hasFilterCollector || searchContext.trackTotalHitsUpTo() == SearchContext.TRACK_TOTAL_HITS_DISABLED) {
+            this.totalHitCount = -1;
+        } else {
+            this.totalHitCount = shortcutTotalHitCount(searchContext.searcher().getIndexReader(), query);
+        }
+    }
+
+    @Override
+    public Collector newCollector() throws IOException {
+        final LinkedList<QueryCollectorContext> collectors = new LinkedList<>();
+        // counts hits with the collector of each slice, see totalHitCount
+        final TopDocsCollectorContext topDocsContext = createTopDocsCollectorContext(searchContext, true);
+        collectors.add(topDocsContext);
+        if (searchContext.parsedPostFilter() != null) {
+            collectors.add(createFilteredCollectorContext(searchContext.searcher(), searchContext.parsedPostFilter().query()));
+        }
+        if (searchContext.queryCollectors().containsKey(AggregationPhase.class)) {
+            final List<Aggregator> aggregators = AggregationPhase.createSliceAggregators(searchContext);
+            final BucketCollector collector = MultiBucketCollector.wrap(aggregators);
+            collector.preCollection();
+            collectors.add(createMultiCollectorContext(Collections.singletonList(collector)));
+            sliceAggregators.add(aggregators);
+        }
+        if (searchContext.minimumScore() != null) {
+            collectors.add(createMinScoreCollectorContext(searchContext.minimumScore()));
+        }
+        topDocsContexts.add(topDocsContext);
+        return QueryCollectorContext.createQueryCollector(collectors);
+    }
+
+    @Override
+    public Void reduce(Collection<Collector> collectors) {
+        return null;
+    }
+
+    /**
+     * Returns true if the top docs should be re-scored after initial search
+     */
+    boolean shouldRescore() {
+        return topDocsContexts.isEmpty() == false && topDocsContexts.get(0).shouldRescore();
+    }
+
+    /**
+     * Merges the top docs and reduces the aggregations of all slices into the provided <code>result</code>.
+     */
+    void postProcess(QuerySearchResult result) throws IOException {
+        final List<TopDocsAndMaxScore> sliceTopDocs = new ArrayList<>(topDocsContexts.size());
+        DocValueFormat[] sortValueFormats = null;
+        for (TopDocsCollectorContext topDocsContext : topDocsContexts) {
+            final QuerySearchResult sliceResult = new QuerySearchResult();
+            topDocsContext.postProcess(sliceResult);
+            sliceTopDocs.add(sliceResult.topDocs());
+            sortValueFormats = sliceResult.sortValueFormats();
+        }
+        final Sort sort = searchContext.sort() == null ? null : searchContext.sort().sort;
+        final int numHits = topDocsContexts.isEmpty() ? 0 : topDocsContexts.get(0).numHits();
+        TopDocsAndMaxScore topDocs = merge(sliceTopDocs, sort, numHits);
+        if (totalHitCount != -1) {
+            topDocs.topDocs.totalHits = new TotalHits(totalHitCount, TotalHits.Relation.EQUAL_TO);
+        }
+        result.topDocs(topDocs, sortValueFormats);
+        if (sliceAggregators.isEmpty() == false) {
+            AggregationPhase.reduceSlices(searchContext, sliceAggregators);
+        }
+    }
+
+    /**
+     * Merges the top docs of each slice. Hits with equal sort values are tie-broken by slice and then by their rank in the slice,
+     * which is the doc id order of a sequential search since slices are made of consecutive leaves.
+     */
+    static TopDocsAndMaxScore merge(List<TopDocsAndMaxScore> slices, @Nullable Sort sort, int numHits) {
+        long totalHits = 0;
+        TotalHits.Relation relation = TotalHits.Relation.EQUAL_TO;
+        float maxScore = Float.NaN;
+        for (TopDocsAndMaxScore slice : slices) {
+            totalHits += slice.topDocs.totalHits.value;
+            if (slice.topDocs.totalHits.relation == TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO) {
+                relation = TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO;
+            }
+            if (Float.isNaN(slice.maxScore) == false && (Float.isNaN(maxScore) || slice.maxScore > maxScore)) {
+                maxScore = slice.maxScore;
+            }
+        }
+        final TotalHits mergedTotalHits = new TotalHits(totalHits, relation);
+        final TopDocs merged;
+        if (sort != null) {
+            final TopFieldDocs[] fieldDocs = new TopFieldDocs[slices.size()];
+            for (int i = 0; i < fieldDocs.length; i++) {
+                fieldDocs[i] = (TopFieldDocs) slices.get(i).topDocs;
+            }
+            final TopFieldDocs mergedFieldDocs = TopDocs.merge(sort, 0, numHits, fieldDocs, true);
+            merged = new TopFieldDocs(mergedTotalHits, mergedFieldDocs.scoreDocs, mergedFieldDocs.fields);
+        } else {
+            final TopDocs[] docs = new TopDocs[slices.size()];
+            for (int i = 0; i < docs.length; i++) {
+                docs[i] = slices.get(i).topDocs;
+            }
+            merged = new TopDocs(mergedTotalHits, TopDocs.merge(0, numHits, docs, true).scoreDocs);
+        }
+        // Lucene sets the slice as shard index during merging
+        // We need to reset shard index; OpenSearch will set shard index later during reduce stage
+        for (ScoreDoc scoreDoc : merged.scoreDocs) {
+            scoreDoc.shardIndex = -1;
+        }
+        return new TopDocsAndMaxScore(merged, maxScore);
+    }
+}
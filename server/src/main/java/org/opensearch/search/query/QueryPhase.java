@@ -305,6 +305,8 @@ public class QueryPhase {
                 // if we are optimizing sort and there are no other collectors
                 if (sortAndFormatsForRewrittenNumericSort!=null && collectors.size()==0 && searchContext.getProfilers()==null) {
                     shouldRescore = searchWithCollectorManager(searchContext, searcher, query, leafSorter, timeoutSet);
+                } else if (canSearchConcurrently(searchContext)) {
+                    shouldRescore = searchConcurrently(searchContext, searcher, query, hasFilterCollector, timeoutSet);
                 } else {
                     shouldRescore = searchWithCollector(searchContext, searcher, query, collectors, hasFilterCollector, timeoutSet);
                 }
@@ -372,6 +374,46 @@ public class QueryPhase {
     }
 
 
+    /**
+     * Returns true if the slices of the searcher can be collected concurrently: the index enables concurrent segment search,
+     * the request isn't a scroll, doesn't terminate early, isn't profiled nor collapsed, and its only additional query collectors
+     * are aggregations that support concurrent segment search.
+     */
+    static boolean canSearchConcurrently(SearchContext searchContext) {
+        if (searchContext.searcher().allowConcurrentSegmentSearch() == false
+                || searchContext.scrollContext() != null
+                || searchContext.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER
+                || searchContext.getProfilers() != null
+                || searchContext.collapse() != null) {
+            return false;
+        }
+        for (Class<?> queryCollector : searchContext.queryCollectors().keySet()) {
+            if (queryCollector != AggregationPhase.class) {
+                return false;
+            }
+        }
+        return AggregationPhase.supportsConcurrentSegmentSearch(searchContext);
+    }
+
+    private static boolean searchConcurrently(SearchContext searchContext, ContextIndexSearcher searcher, Query query,
+            boolean hasFilterCollector, boolean timeoutSet) throws IOException {
+        final ConcurrentQueryCollectorManager collectorManager = new ConcurrentQueryCollectorManager(searchContext, query,
+            hasFilterCollector);
+        QuerySearchResult queryResult = searchContext.queryResult();
+        try {
+            searcher.search(query, collectorManager);
+        } catch (TimeExceededException e) {
+            assert timeoutSet : "TimeExceededException thrown even though timeout wasn't set";
+            if (searchContext.request().allowPartialSearchResults() == false) {
+                // Can't rethrow TimeExceededException because not serializable
+                throw new QueryPhaseExecutionException(searchContext.shardTarget(), "Time exceeded");
+            }
+            queryResult.searchTimedOut(true);
+        }
+        collectorManager.postProcess(queryResult);
+        return collectorManager.shouldRescore();
+    }
+
     /*
      * We use collectorManager during sort optimization, where
      * we have already checked that there are no other collectors, no filters,
@@ -94,6 +94,8 @@ abstract class OutboundMessage extends NetworkMessage {
             BytesTransportRequest bRequest = (BytesTransportRequest) message;
             bRequest.writeThin(stream);
             zeroCopyBuffer = bRequest.bytes;
+        } else if (message instanceof TrailingBytesTransportRequest) {
+            zeroCopyBuffer = ((TrailingBytesTransportRequest) message).writeThin(stream);
         } else if (message instanceof RemoteTransportException) {
             stream.writeException((RemoteTransportException) message);
             zeroCopyBuffer = BytesArray.EMPTY;
@@ -183,6 +185,6 @@ abstract class OutboundMessage extends NetworkMessage {
     }
 
     private static boolean canCompress(Writeable message) {
-        return message instanceof BytesTransportRequest == false;
+        return message instanceof BytesTransportRequest == false && message instanceof TrailingBytesTransportRequest == false;
     }
 }
@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+
+/**
+ * A request that ends with a large chunk of bytes. Like the bytes of a {@link BytesTransportRequest}, the network layer appends
+ * them to the serialized request instead of copying them into it, so a transport may send them straight from where they live,
+ * see {@link org.opensearch.common.bytes.FileRegionBytesReference}. Such requests are never compressed.
+ */
+public interface TrailingBytesTransportRequest {
+
+    /**
+     * Writes the request without its trailing bytes and returns them, they must be appended right after what was written. Returns
+     * an empty reference if the request was written in full, e.g. because the wire format of the stream's version differs.
+     */
+    BytesReference writeThin(StreamOutput out) throws IOException;
+}
@@ -33,12 +33,15 @@
 package org.opensearch.action.admin.cluster.node.stats;
 
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterStateUpdateTaskStats;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.discovery.DiscoveryStats;
 import org.opensearch.discovery.zen.PendingClusterStateStats;
 import org.opensearch.discovery.zen.PublishClusterStateStats;
 import org.opensearch.http.HttpStats;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.stats.ShardIndexingPressureStats;
 import org.opensearch.indices.breaker.AllCircuitBreakerStats;
 import org.opensearch.indices.breaker.CircuitBreakerStats;
 import org.opensearch.ingest.IngestStats;
@@ -50,6 +53,7 @@ import org.opensearch.node.AdaptiveSelectionStats;
 import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.script.ScriptCacheStats;
 import org.opensearch.script.ScriptStats;
+import org.opensearch.search.backpressure.SearchBackpressureStats;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.VersionUtils;
 import org.opensearch.threadpool.ThreadPoolStats;
@@ -274,6 +278,25 @@ public class NodeStatsTests extends OpenSearchTestCase {
                         assertEquals(queueStats.getTotal(), deserializedDiscoveryStats.getQueueStats().getTotal());
                         assertEquals(queueStats.getPending(), deserializedDiscoveryStats.getQueueStats().getPending());
                     }
+                    ClusterStateUpdateTaskStats taskStats = discoveryStats.getClusterStateUpdateTaskStats();
+                    if (taskStats == null) {
+                        assertNull(deserializedDiscoveryStats.getClusterStateUpdateTaskStats());
+                    } else {
+                        ClusterStateUpdateTaskStats deserializedTaskStats = deserializedDiscoveryStats.getClusterStateUpdateTaskStats();
+                        assertEquals(taskStats.getStarvedBatchCount(), deserializedTaskStats.getStarvedBatchCount());
+                        assertEquals(taskStats.getQueueTimePerSource().keySet(),
+                            deserializedTaskStats.getQueueTimePerSource().keySet());
+                        for (Map.Entry<String, ClusterStateUpdateTaskStats.QueueTimeStats> entry
+                                : taskStats.getQueueTimePerSource().entrySet()) {
+                            ClusterStateUpdateTaskStats.QueueTimeStats deserialized =
+                                deserializedTaskStats.getQueueTimePerSource().get(entry.getKey());
+                            assertEquals(entry.getValue().getCount(), deserialized.getCount());
+                            assertEquals(entry.getValue().getP50QueueTimeInMillis(), deserialized.getP50QueueTimeInMillis());
+                            assertEquals(entry.getValue().getP90QueueTimeInMillis(), deserialized.getP90QueueTimeInMillis());
+                            assertEquals(entry.getValue().getP99QueueTimeInMillis(), deserialized.getP99QueueTimeInMillis());
+                            assertEquals(entry.getValue().getMaxQueueTimeInMillis(), deserialized.getMaxQueueTimeInMillis());
+                        }
+                    }
                 }
                 IngestStats ingestStats = nodeStats.getIngestStats();
                 IngestStats deserializedIngestStats = deserializedNodeStats.getIngestStats();
@@ -354,10 +377,60 @@ public class NodeStatsTests extends OpenSearchTestCase {
                     assertEquals(limited, sum.getCompilationLimitTriggered());
                     assertEquals(compilations, sum.getCompilations());
                 }
+                ShardIndexingPressureStats shardIndexingPressureStats = nodeStats.getShardIndexingPressureStats();
+                ShardIndexingPressureStats deserializedShardIndexingPressureStats =
+                    deserializedNodeStats.getShardIndexingPressureStats();
+                if (shardIndexingPressureStats == null) {
+                    assertNull(deserializedShardIndexingPressureStats);
+                } else {
+                    assertEquals(shardIndexingPressureStats.isEnabled(), deserializedShardIndexingPressureStats.isEnabled());
+                    assertEquals(shardIndexingPressureStats.getTotalRejections(),
+                        deserializedShardIndexingPressureStats.getTotalRejections());
+                    assertEquals(shardIndexingPressureStats.getShardStats().keySet(),
+                        deserializedShardIndexingPressureStats.getShardStats().keySet());
+                    for (Map.Entry<ShardId, ShardIndexingPressureStats.ShardStats> entry
+                        : shardIndexingPressureStats.getShardStats().entrySet()) {
+                        ShardIndexingPressureStats.ShardStats deserialized =
+                            deserializedShardIndexingPressureStats.getShardStats().get(entry.getKey());
+                        assertOperationStats(entry.getValue().getPrimary(), deserialized.getPrimary());
+                        assertOperationStats(entry.getValue().getReplica(), deserialized.getReplica());
+                    }
+                }
+                SearchBackpressureStats searchBackpressureStats = nodeStats.getSearchBackpressureStats();
+                SearchBackpressureStats deserializedSearchBackpressureStats = deserializedNodeStats.getSearchBackpressureStats();
+                if (searchBackpressureStats == null) {
+                    assertNull(deserializedSearchBackpressureStats);
+                } else {
+                    assertEquals(searchBackpressureStats.isEnabled(), deserializedSearchBackpressureStats.isEnabled());
+                    assertEquals(searchBackpressureStats.isInDuress(), deserializedSearchBackpressureStats.isInDuress());
+                    assertEquals(searchBackpressureStats.getCancellationCount(),
+                        deserializedSearchBackpressureStats.getCancellationCount());
+                    assertEquals(searchBackpressureStats.getCpuTimeCancellationCount(),
+                        deserializedSearchBackpressureStats.getCpuTimeCancellationCount());
+                    assertEquals(searchBackpressureStats.getHeapCancellationCount(),
+                        deserializedSearchBackpressureStats.getHeapCancellationCount());
+                    assertEquals(searchBackpressureStats.getElapsedTimeCancellationCount(),
+                        deserializedSearchBackpressureStats.getElapsedTimeCancellationCount());
+                    assertEquals(searchBackpressureStats.getLimitReachedCount(),
+                        deserializedSearchBackpressureStats.getLimitReachedCount());
+                }
             }
         }
     }
 
+    private static void assertOperationStats(ShardIndexingPressureStats.OperationStats expected,
+                                             ShardIndexingPressureStats.OperationStats actual) {
+        assertEquals(expected.getCurrentBytes(), actual.getCurrentBytes());
+        assertEquals(expected.getTotalBytes(), actual.getTotalBytes());
+        assertEquals(expected.getLimit(), actual.getLimit());
+        assertEquals(expected.getOutstandingRequests(), actual.getOutstandingRequests());
+        assertEquals(expected.getRejections(), actual.getRejections());
+        assertEquals(expected.getThroughputDegradationRejections(), actual.getThroughputDegradationRejections());
+        assertEquals(expected.getLastSuccessfulRequestRejections(), actual.getLastSuccessfulRequestRejections());
+        assertEquals(expected.getRecentThroughput(), actual.getRecentThroughput(), 0.0);
+        assertEquals(expected.getAverageThroughput(), actual.getAverageThroughput(), 0.0);
+    }
+
     public static NodeStats createNodeStats() {
         DiscoveryNode node = new DiscoveryNode("test_node", buildNewFakeTransportAddress(),
                 emptyMap(), emptySet(), VersionUtils.randomVersion(random()));
@@ -480,6 +553,9 @@ public class NodeStatsTests extends OpenSearchTestCase {
                     randomNonNegativeLong(),
                     randomNonNegativeLong(),
                     randomNonNegativeLong())
+                : null,
+                randomBoolean()
+                ? new ClusterStateUpdateTaskStats(randomNonNegativeLong(), randomQueueTimePerSource())
                 : null)
             : null;
         IngestStats ingestStats = null;
@@ -529,13 +605,42 @@ public class NodeStatsTests extends OpenSearchTestCase {
             adaptiveSelectionStats = new AdaptiveSelectionStats(nodeConnections, nodeStats);
         }
         ScriptCacheStats scriptCacheStats = scriptStats != null ? scriptStats.toScriptCacheStats() : null;
+        ShardIndexingPressureStats shardIndexingPressureStats = null;
+        if (frequently()) {
+            int numShards = randomIntBetween(0, 10);
+            Map<ShardId, ShardIndexingPressureStats.ShardStats> shardStats = new HashMap<>();
+            for (int i = 0; i < numShards; i++) {
+                shardStats.put(new ShardId(randomAlphaOfLengthBetween(3, 10), randomAlphaOfLength(10), i),
+                    new ShardIndexingPressureStats.ShardStats(randomOperationStats(), randomOperationStats()));
+            }
+            shardIndexingPressureStats = new ShardIndexingPressureStats(randomBoolean(), randomNonNegativeLong(), shardStats);
+        }
+        SearchBackpressureStats searchBackpressureStats = frequently() ? new SearchBackpressureStats(randomBoolean(), randomBoolean(),
+            randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong())
+            : null;
         //TODO NodeIndicesStats are not tested here, way too complicated to create, also they need to be migrated to Writeable yet
         return new NodeStats(node, randomNonNegativeLong(), null, osStats, processStats, jvmStats, threadPoolStats,
                 fsInfo, transportStats, httpStats, allCircuitBreakerStats, scriptStats, discoveryStats,
-                ingestStats, adaptiveSelectionStats, scriptCacheStats, null);
+                ingestStats, adaptiveSelectionStats, scriptCacheStats, null, shardIndexingPressureStats, searchBackpressureStats);
+    }
+
+    private static ShardIndexingPressureStats.OperationStats randomOperationStats() {
+        return new ShardIndexingPressureStats.OperationStats(randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+            randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomDouble(),
+            randomDouble());
     }
 
     private IngestStats.Stats getPipelineStats(List<IngestStats.PipelineStat> pipelineStats, String id) {
         return pipelineStats.stream().filter(p1 -> p1.getPipelineId().equals(id)).findFirst().map(p2 -> p2.getStats()).orElse(null);
     }
+
+    private static Map<String, ClusterStateUpdateTaskStats.QueueTimeStats> randomQueueTimePerSource() {
+        Map<String, ClusterStateUpdateTaskStats.QueueTimeStats> queueTimePerSource = new HashMap<>();
+        int numExecutors = randomIntBetween(0, 3);
+        for (int i = 0; i < numExecutors; i++) {
+            queueTimePerSource.put(randomAlphaOfLength(10) + i, new ClusterStateUpdateTaskStats.QueueTimeStats(randomNonNegativeLong(),
+                randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong()));
+        }
+        return queueTimePerSource;
+    }
 }
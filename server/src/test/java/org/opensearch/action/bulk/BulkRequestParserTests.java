@@ -32,7 +32,9 @@
 
 package org.opensearch.action.bulk;
 
+import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.rest.action.document.RestBulkAction;
@@ -190,4 +192,77 @@ public class BulkRequestParserTests extends OpenSearchTestCase {
         assertSame(first.getPipeline(), second.getPipeline());
         assertSame(first.routing(), second.routing());
     }
+
+    public void testIncrementalParserMatchesParsingTheWholeBody() throws IOException {
+        final StringBuilder body = new StringBuilder();
+        final int numActions = randomIntBetween(1, 50);
+        for (int i = 0; i < numActions; i++) {
+            switch (randomIntBetween(0, 2)) {
+                case 0:
+                    body.append("{ \"index\":{ \"_id\": \"").append(i).append("\" } }\n{ \"field\": \"value\" }\n");
+                    break;
+                case 1:
+                    body.append("{ \"update\":{ \"_id\": \"").append(i).append("\" } }\n{ \"doc\": { \"field\": 1 } }\r\n");
+                    break;
+                default:
+                    body.append("{ \"delete\":{ \"_id\": \"").append(i).append("\" } }\n");
+                    break;
+            }
+            if (rarely()) {
+                body.append("\n");
+            }
+        }
+        final BytesArray request = new BytesArray(body.toString());
+        BulkRequestParser parser = new BulkRequestParser(randomBoolean());
+
+        final List<DocWriteRequest<?>> expected = new ArrayList<>();
+        parser.parse(request, "foo", null, null, null, null, false, XContentType.JSON, expected::add, expected::add, expected::add);
+
+        final List<DocWriteRequest<?>> actual = new ArrayList<>();
+        final BulkRequestParser.IncrementalParser incrementalParser = parser.incrementalParser("foo", null, null, null, null, null,
+            false, XContentType.JSON, actual::add, actual::add, actual::add);
+        int offset = 0;
+        while (offset < request.length()) {
+            final int length = Math.min(randomIntBetween(0, 32), request.length() - offset);
+            incrementalParser.parse(request.slice(offset, length), false);
+            offset += length;
+            // every action that is complete has been parsed, only the trailing incomplete action is retained
+            assertThat(incrementalParser.pendingBytes(), Matchers.lessThanOrEqualTo(100L));
+        }
+        incrementalParser.parse(BytesArray.EMPTY, true);
+        assertEquals(0, incrementalParser.pendingBytes());
+
+        assertThat(actual, Matchers.hasSize(numActions));
+        for (int i = 0; i < numActions; i++) {
+            assertEquals(expected.get(i).getClass(), actual.get(i).getClass());
+            assertEquals(expected.get(i).id(), actual.get(i).id());
+            assertEquals("foo", actual.get(i).index());
+            if (actual.get(i) instanceof IndexRequest) {
+                assertEquals(((IndexRequest) expected.get(i)).source(), ((IndexRequest) actual.get(i)).source());
+            } else if (actual.get(i) instanceof UpdateRequest) {
+                assertEquals(((UpdateRequest) expected.get(i)).doc().source(), ((UpdateRequest) actual.get(i)).doc().source());
+            }
+        }
+    }
+
+    public void testIncrementalParserRetainsTheIncompleteAction() throws IOException {
+        BulkRequestParser parser = new BulkRequestParser(randomBoolean());
+        final List<IndexRequest> indexRequests = new ArrayList<>();
+        final BulkRequestParser.IncrementalParser incrementalParser = parser.incrementalParser("foo", null, null, null, null, null,
+            false, XContentType.JSON, indexRequests::add, req -> fail(), req -> fail());
+
+        incrementalParser.parse(new BytesArray("{ \"index\":{ \"_id\": \"bar\" } }\n{ \"fi"), false);
+        assertThat(indexRequests, Matchers.empty());
+        assertEquals(34, incrementalParser.pendingBytes());
+
+        incrementalParser.parse(new BytesArray("eld\": 1 }\n{ \"index\":{ \"_id\": \"baz\" } }\n"), false);
+        assertThat(indexRequests, Matchers.hasSize(1));
+        assertEquals("bar", indexRequests.get(0).id());
+        assertEquals("{ \"field\": 1 }", indexRequests.get(0).source().utf8ToString());
+        assertEquals(29, incrementalParser.pendingBytes());
+
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> incrementalParser.parse(new BytesArray("{}"), true));
+        assertEquals("The bulk request must be terminated by a newline [\\n]", e.getMessage());
+    }
 }
@@ -721,6 +721,66 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         assertThat(failure.getStatus(), equalTo(RestStatus.INTERNAL_SERVER_ERROR));
     }
 
+    public void testExecuteAppendOnlyRequests() throws Exception {
+        IndexShard shard = newStartedShard(true);
+
+        final int numAppends = randomIntBetween(2, 10);
+        BulkItemRequest[] items = new BulkItemRequest[numAppends + 1];
+        for (int i = 0; i < numAppends; i++) {
+            IndexRequest writeRequest = new IndexRequest("index", "_doc").source(Requests.INDEX_CONTENT_TYPE)
+                .create(randomBoolean());
+            writeRequest.process(Version.CURRENT, null, "index");
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+        // a request with an id ends the batch
+        items[numAppends] = new BulkItemRequest(numAppends, new IndexRequest("index", "_doc", "id").source(Requests.INDEX_CONTENT_TYPE));
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(bulkShardRequest, shard);
+        assertTrue(TransportShardBulkAction.executeAppendOnlyRequests(context));
+        assertTrue(context.hasMoreOperationsToExecute());
+        assertTrue(context.isInitial());
+        assertFalse(TransportShardBulkAction.executeAppendOnlyRequests(context));
+        TransportShardBulkAction.executeBulkItemRequest(context, null, threadPool::absoluteTimeInMillis,
+            new NoopMappingUpdatePerformer(), listener -> {}, ASSERTING_DONE_LISTENER);
+        assertFalse(context.hasMoreOperationsToExecute());
+        assertNotNull(context.getLocationToSync());
+
+        for (int i = 0; i <= numAppends; i++) {
+            BulkItemResponse primaryResponse = bulkShardRequest.items()[i].getPrimaryResponse();
+            assertThat(primaryResponse.getItemId(), equalTo(i));
+            assertThat(primaryResponse.getId(), equalTo(items[i].request().id()));
+            assertFalse(primaryResponse.isFailed());
+            assertThat(primaryResponse.getResponse().getSeqNo(), equalTo((long) i));
+            assertThat(primaryResponse.getResponse().getResult(), equalTo(DocWriteResponse.Result.CREATED));
+        }
+        assertDocCount(shard, numAppends + 1);
+        closeShards(shard);
+    }
+
+    public void testAppendOnlyRequestsEndBeforeMappingUpdates() throws Exception {
+        IndexShard shard = newStartedShard(true);
+
+        BulkItemRequest[] items = new BulkItemRequest[3];
+        for (int i = 0; i < items.length; i++) {
+            // the second document adds a field
+            IndexRequest writeRequest = i == 1
+                ? new IndexRequest("index", "_doc").source(Requests.INDEX_CONTENT_TYPE, "foo", "bar")
+                : new IndexRequest("index", "_doc").source(Requests.INDEX_CONTENT_TYPE);
+            writeRequest.process(Version.CURRENT, null, "index");
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(bulkShardRequest, shard);
+        assertTrue(TransportShardBulkAction.executeAppendOnlyRequests(context));
+        assertThat(bulkShardRequest.items()[0].getPrimaryResponse().getResponse().getSeqNo(), equalTo(0L));
+        assertThat(bulkShardRequest.items()[1].getPrimaryResponse(), nullValue());
+        assertTrue(context.hasMoreOperationsToExecute());
+        assertTrue(context.isInitial());
+        closeShards(shard);
+    }
+
     public void testTranslogPositionToSync() throws Exception {
         IndexShard shard = newStartedShard(true);
 
@@ -33,48 +33,76 @@ package org.opensearch.action.search;
 
 import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
+import org.opensearch.action.LatchedActionListener;
 import org.opensearch.action.OriginalIndices;
+import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.routing.GroupShardsIterator;
 import org.opensearch.cluster.routing.RecoverySource;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.UnassignedInfo;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Strings;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.Index;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.TaskCancelledException;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.ClusterServiceUtils;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
 import org.opensearch.transport.Transport;
 import org.opensearch.transport.TransportException;
 import org.opensearch.transport.TransportRequest;
 import org.opensearch.transport.TransportRequestOptions;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import static org.opensearch.common.util.concurrent.ConcurrentCollections.newConcurrentMap;
 import static org.opensearch.common.util.concurrent.ConcurrentCollections.newConcurrentSet;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 public class SearchAsyncActionTests extends OpenSearchTestCase {
 
@@ -593,6 +621,234 @@ public class SearchAsyncActionTests extends OpenSearchTestCase {
         assertThat(numFailReplicas.get(), greaterThanOrEqualTo(1));
     }
 
+    public void testHedgedShardRequest() throws Exception {
+        DiscoveryNode primaryNode = new DiscoveryNode("node_1", buildNewFakeTransportAddress(), Version.CURRENT);
+        DiscoveryNode replicaNode = new DiscoveryNode("node_2", buildNewFakeTransportAddress(), Version.CURRENT);
+        final boolean loserResponds = randomBoolean();
+        try (HedgingTestCase testCase = new HedgingTestCase(primaryNode, replicaNode, TimeValue.ZERO)) {
+            // the first copy only responds once the other one won
+            testCase.respond = request -> false;
+            testCase.run();
+
+            assertThat(testCase.requests, hasSize(2));
+            assertThat(testCase.requests.get(0).shard.getNodeId(), not(equalTo(testCase.requests.get(1).shard.getNodeId())));
+            assertThat(testCase.winner.get().getSearchShardTarget().getNodeId(), equalTo(testCase.requests.get(1).shard.getNodeId()));
+            final ShardRequest loser = testCase.requests.get(0);
+            assertTrue(loser.parentTask.isCancelled());
+
+            if (loserResponds) {
+                loser.listener.onResponse(loser.result);
+                // the next phase released the reader context of the winner, the one of the loser is released when it responds
+                assertThat(testCase.freedContexts, contains(testCase.winner.get().getContextId(), loser.result.getContextId()));
+            } else {
+                loser.listener.onFailure(new TaskCancelledException("cancelled"));
+                assertThat(testCase.freedContexts, contains(testCase.winner.get().getContextId()));
+            }
+            assertThat(testCase.taskManager.getTasks().values(), empty());
+        }
+    }
+
+    public void testFailureOfTheFirstCopyIsDroppedOnceTheHedgedCopyResponds() throws Exception {
+        DiscoveryNode primaryNode = new DiscoveryNode("node_1", buildNewFakeTransportAddress(), Version.CURRENT);
+        DiscoveryNode replicaNode = new DiscoveryNode("node_2", buildNewFakeTransportAddress(), Version.CURRENT);
+        try (HedgingTestCase testCase = new HedgingTestCase(primaryNode, replicaNode, TimeValue.ZERO)) {
+            testCase.respond = request -> false;
+            testCase.onHedge = request -> {
+                testCase.requests.get(0).listener.onFailure(new IllegalStateException("first copy failed"));
+                request.listener.onResponse(request.result);
+            };
+            testCase.run();
+
+            assertNull(testCase.failure.get());
+            assertEquals(1, testCase.response.get().getSuccessfulShards());
+            assertEquals(0, testCase.response.get().getFailedShards());
+            assertThat(testCase.winner.get().getSearchShardTarget().getNodeId(), equalTo(testCase.requests.get(1).shard.getNodeId()));
+            assertThat(testCase.taskManager.getTasks().values(), empty());
+        }
+    }
+
+    public void testFailuresOfBothCopiesAreReported() throws Exception {
+        DiscoveryNode primaryNode = new DiscoveryNode("node_1", buildNewFakeTransportAddress(), Version.CURRENT);
+        DiscoveryNode replicaNode = new DiscoveryNode("node_2", buildNewFakeTransportAddress(), Version.CURRENT);
+        try (HedgingTestCase testCase = new HedgingTestCase(primaryNode, replicaNode, TimeValue.ZERO)) {
+            testCase.respond = request -> false;
+            final boolean firstFailsFirst = randomBoolean();
+            testCase.onHedge = request -> {
+                final ShardRequest first = testCase.requests.get(0);
+                if (firstFailsFirst) {
+                    first.listener.onFailure(new IllegalStateException("first copy failed"));
+                    request.listener.onFailure(new IllegalStateException("second copy failed"));
+                } else {
+                    request.listener.onFailure(new IllegalStateException("second copy failed"));
+                    first.listener.onFailure(new IllegalStateException("first copy failed"));
+                }
+            };
+            testCase.run();
+
+            assertNull(testCase.response.get());
+            assertThat(testCase.failure.get(), instanceOf(SearchPhaseExecutionException.class));
+            final ShardSearchFailure[] shardFailures = ((SearchPhaseExecutionException) testCase.failure.get()).shardFailures();
+            assertThat(shardFailures, arrayWithSize(1));
+            // the last failure is kept like for any shard whose copies failed one after the other
+            assertThat(shardFailures[0].getCause().getMessage(),
+                containsString(firstFailsFirst ? "second copy failed" : "first copy failed"));
+            assertNull(testCase.winner.get());
+            assertThat(testCase.taskManager.getTasks().values(), empty());
+        }
+    }
+
+    public void testNoHedgingWhenTheFirstCopyRespondsInTime() throws Exception {
+        DiscoveryNode primaryNode = new DiscoveryNode("node_1", buildNewFakeTransportAddress(), Version.CURRENT);
+        DiscoveryNode replicaNode = new DiscoveryNode("node_2", buildNewFakeTransportAddress(), Version.CURRENT);
+        try (HedgingTestCase testCase = new HedgingTestCase(primaryNode, replicaNode, TimeValue.timeValueHours(1))) {
+            testCase.respond = request -> true;
+            testCase.run();
+
+            assertThat(testCase.requests, hasSize(1));
+            assertThat(testCase.requests.get(0).parentTask, not(sameInstance(testCase.searchTask)));
+            assertFalse(testCase.requests.get(0).parentTask.isCancelled());
+            assertThat(testCase.freedContexts, contains(testCase.winner.get().getContextId()));
+            assertThat(testCase.taskManager.getTasks().values(), empty());
+        }
+    }
+
+    /**
+     * A shard request sent by a {@link HedgingTestCase}.
+     */
+    private static final class ShardRequest {
+        final SearchShardTarget shard;
+        final SearchTask parentTask;
+        final SearchActionListener<TestSearchPhaseResult> listener;
+        final TestSearchPhaseResult result;
+
+        ShardRequest(SearchShardTarget shard, SearchTask parentTask, SearchActionListener<TestSearchPhaseResult> listener,
+                     TestSearchPhaseResult result) {
+            this.shard = shard;
+            this.parentTask = parentTask;
+            this.listener = listener;
+            this.result = result;
+        }
+    }
+
+    /**
+     * Runs the query phase of a search on a single shard with a copy on each of two nodes that responded in about a millisecond
+     * lately, hedging the shard requests with the given minimum delay.
+     */
+    private final class HedgingTestCase implements Closeable {
+        final TestThreadPool threadPool = new TestThreadPool("hedging");
+        final TaskManager taskManager = new TaskManager(Settings.EMPTY, threadPool, Collections.emptySet()) {
+            @Override
+            public void cancelTaskAndDescendants(CancellableTask task, String reason, boolean waitForCompletion,
+                                                 ActionListener<Void> listener) {
+                // the shard requests aren't sent over the transport service, there are no child nodes to ban them on
+                cancel(task, reason, () -> listener.onResponse(null));
+            }
+        };
+        final ClusterService clusterService = ClusterServiceUtils.createClusterService(threadPool);
+        final SearchTask searchTask = new SearchTask(0, "transport", SearchAction.NAME, () -> "test", TaskId.EMPTY_TASK_ID,
+            Collections.emptyMap());
+        final DiscoveryNode primaryNode;
+        final DiscoveryNode replicaNode;
+        final TimeValue minDelay;
+        final List<ShardRequest> requests = new CopyOnWriteArrayList<>();
+        final List<ShardSearchContextId> freedContexts = new CopyOnWriteArrayList<>();
+        final AtomicReference<TestSearchPhaseResult> winner = new AtomicReference<>();
+        final AtomicReference<SearchResponse> response = new AtomicReference<>();
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        Predicate<ShardRequest> respond;
+        // handles the request sent to the second copy, which responds by default
+        Consumer<ShardRequest> onHedge = request -> request.listener.onResponse(request.result);
+
+        HedgingTestCase(DiscoveryNode primaryNode, DiscoveryNode replicaNode, TimeValue minDelay) {
+            this.primaryNode = primaryNode;
+            this.replicaNode = replicaNode;
+            this.minDelay = minDelay;
+        }
+
+        void run() throws InterruptedException {
+            final AtomicLong now = new AtomicLong();
+            final ResponseCollectorService collector = new ResponseCollectorService(clusterService, now::get);
+            collector.addResponseTime(primaryNode.getId(), TimeValue.timeValueMillis(1).nanos());
+            collector.addResponseTime(replicaNode.getId(), TimeValue.timeValueMillis(1).nanos());
+            now.addAndGet(TimeValue.timeValueMinutes(1).nanos());
+            final ShardRequestHedging hedging = new ShardRequestHedging(threadPool, taskManager, collector, 95, minDelay);
+
+            final DiscoveryNode localNode = new DiscoveryNode("local", buildNewFakeTransportAddress(), Version.CURRENT);
+            final ClusterState clusterState = ClusterState.builder(new ClusterName("test"))
+                .nodes(DiscoveryNodes.builder().add(localNode).add(primaryNode).add(replicaNode).localNodeId(localNode.getId()))
+                .build();
+            final SearchRequest request = new SearchRequest();
+            request.allowPartialSearchResults(true);
+            final GroupShardsIterator<SearchShardIterator> shardsIter = getShardsIter("idx",
+                new OriginalIndices(new String[]{"idx"}, SearchRequest.DEFAULT_INDICES_OPTIONS), 1, true, primaryNode, replicaNode);
+            final SearchTransportService transportService = new SearchTransportService(null, null) {
+                @Override
+                public void sendFreeContext(Transport.Connection connection, ShardSearchContextId contextId,
+                                            OriginalIndices originalIndices) {
+                    freedContexts.add(contextId);
+                }
+            };
+            final Map<String, Transport.Connection> lookup = new HashMap<>();
+            lookup.put(primaryNode.getId(), new MockConnection(primaryNode));
+            lookup.put(replicaNode.getId(), new MockConnection(replicaNode));
+            final AtomicInteger contextIdGenerator = new AtomicInteger();
+            final CountDownLatch latch = new CountDownLatch(1);
+            final ActionListener<SearchResponse> responseListener = new LatchedActionListener<>(ActionListener.wrap(
+                response::set, failure::set), latch);
+            final AbstractSearchAsyncAction<TestSearchPhaseResult> asyncAction = new AbstractSearchAsyncAction<TestSearchPhaseResult>(
+                "test", logger, transportService, (cluster, node) -> lookup.get(node),
+                Collections.singletonMap("_na_", new AliasFilter(null, Strings.EMPTY_ARRAY)), Collections.emptyMap(),
+                Collections.emptyMap(), threadPool.generic(), request, responseListener, shardsIter,
+                new TransportSearchAction.SearchTimeProvider(0, 0, () -> 0), clusterState, searchTask,
+                new ArraySearchPhaseResults<>(shardsIter.size()), request.getMaxConcurrentShardRequests(),
+                SearchResponse.Clusters.EMPTY, hedging) {
+
+                @Override
+                protected void executePhaseOnShard(SearchShardIterator shardIt, SearchShardTarget shard,
+                                                   SearchActionListener<TestSearchPhaseResult> listener) {
+                    throw new AssertionError("hedged shard requests are sent as children of their own tasks");
+                }
+
+                @Override
+                protected void executePhaseOnShard(SearchShardIterator shardIt, SearchShardTarget shard, SearchTask parentTask,
+                                                   SearchActionListener<TestSearchPhaseResult> listener) {
+                    final DiscoveryNode node = lookup.get(shard.getNodeId()).getNode();
+                    final TestSearchPhaseResult result = new TestSearchPhaseResult(
+                        new ShardSearchContextId(UUIDs.randomBase64UUID(), contextIdGenerator.incrementAndGet()), node);
+                    final ShardRequest shardRequest = new ShardRequest(shard, parentTask, listener, result);
+                    requests.add(shardRequest);
+                    if (requests.size() > 1) {
+                        onHedge.accept(shardRequest);
+                    } else if (respond.test(shardRequest)) {
+                        listener.onResponse(result);
+                    }
+                }
+
+                @Override
+                protected SearchPhase getNextPhase(SearchPhaseResults<TestSearchPhaseResult> results, SearchPhaseContext context) {
+                    return new SearchPhase("test") {
+                        @Override
+                        public void run() {
+                            final TestSearchPhaseResult result = results.getAtomicArray().get(0);
+                            winner.set(result);
+                            sendReleaseSearchContext(result.getContextId(), new MockConnection(result.node), OriginalIndices.NONE);
+                            responseListener.onResponse(buildSearchResponse(InternalSearchResponse.empty(), buildShardFailures(),
+                                null, null));
+                        }
+                    };
+                }
+            };
+            asyncAction.start();
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        }
+
+        @Override
+        public void close() {
+            clusterService.close();
+            terminate(threadPool);
+        }
+    }
+
     static GroupShardsIterator<SearchShardIterator> getShardsIter(String index, OriginalIndices originalIndices, int numShards,
                                                      boolean doReplicas, DiscoveryNode primaryNode, DiscoveryNode replicaNode) {
         ArrayList<SearchShardIterator> list = new ArrayList<>();
@@ -66,9 +66,12 @@ import org.opensearch.search.SearchModule;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregation.ReduceContext;
 import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.bucket.terms.LongTerms;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
 import org.opensearch.search.aggregations.metrics.InternalMax;
 import org.opensearch.search.aggregations.pipeline.PipelineAggregator.PipelineTree;
 import org.opensearch.search.builder.SearchSourceBuilder;
@@ -90,6 +93,7 @@ import org.junit.After;
 import org.junit.Before;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -601,6 +605,59 @@ public class SearchPhaseControllerTests extends OpenSearchTestCase {
         assertNull(reduce.sortedTopDocs.collapseValues);
     }
 
+    public void testConsumerStreamingAggs() throws Exception {
+        int expectedNumResults = randomIntBetween(1, 100);
+        int numTerms = randomIntBetween(1, 50);
+        SearchRequest request = randomSearchRequest();
+        request.source(new SearchSourceBuilder().aggregation(AggregationBuilders.terms("terms"))
+            .aggregation(AggregationBuilders.max("max")).size(0));
+        request.setBatchedReduceSize(randomIntBetween(2, 200));
+        QueryPhaseResultConsumer consumer = searchPhaseController.newSearchPhaseResults(fixedExecutor,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST), SearchProgressListener.NOOP,
+            request, expectedNumResults, true, exc  -> {});
+        AtomicInteger max = new AtomicInteger();
+        Map<Long, Long> expectedDocCounts = new HashMap<>();
+        CountDownLatch latch =  new CountDownLatch(expectedNumResults);
+        for (int i = 0; i < expectedNumResults; i++) {
+            int number = randomIntBetween(1, 1000);
+            max.updateAndGet(prev -> Math.max(prev, number));
+            List<LongTerms.Bucket> buckets = new ArrayList<>();
+            for (long term = 0; term < numTerms; term++) {
+                if (randomBoolean()) {
+                    long docCount = randomIntBetween(1, 100);
+                    expectedDocCounts.merge(term, docCount, Long::sum);
+                    buckets.add(new LongTerms.Bucket(term, docCount, InternalAggregations.EMPTY, false, 0, DocValueFormat.RAW));
+                }
+            }
+            LongTerms terms = new LongTerms("terms", BucketOrder.key(true), BucketOrder.count(false), numTerms, 1, emptyMap(),
+                DocValueFormat.RAW, numTerms, false, 0, buckets, 0);
+            QuerySearchResult result = new QuerySearchResult(new ShardSearchContextId("", i),
+                new SearchShardTarget("node", new ShardId("a", "b", i), null, OriginalIndices.NONE), null);
+            result.topDocs(new TopDocsAndMaxScore(new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]), number),
+                    new DocValueFormat[0]);
+            result.aggregations(InternalAggregations.from(Arrays.asList(terms,
+                new InternalMax("max", (double) number, DocValueFormat.RAW, emptyMap()))));
+            result.setShardIndex(i);
+            result.size(1);
+            consumer.consumeResult(result, latch::countDown);
+        }
+        latch.await();
+
+        SearchPhaseController.ReducedQueryPhase reduce = consumer.reduce();
+        assertAggReduction(request);
+        assertEquals(expectedNumResults, reduce.numReducePhases);
+        Terms terms = reduce.aggregations.get("terms");
+        Map<Long, Long> docCounts = new HashMap<>();
+        for (Terms.Bucket bucket : terms.getBuckets()) {
+            docCounts.put((Long) bucket.getKey(), bucket.getDocCount());
+        }
+        assertEquals(expectedDocCounts, docCounts);
+        InternalMax internalMax = reduce.aggregations.get("max");
+        assertEquals(max.get(), internalMax.getValue(), 0.0D);
+        assertEquals(expectedNumResults, reduce.totalHits.value);
+        consumer.close();
+    }
+
     public void testConsumerOnlyHits() throws Exception {
         int expectedNumResults = randomIntBetween(1, 100);
         int bufferSize = randomIntBetween(2, 200);
@@ -952,17 +1009,29 @@ public class SearchPhaseControllerTests extends OpenSearchTestCase {
 
     public void testPartialReduce() throws Exception {
         for (int i = 0; i < 10; i++) {
-            testReduceCase(false);
+            testReduceCase(false, false);
         }
     }
 
     public void testPartialReduceWithFailure() throws Exception {
         for (int i = 0; i < 10; i++) {
-            testReduceCase(true);
+            testReduceCase(true, false);
+        }
+    }
+
+    public void testStreamingReduce() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            testReduceCase(false, true);
+        }
+    }
+
+    public void testStreamingReduceWithFailure() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            testReduceCase(true, true);
         }
     }
 
-    private void testReduceCase(boolean shouldFail) throws Exception {
+    private void testReduceCase(boolean shouldFail, boolean streaming) throws Exception {
         int expectedNumResults = randomIntBetween(20, 200);
         int bufferSize = randomIntBetween(2, expectedNumResults - 1);
         SearchRequest request = new SearchRequest();
@@ -977,7 +1046,7 @@ public class SearchPhaseControllerTests extends OpenSearchTestCase {
         }
         QueryPhaseResultConsumer consumer = searchPhaseController.newSearchPhaseResults(fixedExecutor,
             circuitBreaker, SearchProgressListener.NOOP,
-            request, expectedNumResults, exc -> hasConsumedFailure.set(true));
+            request, expectedNumResults, streaming, exc -> hasConsumedFailure.set(true));
         CountDownLatch latch = new CountDownLatch(expectedNumResults);
         Thread[] threads = new Thread[expectedNumResults];
         for (int i =  0; i < expectedNumResults; i++) {
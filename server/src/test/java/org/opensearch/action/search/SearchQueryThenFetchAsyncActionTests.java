@@ -172,7 +172,7 @@ public class SearchQueryThenFetchAsyncActionTests extends OpenSearchTestCase {
             Collections.singletonMap("_na_", new AliasFilter(null, Strings.EMPTY_ARRAY)),
             Collections.emptyMap(), Collections.emptyMap(), controller, executor,
             resultConsumer, searchRequest, null, shardsIter, timeProvider, null,
-            task, SearchResponse.Clusters.EMPTY) {
+            task, SearchResponse.Clusters.EMPTY, null) {
             @Override
             protected SearchPhase getNextPhase(SearchPhaseResults<SearchPhaseResult> results, SearchPhaseContext context) {
                 return new SearchPhase("test") {
@@ -31,6 +31,7 @@
 
 package org.opensearch.cluster.coordination;
 
+import org.opensearch.LegacyESVersion;
 import org.opensearch.OpenSearchException;
 import org.opensearch.Version;
 import org.opensearch.cluster.ClusterChangedEvent;
@@ -39,19 +40,24 @@ import org.opensearch.cluster.Diff;
 import org.opensearch.cluster.coordination.CoordinationMetadata.VotingConfiguration;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.compress.CompressorFactory;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.node.Node;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.transport.CapturingTransport;
+import org.opensearch.transport.BytesTransportRequest;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
 
 public class PublicationTransportHandlerTests extends OpenSearchTestCase {
 
@@ -65,7 +71,7 @@ public class PublicationTransportHandlerTests extends OpenSearchTestCase {
             TransportService.NOOP_TRANSPORT_INTERCEPTOR,
             x -> localNode,
             clusterSettings, Collections.emptySet());
-        final PublicationTransportHandler handler = new PublicationTransportHandler(transportService,
+        final PublicationTransportHandler handler = new PublicationTransportHandler(Settings.EMPTY, transportService,
             writableRegistry(), pu -> null, (pu, l) -> {});
         transportService.start();
         transportService.acceptIncomingRequests();
@@ -100,4 +106,43 @@ public class PublicationTransportHandlerTests extends OpenSearchTestCase {
         assertThat(e.getCause(), instanceOf(IOException.class));
         assertThat(e.getCause().getMessage(), containsString("Simulated failure of diff serialization"));
     }
+
+    public void testPublishCompression() throws IOException {
+        DeterministicTaskQueue deterministicTaskQueue =
+            new DeterministicTaskQueue(Settings.builder().put(Node.NODE_NAME_SETTING.getKey(), "test").build(), random());
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final DiscoveryNode localNode = new DiscoveryNode("localNode", buildNewFakeTransportAddress(), Version.CURRENT);
+        final TransportService transportService = new CapturingTransport().createTransportService(Settings.EMPTY,
+            deterministicTaskQueue.getThreadPool(),
+            TransportService.NOOP_TRANSPORT_INTERCEPTOR,
+            x -> localNode,
+            clusterSettings, Collections.emptySet());
+        final Settings settings = Settings.builder()
+            .put(PublicationTransportHandler.PUBLISH_COMPRESSION_SETTING.getKey(), "lz4")
+            .build();
+        final AtomicReference<PublishRequest> received = new AtomicReference<>();
+        final PublicationTransportHandler handler = new PublicationTransportHandler(settings, transportService,
+            writableRegistry(), pu -> {
+                received.set(pu);
+                return null;
+            }, (pu, l) -> {});
+        transportService.start();
+
+        final ClusterState clusterState = CoordinationStateTests.clusterState(2L, 1L,
+            DiscoveryNodes.builder().add(localNode).localNodeId(localNode.getId()).build(),
+            VotingConfiguration.EMPTY_CONFIG, VotingConfiguration.EMPTY_CONFIG, 0L);
+
+        final BytesReference serialized = handler.serializeFullClusterState(clusterState, Version.CURRENT);
+        assertTrue(CompressorFactory.LZ4_COMPRESSOR.isCompressed(serialized));
+        handler.handleIncomingPublishRequest(new BytesTransportRequest(serialized, Version.CURRENT));
+        final ClusterState deserialized = received.get().getAcceptedState();
+        assertEquals(clusterState.stateUUID(), deserialized.stateUUID());
+        assertEquals(clusterState.version(), deserialized.version());
+        assertEquals(1, handler.stats().getFullClusterStateReceivedCount());
+
+        // nodes before 1.0.0 are not able to decompress LZ4
+        final BytesReference legacySerialized = handler.serializeFullClusterState(clusterState, LegacyESVersion.V_7_10_2);
+        assertFalse(CompressorFactory.LZ4_COMPRESSOR.isCompressed(legacySerialized));
+        assertThat(CompressorFactory.compressor(legacySerialized), sameInstance(CompressorFactory.COMPRESSOR));
+    }
 }
@@ -1124,6 +1124,97 @@ public class MetadataTests extends OpenSearchTestCase {
         }
     }
 
+    public void testIndicesLookupIsUpdatedIncrementally() throws IOException {
+        final CreateIndexResult result = createIndices(randomIntBetween(2, 5), randomIntBetween(2, 5), "my-data-stream");
+        final Metadata.Builder builder = Metadata.builder(result.metadata);
+        for (Index index : result.indices) {
+            builder.put(IndexMetadata.builder(result.metadata.index(index))
+                .putAlias(AliasMetadata.builder("alias-" + randomIntBetween(0, 2)).writeIndex(false)));
+        }
+        final Metadata before = builder.build();
+        assertSame(before.getIndicesLookup(), Metadata.builder(before).build().getIndicesLookup());
+
+        final Metadata.Builder afterBuilder = Metadata.builder(before);
+        final List<Index> allIndices = new ArrayList<>(result.indices);
+        allIndices.addAll(result.backingIndices);
+        for (Index index : randomSubsetOf(randomIntBetween(1, allIndices.size()), allIndices)) {
+            final IndexMetadata indexMetadata = before.index(index);
+            afterBuilder.put(IndexMetadata.builder(indexMetadata)
+                .settingsVersion(indexMetadata.getSettingsVersion() + 1)
+                .settings(Settings.builder().put(indexMetadata.getSettings()).put("index.refresh_interval", randomTimeValue())));
+        }
+        final Metadata after = afterBuilder.build();
+        assertIndicesLookupEqualsFullBuild(after);
+
+        final Metadata applied = after.diff(before).apply(before);
+        assertIndicesLookupEqualsFullBuild(applied);
+
+        final BytesStreamOutput out = new BytesStreamOutput();
+        after.diff(before).writeTo(out);
+        final NamedWriteableRegistry namedWriteableRegistry = new NamedWriteableRegistry(ClusterModule.getNamedWriteables());
+        final Metadata received = Metadata.readDiffFrom(new NamedWriteableAwareStreamInput(out.bytes().streamInput(),
+            namedWriteableRegistry)).apply(before);
+        assertIndicesLookupEqualsFullBuild(received);
+    }
+
+    public void testIndicesLookupIsRebuiltWhenIndicesChange() {
+        final Metadata before = Metadata.builder()
+            .put(buildIndexMetadata("index-1", "alias-1", null))
+            .put(buildIndexMetadata("index-2", "alias-2", null))
+            .build();
+
+        final Metadata withHiddenIndex = Metadata.builder(before)
+            .put(IndexMetadata.builder(before.index("index-1"))
+                .settings(Settings.builder().put(before.index("index-1").getSettings()).put(IndexMetadata.SETTING_INDEX_HIDDEN, true)))
+            .build();
+        assertThat(withHiddenIndex.getConcreteVisibleIndices(), equalTo(new String[] { "index-2" }));
+        assertIndicesLookupEqualsFullBuild(withHiddenIndex);
+
+        final Metadata withNewAlias = Metadata.builder(before)
+            .put(IndexMetadata.builder(before.index("index-2")).putAlias(AliasMetadata.builder("alias-1")))
+            .build();
+        assertThat(withNewAlias.getIndicesLookup().get("alias-1").getIndices().size(), equalTo(2));
+        assertIndicesLookupEqualsFullBuild(withNewAlias);
+
+        final IllegalStateException e = expectThrows(IllegalStateException.class, () -> Metadata.builder(before)
+            .put(IndexMetadata.builder(before.index("index-2")).putAlias(AliasMetadata.builder("index-1")))
+            .build());
+        assertThat(e.getMessage(), containsString("index-1 (alias of [index-2]) conflicts with index"));
+    }
+
+    private static void assertIndicesLookupEqualsFullBuild(Metadata metadata) {
+        final Metadata.Builder builder = Metadata.builder();
+        for (IndexMetadata indexMetadata : metadata) {
+            builder.put(indexMetadata, false);
+        }
+        final Metadata expected = builder.customs(metadata.customs()).build();
+
+        assertThat(Sets.newHashSet(metadata.getConcreteAllIndices()), equalTo(Sets.newHashSet(expected.getConcreteAllIndices())));
+        assertThat(Sets.newHashSet(metadata.getConcreteVisibleIndices()),
+            equalTo(Sets.newHashSet(expected.getConcreteVisibleIndices())));
+        assertThat(Sets.newHashSet(metadata.getConcreteAllOpenIndices()),
+            equalTo(Sets.newHashSet(expected.getConcreteAllOpenIndices())));
+        assertThat(Sets.newHashSet(metadata.getConcreteAllClosedIndices()),
+            equalTo(Sets.newHashSet(expected.getConcreteAllClosedIndices())));
+        assertThat(metadata.getIndicesLookup().keySet(), equalTo(expected.getIndicesLookup().keySet()));
+        for (Map.Entry<String, IndexAbstraction> entry : expected.getIndicesLookup().entrySet()) {
+            final IndexAbstraction expectedValue = entry.getValue();
+            final IndexAbstraction value = metadata.getIndicesLookup().get(entry.getKey());
+            assertThat(value.getType(), equalTo(expectedValue.getType()));
+            assertThat(value.isHidden(), equalTo(expectedValue.isHidden()));
+            assertThat(Sets.newHashSet(value.getIndices()), equalTo(Sets.newHashSet(expectedValue.getIndices())));
+            for (IndexMetadata indexMetadata : value.getIndices()) {
+                assertSame(metadata.index(indexMetadata.getIndex()), indexMetadata);
+            }
+            assertThat(value.getWriteIndex(), equalTo(expectedValue.getWriteIndex()));
+            if (expectedValue.getParentDataStream() == null) {
+                assertNull(value.getParentDataStream());
+            } else {
+                assertSame(metadata.getIndicesLookup().get(expectedValue.getParentDataStream().getName()), value.getParentDataStream());
+            }
+        }
+    }
+
     public void testSerialization() throws IOException {
         final Metadata orig = randomMetadata();
         final BytesStreamOutput out = new BytesStreamOutput();
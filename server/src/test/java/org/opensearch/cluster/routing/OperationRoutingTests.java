@@ -43,6 +43,7 @@ import org.opensearch.cluster.routing.ShardIterator;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.allocation.decider.AwarenessAllocationDecider;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
@@ -63,6 +64,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.opensearch.cluster.routing.OperationRouting.IGNORE_AWARENESS_ATTRIBUTES_DEPRECATION_MESSAGE;
 import static org.hamcrest.CoreMatchers.containsString;
@@ -626,6 +628,64 @@ public class OperationRoutingTests extends OpenSearchTestCase {
         terminate(threadPool);
     }
 
+    public void testAdaptiveReplicaSelectionByResponseTimePercentile() throws Exception {
+        final String[] indexNames = new String[] { "test" };
+        ClusterState state = ClusterStateCreationUtils.stateWithAssignedPrimariesAndReplicas(indexNames, 1, 2);
+        OperationRouting opRouting = new OperationRouting(
+            Settings.builder()
+                .put(OperationRouting.ADAPTIVE_REPLICA_SELECTION_RANKING_SETTING.getKey(), "response_time_percentile")
+                .build(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        TestThreadPool threadPool = new TestThreadPool("testAdaptiveReplicaSelectionByResponseTimePercentile");
+        ClusterService clusterService = ClusterServiceUtils.createClusterService(threadPool);
+        try {
+            AtomicLong now = new AtomicLong();
+            ResponseCollectorService collector = new ResponseCollectorService(clusterService, now::get);
+
+            for (int i = 0; i < 100; i++) {
+                collector.addResponseTime("node_0", TimeValue.timeValueMillis(10).nanos());
+                // node 1 is faster most of the time, but has a long tail
+                collector.addResponseTime("node_1", TimeValue.timeValueMillis(i < 90 ? 5 : 500).nanos());
+            }
+            // node 2 has no response times, it is ranked as if it were as fast as the fastest node
+            now.addAndGet(TimeValue.timeValueSeconds(5).nanos()); // a complete window of response times
+
+            Map<String, Long> outstandingRequests = new HashMap<>();
+            Set<String> selectedNodes = new HashSet<>();
+            for (int i = 0; i < 2; i++) {
+                GroupShardsIterator<ShardIterator> groupIterator = opRouting.searchShards(state, indexNames, null, null, collector,
+                    outstandingRequests);
+                assertThat(groupIterator.get(0).size(), equalTo(3));
+                selectedNodes.add(groupIterator.get(0).nextOrNull().currentNodeId());
+            }
+            // the second search goes to the other node since the first one counts as an outstanding request
+            assertThat(selectedNodes, containsInAnyOrder("node_0", "node_2"));
+            assertThat(outstandingRequests.get("node_0"), equalTo(1L));
+            assertThat(outstandingRequests.get("node_2"), equalTo(1L));
+
+            // at the median node 1 is the fastest, it is as fast as node 2 is assumed to be but node 2 has an outstanding request
+            opRouting.setAdaptiveReplicaSelectionPercentile(50);
+            outstandingRequests = new HashMap<>();
+            outstandingRequests.put("node_2", 1L);
+            GroupShardsIterator<ShardIterator> groupIterator = opRouting.searchShards(state, indexNames, null, null, collector,
+                outstandingRequests);
+            assertThat(groupIterator.get(0).nextOrNull().currentNodeId(), equalTo("node_1"));
+
+            // node 1 stalls, its request in flight makes it the slowest node
+            try (Releasable request = collector.startRequest("node_1")) {
+                now.addAndGet(TimeValue.timeValueSeconds(1).nanos());
+                groupIterator = opRouting.searchShards(state, indexNames, null, null, collector, new HashMap<>());
+                final ShardIterator shardIterator = groupIterator.get(0);
+                shardIterator.nextOrNull();
+                shardIterator.nextOrNull();
+                assertThat(shardIterator.nextOrNull().currentNodeId(), equalTo("node_1"));
+            }
+        } finally {
+            IOUtils.close(clusterService);
+            terminate(threadPool);
+        }
+    }
+
     public void testAllocationAwarenessDeprecation() {
         OperationRouting routing = new OperationRouting(
             Settings.builder()
@@ -37,6 +37,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.util.ArrayUtil;
 import org.opensearch.Version;
+import org.opensearch.cluster.ClusterModule;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.OpenSearchAllocationTestCase;
 import org.opensearch.cluster.EmptyClusterInfoService;
@@ -51,17 +52,28 @@ import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.ShardRoutingState;
 import org.opensearch.cluster.routing.allocation.allocator.BalancedShardsAllocator;
 import org.opensearch.cluster.routing.allocation.allocator.ShardsAllocator;
+import org.opensearch.cluster.routing.allocation.decider.AllocationDecider;
+import org.opensearch.cluster.routing.allocation.decider.AllocationDeciders;
 import org.opensearch.cluster.routing.allocation.decider.ClusterRebalanceAllocationDecider;
+import org.opensearch.cluster.routing.allocation.decider.Decision;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.snapshots.EmptySnapshotsInfoService;
 import org.opensearch.test.gateway.TestGatewayAllocator;
 import org.hamcrest.Matchers;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.opensearch.cluster.routing.ShardRoutingState.STARTED;
 import static org.opensearch.cluster.routing.ShardRoutingState.UNASSIGNED;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
 
 public class BalanceConfigurationTests extends OpenSearchAllocationTestCase {
 
@@ -128,6 +140,70 @@ public class BalanceConfigurationTests extends OpenSearchAllocationTestCase {
             numberOfNodes + 1 - (numberOfNodes + 1) / 2, numberOfIndices, numberOfReplicas, numberOfShards, balanceThreshold);
     }
 
+    public void testParallelBalance() {
+        final float balanceThreshold = 1.0f;
+
+        Settings.Builder settings = Settings.builder();
+        settings.put(ClusterRebalanceAllocationDecider.CLUSTER_ROUTING_ALLOCATION_ALLOW_REBALANCE_SETTING.getKey(),
+            ClusterRebalanceAllocationDecider.ClusterRebalanceType.ALWAYS.toString());
+        settings.put(BalancedShardsAllocator.INDEX_BALANCE_FACTOR_SETTING.getKey(), 0.0f);
+        settings.put(BalancedShardsAllocator.SHARD_BALANCE_FACTOR_SETTING.getKey(), 1.0f);
+        settings.put(BalancedShardsAllocator.THRESHOLD_SETTING.getKey(), balanceThreshold);
+        AllocationService sequential = createAllocationService(settings.build(), new TestGatewayAllocator());
+        settings.put(BalancedShardsAllocator.PARALLELISM_SETTING.getKey(), between(2, 8));
+
+        final ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        final Set<String> deciderThreads = ConcurrentCollections.newConcurrentSet();
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final List<AllocationDecider> deciders = new ArrayList<>(
+            ClusterModule.createAllocationDeciders(settings.build(), clusterSettings, Collections.emptyList()));
+        // the deciders that are called on the balancer's threads see the thread context of the reroute
+        deciders.add(new AllocationDecider() {
+            @Override
+            public Decision canAllocate(ShardRouting shardRouting, RoutingNode node, RoutingAllocation allocation) {
+                assertEquals("value", threadContext.getHeader("header"));
+                deciderThreads.add(Thread.currentThread().getName());
+                return super.canAllocate(shardRouting, node, allocation);
+            }
+
+            @Override
+            public Decision canRemain(ShardRouting shardRouting, RoutingNode node, RoutingAllocation allocation) {
+                assertEquals("value", threadContext.getHeader("header"));
+                deciderThreads.add(Thread.currentThread().getName());
+                return super.canRemain(shardRouting, node, allocation);
+            }
+        });
+
+        try (BalancedShardsAllocator allocator = new BalancedShardsAllocator(settings.build(), clusterSettings, threadContext);
+             ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putHeader("header", "value");
+            AllocationService parallel = new MockAllocationService(new AllocationDeciders(deciders), new TestGatewayAllocator(),
+                allocator, EmptyClusterInfoService.INSTANCE, SNAPSHOT_INFO_SERVICE_WITH_NO_SHARD_SIZES);
+
+            ClusterState clusterState = initCluster(parallel);
+            assertReplicaBalance(clusterState.getRoutingNodes(), numberOfNodes, numberOfIndices,
+                numberOfReplicas, numberOfShards, balanceThreshold);
+            // there are fewer indices than needed to sort them in parallel, all the other decisions are merged in order
+            assertEquals(shardAssignments(initCluster(sequential)), shardAssignments(clusterState));
+
+            clusterState = addNode(clusterState, parallel);
+            assertReplicaBalance(clusterState.getRoutingNodes(), numberOfNodes + 1,
+                numberOfIndices, numberOfReplicas, numberOfShards, balanceThreshold);
+
+            clusterState = removeNodes(clusterState, parallel);
+            assertReplicaBalance(clusterState.getRoutingNodes(),
+                numberOfNodes + 1 - (numberOfNodes + 1) / 2, numberOfIndices, numberOfReplicas, numberOfShards, balanceThreshold);
+        }
+        assertThat(deciderThreads, hasItem(containsString("[balancer]")));
+    }
+
+    private static List<String> shardAssignments(ClusterState clusterState) {
+        return clusterState.getRoutingNodes().shards(shard -> true).stream()
+            .map(shard -> shard.shardId() + "[" + (shard.primary() ? "p" : "r") + "][" + shard.currentNodeId() + "][" + shard.state() + "]")
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
     private ClusterState initCluster(AllocationService strategy) {
         Metadata.Builder metadataBuilder = Metadata.builder();
         RoutingTable.Builder routingTableBuilder = RoutingTable.builder();
@@ -283,6 +359,11 @@ public class BalanceConfigurationTests extends OpenSearchAllocationTestCase {
         assertThat(allocator.getIndexBalance(), Matchers.equalTo(0.5f));
         assertThat(allocator.getShardBalance(), Matchers.equalTo(0.1f));
         assertThat(allocator.getThreshold(), Matchers.equalTo(3.0f));
+        assertThat(allocator.getParallelism(), Matchers.equalTo(1));
+
+        settings.put(BalancedShardsAllocator.PARALLELISM_SETTING.getKey(), 4);
+        service.applySettings(settings.build());
+        assertThat(allocator.getParallelism(), Matchers.equalTo(4));
     }
 
     public void testNoRebalanceOnPrimaryOverload() {
@@ -60,6 +60,7 @@ import java.util.stream.Collectors;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasToString;
 
 public class TaskBatcherTests extends TaskExecutorTests {
@@ -196,6 +197,85 @@ public class TaskBatcherTests extends TaskExecutorTests {
         assertThat(executionOrder, equalTo(Arrays.asList("A0", "A1", "A2", "B3", "B4", "A5", "A6")));
     }
 
+    public void testStarvedBatchIsExecutedAheadOfHigherPriorities() throws InterruptedException {
+        final boolean starvationThresholdEnabled = randomBoolean();
+        taskBatcher.setStarvationThreshold(starvationThresholdEnabled ? TimeValue.ZERO : TimeValue.MINUS_ONE);
+        final List<String> executionOrder = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch latch = new CountDownLatch(3);
+        final TestExecutor<String> executorLow = executionOrder::addAll;
+        final TestExecutor<String> executorHigh = executionOrder::addAll;
+        final TestListener listener = new TestListener() {
+            @Override
+            public void onFailure(String source, Exception e) {
+                throw new AssertionError(e);
+            }
+
+            @Override
+            public void processed(String source) {
+                latch.countDown();
+            }
+        };
+
+        try (BlockingTask blockingTask = new BlockingTask(Priority.IMMEDIATE)) {
+            submitTask("blocking", blockingTask);
+            submitTask("low", "L1", ClusterStateTaskConfig.build(Priority.LOW), executorLow, listener);
+            // make sure that the low priority task is older than the threshold
+            Thread.sleep(10);
+            submitTask("high", "H1", ClusterStateTaskConfig.build(Priority.HIGH), executorHigh, listener);
+            submitTask("high", "H2", ClusterStateTaskConfig.build(Priority.HIGH), executorHigh, listener);
+        }
+        latch.await();
+
+        final ClusterStateUpdateTaskStats stats = taskBatcher.stats();
+        if (starvationThresholdEnabled) {
+            assertThat(executionOrder, equalTo(Arrays.asList("L1", "H1", "H2")));
+            assertEquals(1, stats.getStarvedBatchCount());
+        } else {
+            assertThat(executionOrder, equalTo(Arrays.asList("H1", "H2", "L1")));
+            assertEquals(0, stats.getStarvedBatchCount());
+        }
+        final ClusterStateUpdateTaskStats.QueueTimeStats lowStats = stats.getQueueTimePerSource().get("low");
+        assertEquals(1, lowStats.getCount());
+        assertThat(lowStats.getMaxQueueTimeInMillis(), greaterThanOrEqualTo(10L));
+        final ClusterStateUpdateTaskStats.QueueTimeStats highStats = stats.getQueueTimePerSource().get("high");
+        assertEquals(2, highStats.getCount());
+    }
+
+    public void testQueueTimeSource() {
+        assertEquals("create-index", TaskBatcher.queueTimeSource("create-index [test], cause [api]"));
+        assertEquals("put-mapping", TaskBatcher.queueTimeSource("put-mapping [test/abc123]"));
+        assertEquals("shard-started StartedShardEntry", TaskBatcher.queueTimeSource("shard-started StartedShardEntry{shardId [[test][0]]}"));
+        assertEquals("cluster_reroute", TaskBatcher.queueTimeSource("cluster_reroute(reroute after starting shards)"));
+        assertEquals("elected-as-master", TaskBatcher.queueTimeSource("elected-as-master ([1] nodes joined)"));
+        assertEquals("[test]", TaskBatcher.queueTimeSource("[test]"));
+    }
+
+    public void testQueueTimesOfTooManySourcesAreRecordedTogether() throws InterruptedException {
+        final int sources = TaskBatcher.MAX_QUEUE_TIME_SOURCES + randomIntBetween(1, 10);
+        final CountDownLatch latch = new CountDownLatch(sources);
+        final TestListener listener = new TestListener() {
+            @Override
+            public void onFailure(String source, Exception e) {
+                throw new AssertionError(e);
+            }
+
+            @Override
+            public void processed(String source) {
+                latch.countDown();
+            }
+        };
+        final TestExecutor<Integer> executor = tasks -> {};
+        for (int i = 0; i < sources; i++) {
+            submitTask("source-" + i, i, ClusterStateTaskConfig.build(Priority.NORMAL), executor, listener);
+        }
+        latch.await();
+
+        final Map<String, ClusterStateUpdateTaskStats.QueueTimeStats> queueTimes = taskBatcher.stats().getQueueTimePerSource();
+        assertEquals(TaskBatcher.MAX_QUEUE_TIME_SOURCES + 1, queueTimes.size());
+        assertEquals(sources - TaskBatcher.MAX_QUEUE_TIME_SOURCES, queueTimes.get(TaskBatcher.OTHER_QUEUE_TIME_SOURCES).getCount());
+        assertEquals(sources, queueTimes.values().stream().mapToLong(ClusterStateUpdateTaskStats.QueueTimeStats::getCount).sum());
+    }
+
     static class TaskExecutor implements TestExecutor<Integer> {
         List<Integer> tasks = new ArrayList<>();
 
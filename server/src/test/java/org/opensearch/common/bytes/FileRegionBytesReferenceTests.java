@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.bytes;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class FileRegionBytesReferenceTests extends AbstractBytesReferenceTestCase {
+
+    @Override
+    protected BytesReference newBytesReference(int length) throws IOException {
+        return newBytesReference(length, randomInt(length));
+    }
+
+    @Override
+    protected BytesReference newBytesReferenceWithOffsetOfZero(int length) throws IOException {
+        return newBytesReference(length, 0);
+    }
+
+    private BytesReference newBytesReference(int length, int offset) throws IOException {
+        final Path file = createTempFile();
+        Files.write(file, randomByteArrayOfLength(offset + length + randomInt(10)));
+        final FileRegionBytesReference reference = new FileRegionBytesReference(file, offset, length);
+        assertEquals(length, reference.length());
+        return reference;
+    }
+
+    @Override
+    public void testToBytesRefSharedPage() throws IOException {
+        // FileRegionBytesReference reads a new page each time
+    }
+
+    @Override
+    public void testSliceArrayOffset() throws IOException {
+        // FileRegionBytesReference only reads the bytes of the slice
+    }
+
+    @Override
+    public void testSliceToBytesRef() throws IOException {
+        // FileRegionBytesReference only reads the bytes of the slice
+    }
+
+    public void testReadsTheRegionOfTheFile() throws IOException {
+        final Path file = createTempFile();
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(1, 3 * PAGE_SIZE));
+        Files.write(file, bytes);
+        final int position = randomInt(bytes.length - 1);
+        final int length = randomInt(bytes.length - position);
+        final FileRegionBytesReference reference = new FileRegionBytesReference(file, position, length);
+        assertEquals(new BytesArray(bytes, position, length), reference);
+
+        final int from = randomInt(length);
+        final FileRegionBytesReference slice = (FileRegionBytesReference) reference.slice(from, randomInt(length - from));
+        assertSame(file, slice.file());
+        assertEquals(position + from, slice.position());
+        assertEquals(new BytesArray(bytes, position + from, slice.length()), slice);
+    }
+
+    public void testFailsToReadBeyondTheEndOfTheFile() throws IOException {
+        final Path file = createTempFile();
+        Files.write(file, randomByteArrayOfLength(randomIntBetween(1, 100)));
+        final FileRegionBytesReference reference = new FileRegionBytesReference(file, Files.size(file), 1);
+        expectThrows(UncheckedIOException.class, reference::toBytesRef);
+        expectThrows(IOException.class, () -> reference.iterator().next());
+    }
+}
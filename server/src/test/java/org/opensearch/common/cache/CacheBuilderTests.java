@@ -35,6 +35,8 @@ package org.opensearch.common.cache;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.util.Locale;
+
 import static org.hamcrest.Matchers.containsString;
 
 public class CacheBuilderTests extends OpenSearchTestCase {
@@ -60,4 +62,15 @@ public class CacheBuilderTests extends OpenSearchTestCase {
         Cache<Object, Object> cache = CacheBuilder.builder().setExpireAfterWrite(timeValue).build();
         assertEquals(timeValue.getNanos(), cache.getExpireAfterWriteNanos());
     }
+
+    public void testSettingEvictionPolicy() {
+        expectThrows(NullPointerException.class, () -> CacheBuilder.builder().setEvictionPolicy(null));
+        assertEquals(Cache.EvictionPolicy.LRU, CacheBuilder.builder().build().getEvictionPolicy());
+        final Cache.EvictionPolicy evictionPolicy = randomFrom(Cache.EvictionPolicy.values());
+        Cache<Object, Object> cache = CacheBuilder.builder().setEvictionPolicy(evictionPolicy).build();
+        assertEquals(evictionPolicy, cache.getEvictionPolicy());
+        assertEquals(evictionPolicy, Cache.EvictionPolicy.parse(evictionPolicy.name().toLowerCase(Locale.ROOT)));
+        IllegalArgumentException iae = expectThrows(IllegalArgumentException.class, () -> Cache.EvictionPolicy.parse("fifo"));
+        assertThat(iae.getMessage(), containsString("unknown cache eviction policy [fifo]"));
+    }
 }
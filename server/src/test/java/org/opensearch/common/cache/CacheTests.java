@@ -62,6 +62,8 @@ import java.util.stream.Collectors;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class CacheTests extends OpenSearchTestCase {
     private int numberOfEntries;
@@ -246,7 +248,7 @@ public class CacheTests extends OpenSearchTestCase {
         cache.setExpireAfterAccessNanos(1);
         List<Integer> evictedKeys = new ArrayList<>();
         cache.setRemovalListener(notification -> {
-            assertEquals(RemovalNotification.RemovalReason.EVICTED, notification.getRemovalReason());
+            assertEquals(RemovalNotification.RemovalReason.EXPIRED, notification.getRemovalReason());
             evictedKeys.add(notification.getKey());
         });
         now.set(0);
@@ -305,7 +307,7 @@ public class CacheTests extends OpenSearchTestCase {
         cache.setExpireAfterWriteNanos(1);
         List<Integer> evictedKeys = new ArrayList<>();
         cache.setRemovalListener(notification -> {
-            assertEquals(RemovalNotification.RemovalReason.EVICTED, notification.getRemovalReason());
+            assertEquals(RemovalNotification.RemovalReason.EXPIRED, notification.getRemovalReason());
             evictedKeys.add(notification.getKey());
         });
         now.set(0);
@@ -927,6 +929,121 @@ public class CacheTests extends OpenSearchTestCase {
         assertEquals(500, cache.count());
     }
 
+    // with the TINY_LFU policy, reads are buffered and only promote their entries once the buffers are drained
+    public void testBufferedPromotion() {
+        AtomicLong now = new AtomicLong();
+        Cache<Integer, String> cache = new Cache<Integer, String>() {
+            @Override
+            protected long now() {
+                return now.get();
+            }
+        };
+        cache.setEvictionPolicy(Cache.EvictionPolicy.TINY_LFU);
+        cache.setExpireAfterAccessNanos(1);
+        now.set(0);
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        now.set(1);
+        Set<Integer> promotedKeys = new HashSet<>();
+        for (int i = 0; i < numberOfEntries; i++) {
+            if (rarely()) {
+                assertNotNull(cache.get(i));
+                promotedKeys.add(i);
+            }
+        }
+        now.set(2);
+        cache.refresh();
+        assertEquals(promotedKeys.size(), cache.count());
+        for (int i = 0; i < numberOfEntries; i++) {
+            assertEquals(promotedKeys.contains(i), cache.get(i) != null);
+        }
+    }
+
+    // with the TINY_LFU policy, a new entry only replaces the least recently used entry if its key is accessed more frequently
+    public void testFrequencyBasedAdmission() {
+        final List<RemovalNotification<Integer, String>> removalNotifications = new ArrayList<>();
+        Cache<Integer, String> cache =
+            CacheBuilder.<Integer, String>builder()
+                .setMaximumWeight(10)
+                .setEvictionPolicy(Cache.EvictionPolicy.TINY_LFU)
+                .removalListener(removalNotifications::add)
+                .build();
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 10; i++) {
+                assertNotNull(cache.get(i));
+            }
+        }
+        cache.refresh();
+
+        // the new key was accessed less frequently than the least recently used key so it is not admitted
+        cache.put(10, "10");
+        assertNull(cache.get(10));
+        assertEquals(10, cache.count());
+        assertEquals(1, removalNotifications.size());
+        assertEquals(Integer.valueOf(10), removalNotifications.get(0).getKey());
+        assertEquals(RemovalNotification.RemovalReason.EVICTED, removalNotifications.get(0).getRemovalReason());
+
+        // until it becomes more popular
+        int attempts = 1;
+        while (cache.get(10) == null) {
+            assertThat(attempts++, lessThan(16));
+            cache.put(10, "10");
+        }
+        assertEquals(10, cache.count());
+        assertEquals(attempts, removalNotifications.size());
+        assertNotEquals(Integer.valueOf(10), removalNotifications.get(attempts - 1).getKey());
+    }
+
+    public void testTinyLfuTorture() throws BrokenBarrierException, InterruptedException {
+        int numberOfThreads = randomIntBetween(2, 32);
+        final Cache<Integer, String> cache =
+            CacheBuilder.<Integer, String>builder()
+                .setMaximumWeight(1000)
+                .weigher((k, v) -> 2)
+                .setEvictionPolicy(Cache.EvictionPolicy.TINY_LFU)
+                .build();
+
+        CyclicBarrier barrier = new CyclicBarrier(1 + numberOfThreads);
+        for (int i = 0; i < numberOfThreads; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    barrier.await();
+                    Random random = new Random(random().nextLong());
+                    for (int j = 0; j < numberOfEntries; j++) {
+                        Integer key = random.nextInt(numberOfEntries);
+                        if (random.nextBoolean()) {
+                            cache.put(key, Integer.toString(j));
+                        } else {
+                            cache.get(key);
+                        }
+                    }
+                    barrier.await();
+                } catch (BrokenBarrierException | InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            thread.start();
+        }
+
+        // wait for all threads to be ready
+        barrier.await();
+        // wait for all threads to finish
+        barrier.await();
+
+        cache.refresh();
+        assertThat(cache.count(), lessThanOrEqualTo(500));
+        assertEquals(2L * cache.count(), cache.weight());
+        int keys = 0;
+        for (Integer ignored : cache.keys()) {
+            keys++;
+        }
+        assertEquals(cache.count(), keys);
+    }
+
     public void testRemoveUsingValuesIterator() {
         final List<RemovalNotification<Integer, String>> removalNotifications = new ArrayList<>();
         Cache<Integer, String> cache =
@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class FrequencySketchTests extends OpenSearchTestCase {
+
+    public void testIncrement() {
+        FrequencySketch sketch = new FrequencySketch();
+        int hashCode = randomInt();
+        assertEquals(0, sketch.frequency(hashCode));
+        int increments = randomIntBetween(1, 15);
+        for (int i = 0; i < increments; i++) {
+            sketch.increment(hashCode);
+        }
+        assertThat(sketch.frequency(hashCode), greaterThanOrEqualTo(increments));
+    }
+
+    public void testSaturation() {
+        FrequencySketch sketch = new FrequencySketch();
+        int hashCode = randomInt();
+        for (int i = 0; i < 20; i++) {
+            sketch.increment(hashCode);
+        }
+        assertEquals(15, sketch.frequency(hashCode));
+    }
+
+    public void testReset() {
+        FrequencySketch sketch = new FrequencySketch();
+        int hashCode = randomInt();
+        for (int i = 0; i < 15; i++) {
+            sketch.increment(hashCode);
+        }
+        // the sketch halves all counters once it recorded ten increments per counter of a row
+        for (int i = 0; i < 10 * sketch.capacity(); i++) {
+            sketch.increment(i);
+        }
+        assertThat(sketch.frequency(hashCode), lessThanOrEqualTo(8));
+    }
+
+    public void testEnsureCapacity() {
+        FrequencySketch sketch = new FrequencySketch();
+        assertEquals(16, sketch.capacity());
+        sketch.ensureCapacity(10);
+        assertEquals(16, sketch.capacity());
+        sketch.ensureCapacity(100);
+        assertEquals(128, sketch.capacity());
+        sketch.ensureCapacity(Long.MAX_VALUE);
+        assertEquals(FrequencySketch.MAXIMUM_CAPACITY, sketch.capacity());
+    }
+}
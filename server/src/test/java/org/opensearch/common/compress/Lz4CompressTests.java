@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.compress;
+
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class Lz4CompressTests extends AbstractCompressorTestCase {
+
+    @Override
+    protected Compressor compressor() {
+        return CompressorFactory.LZ4_COMPRESSOR;
+    }
+
+    public void testCompressAndUncompress() throws IOException {
+        final byte[] bytes = randomBoolean() ? randomByteArrayOfLength(randomIntBetween(0, 200_000))
+            : randomRealisticUnicodeOfLength(randomIntBetween(0, 200_000)).getBytes(StandardCharsets.UTF_8);
+        final BytesReference compressed = compressor().compress(new BytesArray(bytes));
+        assertTrue(compressor().isCompressed(compressed));
+        assertFalse(CompressorFactory.COMPRESSOR.isCompressed(compressed));
+        assertEquals(new BytesArray(bytes), compressor().uncompress(compressed));
+    }
+
+    public void testCompressesRepetitiveContent() throws IOException {
+        final StringBuilder json = new StringBuilder("{\"values\":[");
+        for (int i = 0; i < 10_000; i++) {
+            json.append("{\"field\":\"value\",\"number\":").append(i % 10).append("},");
+        }
+        json.append("{}]}");
+        final BytesReference uncompressed = new BytesArray(json.toString());
+        final BytesReference compressed = compressor().compress(uncompressed);
+        assertThat(compressed.length(), lessThan(uncompressed.length() / 10));
+        assertEquals(uncompressed, compressor().uncompress(compressed));
+    }
+
+    public void testFlushWritesPartialBlock() throws IOException {
+        final BytesStreamOutput out = new BytesStreamOutput();
+        final byte[] first = randomByteArrayOfLength(randomIntBetween(1, 100));
+        try (OutputStream os = compressor().threadLocalOutputStream(out)) {
+            os.write(first);
+            os.flush();
+            // everything written so far can be read back before the stream is closed
+            try (InputStream is = compressor().threadLocalInputStream(out.bytes().streamInput())) {
+                final byte[] read = new byte[first.length];
+                int offset = 0;
+                while (offset < read.length) {
+                    offset += is.read(read, offset, read.length - offset);
+                }
+                assertArrayEquals(first, read);
+            }
+            os.write(randomByteArrayOfLength(randomIntBetween(1, 100)));
+        }
+    }
+
+    public void testTruncatedStream() throws IOException {
+        final BytesReference compressed = compressor().compress(new BytesArray(randomByteArrayOfLength(randomIntBetween(1, 100_000))));
+        final byte[] truncated = BytesReference.toBytes(compressed.slice(0, randomIntBetween(compressor().headerLength(),
+            compressed.length() - 1)));
+        try (InputStream is = compressor().threadLocalInputStream(new ByteArrayInputStream(truncated))) {
+            expectThrows(EOFException.class, () -> {
+                while (is.read() != -1) {
+                    // consume
+                }
+            });
+        }
+    }
+
+    public void testNotCompressedWithLz4() throws IOException {
+        final BytesReference deflated = CompressorFactory.COMPRESSOR.compress(new BytesArray(randomByteArrayOfLength(10)));
+        expectThrows(IllegalArgumentException.class, () -> compressor().threadLocalInputStream(deflated.streamInput()));
+    }
+
+    public void testNotDetectedByTheFactory() throws IOException {
+        // LZ4 is only used to publish cluster states, the readers of compressed xcontent don't accept it
+        final BytesReference compressed = compressor().compress(new BytesArray("{\"field\":\"value\"}"));
+        expectThrows(NotXContentException.class, () -> CompressorFactory.compressor(compressed));
+    }
+
+    public void testCompressorForName() {
+        assertThat(CompressorFactory.compressorForName("deflate"), sameInstance(CompressorFactory.COMPRESSOR));
+        assertThat(CompressorFactory.compressorForName("lz4"), sameInstance(CompressorFactory.LZ4_COMPRESSOR));
+        final IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> CompressorFactory.compressorForName("zstd"));
+        assertEquals("unknown compressor [zstd], must be one of [deflate, lz4]", e.getMessage());
+    }
+}
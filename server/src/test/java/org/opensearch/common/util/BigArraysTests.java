@@ -54,6 +54,7 @@ import java.util.function.Function;
 
 import static org.opensearch.indices.breaker.HierarchyCircuitBreakerService.REQUEST_CIRCUIT_BREAKER_LIMIT_SETTING;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.lessThan;
 
@@ -397,6 +398,17 @@ public class BigArraysTests extends OpenSearchTestCase {
         }
     }
 
+    public void testWithoutCircuitBreakerNeitherBreaksNorAccounts() {
+        final long maxSize = randomIntBetween(1 << 10, 1 << 16);
+        final BigArrays bigArrays = newBigArraysInstance(maxSize, randomBoolean());
+        final CircuitBreaker breaker = bigArrays.breakerService().getBreaker(CircuitBreaker.REQUEST);
+        try (LongArray array = bigArrays.withoutCircuitBreaker().newLongArray(maxSize)) {
+            assertThat(array.ramBytesUsed(), greaterThan(maxSize));
+            assertEquals(0, breaker.getUsed());
+        }
+        assertEquals(0, breaker.getUsed());
+    }
+
     public void testEstimatedBytesSameAsActualBytes() throws Exception {
         final int maxSize = 1 << scaledRandomIntBetween(15, 22);
         final long size = randomIntBetween((1 << 14) + 1, maxSize);
@@ -32,6 +32,7 @@
 
 package org.opensearch.common.xcontent.support;
 
+import org.opensearch.OpenSearchParseException;
 import org.opensearch.common.Strings;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.collect.Tuple;
@@ -85,6 +86,9 @@ public class XContentMapValuesTests extends AbstractFilteringTestCase {
         assertEquals("Filtered map must be equal to the expected map",
                 toMap(expected, xContentType, humanReadable),
                 XContentMapValues.filter(toMap(actual, xContentType, humanReadable), sourceIncludes, sourceExcludes));
+        assertEquals("Streaming filtered map must be equal to the expected map",
+                toMap(expected, xContentType, humanReadable),
+                streamingFilter(toBytes(actual, xContentType, humanReadable), xContentType, sourceIncludes, sourceExcludes));
     }
 
     @SuppressWarnings({"unchecked"})
@@ -610,8 +614,75 @@ public class XContentMapValuesTests extends AbstractFilteringTestCase {
         assertEquals(expected, filtered);
     }
 
-    private static Map<String, Object> toMap(Builder test, XContentType xContentType, boolean humanReadable) throws IOException {
+    public void testStreamingFilterKeepsTheSameProperties() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject()
+                .field("field", "value")
+                .field("field.dotted", "value")
+                .startObject("empty").endObject()
+                .startArray("empty_array").endArray()
+                .startObject("obj")
+                    .field("f1", "v1")
+                    .startObject("inner").field("f2", "v2").endObject()
+                    .startArray("array")
+                        .startObject().field("f3", "v3").field("f4", "v4").endObject()
+                        .startArray().value(1).value(2).endArray()
+                        .value(3)
+                    .endArray()
+                .endObject()
+                .endObject();
+        BytesReference source = BytesReference.bytes(builder);
+        Map<String, Object> map = convertToMap(source, true, XContentType.JSON).v2();
+        List<String> paths = Arrays.asList("field", "field.*", "empty", "empty_array", "obj", "obj.*", "obj.f1", "obj.inner",
+            "obj.inner.f2", "obj.array", "obj.array.f3", "*.f4", "o*", "*", "missing");
+        for (int i = 0; i < 100; i++) {
+            String[] includes = randomSubsetOf(paths).toArray(Strings.EMPTY_ARRAY);
+            String[] excludes = randomSubsetOf(paths).toArray(Strings.EMPTY_ARRAY);
+            assertEquals("includes " + Arrays.toString(includes) + " excludes " + Arrays.toString(excludes),
+                XContentMapValues.filter(map, includes, excludes),
+                streamingFilter(source, XContentType.JSON, includes, excludes));
+        }
+    }
+
+    public void testStreamingFilterKeepsTheSourceOrder() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject()
+                .field("c", 1)
+                .field("a", 2)
+                .startObject("b").field("z", 3).field("y", 4).field("x", 5).endObject()
+                .endObject();
+        XContentBuilder filtered = XContentFactory.jsonBuilder();
+        try (XContentParser parser = createParser(JsonXContent.jsonXContent, BytesReference.bytes(builder))) {
+            parser.nextToken();
+            XContentMapValues.streamingFilter(new String[] {"c", "a", "b"}, new String[] {"b.y"}).accept(parser, filtered);
+        }
+        assertEquals("{\"c\":1,\"a\":2,\"b\":{\"z\":3,\"x\":5}}", Strings.toString(filtered));
+    }
+
+    public void testStreamingFilterRequiresAnObject() throws IOException {
+        try (XContentParser parser = createParser(JsonXContent.jsonXContent, "[1, 2]")) {
+            parser.nextToken();
+            expectThrows(OpenSearchParseException.class, () -> XContentMapValues.streamingFilter(new String[] {"field"}, null)
+                .accept(parser, XContentFactory.jsonBuilder()));
+        }
+    }
+
+    private Map<String, Object> streamingFilter(BytesReference source, XContentType xContentType,
+                                                String[] includes, String[] excludes) throws IOException {
+        XContentBuilder builder = XContentBuilder.builder(xContentType.xContent());
+        try (XContentParser parser = createParser(xContentType.xContent(), source)) {
+            parser.nextToken();
+            XContentMapValues.streamingFilter(includes, excludes).accept(parser, builder);
+            assertEquals(XContentParser.Token.END_OBJECT, parser.currentToken());
+            assertNull(parser.nextToken());
+        }
+        return convertToMap(BytesReference.bytes(builder), true, xContentType).v2();
+    }
+
+    private static BytesReference toBytes(Builder test, XContentType xContentType, boolean humanReadable) throws IOException {
         ToXContentObject toXContent = (builder, params) -> test.apply(builder);
-        return convertToMap(toXContent(toXContent, xContentType, humanReadable), true, xContentType).v2();
+        return toXContent(toXContent, xContentType, humanReadable);
+    }
+
+    private static Map<String, Object> toMap(Builder test, XContentType xContentType, boolean humanReadable) throws IOException {
+        return convertToMap(toBytes(test, xContentType, humanReadable), true, xContentType).v2();
     }
 }
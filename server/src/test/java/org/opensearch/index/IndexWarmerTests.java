@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index;
+
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.fielddata.IndexFieldDataService;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.warmer.WarmerStats;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.test.OpenSearchSingleNodeTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.concurrent.CountDownLatch;
+
+public class IndexWarmerTests extends OpenSearchSingleNodeTestCase {
+
+    private WarmerStats warm(IndexService indexService, IndexWarmer.Listener listener) {
+        final IndexShard shard = indexService.getShard(0);
+        final IndicesService indicesService = getInstanceFromNode(IndicesService.class);
+        final IndexFieldDataService indexFieldDataService = new IndexFieldDataService(indexService.getIndexSettings(),
+            indicesService.getIndicesFieldDataCache(), indicesService.getCircuitBreakerService(), indexService.mapperService());
+        final IndexWarmer warmer = new IndexWarmer(getInstanceFromNode(ThreadPool.class), indexFieldDataService, listener);
+        try (Engine.Searcher searcher = shard.acquireSearcher("test")) {
+            warmer.warm((OpenSearchDirectoryReader) searcher.getDirectoryReader(), shard, indexService.getIndexSettings());
+        }
+        return shard.warmerService().stats();
+    }
+
+    public void testWaitsForTheWarmersByDefault() {
+        final IndexService indexService = createIndex("test");
+        final WarmerStats before = indexService.getShard(0).warmerService().stats();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final WarmerStats stats = warm(indexService, (indexShard, reader) -> {
+            new Thread(latch::countDown).start();
+            return IndexWarmer.TerminationHandle.of(latch);
+        });
+        assertEquals(0, latch.getCount());
+        assertEquals(0, stats.current());
+        assertEquals(before.total() + 1, stats.total());
+        assertEquals(before.backgroundTotal(), stats.backgroundTotal());
+    }
+
+    public void testCompletesTheWarmersInTheBackgroundAfterTheMaxStaleness() throws Exception {
+        final IndexService indexService = createIndex("test", Settings.builder()
+            .put(IndexSettings.INDEX_WARMER_MAX_STALENESS_SETTING.getKey(), TimeValue.timeValueMillis(10))
+            .build());
+        final IndexShard shard = indexService.getShard(0);
+        final WarmerStats before = shard.warmerService().stats();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final OpenSearchDirectoryReader[] warmedReader = new OpenSearchDirectoryReader[1];
+        final int[] refCount = new int[1];
+        final WarmerStats stats = warm(indexService, (indexShard, reader) -> {
+            warmedReader[0] = reader;
+            refCount[0] = reader.getRefCount();
+            return IndexWarmer.TerminationHandle.of(latch);
+        });
+        assertEquals(1, stats.current());
+        assertEquals(before.total(), stats.total());
+        // the searcher has been released but the reader is retained until the warmers complete
+        assertEquals(refCount[0] - 1, warmedReader[0].getRefCount());
+
+        latch.countDown();
+        assertBusy(() -> {
+            final WarmerStats completed = shard.warmerService().stats();
+            assertEquals(0, completed.current());
+            assertEquals(before.total() + 1, completed.total());
+            assertEquals(before.backgroundTotal() + 1, completed.backgroundTotal());
+        });
+        assertEquals(refCount[0] - 2, warmedReader[0].getRefCount());
+    }
+
+    public void testDoesNotCompleteInTheBackgroundWarmersThatCompleteInTime() {
+        final IndexService indexService = createIndex("test", Settings.builder()
+            .put(IndexSettings.INDEX_WARMER_MAX_STALENESS_SETTING.getKey(), TimeValue.timeValueMinutes(1))
+            .build());
+        final WarmerStats before = indexService.getShard(0).warmerService().stats();
+        final WarmerStats stats = warm(indexService, (indexShard, reader) -> IndexWarmer.TerminationHandle.NO_WAIT);
+        assertEquals(0, stats.current());
+        assertEquals(before.total() + 1, stats.total());
+        assertEquals(before.backgroundTotal(), stats.backgroundTotal());
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index;
+
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.stats.ShardIndexingPressureStats;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+public class ShardIndexingPressureTests extends OpenSearchTestCase {
+
+    private static final long NODE_LIMIT = 10 * 1024;
+
+    private final ShardId shardId = new ShardId("index", "uuid", 0);
+    private final ShardId otherShardId = new ShardId("index", "uuid", 1);
+    private final AtomicLong nanoTime = new AtomicLong(randomNonNegativeLong() / 2);
+
+    private ShardIndexingPressure newShardIndexingPressure(Settings settings) {
+        final Settings nodeSettings = Settings.builder()
+            .put(ShardIndexingPressure.SHARD_INDEXING_PRESSURE_ENABLED.getKey(), true)
+            .put(ShardIndexingPressure.SHARD_MIN_LIMIT.getKey(), 0.01)
+            .put(settings)
+            .build();
+        return new ShardIndexingPressure(nodeSettings, new ClusterSettings(nodeSettings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            NODE_LIMIT, (long) (NODE_LIMIT * 1.5), nanoTime::get);
+    }
+
+    public void testDisabledByDefault() {
+        final IndexingPressure indexingPressure = new IndexingPressure(Settings.EMPTY);
+        try (Releasable primary = indexingPressure.markPrimaryOperationStarted(shardId, 10, false);
+             Releasable replica = indexingPressure.markReplicaOperationStarted(shardId, 10, false)) {
+            assertEquals(10, indexingPressure.stats().getCurrentPrimaryBytes());
+            final ShardIndexingPressureStats stats = indexingPressure.shardStats();
+            assertFalse(stats.isEnabled());
+            assertTrue(stats.getShardStats().isEmpty());
+        }
+    }
+
+    public void testBytesMarkedAndReleased() {
+        final ShardIndexingPressure shardIndexingPressure = newShardIndexingPressure(Settings.EMPTY);
+        try (Releasable primary = shardIndexingPressure.markPrimaryOperationStarted(shardId, 10, false, 10);
+             Releasable primary2 = shardIndexingPressure.markPrimaryOperationLocalToCoordinatingNodeStarted(shardId, 15);
+             Releasable replica = shardIndexingPressure.markReplicaOperationStarted(shardId, 20, false, 20);
+             Releasable otherPrimary = shardIndexingPressure.markPrimaryOperationStarted(otherShardId, 5, false, 25)) {
+            final ShardIndexingPressureStats stats = shardIndexingPressure.stats();
+            assertTrue(stats.isEnabled());
+            assertEquals(2, stats.getShardStats().size());
+            final ShardIndexingPressureStats.ShardStats shardStats = stats.getShardStats().get(shardId);
+            assertEquals(25, shardStats.getPrimary().getCurrentBytes());
+            assertEquals(2, shardStats.getPrimary().getOutstandingRequests());
+            assertEquals(20, shardStats.getReplica().getCurrentBytes());
+            assertEquals(5, stats.getShardStats().get(otherShardId).getPrimary().getCurrentBytes());
+        }
+        final ShardIndexingPressureStats.ShardStats shardStats = shardIndexingPressure.stats().getShardStats().get(shardId);
+        assertEquals(0, shardStats.getPrimary().getCurrentBytes());
+        assertEquals(25, shardStats.getPrimary().getTotalBytes());
+        assertEquals(0, shardStats.getPrimary().getOutstandingRequests());
+        assertEquals(0, shardStats.getReplica().getCurrentBytes());
+        assertEquals(20, shardStats.getReplica().getTotalBytes());
+    }
+
+    public void testLimitFollowsTheLoadOfTheShard() {
+        final ShardIndexingPressure shardIndexingPressure = newShardIndexingPressure(Settings.EMPTY);
+        final long minLimit = NODE_LIMIT / 100;
+        try (Releasable primary = shardIndexingPressure.markPrimaryOperationStarted(shardId, 10, false, 10)) {
+            assertEquals(minLimit, shardIndexingPressure.stats().getShardStats().get(shardId).getPrimary().getLimit());
+        }
+        // the node is below its soft limit, so the shard gets a larger limit instead of being rejected
+        try (Releasable primary = shardIndexingPressure.markPrimaryOperationStarted(shardId, 1000, false, 1000)) {
+            assertThat(shardIndexingPressure.stats().getShardStats().get(shardId).getPrimary().getLimit(),
+                greaterThanOrEqualTo((long) (1000 / 0.85)));
+        }
+        assertEquals(minLimit, shardIndexingPressure.stats().getShardStats().get(shardId).getPrimary().getLimit());
+    }
+
+    public void testShardWithoutSuccessfulRequestsIsRejected() {
+        final ShardIndexingPressure shardIndexingPressure = newShardIndexingPressure(Settings.builder()
+            .put(ShardIndexingPressure.MAX_OUTSTANDING_REQUESTS.getKey(), 1)
+            .put(ShardIndexingPressure.SUCCESSFUL_REQUEST_ELAPSED_TIMEOUT.getKey(), TimeValue.timeValueSeconds(10))
+            .build());
+        final long nodeBytesUnderPressure = NODE_LIMIT - 1;
+        try (Releasable primary = shardIndexingPressure.markPrimaryOperationStarted(shardId, 80, false, nodeBytesUnderPressure);
+             Releasable replica = shardIndexingPressure.markReplicaOperationStarted(shardId, 80, false,
+                 (long) (NODE_LIMIT * 1.5) - 1)) {
+            nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(11));
+
+            // exceeding the limit is fine as long as the node has room to spare
+            shardIndexingPressure.markPrimaryOperationStarted(shardId, 1000, false, 1000).close();
+            // or if the operation must be executed
+            shardIndexingPressure.markPrimaryOperationStarted(shardId, 1000, true, nodeBytesUnderPressure).close();
+
+            nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(11));
+            OpenSearchRejectedExecutionException e = expectThrows(OpenSearchRejectedExecutionException.class,
+                () -> shardIndexingPressure.markPrimaryOperationStarted(shardId, 1000, false, nodeBytesUnderPressure));
+            assertThat(e.getMessage(), containsString("last_successful_request"));
+            e = expectThrows(OpenSearchRejectedExecutionException.class,
+                () -> shardIndexingPressure.markReplicaOperationStarted(shardId, 2000, false, (long) (NODE_LIMIT * 1.5) - 1));
+            assertThat(e.getMessage(), containsString("last_successful_request"));
+
+            // shards that keep up are not rejected
+            shardIndexingPressure.markPrimaryOperationStarted(otherShardId, 1000, false, nodeBytesUnderPressure).close();
+
+            final ShardIndexingPressureStats stats = shardIndexingPressure.stats();
+            assertEquals(2, stats.getTotalRejections());
+            final ShardIndexingPressureStats.ShardStats shardStats = stats.getShardStats().get(shardId);
+            assertEquals(80, shardStats.getPrimary().getCurrentBytes());
+            assertEquals(1, shardStats.getPrimary().getRejections());
+            assertEquals(1, shardStats.getPrimary().getLastSuccessfulRequestRejections());
+            assertEquals(1, shardStats.getReplica().getRejections());
+            assertEquals(0, stats.getShardStats().get(otherShardId).getPrimary().getRejections());
+        }
+    }
+
+    public void testShardWithDegradedThroughputIsRejected() {
+        final ShardIndexingPressure shardIndexingPressure = newShardIndexingPressure(Settings.builder()
+            .put(ShardIndexingPressure.THROUGHPUT_REQUEST_WINDOW.getKey(), 4)
+            .build());
+        final long nodeBytesUnderPressure = NODE_LIMIT - 1;
+        for (int i = 0; i < 1000; i++) {
+            try (Releasable primary = shardIndexingPressure.markPrimaryOperationStarted(shardId, 100, false, 100)) {
+                nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        }
+        // a shard that keeps up gets a larger limit when it exceeds its limit
+        try (Releasable primary = shardIndexingPressure.markPrimaryOperationStarted(shardId, 1000, false, nodeBytesUnderPressure)) {
+            nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+
+        for (int i = 0; i < 8; i++) {
+            try (Releasable primary = shardIndexingPressure.markPrimaryOperationStarted(shardId, 100, false, 100)) {
+                nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+            }
+        }
+        final OpenSearchRejectedExecutionException e = expectThrows(OpenSearchRejectedExecutionException.class,
+            () -> shardIndexingPressure.markPrimaryOperationStarted(shardId, 1000, false, nodeBytesUnderPressure));
+        assertThat(e.getMessage(), containsString("throughput_degradation"));
+        // a small request still fits into the limit of the shard
+        shardIndexingPressure.markPrimaryOperationStarted(shardId, 10, false, nodeBytesUnderPressure).close();
+
+        final ShardIndexingPressureStats.OperationStats stats = shardIndexingPressure.stats().getShardStats().get(shardId).getPrimary();
+        assertEquals(1, stats.getRejections());
+        assertEquals(1, stats.getThroughputDegradationRejections());
+        assertEquals(0, stats.getCurrentBytes());
+    }
+
+    public void testRejectionReleasesNodeBytes() {
+        final Settings settings = Settings.builder()
+            .put(IndexingPressure.MAX_INDEXING_BYTES.getKey(), "10KB")
+            .put(ShardIndexingPressure.SHARD_INDEXING_PRESSURE_ENABLED.getKey(), true)
+            .put(ShardIndexingPressure.MAX_OUTSTANDING_REQUESTS.getKey(), 1)
+            .put(ShardIndexingPressure.SUCCESSFUL_REQUEST_ELAPSED_TIMEOUT.getKey(), TimeValue.timeValueNanos(1))
+            .build();
+        final IndexingPressure indexingPressure = new IndexingPressure(settings);
+        try (Releasable coordinating = indexingPressure.markCoordinatingOperationStarted(8 * 1024, false);
+             Releasable primary = indexingPressure.markPrimaryOperationStarted(shardId, 10, false)) {
+            expectThrows(OpenSearchRejectedExecutionException.class,
+                () -> indexingPressure.markPrimaryOperationStarted(shardId, 1024, false));
+            assertEquals(8 * 1024 + 10, indexingPressure.getCurrentCombinedCoordinatingAndPrimaryBytes());
+            assertEquals(10, indexingPressure.getCurrentPrimaryBytes());
+            assertEquals(0, indexingPressure.stats().getPrimaryRejections());
+            assertEquals(1, indexingPressure.shardStats().getTotalRejections());
+        }
+        assertEquals(0, indexingPressure.getCurrentCombinedCoordinatingAndPrimaryBytes());
+        assertEquals(0, indexingPressure.shardStats().getShardStats().get(shardId).getPrimary().getCurrentBytes());
+    }
+
+    public void testDisablingForgetsTheShards() {
+        final Settings settings = Settings.builder().put(ShardIndexingPressure.SHARD_INDEXING_PRESSURE_ENABLED.getKey(), true).build();
+        final ClusterSettings clusterSettings = new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final IndexingPressure indexingPressure = new IndexingPressure(settings, clusterSettings);
+        final Releasable primary = indexingPressure.markPrimaryOperationStarted(shardId, 10, false);
+        assertEquals(1, indexingPressure.shardStats().getShardStats().size());
+
+        clusterSettings.applySettings(Settings.builder().put(ShardIndexingPressure.SHARD_INDEXING_PRESSURE_ENABLED.getKey(), false)
+            .build());
+        assertTrue(indexingPressure.shardStats().getShardStats().isEmpty());
+        primary.close();
+        assertEquals(0, indexingPressure.getCurrentPrimaryBytes());
+        assertTrue(indexingPressure.shardStats().getShardStats().isEmpty());
+    }
+
+    public void testIdleShardsAreForgotten() {
+        final ShardIndexingPressure shardIndexingPressure = newShardIndexingPressure(Settings.EMPTY);
+        final Releasable inFlight = shardIndexingPressure.markPrimaryOperationStarted(otherShardId, 10, false, 10);
+        shardIndexingPressure.markPrimaryOperationStarted(shardId, 10, false, 10).close();
+        nanoTime.addAndGet(ShardIndexingPressure.IDLE_TRACKER_TIMEOUT_NANOS + 1);
+        shardIndexingPressure.markPrimaryOperationStarted(new ShardId("other", "uuid", 0), 10, false, 10).close();
+
+        final ShardIndexingPressureStats stats = shardIndexingPressure.stats();
+        assertEquals(2, stats.getShardStats().size());
+        assertFalse(stats.getShardStats().containsKey(shardId));
+        assertTrue(stats.getShardStats().containsKey(otherShardId));
+        inFlight.close();
+    }
+}
@@ -41,6 +41,7 @@ import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.appender.AbstractAppender;
 import org.apache.logging.log4j.core.filter.RegexFilter;
 import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
@@ -3973,6 +3974,86 @@ public class InternalEngineTests extends EngineTestCase {
         assertLuceneOperations(engine, numDocs, 0, 0);
     }
 
+    public void testIndexBatch() throws IOException {
+        // the retry makes the appends with older timestamps go through the version map
+        final long maxUnsafeAutoIdTimestamp = randomLongBetween(10, 100);
+        final ParsedDocument retried = testParsedDocument("retried", null, testDocumentWithTextField(), B_1, null);
+        engine.index(appendOnlyPrimary(retried, true, maxUnsafeAutoIdTimestamp));
+
+        final int numOperations = randomIntBetween(1, 50);
+        final List<Engine.Index> operations = new ArrayList<>();
+        for (int i = 0; i < numOperations; i++) {
+            final ParsedDocument doc = testParsedDocument(Integer.toString(i), null, testDocumentWithTextField(), B_1, null);
+            switch (randomInt(2)) {
+                case 0:
+                    operations.add(appendOnlyPrimary(doc, false, maxUnsafeAutoIdTimestamp + 1 + i));
+                    break;
+                case 1:
+                    operations.add(appendOnlyPrimary(doc, false, randomLongBetween(0, maxUnsafeAutoIdTimestamp)));
+                    break;
+                default:
+                    operations.add(indexForDoc(doc));
+                    break;
+            }
+        }
+        final List<Engine.IndexResult> results = engine.indexBatch(operations);
+        assertThat(results, hasSize(numOperations));
+        final Set<Long> seqNos = new HashSet<>();
+        for (int i = 0; i < numOperations; i++) {
+            final Engine.IndexResult result = results.get(i);
+            assertThat(result.getResultType(), equalTo(Engine.Result.Type.SUCCESS));
+            assertTrue(result.isCreated());
+            assertThat(result.getVersion(), equalTo(1L));
+            assertTrue(seqNos.add(result.getSeqNo()));
+            final Translog.Operation operation = getTranslog(engine).readOperation(result.getTranslogLocation());
+            assertThat(operation.seqNo(), equalTo(result.getSeqNo()));
+            assertThat(((Translog.Index) operation).id(), equalTo(operations.get(i).id()));
+        }
+        assertThat(engine.getProcessedLocalCheckpoint(), equalTo((long) numOperations));
+        assertLuceneOperations(engine, numOperations + 1, 0, 0);
+        engine.refresh("test");
+        try (Engine.Searcher searcher = engine.acquireSearcher("test")) {
+            assertEquals(numOperations + 1, searcher.count(new MatchAllDocsQuery()));
+        }
+        try (Translog.Snapshot snapshot = getTranslog(engine).newSnapshot()) {
+            assertThat(snapshot.totalOperations(), equalTo(numOperations + 1));
+        }
+    }
+
+    public void testIndexBatchWithDocumentFailure() throws IOException {
+        final int numOperations = randomIntBetween(2, 20);
+        final int failing = randomInt(numOperations - 1);
+        final List<Engine.Index> operations = new ArrayList<>();
+        for (int i = 0; i < numOperations; i++) {
+            final ParseContext.Document document = testDocumentWithTextField();
+            if (i == failing) {
+                // Lucene rejects immense terms, which is a document failure
+                document.add(new StringField("immense", randomAlphaOfLength(IndexWriter.MAX_TERM_LENGTH + 1), Field.Store.NO));
+            }
+            final ParsedDocument doc = testParsedDocument(Integer.toString(i), null, document, B_1, null);
+            operations.add(appendOnlyPrimary(doc, false, i));
+        }
+        final List<Engine.IndexResult> results = engine.indexBatch(operations);
+        assertThat(results, hasSize(numOperations));
+        for (int i = 0; i < numOperations; i++) {
+            final Engine.IndexResult result = results.get(i);
+            assertThat(result.getSeqNo(), equalTo((long) i));
+            assertNotNull(result.getTranslogLocation());
+            if (i == failing) {
+                assertThat(result.getResultType(), equalTo(Engine.Result.Type.FAILURE));
+                assertThat(result.getFailure(), instanceOf(IllegalArgumentException.class));
+                assertThat(getTranslog(engine).readOperation(result.getTranslogLocation()), instanceOf(Translog.NoOp.class));
+            } else {
+                assertThat(result.getResultType(), equalTo(Engine.Result.Type.SUCCESS));
+            }
+        }
+        assertThat(engine.getProcessedLocalCheckpoint(), equalTo((long) numOperations - 1));
+        engine.refresh("test");
+        try (Engine.Searcher searcher = engine.acquireSearcher("test")) {
+            assertEquals(numOperations - 1, searcher.count(new MatchAllDocsQuery()));
+        }
+    }
+
     public static long getNumVersionLookups(InternalEngine engine) { // for other tests to access this
         return engine.getNumVersionLookups();
     }
@@ -38,7 +38,12 @@ import org.apache.lucene.util.Constants;
 import org.apache.lucene.util.RamUsageTester;
 import org.apache.lucene.util.TestUtil;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.MockBigArrays;
+import org.opensearch.common.util.MockPageCacheRecycler;
 import org.opensearch.index.translog.Translog;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
@@ -106,7 +111,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testRefreshingBytes() throws IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = newLiveVersionMap();
         BytesRefBuilder uid = new BytesRefBuilder();
         uid.copyChars(TestUtil.randomSimpleString(random(), 10, 20));
         try (Releasable r = map.acquireLock(uid.toBytesRef())) {
@@ -126,7 +131,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testBasics() throws IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = newLiveVersionMap();
         try (Releasable r = map.acquireLock(uid("test"))) {
             Translog.Location tlogLoc = randomTranslogLocation();
             map.putIndexUnderLock(uid("test"), new IndexVersionValue(tlogLoc, 1, 1, 1));
@@ -158,7 +163,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         List<BytesRef> keyList = new ArrayList<>(keySet);
         ConcurrentHashMap<BytesRef, VersionValue> values = new ConcurrentHashMap<>();
         ConcurrentHashMap<BytesRef, DeleteVersionValue> deletes = new ConcurrentHashMap<>();
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = newLiveVersionMap();
         int numThreads = randomIntBetween(2, 5);
 
         Thread[] threads = new Thread[numThreads];
@@ -286,7 +291,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testCarryOnSafeAccess() throws IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = newLiveVersionMap();
         assertFalse(map.isUnsafe());
         assertFalse(map.isSafeAccessRequired());
         map.enforceSafeAccess();
@@ -318,7 +323,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testRefreshTransition() throws IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = newLiveVersionMap();
         try (Releasable r = map.acquireLock(uid("1"))) {
             map.maybePutIndexUnderLock(uid("1"), randomIndexVersionValue());
             assertTrue(map.isUnsafe());
@@ -346,7 +351,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testAddAndDeleteRefreshConcurrently() throws IOException, InterruptedException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = newLiveVersionMap();
         int numIters = randomIntBetween(1000, 5000);
         AtomicBoolean done = new AtomicBoolean(false);
         AtomicLong version = new AtomicLong();
@@ -403,7 +408,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testPruneTombstonesWhileLocked() throws InterruptedException, IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = newLiveVersionMap();
         BytesRef uid = uid("1");
 
         try (Releasable ignore = map.acquireLock(uid)) {
@@ -426,7 +431,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testRandomlyIndexDeleteAndRefresh() throws Exception {
-        final LiveVersionMap versionMap = new LiveVersionMap();
+        final LiveVersionMap versionMap = newLiveVersionMap();
         final BytesRef uid = uid("1");
         final long versions = between(10, 1000);
         VersionValue latestVersion = null;
@@ -459,6 +464,43 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         }
     }
 
+    public void testPagedRamBytesUsed() throws Exception {
+        final LiveVersionMap map = new LiveVersionMap(
+            new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService()));
+        assertEquals(0, map.ramBytesUsed());
+        final int numDocs = randomIntBetween(1000, 10000);
+        long uidBytes = 0;
+        for (int i = 0; i < numDocs; ++i) {
+            final BytesRef uid = uid(Integer.toString(i));
+            uidBytes += uid.length;
+            try (Releasable r = map.acquireLock(uid)) {
+                map.putIndexUnderLock(uid, randomIndexVersionValue());
+            }
+        }
+        final long ramBytesUsed = map.ramBytesUsed();
+        // at least the uids and the six longs of each value
+        assertThat(ramBytesUsed, greaterThan(uidBytes + numDocs * 6L * Long.BYTES));
+        assertEquals(ramBytesUsed, map.ramBytesUsedForRefresh());
+
+        map.beforeRefresh();
+        assertEquals(ramBytesUsed, map.getRefreshingBytes());
+        assertEquals(0, map.ramBytesUsedForRefresh());
+        map.afterRefresh(randomBoolean());
+        assertEquals(0, map.getRefreshingBytes());
+        assertEquals(0, map.ramBytesUsed());
+
+        try (Releasable r = map.acquireLock(uid("1"))) {
+            map.putIndexUnderLock(uid("1"), randomIndexVersionValue());
+        }
+        // releases the pages, which is checked by the mock big arrays
+        map.clear();
+        assertEquals(0, map.ramBytesUsed());
+    }
+
+    private LiveVersionMap newLiveVersionMap() {
+        return randomBoolean() ? new LiveVersionMap() : new LiveVersionMap(BigArrays.NON_RECYCLING_INSTANCE);
+    }
+
     IndexVersionValue randomIndexVersionValue() {
         return new IndexVersionValue(randomTranslogLocation(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong());
     }
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.MockBigArrays;
+import org.opensearch.common.util.MockPageCacheRecycler;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.greaterThan;
+
+public class PagedVersionMapTests extends OpenSearchTestCase {
+
+    private PagedVersionMap newMap() {
+        return new PagedVersionMap(new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService()),
+            randomIntBetween(0, 100));
+    }
+
+    public void testPutGetRemove() {
+        try (PagedVersionMap map = newMap()) {
+            final Map<BytesRef, VersionValue> expected = new HashMap<>();
+            final int numOps = randomIntBetween(1, 10000);
+            for (int i = 0; i < numOps; i++) {
+                final BytesRef uid = new BytesRef(Integer.toString(randomIntBetween(0, 1000)));
+                if (rarely()) {
+                    assertEquals(expected.remove(uid), map.remove(uid));
+                } else {
+                    final IndexVersionValue value = new IndexVersionValue(randomTranslogLocation(), randomNonNegativeLong(),
+                        randomNonNegativeLong(), randomNonNegativeLong());
+                    assertEquals(expected.put(uid, value), map.put(uid, value));
+                }
+                assertEquals(expected.get(uid), map.get(uid));
+                assertEquals(expected.size(), map.size());
+                assertEquals(expected.isEmpty(), map.isEmpty());
+            }
+            assertEquals(expected, new HashMap<>(map));
+            assertNull(map.get(new BytesRef("unknown")));
+            assertNull(map.remove(new BytesRef("unknown")));
+        }
+    }
+
+    public void testRamBytesUsed() {
+        final PagedVersionMap map = newMap();
+        try {
+            assertEquals(0, map.ramBytesUsed());
+            final int numUids = randomIntBetween(1, 100);
+            for (int i = 0; i < numUids; i++) {
+                map.put(new BytesRef(Integer.toString(i)), new IndexVersionValue(randomTranslogLocation(), 1, 1, 1));
+            }
+            assertThat(map.ramBytesUsed(), greaterThan(0L));
+            final long ramBytesUsed = map.ramBytesUsed();
+            // overriding entries does not allocate anything, even once the hashes are full
+            for (int i = 0; i < numUids; i++) {
+                map.put(new BytesRef(Integer.toString(i)), new IndexVersionValue(randomTranslogLocation(), 2, 2, 1));
+            }
+            assertEquals(ramBytesUsed, map.ramBytesUsed());
+        } finally {
+            map.close();
+        }
+        assertEquals(0, map.ramBytesUsed());
+    }
+
+    public void testClosedMapIsEmpty() {
+        final PagedVersionMap map = newMap();
+        final BytesRef uid = new BytesRef("1");
+        map.put(uid, new IndexVersionValue(randomTranslogLocation(), 1, 1, 1));
+        map.close();
+        assertNull(map.get(uid));
+        assertNull(map.remove(uid));
+        assertTrue(map.isEmpty());
+        // writes that race with the map being dropped are ignored
+        assertNull(map.put(uid, new IndexVersionValue(randomTranslogLocation(), 2, 2, 1)));
+        assertNull(map.get(uid));
+        map.close();
+    }
+
+    private Translog.Location randomTranslogLocation() {
+        if (randomBoolean()) {
+            return null;
+        } else {
+            return new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomIntBetween(0, Integer.MAX_VALUE));
+        }
+    }
+}
@@ -41,6 +41,7 @@ import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.OrdinalMap;
 import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.index.TermsEnum;
@@ -60,12 +61,14 @@ import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.FixedBitSet;
 import org.apache.lucene.util.TestUtil;
 import org.apache.lucene.util.UnicodeUtil;
+import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.lucene.search.Queries;
 import org.opensearch.index.fielddata.IndexFieldData.XFieldComparatorSource.Nested;
 import org.opensearch.index.fielddata.fieldcomparator.BytesRefFieldComparatorSource;
 import org.opensearch.index.fielddata.ordinals.GlobalOrdinalsIndexFieldData;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.search.MultiValueMode;
 
 import java.io.IOException;
@@ -73,6 +76,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
@@ -627,4 +631,55 @@ public abstract class AbstractStringFieldDataTestCase extends AbstractFieldDataI
         indexService.clearCaches(false, true);
         assertThat(indicesFieldDataCache.getCache().weight(), equalTo(0L));
     }
+
+    public void testGlobalOrdinalsReuseTheOrdinalMapOfTheSameSegments() throws Exception {
+        fillExtendedMvSet();
+        refreshReader();
+        IndexOrdinalsFieldData ifd = getForField("string", "value", hasDocValues());
+        OrdinalMap ordinalMap = ifd.loadGlobal(topLevelReader).getOrdinalMap();
+        assertNotNull(ordinalMap);
+
+        // only deletes, the segments are the same
+        writer.deleteDocuments(new Term("_id", "7"));
+        refreshReader();
+        assertThat(topLevelReader.leaves().size(), equalTo(3));
+        assertThat(ifd.loadGlobal(topLevelReader).getOrdinalMap(), sameInstance(ordinalMap));
+
+        // a new segment, the terms have to be merged again
+        Document d = new Document();
+        addField(d, "_id", "9");
+        addField(d, "value", "11");
+        writer.addDocument(d);
+        refreshReader();
+        IndexOrdinalsFieldData globalOrdinals = ifd.loadGlobal(topLevelReader);
+        assertThat(globalOrdinals.getOrdinalMap(), not(sameInstance(ordinalMap)));
+        assertThat(globalOrdinals.getOrdinalMap().getValueCount(), equalTo(ordinalMap.getValueCount() + 1));
+
+        indexService.clearCaches(false, true);
+        refreshReader();
+        assertThat(ifd.loadGlobal(topLevelReader).getOrdinalMap(), not(sameInstance(globalOrdinals.getOrdinalMap())));
+    }
+
+    public void testOrdinalMapIsAccountedForWhileItIsKeptForReuse() throws Exception {
+        fillExtendedMvSet();
+        refreshReader();
+        CircuitBreaker breaker = getInstanceFromNode(CircuitBreakerService.class).getBreaker(CircuitBreaker.FIELDDATA);
+        IndexOrdinalsFieldData ifd = getForField("string", "value", hasDocValues());
+        OrdinalMap ordinalMap = ifd.loadGlobal(topLevelReader).getOrdinalMap();
+        final long used = breaker.getUsed();
+        assertThat(used, greaterThan(0L));
+
+        // the global ordinals of the previous reader are released when it is closed, the map they leave behind stays accounted
+        for (int i = 0; i < 2; i++) {
+            writer.deleteDocuments(new Term("_id", "7"));
+            refreshReader();
+            assertThat(breaker.getUsed(), equalTo(used));
+            assertThat(ifd.loadGlobal(topLevelReader).getOrdinalMap(), sameInstance(ordinalMap));
+            assertThat(breaker.getUsed(), equalTo(used));
+        }
+
+        indexService.clearCaches(false, true);
+        assertThat(breaker.getUsed(), equalTo(0L));
+        assertThat(ifd.loadGlobal(topLevelReader).getOrdinalMap(), not(sameInstance(ordinalMap)));
+    }
 }
@@ -38,12 +38,14 @@ import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 public class FieldDataStatsTests extends OpenSearchTestCase {
 
     public void testSerialize() throws IOException {
         FieldMemoryStats map = randomBoolean() ? null : FieldMemoryStatsTests.randomFieldMemoryStats();
-        FieldDataStats stats = new FieldDataStats(randomNonNegativeLong(), randomNonNegativeLong(), map);
+        FieldDataStats stats = new FieldDataStats(randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+            randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), map);
         BytesStreamOutput out = new BytesStreamOutput();
         stats.writeTo(out);
         StreamInput input = out.bytes().streamInput();
@@ -51,6 +53,25 @@ public class FieldDataStatsTests extends OpenSearchTestCase {
         assertEquals(-1, input.read());
         assertEquals(stats.getEvictions(), read.getEvictions());
         assertEquals(stats.getMemorySize(), read.getMemorySize());
+        assertEquals(stats.getHitCount(), read.getHitCount());
+        assertEquals(stats.getMissCount(), read.getMissCount());
+        assertEquals(stats.getGlobalOrdinalsBuildCount(), read.getGlobalOrdinalsBuildCount());
+        assertEquals(stats.getGlobalOrdinalsReusedCount(), read.getGlobalOrdinalsReusedCount());
+        assertEquals(stats.getGlobalOrdinalsBuildTimeInMillis(), read.getGlobalOrdinalsBuildTimeInMillis());
         assertEquals(stats.getFields(), read.getFields());
     }
+
+    public void testGlobalOrdinalsStats() {
+        ShardFieldData shardFieldData = new ShardFieldData();
+        assertEquals(0d, shardFieldData.stats().getGlobalOrdinalsReuseRatio(), 0d);
+        shardFieldData.onGlobalOrdinalsBuilt(null, "field", TimeUnit.MILLISECONDS.toNanos(30), false);
+        shardFieldData.onGlobalOrdinalsBuilt(null, "field", TimeUnit.MILLISECONDS.toNanos(2), true);
+        shardFieldData.onGlobalOrdinalsBuilt(null, "other_field", TimeUnit.MILLISECONDS.toNanos(1), true);
+        shardFieldData.onGlobalOrdinalsBuilt(null, "other_field", TimeUnit.MILLISECONDS.toNanos(1), true);
+        FieldDataStats stats = shardFieldData.stats();
+        assertEquals(4, stats.getGlobalOrdinalsBuildCount());
+        assertEquals(3, stats.getGlobalOrdinalsReusedCount());
+        assertEquals(34, stats.getGlobalOrdinalsBuildTimeInMillis());
+        assertEquals(0.75d, stats.getGlobalOrdinalsReuseRatio(), 0d);
+    }
 }
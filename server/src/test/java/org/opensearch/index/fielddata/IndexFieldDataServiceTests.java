@@ -60,6 +60,7 @@ import org.opensearch.index.shard.ShardId;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
 import org.opensearch.plugins.Plugin;
+import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.test.OpenSearchSingleNodeTestCase;
 import org.opensearch.test.IndexSettingsModule;
@@ -74,7 +75,9 @@ import java.util.Collections;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
+import static org.opensearch.action.support.WriteRequest.RefreshPolicy.IMMEDIATE;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -231,6 +234,8 @@ public class IndexFieldDataServiceTests extends OpenSearchSingleNodeTestCase {
         final IndexReader reader = wrap ? OpenSearchDirectoryReader.wrap(open, new ShardId("test", "_na_", 1)) : open;
         final AtomicInteger onCacheCalled = new AtomicInteger();
         final AtomicInteger onRemovalCalled = new AtomicInteger();
+        final AtomicInteger onHitCalled = new AtomicInteger();
+        final AtomicInteger onMissCalled = new AtomicInteger();
         ifdService.setListener(new IndexFieldDataCache.Listener() {
             @Override
             public void onCache(ShardId shardId, String fieldName, Accountable ramUsage) {
@@ -251,6 +256,16 @@ public class IndexFieldDataServiceTests extends OpenSearchSingleNodeTestCase {
                 }
                 onRemovalCalled.incrementAndGet();
             }
+
+            @Override
+            public void onHit(ShardId shardId, String fieldName) {
+                onHitCalled.incrementAndGet();
+            }
+
+            @Override
+            public void onMiss(ShardId shardId, String fieldName) {
+                onMissCalled.incrementAndGet();
+            }
         });
         IndexFieldData<?> ifd = ifdService.getForField(mapper1, "test", () -> {
             throw new UnsupportedOperationException();
@@ -259,6 +274,12 @@ public class IndexFieldDataServiceTests extends OpenSearchSingleNodeTestCase {
         LeafFieldData load = ifd.load(leafReaderContext);
         assertEquals(1, onCacheCalled.get());
         assertEquals(0, onRemovalCalled.get());
+        assertEquals(0, onHitCalled.get());
+        assertEquals(1, onMissCalled.get());
+        assertSame(load, ifd.load(leafReaderContext));
+        assertEquals(1, onCacheCalled.get());
+        assertEquals(1, onHitCalled.get());
+        assertEquals(1, onMissCalled.get());
         reader.close();
         load.close();
         writer.close();
@@ -325,6 +346,24 @@ public class IndexFieldDataServiceTests extends OpenSearchSingleNodeTestCase {
         }
     }
 
+    public void testCacheHitsAndMissesAreReportedInTheShardStats() {
+        createIndex("test", Settings.builder().put("index.number_of_shards", 1).build(), "_doc", "field", "type=keyword");
+        // global ordinals are only cached for readers with more than one segment
+        client().prepareIndex("test", "_doc", "1").setSource("field", "foo").setRefreshPolicy(IMMEDIATE).get();
+        client().prepareIndex("test", "_doc", "2").setSource("field", "bar").setRefreshPolicy(IMMEDIATE).get();
+
+        for (int i = 0; i < 3; i++) {
+            client().prepareSearch("test").setRequestCache(false).addAggregation(AggregationBuilders.terms("terms").field("field"))
+                .get();
+        }
+
+        final FieldDataStats stats = client().admin().indices().prepareStats("test").setFieldData(true).get().getTotal()
+            .getFieldData();
+        assertEquals(1, stats.getMissCount());
+        assertThat(stats.getHitCount(), greaterThan(0L));
+        assertEquals(1, stats.getGlobalOrdinalsBuildCount());
+    }
+
     public void testRequireDocValuesOnLongs() {
         doTestRequireDocValues(new NumberFieldMapper.NumberFieldType("field", NumberFieldMapper.NumberType.LONG));
         doTestRequireDocValues(new NumberFieldMapper.NumberFieldType("field", NumberFieldMapper.NumberType.LONG,
@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.Strings;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class TranslogSyncSchedulerTests extends OpenSearchTestCase {
+
+    public void testDisabledRunsSyncImmediately() throws Exception {
+        final TranslogSyncScheduler scheduler = new TranslogSyncScheduler(Settings.EMPTY);
+        assertFalse(scheduler.isEnabled());
+        final TranslogSyncScheduler.Tracker tracker = new TranslogSyncScheduler.Tracker();
+        assertTrue(scheduler.sync(createTempDir(), tracker, () -> true));
+        final TranslogStats stats = new TranslogStats();
+        tracker.addTo(stats);
+        assertEquals(0, stats.getGroupCommitSyncs());
+    }
+
+    public void testSingleSyncDoesNotWait() throws Exception {
+        final TranslogSyncScheduler scheduler = new TranslogSyncScheduler(Settings.builder()
+            .put(TranslogSyncScheduler.GROUP_COMMIT_ENABLED_SETTING.getKey(), true)
+            .put(TranslogSyncScheduler.GROUP_COMMIT_MAX_WAIT_SETTING.getKey(), "1h")
+            .build());
+        final TranslogSyncScheduler.Tracker tracker = new TranslogSyncScheduler.Tracker();
+        final Object dataPath = createTempDir();
+        final int syncs = randomIntBetween(1, 10);
+        for (int i = 0; i < syncs; i++) {
+            final int value = i;
+            assertEquals(Integer.valueOf(value), scheduler.sync(dataPath, tracker, () -> value));
+        }
+        final TranslogStats stats = new TranslogStats();
+        tracker.addTo(stats);
+        assertEquals(syncs, stats.getGroupCommitSyncs());
+        assertEquals(syncs, stats.getGroupCommitBatchSizes()[0]);
+    }
+
+    public void testConcurrentSyncsAreGrouped() throws Exception {
+        final int maxBatchSize = randomIntBetween(2, 16);
+        final TranslogSyncScheduler scheduler = new TranslogSyncScheduler(Settings.builder()
+            .put(TranslogSyncScheduler.GROUP_COMMIT_ENABLED_SETTING.getKey(), true)
+            .put(TranslogSyncScheduler.GROUP_COMMIT_MAX_WAIT_SETTING.getKey(), randomFrom("0ms", "1ms", "10ms"))
+            .put(TranslogSyncScheduler.GROUP_COMMIT_MAX_BATCH_SIZE_SETTING.getKey(), maxBatchSize)
+            .build());
+        final Object[] dataPaths = new Object[] { createTempDir(), createTempDir() };
+        final int numberOfThreads = randomIntBetween(4, 16);
+        final int syncsPerThread = randomIntBetween(10, 100);
+        final TranslogSyncScheduler.Tracker tracker = new TranslogSyncScheduler.Tracker();
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final AtomicInteger completed = new AtomicInteger();
+        final CyclicBarrier barrier = new CyclicBarrier(numberOfThreads);
+        final CountDownLatch done = new CountDownLatch(numberOfThreads);
+        final List<Exception> failures = new ArrayList<>();
+        for (int t = 0; t < numberOfThreads; t++) {
+            final Object dataPath = dataPaths[t % dataPaths.length];
+            final Thread thread = new Thread(() -> {
+                try {
+                    barrier.await();
+                    for (int i = 0; i < syncsPerThread; i++) {
+                        scheduler.sync(dataPath, tracker, () -> {
+                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            try {
+                                Thread.sleep(1);
+                            } catch (InterruptedException e) {
+                                throw new AssertionError(e);
+                            }
+                            running.decrementAndGet();
+                            return completed.incrementAndGet();
+                        });
+                    }
+                } catch (Exception e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+            thread.start();
+        }
+        done.await();
+        assertTrue(failures.toString(), failures.isEmpty());
+        assertEquals(numberOfThreads * syncsPerThread, completed.get());
+        // syncs run concurrently within a round, but a round never exceeds the maximum batch size
+        assertThat(maxRunning.get(), lessThanOrEqualTo(maxBatchSize * dataPaths.length));
+
+        final TranslogStats stats = new TranslogStats();
+        tracker.addTo(stats);
+        assertEquals(numberOfThreads * syncsPerThread, stats.getGroupCommitSyncs());
+        long batched = 0;
+        for (int i = 1; i < stats.getGroupCommitBatchSizes().length; i++) {
+            batched += stats.getGroupCommitBatchSizes()[i];
+        }
+        assertThat(batched, greaterThan(0L));
+    }
+
+    public void testStatsSerialization() throws Exception {
+        final TranslogSyncScheduler.Tracker tracker = new TranslogSyncScheduler.Tracker();
+        final int syncs = randomIntBetween(1, 100);
+        for (int i = 0; i < syncs; i++) {
+            tracker.record(randomIntBetween(1, 256), randomLongBetween(0, 1_000_000_000L));
+        }
+        final TranslogStats stats = new TranslogStats(1, 1, 1, 1, 1);
+        tracker.addTo(stats);
+        assertEquals(syncs, stats.getGroupCommitSyncs());
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            stats.writeTo(out);
+            final TranslogStats copy = new TranslogStats(out.bytes().streamInput());
+            assertArrayEquals(stats.getGroupCommitBatchSizes(), copy.getGroupCommitBatchSizes());
+            assertArrayEquals(stats.getGroupCommitWaitTimes(), copy.getGroupCommitWaitTimes());
+
+            copy.add(stats);
+            assertEquals(2L * syncs, copy.getGroupCommitSyncs());
+        }
+
+        final String json = Strings.toString(stats);
+        assertThat(json, containsString("\"group_commit\":{\"syncs\":" + syncs));
+        assertThat(json, containsString("\"batch_size_histogram\":[{\"le\":1,"));
+        assertThat(json, containsString("\"wait_time_histogram\":[{\"le_in_micros\":100,"));
+    }
+}
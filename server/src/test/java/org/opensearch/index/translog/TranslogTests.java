@@ -150,6 +150,7 @@ import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.hasToString;
 import static org.hamcrest.Matchers.in;
 import static org.hamcrest.Matchers.instanceOf;
@@ -641,6 +642,31 @@ public class TranslogTests extends OpenSearchTestCase {
         assertNull(translog.readOperation(new Location(100, 0, 0)));
     }
 
+    public void testAddOperations() throws IOException {
+        final List<Translog.Operation> ops = new ArrayList<>();
+        final int numOps = randomIntBetween(1, 10);
+        for (int i = 0; i < numOps; i++) {
+            if (randomBoolean()) {
+                ops.add(new Translog.Index("test", Integer.toString(i), i, primaryTerm.get(), randomByteArrayOfLength(between(1, 10))));
+            } else {
+                ops.add(new Translog.NoOp(i, primaryTerm.get(), randomAlphaOfLength(10)));
+            }
+        }
+        final Location previous = translog.add(new Translog.Index("test", "previous", numOps, primaryTerm.get(), new byte[]{1}));
+        final List<Location> locations = translog.add(ops);
+        assertThat(locations, hasSize(numOps));
+        for (int i = 0; i < numOps; i++) {
+            assertThat(locations.get(i), greaterThan(i == 0 ? previous : locations.get(i - 1)));
+            assertEquals(ops.get(i), translog.readOperation(locations.get(i)));
+        }
+        assertThat(translog.add(Collections.emptyList()), empty());
+        try (Translog.Snapshot snapshot = translog.newSnapshot()) {
+            assertThat(snapshot.totalOperations(), equalTo(numOps + 1));
+        }
+        assertThat(translog.getCurrent().getCheckpoint().minSeqNo, equalTo(0L));
+        assertThat(translog.getCurrent().getCheckpoint().maxSeqNo, equalTo((long) numOps));
+    }
+
     public void testSnapshotWithNewTranslog() throws IOException {
         List<Closeable> toClose = new ArrayList<>();
         try {
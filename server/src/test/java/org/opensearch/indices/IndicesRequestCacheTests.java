@@ -39,6 +39,8 @@ import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.TermQuery;
@@ -47,6 +49,7 @@ import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.CheckedSupplier;
 import org.opensearch.common.bytes.AbstractBytesReference;
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
@@ -61,6 +64,8 @@ import org.opensearch.index.shard.ShardId;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -68,7 +73,9 @@ public class IndicesRequestCacheTests extends OpenSearchTestCase {
 
     public void testBasicOperationsCache() throws Exception {
         ShardRequestCache requestCacheStats = new ShardRequestCache();
-        IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
+        IndicesRequestCache cache = new IndicesRequestCache(Settings.builder()
+            .put(IndicesRequestCache.INDICES_CACHE_QUERY_EVICTION_POLICY.getKey(), randomFrom("lru", "tiny_lfu"))
+            .build());
         Directory dir = newDirectory();
         IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
 
@@ -287,6 +294,96 @@ public class IndicesRequestCacheTests extends OpenSearchTestCase {
         IOUtils.close(reader, secondReader, thirdReader, writer, dir, cache);
     }
 
+    public void testEvictedEntriesSpillToDisk() throws Exception {
+        AtomicBoolean indexShard = new AtomicBoolean(true);
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+        writer.addDocument(newDoc(0, "foo"));
+        DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer),
+            new ShardId("foo", "bar", 1));
+        writer.updateDocument(new Term("id", "0"), newDoc(0, "bar"));
+        DirectoryReader secondReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer),
+            new ShardId("foo", "bar", 1));
+        TermQueryBuilder termQuery = new TermQueryBuilder("id", "0");
+        BytesReference termBytes = XContentHelper.toXContent(termQuery, XContentType.JSON, false);
+
+        final ByteSizeValue size;
+        try (IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY)) {
+            ShardRequestCache requestCacheStats = new ShardRequestCache();
+            cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), new Loader(reader, 0), reader, termBytes);
+            size = requestCacheStats.stats().getMemorySize();
+        }
+        // the heap only has room for one entry
+        final Path file = createTempDir().resolve("request_cache.bin");
+        IndicesRequestCache cache = new IndicesRequestCache(Settings.builder()
+            .put(IndicesRequestCache.INDICES_CACHE_QUERY_SIZE.getKey(), size.getBytes() + 1 + "b")
+            .put(IndicesRequestCache.INDICES_CACHE_QUERY_DISK_SIZE.getKey(), "1mb")
+            .build(), file);
+        assertTrue(Files.exists(file));
+        ShardRequestCache requestCacheStats = new ShardRequestCache();
+        TestEntity entity = new TestEntity(requestCacheStats, indexShard);
+
+        assertEquals("foo", cache.getOrCompute(entity, new Loader(reader, 0), reader, termBytes).streamInput().readString());
+        assertEquals("bar", cache.getOrCompute(entity, new Loader(secondReader, 0), secondReader, termBytes)
+            .streamInput().readString());
+        assertEquals(1, cache.count());
+        assertEquals(1, cache.diskCount());
+        assertEquals(1, requestCacheStats.stats().getEvictions());
+        assertEquals(2, requestCacheStats.stats().getDiskMissCount());
+        assertTrue(requestCacheStats.stats().getDiskSize().getBytes() > 0);
+        // the key of the entry on disk stays on heap
+        assertTrue(requestCacheStats.stats().getMemorySize().getBytes() > size.getBytes());
+
+        // the entry that was evicted is read from disk instead of being computed again, and evicts the other one
+        Loader loader = new Loader(reader, 0);
+        assertEquals("foo", cache.getOrCompute(entity, loader, reader, termBytes).streamInput().readString());
+        assertTrue(loader.loadedFromCache);
+        assertEquals(1, cache.count());
+        assertEquals(1, cache.diskCount());
+        assertEquals(1, requestCacheStats.stats().getDiskHitCount());
+        assertEquals(2, requestCacheStats.stats().getEvictions());
+        assertEquals(0, requestCacheStats.stats().getDiskEvictions());
+
+        // closing the reader cleans the entries of the reader on disk too
+        IOUtils.close(secondReader);
+        cache.cleanCache();
+        assertEquals(1, cache.count());
+        assertEquals(0, cache.diskCount());
+        assertEquals(0, requestCacheStats.stats().getDiskSize().getBytes());
+
+        IOUtils.close(reader, writer, dir, cache);
+        assertFalse(Files.exists(file));
+    }
+
+    public void testExpiredEntriesDoNotSpillToDisk() throws Exception {
+        AtomicBoolean indexShard = new AtomicBoolean(true);
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+        writer.addDocument(newDoc(0, "foo"));
+        DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer),
+            new ShardId("foo", "bar", 1));
+        TermQueryBuilder termQuery = new TermQueryBuilder("id", "0");
+        BytesReference termBytes = XContentHelper.toXContent(termQuery, XContentType.JSON, false);
+        IndicesRequestCache cache = new IndicesRequestCache(Settings.builder()
+            .put(IndicesRequestCache.INDICES_CACHE_QUERY_EXPIRE.getKey(), "1ms")
+            .put(IndicesRequestCache.INDICES_CACHE_QUERY_DISK_SIZE.getKey(), "1mb")
+            .build(), createTempDir().resolve("request_cache.bin"));
+        ShardRequestCache requestCacheStats = new ShardRequestCache();
+        TestEntity entity = new TestEntity(requestCacheStats, indexShard);
+
+        assertEquals("foo", cache.getOrCompute(entity, new Loader(reader, 0), reader, termBytes).streamInput().readString());
+        assertEquals(1, cache.count());
+        assertBusy(() -> {
+            cache.cleanCache();
+            assertEquals(0, cache.count());
+        });
+        assertEquals(1, requestCacheStats.stats().getEvictions());
+        assertEquals(0, cache.diskCount());
+        assertEquals(0, requestCacheStats.stats().getMemorySize().getBytes());
+
+        IOUtils.close(reader, writer, dir, cache);
+    }
+
     public void testClearAllEntityIdentity() throws Exception {
         IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
         AtomicBoolean indexShard =  new AtomicBoolean(true);
@@ -442,6 +539,55 @@ public class IndicesRequestCacheTests extends OpenSearchTestCase {
         assertEquals(0, cache.numRegisteredCloseListeners());
     }
 
+    public void testSegmentResults() throws Exception {
+        ShardRequestCache requestCacheStats = new ShardRequestCache();
+        IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+        writer.addDocument(newDoc(0, "foo"));
+        writer.addDocument(newDoc(1, "bar"));
+        DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+        assertEquals(1, reader.leaves().size());
+        LeafReader segment = reader.leaves().get(0).reader();
+        BytesReference cacheKey = new BytesArray("request");
+        BytesReference value = new BytesArray("value");
+        TestEntity entity = new TestEntity(requestCacheStats, new AtomicBoolean(true));
+
+        assertNull(cache.getSegmentResult(entity, segment, cacheKey));
+        cache.putSegmentResult(entity, segment, cacheKey, value);
+        assertEquals(value, cache.getSegmentResult(entity, segment, cacheKey));
+        assertNull(cache.getSegmentResult(entity, segment, new BytesArray("other request")));
+        assertEquals(1, requestCacheStats.stats().getHitCount());
+        assertEquals(2, requestCacheStats.stats().getMissCount());
+        assertEquals(1, cache.count());
+        assertEquals(1, cache.numRegisteredCloseListeners());
+
+        // a refresh that adds a segment keeps the results of the other segments
+        writer.addDocument(newDoc(2, "baz"));
+        DirectoryReader secondReader = DirectoryReader.openIfChanged(reader);
+        assertEquals(2, secondReader.leaves().size());
+        assertEquals(value, cache.getSegmentResult(entity, secondReader.leaves().get(0).reader(), cacheKey));
+
+        // deletes don't change the core of a segment, but they change its results
+        writer.deleteDocuments(new Term("id", "0"));
+        DirectoryReader thirdReader = DirectoryReader.openIfChanged(secondReader);
+        LeafReader segmentWithDeletes = thirdReader.leaves().get(0).reader();
+        assertSame(segment.getCoreCacheHelper().getKey(), segmentWithDeletes.getCoreCacheHelper().getKey());
+        assertNull(cache.getSegmentResult(entity, segmentWithDeletes, cacheKey));
+        cache.putSegmentResult(entity, segmentWithDeletes, cacheKey, new BytesArray("value with deletes"));
+        assertEquals(2, cache.count());
+        assertEquals(1, cache.numRegisteredCloseListeners());
+        assertTrue(requestCacheStats.stats().getMemorySize().bytesAsInt() > 0);
+
+        // the results of a segment are removed once its core is closed
+        IOUtils.close(reader, secondReader, thirdReader, writer);
+        cache.cleanCache();
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.numRegisteredCloseListeners());
+        assertEquals(0, requestCacheStats.stats().getMemorySize().bytesAsInt());
+        IOUtils.close(dir, cache);
+    }
+
     public void testEqualsKey() throws IOException {
         AtomicBoolean trueBoolean = new AtomicBoolean(true);
         AtomicBoolean falseBoolean = new AtomicBoolean(false);
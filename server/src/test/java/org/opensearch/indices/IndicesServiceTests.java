@@ -31,6 +31,22 @@
 
 package org.opensearch.indices;
 
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queries.CommonTermsQuery;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.MultiTermQuery;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.similarities.BM25Similarity;
 import org.apache.lucene.search.similarities.Similarity;
 import org.apache.lucene.store.AlreadyClosedException;
@@ -47,6 +63,8 @@ import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.io.FileSystemUtils;
+import org.opensearch.common.lucene.search.MoreLikeThisQuery;
+import org.opensearch.common.lucene.search.function.FunctionScoreQuery;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
@@ -589,4 +607,54 @@ public class IndicesServiceTests extends OpenSearchSingleNodeTestCase {
                 ".*multiple engine factories provided for \\[foobar/.*\\]: \\[.*FooEngineFactory\\],\\[.*BarEngineFactory\\].*";
         assertThat(e, hasToString(new RegexMatcher(pattern)));
     }
+
+    public void testMatchesIndependentlyOfOtherSegments() {
+        Query term = new TermQuery(new Term("field", "value"));
+        assertTrue(IndicesService.matchesIndependentlyOfOtherSegments(term));
+        assertTrue(IndicesService.matchesIndependentlyOfOtherSegments(new FunctionScoreQuery(term, null, Float.MAX_VALUE)));
+        assertFalse(IndicesService.matchesIndependentlyOfOtherSegments(new FunctionScoreQuery(term, 1f, Float.MAX_VALUE)));
+        assertFalse(IndicesService.matchesIndependentlyOfOtherSegments(new BooleanQuery.Builder()
+            .add(term, BooleanClause.Occur.FILTER)
+            .add(new MoreLikeThisQuery("value", new String[] { "field" }, new StandardAnalyzer()), BooleanClause.Occur.SHOULD)
+            .build()));
+        CommonTermsQuery commonTerms = new CommonTermsQuery(BooleanClause.Occur.SHOULD, BooleanClause.Occur.SHOULD, 0.1f);
+        commonTerms.add(new Term("field", "value"));
+        assertFalse(IndicesService.matchesIndependentlyOfOtherSegments(new BooleanQuery.Builder()
+            .add(term, BooleanClause.Occur.MUST)
+            .add(commonTerms, BooleanClause.Occur.MUST_NOT)
+            .build()));
+
+        assertTrue(IndicesService.matchesIndependentlyOfOtherSegments(new ConstantScoreQuery(new BooleanQuery.Builder()
+            .add(new PrefixQuery(new Term("field", "val")), BooleanClause.Occur.MUST)
+            .add(LongPoint.newRangeQuery("long", 1, 10), BooleanClause.Occur.FILTER)
+            .add(new IndexOrDocValuesQuery(LongPoint.newRangeQuery("long", 1, 10),
+                SortedNumericDocValuesField.newSlowRangeQuery("long", 1, 10)), BooleanClause.Occur.FILTER)
+            .add(new PhraseQuery("field", "some", "value"), BooleanClause.Occur.SHOULD)
+            .build())));
+        // top terms rewrites select the terms across all segments
+        assertFalse(IndicesService.matchesIndependentlyOfOtherSegments(new FuzzyQuery(new Term("field", "value"))));
+        PrefixQuery topTermsPrefix = new PrefixQuery(new Term("field", "val"));
+        topTermsPrefix.setRewriteMethod(new MultiTermQuery.TopTermsScoringBooleanQueryRewrite(10));
+        assertFalse(IndicesService.matchesIndependentlyOfOtherSegments(new BooleanQuery.Builder()
+            .add(term, BooleanClause.Occur.MUST)
+            .add(topTermsPrefix, BooleanClause.Occur.FILTER)
+            .build()));
+        // unknown queries, such as joins through global ordinals, are not trusted
+        assertFalse(IndicesService.matchesIndependentlyOfOtherSegments(new BoostQuery(new Query() {
+            @Override
+            public String toString(String field) {
+                return "join";
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                return obj == this;
+            }
+
+            @Override
+            public int hashCode() {
+                return System.identityHashCode(this);
+            }
+        }, 2f)));
+    }
 }
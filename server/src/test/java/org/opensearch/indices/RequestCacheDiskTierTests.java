@@ -0,0 +1,167 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+public class RequestCacheDiskTierTests extends OpenSearchTestCase {
+
+    private final List<String> evicted = new ArrayList<>();
+    private final List<String> invalidated = new ArrayList<>();
+
+    private RequestCacheDiskTier<String> newTier(Path file, long capacity, int regionSize) throws IOException {
+        return newTier(file, capacity, regionSize, Long.MAX_VALUE);
+    }
+
+    private RequestCacheDiskTier<String> newTier(Path file, long capacity, int regionSize, long maxIndexRamBytes) throws IOException {
+        // keys take as many bytes as they have chars
+        return new RequestCacheDiskTier<>(file, capacity, regionSize, maxIndexRamBytes, key -> key.length(), (key, length, wasEvicted) -> {
+            if (wasEvicted) {
+                evicted.add(key);
+            } else {
+                invalidated.add(key);
+            }
+        });
+    }
+
+    public void testPutAndRemove() throws IOException {
+        final Path file = createTempDir().resolve("cache").resolve("request_cache.bin");
+        try (RequestCacheDiskTier<String> tier = newTier(file, 1024, 256)) {
+            assertTrue(Files.exists(file));
+            final BytesReference value = new BytesArray(randomByteArrayOfLength(randomIntBetween(1, 256)));
+            // values that are made of several pages are written in full
+            final BytesReference composite = CompositeBytesReference.of(new BytesArray(new byte[] { 1, 2 }),
+                new BytesArray(new byte[] { 3 }));
+            assertTrue(tier.put("a", value));
+            assertTrue(tier.put("b", composite));
+            assertThat(tier.count(), equalTo(2));
+            assertThat(tier.sizeInBytes(), equalTo((long) value.length() + 3));
+
+            assertThat(tier.remove("a"), equalTo(value));
+            assertThat(tier.remove("b"), equalTo(composite));
+            assertNull(tier.remove("a"));
+            assertThat(tier.count(), equalTo(0));
+            assertThat(tier.sizeInBytes(), equalTo(0L));
+            assertThat(invalidated, contains("a", "b"));
+            assertThat(evicted, empty());
+        }
+        assertFalse(Files.exists(file));
+    }
+
+    public void testValuesThatDoNotFitAreNotStored() throws IOException {
+        try (RequestCacheDiskTier<String> tier = newTier(createTempDir().resolve("request_cache.bin"), 1024, 256)) {
+            assertFalse(tier.put("empty", BytesArray.EMPTY));
+            assertFalse(tier.put("large", new BytesArray(new byte[257])));
+            assertTrue(tier.put("region", new BytesArray(new byte[256])));
+            assertThat(tier.count(), equalTo(1));
+        }
+    }
+
+    public void testOldestValuesAreOverwritten() throws IOException {
+        // three regions, the last one smaller than the others
+        try (RequestCacheDiskTier<String> tier = newTier(createTempDir().resolve("request_cache.bin"), 250, 100)) {
+            assertTrue(tier.put("a", value(60, 'a')));
+            assertTrue(tier.put("b", value(60, 'b'))); // skips the rest of the first region
+            assertTrue(tier.put("c", value(30, 'c')));
+            assertTrue(tier.put("d", value(40, 'd'))); // fits in the last region
+            assertThat(tier.count(), equalTo(4));
+            assertThat(evicted, empty());
+
+            // doesn't fit in the last region, wraps around and overwrites the first value
+            assertTrue(tier.put("e", value(20, 'e')));
+            assertThat(evicted, contains("a"));
+            // doesn't fit in the rest of the first region, overwrites the values of the second region
+            assertTrue(tier.put("f", value(90, 'f')));
+            assertThat(evicted, contains("a", "b", "c"));
+            assertThat(tier.count(), equalTo(3));
+            assertThat(tier.sizeInBytes(), equalTo(150L));
+
+            assertThat(tier.remove("d"), equalTo(value(40, 'd')));
+            assertThat(tier.remove("e"), equalTo(value(20, 'e')));
+            assertThat(tier.remove("f"), equalTo(value(90, 'f')));
+        }
+    }
+
+    public void testPutReplacesTheValueOfTheKey() throws IOException {
+        try (RequestCacheDiskTier<String> tier = newTier(createTempDir().resolve("request_cache.bin"), 1024, 256)) {
+            assertTrue(tier.put("a", value(10, 'a')));
+            assertTrue(tier.put("a", value(20, 'b')));
+            assertThat(invalidated, contains("a"));
+            assertThat(tier.count(), equalTo(1));
+            assertThat(tier.sizeInBytes(), equalTo(20L));
+            assertThat(tier.remove("a"), equalTo(value(20, 'b')));
+        }
+    }
+
+    public void testOldestValuesAreEvictedOnceTheirKeysTakeTooMuchHeap() throws IOException {
+        final long entryRamBytesUsed = 1 + RequestCacheDiskTier.ENTRY_RAM_BYTES_USED;
+        try (RequestCacheDiskTier<String> tier = newTier(createTempDir().resolve("request_cache.bin"), 1024, 256,
+                3 * entryRamBytesUsed)) {
+            assertTrue(tier.put("a", value(10, 'a')));
+            assertTrue(tier.put("b", value(10, 'b')));
+            assertTrue(tier.put("c", value(10, 'c')));
+            assertThat(tier.indexRamBytesUsed(), equalTo(3 * entryRamBytesUsed));
+            assertThat(evicted, empty());
+
+            assertTrue(tier.put("d", value(10, 'd')));
+            assertThat(evicted, contains("a"));
+            assertThat(tier.count(), equalTo(3));
+            assertThat(tier.indexRamBytesUsed(), equalTo(3 * entryRamBytesUsed));
+            assertThat(tier.sizeInBytes(), equalTo(30L));
+
+            // a key that takes more than the tier may take isn't stored
+            assertFalse(tier.put(randomAlphaOfLength(Math.toIntExact(3 * entryRamBytesUsed)), value(10, 'e')));
+            assertThat(tier.count(), equalTo(3));
+
+            assertNull(tier.remove("a"));
+            assertThat(tier.remove("b"), equalTo(value(10, 'b')));
+            assertThat(tier.indexRamBytesUsed(), equalTo(2 * entryRamBytesUsed));
+        }
+    }
+
+    public void testInvalidateAll() throws IOException {
+        final RequestCacheDiskTier<String> tier = newTier(createTempDir().resolve("request_cache.bin"), 1024, 256);
+        final int numValues = randomIntBetween(1, 20);
+        for (int i = 0; i < numValues; i++) {
+            assertTrue(tier.put(Integer.toString(i), value(randomIntBetween(1, 30), 'a')));
+        }
+        tier.invalidateAll(key -> Integer.parseInt(key) % 2 == 0);
+        assertThat(tier.count(), equalTo(numValues / 2));
+        for (int i = 0; i < numValues; i++) {
+            assertThat(tier.remove(Integer.toString(i)) == null, equalTo(i % 2 == 0));
+        }
+        assertTrue(tier.put("a", value(10, 'a')));
+        tier.close();
+        assertThat(tier.count(), equalTo(0));
+        assertThat(tier.sizeInBytes(), equalTo(0L));
+        assertThat(evicted, empty());
+        assertThat(invalidated.size(), equalTo(numValues + 1));
+    }
+
+    private static BytesReference value(int length, char c) {
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) c;
+        }
+        return new BytesArray(bytes);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class BatchSizeEstimatorTests extends OpenSearchTestCase {
+
+    public void testStartsWithTheMinimumBatchSize() {
+        final BatchSizeEstimator estimator = new BatchSizeEstimator(100, 1600, between(1, 4), System::nanoTime);
+        assertThat(estimator.batchSize(), equalTo(100));
+    }
+
+    public void testBatchesGrowUntilTheLinkIsSaturated() {
+        final AtomicLong now = new AtomicLong();
+        final BatchSizeEstimator estimator = new BatchSizeEstimator(1000, 1 << 20, 1, now::get);
+        // a link with a latency of 100ns that transfers 100 bytes per ns, so 10000 bytes must be in flight to saturate it
+        final long latencyNanos = 100;
+        final long bytesPerNano = 100;
+        int batchSize = estimator.batchSize();
+        for (int i = 0; i < 20; i++) {
+            final BatchSizeEstimator.SentBatch batch = estimator.onSent(batchSize);
+            now.addAndGet(latencyNanos + batchSize / bytesPerNano);
+            estimator.onAcknowledged(batch);
+            final int nextBatchSize = estimator.batchSize();
+            assertThat(nextBatchSize, greaterThanOrEqualTo(batchSize));
+            batchSize = nextBatchSize;
+        }
+        assertThat(batchSize, greaterThanOrEqualTo((int) (latencyNanos * bytesPerNano)));
+        // the lowest round trip time was the one of the first batch
+        assertThat(batchSize, lessThanOrEqualTo((int) (2 * (latencyNanos + 1000 / bytesPerNano) * bytesPerNano)));
+    }
+
+    public void testBatchesAreSharedByTheConcurrentRequests() {
+        final AtomicLong now = new AtomicLong();
+        final int maxConcurrentBatches = between(2, 4);
+        final BatchSizeEstimator estimator = new BatchSizeEstimator(10, 1 << 20, maxConcurrentBatches, now::get);
+        final BatchSizeEstimator.SentBatch[] batches = new BatchSizeEstimator.SentBatch[maxConcurrentBatches];
+        for (int i = 0; i < maxConcurrentBatches; i++) {
+            batches[i] = estimator.onSent(1000);
+        }
+        now.addAndGet(100);
+        for (BatchSizeEstimator.SentBatch batch : batches) {
+            estimator.onAcknowledged(batch);
+        }
+        // all the batches were delivered within a round trip: the product is what was in flight, split between the batches
+        assertThat(estimator.batchSize(), equalTo(2 * 1000));
+    }
+
+    public void testBatchSizeIsBounded() {
+        final AtomicLong now = new AtomicLong();
+        final BatchSizeEstimator estimator = new BatchSizeEstimator(10, 100, 1, now::get);
+        final BatchSizeEstimator.SentBatch batch = estimator.onSent(1000);
+        now.addAndGet(1);
+        estimator.onAcknowledged(batch);
+        assertThat(estimator.batchSize(), equalTo(100));
+
+        final BatchSizeEstimator slowEstimator = new BatchSizeEstimator(10, 100, 1, now::get);
+        final BatchSizeEstimator.SentBatch slowBatch = slowEstimator.onSent(1);
+        now.addAndGet(1000);
+        slowEstimator.onAcknowledged(slowBatch);
+        assertThat(slowEstimator.batchSize(), equalTo(10));
+    }
+}
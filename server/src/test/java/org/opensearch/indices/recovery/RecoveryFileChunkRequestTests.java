@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
+import org.opensearch.common.bytes.FileRegionBytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class RecoveryFileChunkRequestTests extends OpenSearchTestCase {
+
+    public void testSerialization() throws IOException {
+        final Version version = VersionUtils.randomVersionBetween(random(), LegacyESVersion.V_7_9_0, Version.CURRENT);
+        final RecoveryFileChunkRequest request = randomRequest(new BytesArray(randomByteArrayOfLength(randomIntBetween(0, 100))));
+        final BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(version);
+        request.writeTo(out);
+        assertRequestEquals(request, readRequest(out.bytes(), version));
+    }
+
+    public void testContentIsAppendedToTheThinRequest() throws IOException {
+        final Path file = createTempFile();
+        Files.write(file, randomByteArrayOfLength(randomIntBetween(1, 100)));
+        final BytesReference content = new FileRegionBytesReference(file, 0, Math.toIntExact(Files.size(file)));
+        final RecoveryFileChunkRequest request = randomRequest(content);
+
+        final BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(Version.CURRENT);
+        assertThat(request.writeThin(out), sameInstance(content));
+        assertRequestEquals(request, readRequest(CompositeBytesReference.of(out.bytes(), content), Version.CURRENT));
+
+        // the content of older versions is in the middle of the request
+        final Version oldVersion = VersionUtils.randomVersionBetween(random(), LegacyESVersion.V_7_9_0,
+            VersionUtils.getPreviousVersion(Version.V_1_0_0));
+        final BytesStreamOutput oldOut = new BytesStreamOutput();
+        oldOut.setVersion(oldVersion);
+        assertThat(request.writeThin(oldOut).length(), equalTo(0));
+        assertRequestEquals(request, readRequest(oldOut.bytes(), oldVersion));
+    }
+
+    private static RecoveryFileChunkRequest randomRequest(BytesReference content) {
+        final StoreFileMetadata metadata = new StoreFileMetadata(randomAlphaOfLength(10), randomIntBetween(100, 1000),
+            randomAlphaOfLength(5), org.apache.lucene.util.Version.LATEST);
+        return new RecoveryFileChunkRequest(randomNonNegativeLong(), randomNonNegativeLong(), new ShardId("test", "_na_", 0),
+            metadata, randomIntBetween(0, 100), content, randomBoolean(), randomInt(), randomNonNegativeLong());
+    }
+
+    private static RecoveryFileChunkRequest readRequest(BytesReference bytes, Version version) throws IOException {
+        try (StreamInput in = bytes.streamInput()) {
+            in.setVersion(version);
+            final RecoveryFileChunkRequest request = new RecoveryFileChunkRequest(in);
+            assertThat(in.available(), equalTo(0));
+            return request;
+        }
+    }
+
+    private static void assertRequestEquals(RecoveryFileChunkRequest expected, RecoveryFileChunkRequest actual) {
+        assertThat(actual.recoveryId(), equalTo(expected.recoveryId()));
+        assertThat(actual.requestSeqNo(), equalTo(expected.requestSeqNo()));
+        assertThat(actual.shardId(), equalTo(expected.shardId()));
+        assertThat(actual.name(), equalTo(expected.name()));
+        assertThat(actual.position(), equalTo(expected.position()));
+        assertThat(actual.length(), equalTo(expected.length()));
+        assertThat(actual.metadata().checksum(), equalTo(expected.metadata().checksum()));
+        assertThat(actual.content(), equalTo(expected.content()));
+        assertThat(actual.lastChunk(), equalTo(expected.lastChunk()));
+        assertThat(actual.totalTranslogOps(), equalTo(expected.totalTranslogOps()));
+        assertThat(actual.sourceThrottleTimeInNanos(), equalTo(expected.sourceThrottleTimeInNanos()));
+    }
+}
@@ -94,4 +94,11 @@ public class RecoverySettingsDynamicUpdateTests extends OpenSearchTestCase {
         ).build());
         assertEquals(new TimeValue(duration, timeUnit), recoverySettings.internalActionLongTimeout());
     }
+
+    public void testMaxConcurrentFiles() {
+        final int maxConcurrentFiles = between(1, 16);
+        clusterSettings.applySettings(Settings.builder().put(
+                RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_FILES_SETTING.getKey(), maxConcurrentFiles).build());
+        assertEquals(maxConcurrentFiles, recoverySettings.getMaxConcurrentFiles());
+    }
 }
@@ -59,6 +59,7 @@ import org.opensearch.common.Randomness;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.FileRegionBytesReference;
 import org.opensearch.common.io.FileSystemUtils;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.store.IndexOutputOutputStream;
@@ -203,7 +204,8 @@ public class RecoverySourceHandlerTests extends OpenSearchTestCase {
             }
         };
         RecoverySourceHandler handler = new RecoverySourceHandler(null, new AsyncRecoveryTarget(target, recoveryExecutor),
-            threadPool, request, Math.toIntExact(recoverySettings.getChunkSize().getBytes()), between(1, 5), between(1, 5));
+            threadPool, request, Math.toIntExact(recoverySettings.getChunkSize().getBytes()), between(1, 5), between(1, 5),
+            between(1, 5));
         PlainActionFuture<Void> sendFilesFuture = new PlainActionFuture<>();
         handler.sendFiles(store, metas.toArray(new StoreFileMetadata[0]), () -> 0, sendFilesFuture);
         sendFilesFuture.actionGet();
@@ -266,7 +268,7 @@ public class RecoverySourceHandlerTests extends OpenSearchTestCase {
             }
         };
         RecoverySourceHandler handler = new RecoverySourceHandler(shard, new AsyncRecoveryTarget(recoveryTarget, threadPool.generic()),
-            threadPool, request, fileChunkSizeInBytes, between(1, 10), between(1, 10));
+            threadPool, request, fileChunkSizeInBytes, between(1, 10), between(1, 10), between(1, 5));
         PlainActionFuture<RecoverySourceHandler.SendSnapshotResult> future = new PlainActionFuture<>();
         handler.phase2(startingSeqNo, endingSeqNo, newTranslogSnapshot(operations, Collections.emptyList()),
             randomNonNegativeLong(), randomNonNegativeLong(), RetentionLeases.EMPTY, randomNonNegativeLong(), future);
@@ -308,7 +310,7 @@ public class RecoverySourceHandlerTests extends OpenSearchTestCase {
             }
         };
         RecoverySourceHandler handler = new RecoverySourceHandler(shard, new AsyncRecoveryTarget(recoveryTarget, threadPool.generic()),
-            threadPool, request, fileChunkSizeInBytes, between(1, 10), between(1, 10));
+            threadPool, request, fileChunkSizeInBytes, between(1, 10), between(1, 10), between(1, 5));
         PlainActionFuture<RecoverySourceHandler.SendSnapshotResult> future = new PlainActionFuture<>();
         final long startingSeqNo = randomLongBetween(0, ops.size() - 1L);
         final long endingSeqNo = randomLongBetween(startingSeqNo, ops.size() - 1L);
@@ -362,7 +364,7 @@ public class RecoverySourceHandlerTests extends OpenSearchTestCase {
         List<Translog.Operation> skipOperations = randomSubsetOf(operations);
         Translog.Snapshot snapshot = newTranslogSnapshot(operations, skipOperations);
         RecoverySourceHandler handler = new RecoverySourceHandler(shard, new AsyncRecoveryTarget(target, recoveryExecutor),
-            threadPool, getStartRecoveryRequest(), between(1, 10 * 1024), between(1, 5), between(1, 5));
+            threadPool, getStartRecoveryRequest(), between(1, 10 * 1024), between(1, 5), between(1, 5), between(1, 5));
         handler.phase2(startingSeqNo, endingSeqNo, snapshot, maxSeenAutoIdTimestamp, maxSeqNoOfUpdatesOrDeletes, retentionLeases,
             mappingVersion, sendFuture);
         RecoverySourceHandler.SendSnapshotResult sendSnapshotResult = sendFuture.actionGet();
@@ -438,7 +440,7 @@ public class RecoverySourceHandlerTests extends OpenSearchTestCase {
             }
         };
         RecoverySourceHandler handler = new RecoverySourceHandler(null, new AsyncRecoveryTarget(target, recoveryExecutor), threadPool,
-            request, Math.toIntExact(recoverySettings.getChunkSize().getBytes()), between(1, 8), between(1, 8)) {
+            request, Math.toIntExact(recoverySettings.getChunkSize().getBytes()), between(1, 8), between(1, 8), between(1, 5)) {
             @Override
             protected void failEngine(IOException cause) {
                 assertFalse(failedEngine.get());
@@ -495,7 +497,7 @@ public class RecoverySourceHandlerTests extends OpenSearchTestCase {
             }
         };
         RecoverySourceHandler handler = new RecoverySourceHandler(null, new AsyncRecoveryTarget(target, recoveryExecutor), threadPool,
-            request, Math.toIntExact(recoverySettings.getChunkSize().getBytes()), between(1, 10), between(1, 4)) {
+            request, Math.toIntExact(recoverySettings.getChunkSize().getBytes()), between(1, 10), between(1, 4), between(1, 5)) {
             @Override
             protected void failEngine(IOException cause) {
                 assertFalse(failedEngine.get());
@@ -550,7 +552,7 @@ public class RecoverySourceHandlerTests extends OpenSearchTestCase {
                 threadPool,
                 request,
                 Math.toIntExact(recoverySettings.getChunkSize().getBytes()),
-                between(1, 8), between(1, 8)) {
+                between(1, 8), between(1, 8), between(1, 4)) {
 
             @Override
             void phase1(IndexCommit snapshot, long startingSeqNo, IntSupplier translogOps, ActionListener<SendFileResult> listener) {
@@ -620,6 +622,8 @@ public class RecoverySourceHandlerTests extends OpenSearchTestCase {
                                        int totalTranslogOps, ActionListener<Void> listener) {
                 final long chunkNumber = chunkNumberGenerator.getAndIncrement();
                 logger.info("--> write chunk name={} seq={}, position={}", md.name(), chunkNumber, position);
+                // the chunks of files on a file system refer to the files rather than being read
+                assertThat(content, instanceOf(FileRegionBytesReference.class));
                 unrepliedChunks.add(new FileChunkResponse(chunkNumber, listener));
                 sentChunks.incrementAndGet();
             }
@@ -627,7 +631,7 @@ public class RecoverySourceHandlerTests extends OpenSearchTestCase {
         final int maxConcurrentChunks = between(1, 8);
         final int chunkSize = between(1, 32);
         final RecoverySourceHandler handler = new RecoverySourceHandler(shard, recoveryTarget, threadPool, getStartRecoveryRequest(),
-            chunkSize, maxConcurrentChunks, between(1, 10));
+            chunkSize, maxConcurrentChunks, between(1, 10), 1);
         Store store = newStore(createTempDir(), false);
         List<StoreFileMetadata> files = generateFiles(store, between(1, 10), () -> between(1, chunkSize * 20));
         int totalChunks = files.stream().mapToInt(md -> ((int) md.length() + chunkSize - 1) / chunkSize).sum();
@@ -685,7 +689,7 @@ public class RecoverySourceHandlerTests extends OpenSearchTestCase {
         final int maxConcurrentChunks = between(1, 4);
         final int chunkSize = between(1, 16);
         final RecoverySourceHandler handler = new RecoverySourceHandler(null, new AsyncRecoveryTarget(recoveryTarget, recoveryExecutor),
-            threadPool, getStartRecoveryRequest(), chunkSize, maxConcurrentChunks, between(1, 5));
+            threadPool, getStartRecoveryRequest(), chunkSize, maxConcurrentChunks, between(1, 5), 1);
         Store store = newStore(createTempDir(), false);
         List<StoreFileMetadata> files = generateFiles(store, between(1, 10), () -> between(1, chunkSize * 20));
         int totalChunks = files.stream().mapToInt(md -> ((int) md.length() + chunkSize - 1) / chunkSize).sum();
@@ -716,6 +720,44 @@ public class RecoverySourceHandlerTests extends OpenSearchTestCase {
         store.close();
     }
 
+    public void testSendFilesConcurrently() throws Exception {
+        final List<FileChunkResponse> unrepliedChunks = new CopyOnWriteArrayList<>();
+        final List<String> sentFiles = new CopyOnWriteArrayList<>();
+        final AtomicInteger sentChunks = new AtomicInteger();
+        final TestRecoveryTargetHandler recoveryTarget = new TestRecoveryTargetHandler() {
+            @Override
+            public void writeFileChunk(StoreFileMetadata md, long position, BytesReference content, boolean lastChunk,
+                                       int totalTranslogOps, ActionListener<Void> listener) {
+                sentFiles.add(md.name());
+                unrepliedChunks.add(new FileChunkResponse(sentChunks.getAndIncrement(), listener));
+            }
+        };
+        final int maxConcurrentFiles = between(2, 5);
+        final int chunkSize = between(1, 16);
+        final RecoverySourceHandler handler = new RecoverySourceHandler(null, recoveryTarget, threadPool, getStartRecoveryRequest(),
+            chunkSize, 1, between(1, 5), maxConcurrentFiles);
+        Store store = newStore(createTempDir(), false);
+        List<StoreFileMetadata> files = generateFiles(store, between(2, 10), () -> between(1, chunkSize * 20));
+        int totalChunks = files.stream().mapToInt(md -> ((int) md.length() + chunkSize - 1) / chunkSize).sum();
+        PlainActionFuture<Void> sendFilesFuture = new PlainActionFuture<>();
+        handler.sendFiles(store, files.toArray(new StoreFileMetadata[0]), () -> 0, sendFilesFuture);
+        // each sender has a chunk of its own file in flight
+        final int numSenders = Math.min(files.size(), maxConcurrentFiles);
+        assertBusy(() -> assertThat(unrepliedChunks, hasSize(numSenders)));
+        assertThat(new HashSet<>(sentFiles), hasSize(numSenders));
+
+        while (sendFilesFuture.isDone() == false) {
+            assertBusy(() -> assertTrue(unrepliedChunks.isEmpty() == false || sendFilesFuture.isDone()));
+            final List<FileChunkResponse> chunksToAck = new ArrayList<>(unrepliedChunks);
+            unrepliedChunks.removeAll(chunksToAck);
+            chunksToAck.forEach(c -> c.listener.onResponse(null));
+        }
+        sendFilesFuture.actionGet();
+        assertThat(sentChunks.get(), equalTo(totalChunks));
+        assertThat(new HashSet<>(sentFiles), hasSize(files.size()));
+        store.close();
+    }
+
     public void testCancelRecoveryDuringPhase1() throws Exception {
         Store store = newStore(createTempDir("source"), false);
         IndexShard shard = mock(IndexShard.class);
@@ -766,7 +808,7 @@ public class RecoverySourceHandlerTests extends OpenSearchTestCase {
         };
         final StartRecoveryRequest startRecoveryRequest = getStartRecoveryRequest();
         final RecoverySourceHandler handler = new RecoverySourceHandler(
-            shard, recoveryTarget, threadPool, startRecoveryRequest, between(1, 16), between(1, 4), between(1, 4)) {
+            shard, recoveryTarget, threadPool, startRecoveryRequest, between(1, 16), between(1, 4), between(1, 4), between(1, 4)) {
             @Override
             void createRetentionLease(long startingSeqNo, ActionListener<RetentionLease> listener) {
                 final String leaseId = ReplicationTracker.getPeerRecoveryRetentionLeaseId(startRecoveryRequest.targetNode().getId());
@@ -795,7 +837,8 @@ public class RecoverySourceHandlerTests extends OpenSearchTestCase {
         IndexShard shard = mock(IndexShard.class);
         when(shard.state()).thenReturn(IndexShardState.STARTED);
         RecoverySourceHandler handler = new RecoverySourceHandler(
-            shard, new TestRecoveryTargetHandler(), threadPool, getStartRecoveryRequest(), between(1, 16), between(1, 4), between(1, 4));
+            shard, new TestRecoveryTargetHandler(), threadPool, getStartRecoveryRequest(), between(1, 16), between(1, 4), between(1, 4),
+            between(1, 4));
 
         String syncId = UUIDs.randomBase64UUID();
         int numDocs = between(0, 1000);
@@ -283,6 +283,7 @@ public class RecoveryTargetTests extends OpenSearchTestCase {
         long recoveredBytes = 0;
         long sourceThrottling = Index.UNKNOWN;
         long targetThrottling = Index.UNKNOWN;
+        long totalWriteTime = 0;
         while (bytesToRecover > 0) {
             FileDetail file = randomFrom(filesToRecover);
             final long toRecover = Math.min(bytesToRecover, randomIntBetween(1, (int) (file.length() - file.recovered())));
@@ -302,6 +303,9 @@ public class RecoveryTargetTests extends OpenSearchTestCase {
                 targetThrottling += throttledOnTarget;
             }
             index.addTargetThrottling(throttledOnTarget);
+            final long writeTime = randomIntBetween(0, 200);
+            index.addWriteTime(writeTime);
+            totalWriteTime += writeTime;
             bytesToRecover -= toRecover;
             recoveredBytes += toRecover;
             if (file.reused() || file.fullyRecovered()) {
@@ -329,6 +333,7 @@ public class RecoveryTargetTests extends OpenSearchTestCase {
         assertThat(lastRead.stopTime(), equalTo(index.stopTime()));
         assertThat(lastRead.targetThrottling(), equalTo(index.targetThrottling()));
         assertThat(lastRead.sourceThrottling(), equalTo(index.sourceThrottling()));
+        assertThat(lastRead.writeTime(), equalTo(index.writeTime()));
 
         logger.info("testing post recovery");
         assertThat(index.totalBytes(), equalTo(totalFileBytes));
@@ -341,6 +346,7 @@ public class RecoveryTargetTests extends OpenSearchTestCase {
         assertThat(index.recoveredBytes(), equalTo(recoveredBytes));
         assertThat(index.targetThrottling().nanos(), equalTo(targetThrottling));
         assertThat(index.sourceThrottling().nanos(), equalTo(sourceThrottling));
+        assertThat(index.writeTime().nanos(), equalTo(totalWriteTime));
         assertThat(index.bytesStillToRecover(), equalTo(totalFileBytes - totalReusedBytes - recoveredBytes));
         if (index.totalRecoverFiles() == 0) {
             assertThat((double) index.recoveredFilesPercent(), equalTo(100.0));
@@ -414,6 +420,7 @@ public class RecoveryTargetTests extends OpenSearchTestCase {
         streamer.serializeDeserialize();
         int ops = 0;
         int totalOps = 0;
+        long replayTime = 0;
         int totalOpsOnStart = randomIntBetween(10, 200);
         translog.totalOperationsOnStart(totalOpsOnStart);
         for (int i = scaledRandomIntBetween(10, 200); i > 0; i--) {
@@ -429,6 +436,10 @@ public class RecoveryTargetTests extends OpenSearchTestCase {
                     translog.incrementRecoveredOperations();
                 }
             }
+            final long iterationReplayTime = randomIntBetween(0, 200);
+            translog.addReplayTime(iterationReplayTime);
+            replayTime += iterationReplayTime;
+            assertThat(translog.replayTime().nanos(), equalTo(replayTime));
             assertThat(translog.recoveredOperations(), equalTo(ops));
             assertThat(translog.totalOperations(), equalTo(totalOps));
             assertThat(translog.recoveredPercent(), equalTo(100.f));
@@ -450,6 +461,7 @@ public class RecoveryTargetTests extends OpenSearchTestCase {
             ops = 0;
             totalOps = Translog.UNKNOWN;
             totalOpsOnStart = Translog.UNKNOWN;
+            replayTime = 0;
             assertThat(translog.recoveredOperations(), equalTo(0));
             assertThat(translog.totalOperationsOnStart(), equalTo(Translog.UNKNOWN));
             assertThat(translog.totalOperations(), equalTo(Translog.UNKNOWN));
@@ -461,6 +473,7 @@ public class RecoveryTargetTests extends OpenSearchTestCase {
         assertThat(lastRead.recoveredOperations(), equalTo(ops));
         assertThat(lastRead.totalOperations(), equalTo(totalOps));
         assertThat(lastRead.totalOperationsOnStart(), equalTo(totalOpsOnStart));
+        assertThat(lastRead.replayTime().nanos(), equalTo(replayTime));
         assertThat(lastRead.startTime(), equalTo(translog.startTime()));
         assertThat(lastRead.stopTime(), equalTo(translog.stopTime()));
 
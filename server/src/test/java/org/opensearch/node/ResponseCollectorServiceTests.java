@@ -38,6 +38,7 @@ import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.transport.TransportAddress;
@@ -49,6 +50,7 @@ import org.junit.Before;
 
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
@@ -150,4 +152,45 @@ public class ResponseCollectorServiceTests extends OpenSearchTestCase {
         assertTrue(nodeStats.containsKey("node1"));
         assertFalse(nodeStats.containsKey("node2"));
     }
+
+    public void testResponseTimePercentile() {
+        final AtomicLong now = new AtomicLong();
+        final ResponseCollectorService collector = new ResponseCollectorService(clusterService, now::get);
+        assertThat(collector.getResponseTimePercentile("node1", 95), equalTo(-1L));
+        for (int i = 0; i < 10; i++) {
+            collector.addResponseTime("node1", 100);
+        }
+        assertThat(collector.getResponseTimePercentile("node1", 95), equalTo(-1L));
+        now.addAndGet(ResponseCollectorService.RESPONSE_TIME_WINDOW_NANOS);
+        assertThat(collector.getResponseTimePercentile("node1", 95), equalTo(100L));
+        assertThat(collector.getResponseTimePercentile("node2", 95), equalTo(-1L));
+
+        collector.removeNode("node1");
+        assertThat(collector.getResponseTimePercentile("node1", 95), equalTo(-1L));
+    }
+
+    public void testStalledNodeIsAsSlowAsItsOldestInFlightRequest() {
+        final AtomicLong now = new AtomicLong();
+        final ResponseCollectorService collector = new ResponseCollectorService(clusterService, now::get);
+        for (int i = 0; i < 10; i++) {
+            collector.addResponseTime("node1", 100);
+        }
+        now.addAndGet(ResponseCollectorService.RESPONSE_TIME_WINDOW_NANOS);
+        assertThat(collector.getResponseTimePercentile("node1", 95), equalTo(100L));
+
+        // the node stops responding, its response times age out but its requests in flight get older
+        final Releasable request = collector.startRequest("node1");
+        assertThat(collector.getOldestInFlightRequestAge("node1"), equalTo(0L));
+        assertThat(collector.getResponseTimePercentile("node1", 95), equalTo(100L));
+        now.addAndGet(2 * ResponseCollectorService.RESPONSE_TIME_WINDOW_NANOS);
+        assertThat(collector.getResponseTimePercentile("node1", 95),
+            equalTo(2 * ResponseCollectorService.RESPONSE_TIME_WINDOW_NANOS));
+        assertThat(collector.getLastKnownResponseTimePercentile("node1", 95), equalTo(100L));
+
+        request.close();
+        assertThat(collector.getOldestInFlightRequestAge("node1"), equalTo(-1L));
+        assertThat(collector.getResponseTimePercentile("node1", 95), equalTo(-1L));
+        assertThat(collector.getLastKnownResponseTimePercentile("node1", 95), equalTo(100L));
+        assertThat(collector.getLastKnownResponseTimePercentile("node2", 95), equalTo(-1L));
+    }
 }
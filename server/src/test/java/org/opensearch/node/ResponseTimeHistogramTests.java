@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.node;
+
+import org.hamcrest.Matcher;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class ResponseTimeHistogramTests extends OpenSearchTestCase {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    public void testPercentilesAreReadFromTheLastCompleteWindow() {
+        final AtomicLong now = new AtomicLong(randomNonNegativeLong() / 2);
+        final ResponseTimeHistogram histogram = new ResponseTimeHistogram(WINDOW_NANOS, now::get);
+        for (long i = 1; i <= 100; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        // the first window isn't complete yet
+        assertThat(histogram.percentile(95), equalTo(-1L));
+
+        now.addAndGet(WINDOW_NANOS);
+        assertThat(histogram.percentile(95), isAbout(TimeUnit.MILLISECONDS.toNanos(95)));
+        assertThat(histogram.percentile(50), isAbout(TimeUnit.MILLISECONDS.toNanos(50)));
+
+        // responses of the current window don't count until it is complete
+        histogram.record(TimeUnit.SECONDS.toNanos(10));
+        now.addAndGet(WINDOW_NANOS - 1);
+        assertThat(histogram.percentile(95), isAbout(TimeUnit.MILLISECONDS.toNanos(95)));
+        now.incrementAndGet();
+        assertThat(histogram.percentile(95), isAbout(TimeUnit.SECONDS.toNanos(10)));
+
+        // a window without responses has no percentiles
+        now.addAndGet(WINDOW_NANOS);
+        assertThat(histogram.percentile(95), equalTo(-1L));
+    }
+
+    public void testWindowsRollWhileTheNodeIsIdle() {
+        final AtomicLong now = new AtomicLong(randomNonNegativeLong() / 2);
+        final ResponseTimeHistogram histogram = new ResponseTimeHistogram(WINDOW_NANOS, now::get);
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(100));
+
+        // nobody reads the percentiles while the node is idle, the responses of long ago don't make it into the next window
+        now.addAndGet(randomLongBetween(2 * WINDOW_NANOS, 10 * WINDOW_NANOS));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(histogram.percentile(95), equalTo(-1L));
+        assertThat(histogram.lastKnownPercentile(95), isAbout(TimeUnit.MILLISECONDS.toNanos(100)));
+
+        now.addAndGet(WINDOW_NANOS);
+        assertThat(histogram.percentile(95), isAbout(TimeUnit.MILLISECONDS.toNanos(1)));
+        assertThat(histogram.lastKnownPercentile(95), isAbout(TimeUnit.MILLISECONDS.toNanos(1)));
+    }
+
+    public void testLastKnownPercentilesOutliveEmptyWindows() {
+        final AtomicLong now = new AtomicLong();
+        final ResponseTimeHistogram histogram = new ResponseTimeHistogram(WINDOW_NANOS, now::get);
+        assertThat(histogram.lastKnownPercentile(95), equalTo(-1L));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(10));
+        now.addAndGet(WINDOW_NANOS);
+        assertThat(histogram.lastKnownPercentile(95), isAbout(TimeUnit.MILLISECONDS.toNanos(10)));
+
+        final int emptyWindows = randomIntBetween(1, 5);
+        for (int i = 0; i < emptyWindows; i++) {
+            now.addAndGet(WINDOW_NANOS);
+            assertThat(histogram.percentile(95), equalTo(-1L));
+            assertThat(histogram.lastKnownPercentile(95), isAbout(TimeUnit.MILLISECONDS.toNanos(10)));
+        }
+    }
+
+    public void testOldestInFlightRequestAge() {
+        final AtomicLong now = new AtomicLong(randomNonNegativeLong() / 2);
+        final ResponseTimeHistogram histogram = new ResponseTimeHistogram(WINDOW_NANOS, now::get);
+        assertThat(histogram.oldestInFlightRequestAge(), equalTo(-1L));
+
+        final ResponseTimeHistogram.InFlightRequest first = histogram.startRequest();
+        final ResponseTimeHistogram.InFlightRequest second = histogram.startRequest();
+        now.addAndGet(100);
+        final ResponseTimeHistogram.InFlightRequest third = histogram.startRequest();
+        now.addAndGet(50);
+        assertThat(histogram.oldestInFlightRequestAge(), equalTo(150L));
+
+        first.close();
+        assertThat(histogram.oldestInFlightRequestAge(), equalTo(150L));
+        second.close();
+        assertThat(histogram.oldestInFlightRequestAge(), equalTo(50L));
+        // closing twice is a no-op
+        second.close();
+        third.close();
+        assertThat(histogram.oldestInFlightRequestAge(), equalTo(-1L));
+    }
+
+    public void testNegativeResponseTimesAreRecordedAsZero() {
+        final AtomicLong now = new AtomicLong();
+        final ResponseTimeHistogram histogram = new ResponseTimeHistogram(WINDOW_NANOS, now::get);
+        histogram.record(-randomIntBetween(1, 1000));
+        now.addAndGet(WINDOW_NANOS);
+        assertThat(histogram.percentile(100), equalTo(0L));
+    }
+
+    public void testConcurrentRecording() throws InterruptedException {
+        final AtomicLong now = new AtomicLong();
+        final ResponseTimeHistogram histogram = new ResponseTimeHistogram(WINDOW_NANOS, now::get);
+        final int numThreads = randomIntBetween(2, 4);
+        final int numResponses = randomIntBetween(100, 1000);
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                for (int i = 0; i < numResponses; i++) {
+                    histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+                    histogram.percentile(50);
+                }
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        now.addAndGet(WINDOW_NANOS);
+        assertThat(histogram.percentile(0), isAbout(TimeUnit.MILLISECONDS.toNanos(1)));
+        assertThat(histogram.percentile(100), isAbout(TimeUnit.MILLISECONDS.toNanos(1)));
+    }
+
+    private static Matcher<Long> isAbout(long nanos) {
+        // the histogram keeps two significant digits
+        return both(greaterThanOrEqualTo((long) (nanos * 0.99))).and(lessThanOrEqualTo((long) (nanos * 1.01)));
+    }
+}
@@ -54,8 +54,10 @@ import org.opensearch.common.Strings;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.index.Index;
 import org.opensearch.index.IndexModule;
@@ -111,6 +113,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Semaphore;
@@ -124,7 +127,9 @@ import static org.opensearch.indices.cluster.IndicesClusterStateService.Allocate
 import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
 import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
 import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertSearchHits;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -1020,6 +1025,37 @@ public class SearchServiceTests extends OpenSearchSingleNodeTestCase {
         }
     }
 
+    public void testSliceThreadsTrackTheResourcesOfTheTask() throws Exception {
+        createIndex("index", Settings.builder().put(IndexSettings.INDEX_CONCURRENT_SEGMENT_SEARCH_SETTING.getKey(), true).build());
+        // a segment per document, there are more segments than fit in a slice
+        final int numDocs = randomIntBetween(8, 12);
+        for (int i = 0; i < numDocs; i++) {
+            client().prepareIndex("index", "_doc", Integer.toString(i)).setSource("value", i).setRefreshPolicy(IMMEDIATE).get();
+        }
+        SearchService service = getInstanceFromNode(SearchService.class);
+        IndicesService indicesService = getInstanceFromNode(IndicesService.class);
+        IndexShard indexShard = indicesService.indexServiceSafe(resolveIndex("index")).getShard(0);
+        SearchRequest searchRequest = new SearchRequest()
+            .allowPartialSearchResults(false)
+            .source(new SearchSourceBuilder().aggregation(AggregationBuilders.count("count").field("value")));
+        ShardSearchRequest shardRequest = new ShardSearchRequest(OriginalIndices.NONE, searchRequest, indexShard.shardId(),
+            1, AliasFilter.EMPTY, 1.0f, 0, null, null);
+        final Set<String> trackedThreads = ConcurrentCollections.newConcurrentSet();
+        SearchShardTask task = new SearchShardTask(123L, "", "", "", null, Collections.emptyMap()) {
+            @Override
+            public Releasable startResourceTracking() {
+                trackedThreads.add(Thread.currentThread().getName());
+                return super.startResourceTracking();
+            }
+        };
+
+        PlainActionFuture<SearchPhaseResult> future = new PlainActionFuture<>();
+        service.executeQueryPhase(shardRequest, randomBoolean(), task, future);
+        assertThat(future.get().queryResult().aggregations(), notNullValue());
+        assertThat(trackedThreads, hasItem(containsString("[" + ThreadPool.Names.SEARCH + "]")));
+        assertThat(trackedThreads, hasItem(containsString("[" + ThreadPool.Names.INDEX_SEARCHER + "]")));
+    }
+
     public void testDeleteIndexWhileSearch() throws Exception {
         createIndex("test");
         int numDocs = randomIntBetween(1, 20);
@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class BatchingLeafBucketCollectorTests extends OpenSearchTestCase {
+
+    private static class RecordingCollector extends BatchingLeafBucketCollector {
+        final List<long[]> collected = new ArrayList<>();
+        int batches;
+
+        @Override
+        public void collect(int[] docs, int count, long owningBucketOrd) {
+            assertThat(count, lessThanOrEqualTo(BATCH_SIZE));
+            batches++;
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    assertThat(docs[i] >= docs[i - 1], equalTo(true));
+                }
+                collected.add(new long[] { docs[i], owningBucketOrd });
+            }
+        }
+    }
+
+    public void testCollectsAllDocsInOrder() throws IOException {
+        final RecordingCollector collector = new RecordingCollector();
+        final List<long[]> expected = new ArrayList<>();
+        final int numDocs = randomIntBetween(0, 1000);
+        int doc = 0;
+        long bucket = 0;
+        for (int i = 0; i < numDocs; i++) {
+            doc += randomIntBetween(0, 3);
+            if (randomInt(20) == 0) {
+                bucket = randomLongBetween(0, 5);
+            }
+            collector.collect(doc, bucket);
+            expected.add(new long[] { doc, bucket });
+        }
+        collector.flush();
+        // flushing again doesn't collect anything
+        collector.flush();
+
+        assertThat(collector.collected.size(), equalTo(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), collector.collected.get(i));
+        }
+    }
+
+    public void testBatchIsCollectedWhenFullOrWhenBucketChanges() throws IOException {
+        final RecordingCollector collector = new RecordingCollector();
+        for (int doc = 0; doc < BatchingLeafBucketCollector.BATCH_SIZE; doc++) {
+            collector.collect(doc, 0);
+        }
+        assertThat(collector.batches, equalTo(0));
+        collector.collect(BatchingLeafBucketCollector.BATCH_SIZE, 0);
+        assertThat(collector.batches, equalTo(1));
+        assertThat(collector.collected.size(), equalTo(BatchingLeafBucketCollector.BATCH_SIZE));
+
+        collector.collect(BatchingLeafBucketCollector.BATCH_SIZE, 1);
+        assertThat(collector.batches, equalTo(2));
+        assertThat(collector.collected.size(), equalTo(BatchingLeafBucketCollector.BATCH_SIZE + 1));
+
+        collector.flush();
+        assertThat(collector.batches, equalTo(3));
+        assertThat(collector.collected.size(), equalTo(BatchingLeafBucketCollector.BATCH_SIZE + 2));
+    }
+
+    public void testWrapForwardsBatches() throws IOException {
+        final RecordingCollector first = new RecordingCollector();
+        final RecordingCollector second = new RecordingCollector();
+        final LeafBucketCollector wrapped = LeafBucketCollector.wrap(List.of(first, second));
+        wrapped.collect(new int[] { 1, 4, 7 }, 2, 3);
+        assertThat(first.batches, equalTo(1));
+        assertThat(second.batches, equalTo(1));
+        assertArrayEquals(new long[] { 4, 3 }, second.collected.get(1));
+        assertThat(second.collected.size(), equalTo(2));
+    }
+}
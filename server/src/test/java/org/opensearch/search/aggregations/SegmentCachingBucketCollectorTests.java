@@ -0,0 +1,210 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.search.aggregations.MultiBucketConsumerService.MultiBucketConsumer;
+import org.opensearch.search.aggregations.bucket.histogram.HistogramAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.InternalHistogram;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.InternalSum;
+import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.query.QuerySearchResult;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
+
+public class SegmentCachingBucketCollectorTests extends AggregatorTestCase {
+
+    private static final MappedFieldType FIELD_TYPE = new NumberFieldMapper.NumberFieldType("value", NumberFieldMapper.NumberType.LONG);
+
+    private static class TestCache implements SegmentAggregationsCache {
+        final Map<IndexReader.CacheKey, InternalAggregations> results = new HashMap<>();
+        int hits;
+
+        @Override
+        public InternalAggregations get(LeafReaderContext leaf) {
+            final InternalAggregations result = results.get(leaf.reader().getCoreCacheHelper().getKey());
+            if (result != null) {
+                hits++;
+            }
+            return result;
+        }
+
+        @Override
+        public void put(LeafReaderContext leaf, InternalAggregations aggregations) {
+            results.put(leaf.reader().getCoreCacheHelper().getKey(), aggregations);
+        }
+    }
+
+    public void testSupportsSegmentLevelCaching() throws IOException {
+        try (Directory directory = newDirectory(); IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig())) {
+            try (IndexReader reader = DirectoryReader.open(writer)) {
+                SearchContext context = createSearchContext(newSearcher(reader), createIndexSettings(), new MatchAllDocsQuery(),
+                    null, FIELD_TYPE);
+                assertTrue(buildFactories(context, aggregations()).supportsSegmentLevelCaching());
+                assertFalse(buildFactories(context, new AggregatorFactories.Builder()
+                    .addAggregator(new TermsAggregationBuilder("terms").field("value"))).supportsSegmentLevelCaching());
+                assertFalse(buildFactories(context, new AggregatorFactories.Builder()
+                    .addAggregator(new HistogramAggregationBuilder("histo").field("value").interval(10)
+                        .subAggregation(new TermsAggregationBuilder("terms").field("value")))).supportsSegmentLevelCaching());
+            }
+        }
+    }
+
+    public void testRefreshOnlyCollectsNewSegments() throws IOException {
+        final TestCache cache = new TestCache();
+        try (Directory directory = newDirectory();
+             IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            final int numSegments = randomIntBetween(2, 5);
+            for (int i = 0; i < numSegments; i++) {
+                addDocs(writer);
+            }
+            try (IndexReader reader = DirectoryReader.open(writer)) {
+                assertThat(reader.leaves().size(), equalTo(numSegments));
+                assertSameResults(reader, cache, true);
+                assertThat(cache.hits, equalTo(0));
+                assertThat(cache.results.size(), equalTo(numSegments));
+            }
+
+            // the second search only collects the segment that the refresh added
+            addDocs(writer);
+            try (IndexReader reader = DirectoryReader.open(writer)) {
+                assertSameResults(reader, cache, true);
+                assertThat(cache.hits, equalTo(numSegments));
+                assertThat(cache.results.size(), equalTo(numSegments + 1));
+            }
+        }
+    }
+
+    public void testLastSegmentIsNotCachedIfTheSearchTimedOut() throws IOException {
+        final TestCache cache = new TestCache();
+        try (Directory directory = newDirectory();
+             IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            final int numSegments = randomIntBetween(1, 5);
+            for (int i = 0; i < numSegments; i++) {
+                addDocs(writer);
+            }
+            try (IndexReader reader = DirectoryReader.open(writer)) {
+                assertSameResults(reader, cache, false);
+                assertThat(cache.results.size(), equalTo(numSegments - 1));
+                assertNull(cache.results.get(reader.leaves().get(numSegments - 1).reader().getCoreCacheHelper().getKey()));
+            }
+        }
+    }
+
+    private static void addDocs(IndexWriter writer) throws IOException {
+        final int numDocs = randomIntBetween(1, 50);
+        for (int i = 0; i < numDocs; i++) {
+            Document document = new Document();
+            if (randomInt(10) > 0) {
+                document.add(new SortedNumericDocValuesField("value", randomIntBetween(0, 100)));
+            }
+            writer.addDocument(document);
+        }
+        writer.commit();
+    }
+
+    private static AggregatorFactories.Builder aggregations() {
+        return new AggregatorFactories.Builder()
+            .addAggregator(new SumAggregationBuilder("sum").field("value"))
+            .addAggregator(new HistogramAggregationBuilder("histo").field("value").interval(10)
+                .subAggregation(new SumAggregationBuilder("sum").field("value")));
+    }
+
+    private AggregatorFactories buildFactories(SearchContext context, AggregatorFactories.Builder builder) throws IOException {
+        return builder.build(context.getQueryShardContext(), null);
+    }
+
+    /**
+     * Collects the aggregations with and without segment level caching and checks that the results are the same.
+     */
+    private void assertSameResults(IndexReader reader, TestCache cache, boolean complete) throws IOException {
+        final IndexSearcher searcher = newSearcher(reader, true, false);
+        final Query query = new MatchAllDocsQuery();
+
+        SearchContext expectedContext = createContext(searcher, query);
+        List<Aggregator> aggregators = AggregationPhase.createSliceAggregators(expectedContext);
+        BucketCollector collector = MultiBucketCollector.wrap(aggregators);
+        collector.preCollection();
+        searcher.search(query, collector);
+        collector.postCollection();
+        List<InternalAggregation> results = new ArrayList<>();
+        for (Aggregator aggregator : aggregators) {
+            results.add(aggregator.buildTopLevel());
+        }
+        final InternalAggregations expected = InternalAggregations.from(results);
+
+        SearchContext context = createContext(searcher, query);
+        context.queryResult().searchTimedOut(complete == false);
+        SegmentCachingBucketCollector segmentCollector = new SegmentCachingBucketCollector(context, cache,
+            MultiBucketCollector.wrap(AggregationPhase.createSliceAggregators(context)));
+        segmentCollector.preCollection();
+        searcher.search(query, segmentCollector);
+        segmentCollector.postCollection();
+        final InternalAggregations actual = context.aggregations().sliceAggregations();
+
+        final InternalSum expectedSum = expected.get("sum");
+        final InternalSum actualSum = actual.get("sum");
+        assertEquals(expectedSum.getValue(), actualSum.getValue(), 0d);
+        final InternalHistogram expectedHisto = expected.get("histo");
+        final InternalHistogram actualHisto = actual.get("histo");
+        assertThat(actualHisto.getBuckets().size(), equalTo(expectedHisto.getBuckets().size()));
+        for (int i = 0; i < expectedHisto.getBuckets().size(); i++) {
+            InternalHistogram.Bucket expectedBucket = expectedHisto.getBuckets().get(i);
+            InternalHistogram.Bucket actualBucket = actualHisto.getBuckets().get(i);
+            assertThat(actualBucket.getKey(), equalTo(expectedBucket.getKey()));
+            assertThat(actualBucket.getDocCount(), equalTo(expectedBucket.getDocCount()));
+            assertEquals(((InternalSum) expectedBucket.getAggregations().get("sum")).getValue(),
+                ((InternalSum) actualBucket.getAggregations().get("sum")).getValue(), 0d);
+        }
+    }
+
+    private SearchContext createContext(IndexSearcher searcher, Query query) throws IOException {
+        SearchContext context = createSearchContext(searcher, createIndexSettings(), query,
+            new MultiBucketConsumer(DEFAULT_MAX_BUCKETS, new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)), FIELD_TYPE);
+        AggregatorFactories factories = buildFactories(context, aggregations());
+        SearchContextAggregations aggregations = new SearchContextAggregations(factories, context.aggregations().multiBucketConsumer());
+        when(context.aggregations()).thenReturn(aggregations);
+        ShardSearchRequest request = mock(ShardSearchRequest.class);
+        SearchSourceBuilder source = new SearchSourceBuilder();
+        for (AggregationBuilder aggregation : aggregations().getAggregatorFactories()) {
+            source.aggregation(aggregation);
+        }
+        when(request.source()).thenReturn(source);
+        when(context.request()).thenReturn(request);
+        when(context.queryResult()).thenReturn(new QuerySearchResult());
+        return context;
+    }
+}
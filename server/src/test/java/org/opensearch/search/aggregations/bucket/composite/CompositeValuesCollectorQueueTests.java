@@ -47,19 +47,25 @@ import org.apache.lucene.index.RandomIndexWriter;
 import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.DocIdSet;
 import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.SortedNumericSortField;
 import org.apache.lucene.search.SortedSetSortField;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.NumericUtils;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.MockBigArrays;
+import org.opensearch.common.util.MockPageCacheRecycler;
 import org.opensearch.index.fielddata.FieldData;
 import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.AggregatorTestCase;
 import org.opensearch.search.aggregations.LeafBucketCollector;
@@ -67,9 +73,12 @@ import org.opensearch.search.aggregations.LeafBucketCollector;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import static org.opensearch.index.mapper.NumberFieldMapper.NumberType.DOUBLE;
 import static org.opensearch.index.mapper.NumberFieldMapper.NumberType.LONG;
@@ -355,6 +364,212 @@ public class CompositeValuesCollectorQueueTests extends AggregatorTestCase {
         }
     }
 
+    public void testHeapAndTableAgainstSortedMap() throws IOException {
+        // few distinct hash codes, so that most keys collide in the table
+        assertQueueMatchesSortedMap(randomIntBetween(1, 3), randomIntBetween(1, 4), randomIntBetween(1, 200));
+    }
+
+    public void testHeapAndTableAgainstSortedMapWithASingleHashCode() throws IOException {
+        // every key has the same hash code, so that all the entries of the table are in a single run
+        assertQueueMatchesSortedMap(randomIntBetween(1, 3), 1, randomIntBetween(1, 100));
+    }
+
+    public void testHeapAndTableAgainstSortedMapWithDistinctHashCodes() throws IOException {
+        assertQueueMatchesSortedMap(randomIntBetween(1, 3), Integer.MAX_VALUE, randomIntBetween(1, 200));
+    }
+
+    /**
+     * Adds random keys to a queue, which recycles the slot of the least competitive bucket once it is full, and then pops all of
+     * them. Checks after every step that the queue holds the same buckets, with the same doc counts and in the same order, as the
+     * sorted map that the queue used to be implemented with.
+     */
+    private void assertQueueMatchesSortedMap(int numSources, int numHashCodes, int maxSize) throws IOException {
+        final int cardinality = randomIntBetween(1, 20);
+        final FixedValuesSource[] sources = new FixedValuesSource[numSources];
+        for (int i = 0; i < numSources; i++) {
+            sources[i] = new FixedValuesSource(numHashCodes, randomBoolean() ? 1 : -1);
+        }
+        final Comparator<List<Long>> comparator = (a, b) -> {
+            for (int i = 0; i < numSources; i++) {
+                final int cmp = sources[i].reverseMul * Long.compare(a.get(i), b.get(i));
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return 0;
+        };
+        CompositeKey afterKey = null;
+        List<Long> after = null;
+        if (randomBoolean()) {
+            after = randomKey(numSources, cardinality);
+            afterKey = new CompositeKey(after.toArray(new Comparable<?>[0]));
+        }
+        final TreeMap<List<Long>, Integer> expected = new TreeMap<>(comparator);
+        try (CompositeValuesCollectorQueue queue = new CompositeValuesCollectorQueue(bigArrays(), sources, maxSize, afterKey)) {
+            final int numDocs = randomIntBetween(1, 5000);
+            for (int doc = 0; doc < numDocs; doc++) {
+                final List<Long> key = randomKey(numSources, cardinality);
+                assertLookup(queue, sources, expected, key);
+                final Integer docCount = expected.get(key);
+                final boolean competitive;
+                if (docCount != null) {
+                    expected.put(key, docCount + 1);
+                    competitive = true;
+                } else if (after != null && comparator.compare(key, after) <= 0) {
+                    competitive = false;
+                } else if (expected.size() >= maxSize && comparator.compare(key, expected.lastKey()) > 0) {
+                    competitive = false;
+                } else {
+                    if (expected.size() >= maxSize) {
+                        expected.pollLastEntry();
+                    }
+                    expected.put(key, 1);
+                    competitive = true;
+                }
+                assertEquals(competitive, queue.addIfCompetitive());
+                assertEquals(expected.size(), queue.size());
+                assertEquals(expected.size() >= maxSize, queue.isFull());
+                if (expected.isEmpty() == false) {
+                    assertEquals(expected.lastKey(), toKey(queue, queue.top()));
+                }
+            }
+            final List<List<Long>> popped = new ArrayList<>();
+            while (expected.isEmpty() == false) {
+                final Map.Entry<List<Long>, Integer> last = expected.pollLastEntry();
+                final int slot = queue.pop();
+                assertEquals(last.getKey(), toKey(queue, slot));
+                assertEquals(last.getValue().intValue(), queue.getDocCount(slot));
+                assertEquals(expected.size(), queue.size());
+                popped.add(last.getKey());
+                assertLookup(queue, sources, expected, randomFrom(popped));
+                if (expected.isEmpty() == false) {
+                    assertEquals(expected.lastKey(), toKey(queue, queue.top()));
+                    assertLookup(queue, sources, expected, randomFrom(new ArrayList<>(expected.keySet())));
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that the queue finds the bucket of the given key iff the sorted map has it.
+     */
+    private static void assertLookup(CompositeValuesCollectorQueue queue, FixedValuesSource[] sources,
+                                     Map<List<Long>, Integer> expected, List<Long> key) throws IOException {
+        setCurrent(sources, key);
+        final Integer docCount = expected.get(key);
+        final int slot = queue.compareCurrent();
+        if (docCount == null) {
+            assertEquals(-1, slot);
+        } else {
+            assertEquals(key, toKey(queue, slot));
+            assertEquals(docCount.intValue(), queue.getDocCount(slot));
+        }
+    }
+
+    private static List<Long> randomKey(int numSources, int cardinality) {
+        final List<Long> key = new ArrayList<>(numSources);
+        for (int i = 0; i < numSources; i++) {
+            key.add((long) randomIntBetween(0, cardinality));
+        }
+        return key;
+    }
+
+    private static void setCurrent(FixedValuesSource[] sources, List<Long> key) {
+        for (int i = 0; i < sources.length; i++) {
+            sources[i].current = key.get(i);
+        }
+    }
+
+    private static List<Long> toKey(CompositeValuesCollectorQueue queue, int slot) throws IOException {
+        final List<Long> key = new ArrayList<>();
+        for (Comparable<?> value : queue.toCompositeKey(slot).values()) {
+            key.add((Long) value);
+        }
+        return key;
+    }
+
+    private static BigArrays bigArrays() {
+        return new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
+    }
+
+    /**
+     * A source whose current value is set directly rather than by a leaf collector and whose hash codes are reduced to
+     * {@code numHashCodes} distinct values.
+     */
+    private static class FixedValuesSource extends SingleDimensionValuesSource<Long> {
+        private final int numHashCodes;
+        private long[] values = new long[0];
+        private long current;
+
+        FixedValuesSource(int numHashCodes, int reverseMul) {
+            super(BigArrays.NON_RECYCLING_INSTANCE, DocValueFormat.RAW, null, false, 0, reverseMul);
+            this.numHashCodes = numHashCodes;
+        }
+
+        @Override
+        void copyCurrent(int slot) {
+            values = ArrayUtil.grow(values, slot + 1);
+            values[slot] = current;
+        }
+
+        @Override
+        int compare(int from, int to) {
+            return reverseMul * Long.compare(values[from], values[to]);
+        }
+
+        @Override
+        int compareCurrent(int slot) {
+            return reverseMul * Long.compare(current, values[slot]);
+        }
+
+        @Override
+        int compareCurrentWithAfter() {
+            return reverseMul * Long.compare(current, afterValue);
+        }
+
+        @Override
+        int hashCode(int slot) {
+            return hash(values[slot]);
+        }
+
+        @Override
+        int hashCodeCurrent() {
+            return hash(current);
+        }
+
+        private int hash(long value) {
+            return (int) (Long.hashCode(value) % numHashCodes);
+        }
+
+        @Override
+        void setAfter(Comparable value) {
+            afterValue = (Long) value;
+        }
+
+        @Override
+        Long toComparable(int slot) {
+            return values[slot];
+        }
+
+        @Override
+        LeafBucketCollector getLeafCollector(LeafReaderContext context, LeafBucketCollector next) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        LeafBucketCollector getLeafCollector(Comparable value, LeafReaderContext context, LeafBucketCollector next) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        SortedDocsProducer createSortedDocsProducerOrNull(IndexReader reader, Query query) {
+            return null;
+        }
+
+        @Override
+        public void close() {}
+    }
+
     private static MappedFieldType createNumber(String name, NumberFieldMapper.NumberType type) {
         return new NumberFieldMapper.NumberFieldType(name, type);
     }
@@ -0,0 +1,214 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure;
+
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.monitor.jvm.ThreadResourceProbe;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskAwareRequest;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.After;
+import org.junit.Before;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+public class SearchBackpressureServiceTests extends OpenSearchTestCase {
+
+    private static volatile byte[] allocation;
+
+    private ThreadPool threadPool;
+    private TaskManager taskManager;
+    private volatile double heapUsage;
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Before
+    public void setUpTaskManager() {
+        threadPool = new TestThreadPool(getTestName());
+        taskManager = new TaskManager(Settings.EMPTY, threadPool, Collections.emptySet());
+        nanoTime.set(System.nanoTime());
+    }
+
+    @After
+    public void terminateThreadPool() {
+        terminate(threadPool);
+    }
+
+    private SearchBackpressureService newService(Settings settings) {
+        final Settings nodeSettings = Settings.builder()
+            .put(SearchBackpressureService.ENABLED_SETTING.getKey(), true)
+            .put(settings)
+            .build();
+        return new SearchBackpressureService(nodeSettings, new ClusterSettings(nodeSettings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            threadPool, taskManager, () -> 0.0, () -> heapUsage, () -> 1000L, nanoTime::get);
+    }
+
+    private SearchShardTask registerSearchShardTask() {
+        return (SearchShardTask) taskManager.register("transport", "indices:data/read/search[phase/query]", new TaskAwareRequest() {
+            @Override
+            public void setParentTask(TaskId taskId) {
+            }
+
+            @Override
+            public TaskId getParentTask() {
+                return TaskId.EMPTY_TASK_ID;
+            }
+
+            @Override
+            public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+                return new SearchShardTask(id, type, action, "", parentTaskId, headers);
+            }
+        });
+    }
+
+    private static void allocate(SearchShardTask task, int bytes) {
+        try (Releasable ignored = task.startResourceTracking()) {
+            allocation = new byte[bytes];
+        }
+    }
+
+    public void testCancelsTasksOnlyWhileTheNodeIsInDuress() {
+        final SearchBackpressureService service = newService(Settings.builder()
+            .put(SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING.getKey(), 3)
+            .build());
+        final SearchShardTask task = registerSearchShardTask();
+        final SearchShardTask otherTask = registerSearchShardTask();
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(31));
+
+        heapUsage = 0.9;
+        service.checkAndCancel();
+        service.checkAndCancel();
+        heapUsage = 0.5;
+        service.checkAndCancel();
+        heapUsage = 0.9;
+        service.checkAndCancel();
+        service.checkAndCancel();
+        assertFalse(service.stats().isInDuress());
+        assertFalse(task.isCancelled());
+
+        service.checkAndCancel();
+        assertTrue(service.stats().isInDuress());
+        assertTrue(task.isCancelled());
+        assertThat(task.getReasonCancelled(), containsString("elapsed time"));
+        assertTrue(otherTask.isCancelled());
+
+        final SearchBackpressureStats stats = service.stats();
+        assertEquals(2, stats.getCancellationCount());
+        assertEquals(2, stats.getElapsedTimeCancellationCount());
+        assertEquals(0, stats.getCpuTimeCancellationCount());
+        assertEquals(0, stats.getLimitReachedCount());
+    }
+
+    public void testCancelsTheMostExpensiveTasksFirst() {
+        assumeTrue("needs heap allocation tracking",
+            ThreadResourceProbe.getInstance().getThreadAllocatedBytes(Thread.currentThread().getId()) >= 0);
+        final SearchBackpressureService service = newService(Settings.builder()
+            .put(SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING.getKey(), 1)
+            .put(SearchBackpressureService.MAX_CANCELLATIONS_PER_INTERVAL_SETTING.getKey(), 1)
+            .build());
+        final SearchShardTask smallTask = registerSearchShardTask();
+        final SearchShardTask largeTask = registerSearchShardTask();
+        final SearchShardTask cheapTask = registerSearchShardTask();
+        allocate(smallTask, 1024);
+        allocate(largeTask, 1024 * 1024);
+        assertThat(largeTask.getAllocatedBytes(), greaterThanOrEqualTo(1024L * 1024));
+
+        heapUsage = 0.9;
+        service.checkAndCancel();
+        assertTrue(largeTask.isCancelled());
+        assertThat(largeTask.getReasonCancelled(), containsString("heap allocations"));
+        assertFalse(smallTask.isCancelled());
+        assertEquals(1, service.stats().getLimitReachedCount());
+
+        service.checkAndCancel();
+        assertTrue(smallTask.isCancelled());
+        assertFalse(cheapTask.isCancelled());
+
+        final SearchBackpressureStats stats = service.stats();
+        assertEquals(2, stats.getCancellationCount());
+        assertEquals(2, stats.getHeapCancellationCount());
+        assertEquals(1, stats.getLimitReachedCount());
+    }
+
+    public void testDisabled() {
+        final SearchBackpressureService service = newService(Settings.builder()
+            .put(SearchBackpressureService.ENABLED_SETTING.getKey(), false)
+            .put(SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING.getKey(), 1)
+            .build());
+        final SearchShardTask task = registerSearchShardTask();
+        nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        heapUsage = 1.0;
+        service.checkAndCancel();
+        assertFalse(task.isCancelled());
+        assertFalse(service.stats().isEnabled());
+        assertFalse(service.stats().isInDuress());
+        assertEquals(0, service.stats().getCancellationCount());
+    }
+
+    public void testIgnoresOtherTasks() {
+        final SearchBackpressureService service = newService(Settings.builder()
+            .put(SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING.getKey(), 1)
+            .build());
+        final CancellableTask task = (CancellableTask) taskManager.register("transport", "test", new TaskAwareRequest() {
+            @Override
+            public void setParentTask(TaskId taskId) {
+            }
+
+            @Override
+            public TaskId getParentTask() {
+                return TaskId.EMPTY_TASK_ID;
+            }
+
+            @Override
+            public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+                return new CancellableTask(id, type, action, "", parentTaskId, headers) {
+                    @Override
+                    public boolean shouldCancelChildrenOnCancellation() {
+                        return false;
+                    }
+                };
+            }
+        });
+        nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        heapUsage = 1.0;
+        service.checkAndCancel();
+        assertFalse(task.isCancelled());
+    }
+
+    public void testTracksResourcesOfTheExecutionInProgress() {
+        assumeTrue("needs heap allocation tracking",
+            ThreadResourceProbe.getInstance().getThreadAllocatedBytes(Thread.currentThread().getId()) >= 0);
+        final SearchShardTask task = new SearchShardTask(1, "transport", "test", "", TaskId.EMPTY_TASK_ID, Collections.emptyMap());
+        assertEquals(0, task.getAllocatedBytes());
+        try (Releasable ignored = task.startResourceTracking()) {
+            allocation = new byte[1024 * 1024];
+            assertThat(task.getAllocatedBytes(), greaterThanOrEqualTo(1024L * 1024));
+        }
+        final long allocatedBytes = task.getAllocatedBytes();
+        assertThat(allocatedBytes, greaterThanOrEqualTo(1024L * 1024));
+        allocation = new byte[1024 * 1024];
+        assertEquals(allocatedBytes, task.getAllocatedBytes());
+        allocate(task, 1024 * 1024);
+        assertThat(task.getAllocatedBytes(), greaterThanOrEqualTo(allocatedBytes + 1024 * 1024));
+        assertThat(task.getCpuTimeNanos(), greaterThanOrEqualTo(0L));
+    }
+}
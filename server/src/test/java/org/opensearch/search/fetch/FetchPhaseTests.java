@@ -42,14 +42,27 @@ public class FetchPhaseTests extends OpenSearchTestCase {
             docs[i] = new FetchPhase.DocIdToIndex(start, i);
             ++ start;
         }
-        assertTrue(FetchPhase.hasSequentialDocs(docs));
+        assertTrue(FetchPhase.hasDenseDocs(docs, 0, docs.length));
+        assertFalse(FetchPhase.hasDenseDocs(docs, 0, randomIntBetween(0, 9)));
 
         int from = randomIntBetween(0, 9);
         start = docs[from].docId;
         for (int i = from; i < 10; i++) {
-            start += randomIntBetween(2, 10);
+            start += randomIntBetween(FetchPhase.DENSE_DOCS_MAX_AVERAGE_GAP * 10, FetchPhase.DENSE_DOCS_MAX_AVERAGE_GAP * 20);
             docs[i] = new FetchPhase.DocIdToIndex(start, i);
         }
-        assertFalse(FetchPhase.hasSequentialDocs(docs));
+        assertFalse(FetchPhase.hasDenseDocs(docs, 0, docs.length));
+    }
+
+    public void testDenseDocs() {
+        FetchPhase.DocIdToIndex[] docs = new FetchPhase.DocIdToIndex[randomIntBetween(20, 100)];
+        int start = randomIntBetween(0, Short.MAX_VALUE);
+        for (int i = 0; i < docs.length; i++) {
+            docs[i] = new FetchPhase.DocIdToIndex(start, i);
+            start += randomIntBetween(1, FetchPhase.DENSE_DOCS_MAX_AVERAGE_GAP);
+        }
+        assertTrue(FetchPhase.hasDenseDocs(docs, 0, docs.length));
+        int from = randomIntBetween(0, docs.length - 10);
+        assertTrue(FetchPhase.hasDenseDocs(docs, from, randomIntBetween(from + 10, docs.length)));
     }
 }
@@ -88,6 +88,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Set;
 
 import static org.opensearch.search.internal.ContextIndexSearcher.intersectScorerAndBitSet;
@@ -96,6 +97,7 @@ import static org.opensearch.search.internal.ExitableDirectoryReader.ExitablePoi
 import static org.opensearch.search.internal.ExitableDirectoryReader.ExitableTerms;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class ContextIndexSearcherTests extends OpenSearchTestCase {
     public void testIntersectScorerAndRoleBits() throws Exception {
@@ -183,6 +185,54 @@ public class ContextIndexSearcherTests extends OpenSearchTestCase {
         directory.close();
     }
 
+    public void testComputeSlices() throws Exception {
+        final Directory directory = newDirectory();
+        IndexWriter iw = new IndexWriter(
+            directory,
+            new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE)
+        );
+        final int numSegments = randomIntBetween(1, 20);
+        for (int i = 0; i < numSegments; i++) {
+            final int numDocs = randomIntBetween(1, 10);
+            for (int j = 0; j < numDocs; j++) {
+                Document document = new Document();
+                document.add(new StringField("field", "value", Field.Store.NO));
+                iw.addDocument(document);
+            }
+            iw.commit();
+        }
+        iw.close();
+        DirectoryReader directoryReader = DirectoryReader.open(directory);
+        final List<LeafReaderContext> leaves = directoryReader.leaves();
+        final int maxDocsPerSlice = randomIntBetween(1, 30);
+        final int maxSegmentsPerSlice = randomIntBetween(1, 5);
+        final List<List<LeafReaderContext>> slices = ContextIndexSearcher.computeSlices(leaves, maxDocsPerSlice, maxSegmentsPerSlice);
+
+        int leaf = 0;
+        for (List<LeafReaderContext> slice : slices) {
+            assertThat(slice.isEmpty(), equalTo(false));
+            assertThat(slice.size(), lessThanOrEqualTo(maxSegmentsPerSlice));
+            int sliceDocs = 0;
+            for (LeafReaderContext ctx : slice) {
+                // slices are made of consecutive leaves in doc id order
+                assertThat(ctx, equalTo(leaves.get(leaf++)));
+                sliceDocs += ctx.reader().maxDoc();
+            }
+            if (slice.size() > 1) {
+                assertThat(sliceDocs, lessThanOrEqualTo(maxDocsPerSlice));
+            }
+        }
+        assertThat(leaf, equalTo(leaves.size()));
+
+        ContextIndexSearcher searcher = new ContextIndexSearcher(directoryReader, IndexSearcher.getDefaultSimilarity(),
+            IndexSearcher.getDefaultQueryCache(), IndexSearcher.getDefaultQueryCachingPolicy(), true);
+        assertThat(searcher.allowConcurrentSegmentSearch(), equalTo(false));
+        assertThat(searcher.getLeafSlices().size(), equalTo(1));
+
+        directoryReader.close();
+        directory.close();
+    }
+
     public void testContextIndexSearcherSparseNoDeletions() throws IOException {
         doTestContextIndexSearcher(true, false);
     }
@@ -108,6 +108,7 @@ import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.sort.SortAndFormats;
 import org.opensearch.tasks.TaskCancelledException;
 import org.opensearch.test.TestSearchContext;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -952,6 +953,71 @@ public class QueryPhaseTests extends IndexShardTestCase {
         dir.close();
     }
 
+    public void testConcurrentSegmentSearch() throws Exception {
+        Directory dir = newDirectory();
+        IndexWriterConfig iwc = newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE);
+        IndexWriter w = new IndexWriter(dir, iwc);
+        final int numDocs = scaledRandomIntBetween(200, 1000);
+        for (int i = 0; i < numDocs; i++) {
+            Document doc = new Document();
+            doc.add(new StringField("foo", i % 3 == 0 ? "bar" : "baz", Store.NO));
+            doc.add(new TextField("title", i % 5 == 0 ? "foo foo" : "foo", Store.NO));
+            doc.add(new NumericDocValuesField("rank", i % 7));
+            w.addDocument(doc);
+            if (i % 20 == 0) {
+                w.commit();
+            }
+        }
+        w.close();
+
+        IndexReader reader = DirectoryReader.open(dir);
+        ContextIndexSearcher concurrentSearcher = new ContextIndexSearcher(reader, IndexSearcher.getDefaultSimilarity(),
+            IndexSearcher.getDefaultQueryCache(), IndexSearcher.getDefaultQueryCachingPolicy(), true,
+            indexShard.getThreadPool().executor(ThreadPool.Names.INDEX_SEARCHER));
+        assertTrue(concurrentSearcher.allowConcurrentSegmentSearch());
+
+        final Query query = new BooleanQuery.Builder()
+            .add(new TermQuery(new Term("title", "foo")), Occur.MUST)
+            .add(new TermQuery(new Term("foo", "bar")), Occur.SHOULD)
+            .build();
+        final Sort sort = randomBoolean() ? null : new Sort(new SortField("rank", SortField.Type.LONG, true));
+        final int size = randomIntBetween(1, 50);
+        final int trackTotalHitsUpTo = randomFrom(SearchContext.TRACK_TOTAL_HITS_ACCURATE, randomIntBetween(1, numDocs));
+        final boolean postFilter = randomBoolean();
+
+        TopDocs[] results = new TopDocs[2];
+        for (int i = 0; i < results.length; i++) {
+            ContextIndexSearcher searcher = i == 0 ? newContextSearcher(reader) : concurrentSearcher;
+            TestSearchContext context = new TestSearchContext(null, indexShard, searcher);
+            context.setTask(new SearchShardTask(123L, "", "", "", null, Collections.emptyMap()));
+            context.parsedQuery(new ParsedQuery(query));
+            if (sort != null) {
+                context.sort(new SortAndFormats(sort, new DocValueFormat[] { DocValueFormat.RAW }));
+            }
+            if (postFilter) {
+                context.parsedPostFilter(new ParsedQuery(new TermQuery(new Term("foo", "baz"))));
+            }
+            context.setSize(size);
+            context.trackTotalHitsUpTo(trackTotalHitsUpTo);
+            assertEquals(i == 1, QueryPhase.canSearchConcurrently(context));
+            QueryPhase.executeInternal(context);
+            results[i] = context.queryResult().topDocs().topDocs;
+        }
+
+        if (trackTotalHitsUpTo == SearchContext.TRACK_TOTAL_HITS_ACCURATE) {
+            assertEquals(results[0].totalHits, results[1].totalHits);
+        } else {
+            assertThat(results[1].totalHits.value, greaterThanOrEqualTo((long) Math.min(trackTotalHitsUpTo, results[0].totalHits.value)));
+        }
+        assertEquals(results[0].scoreDocs.length, results[1].scoreDocs.length);
+        for (int i = 0; i < results[0].scoreDocs.length; i++) {
+            assertEquals(results[0].scoreDocs[i].doc, results[1].scoreDocs[i].doc);
+            assertEquals(-1, results[1].scoreDocs[i].shardIndex);
+        }
+        reader.close();
+        dir.close();
+    }
+
     public void testCancellationDuringPreprocess() throws IOException {
         try (Directory dir = newDirectory();
              RandomIndexWriter w = new RandomIndexWriter(random(), dir, newIndexWriterConfig())) {
@@ -201,6 +201,7 @@ public abstract class EngineTestCase extends OpenSearchTestCase {
             .put(IndexSettings.INDEX_SOFT_DELETES_SETTING.getKey(), randomBoolean())
             .put(IndexSettings.INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING.getKey(),
                 randomBoolean() ? IndexSettings.INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING.get(Settings.EMPTY) : between(0, 1000))
+            .put(EngineConfig.INDEX_PAGED_VERSION_MAP_SETTING.getKey(), randomBoolean())
             .build();
     }
 
@@ -1164,8 +1165,13 @@ public abstract class EngineTestCase extends OpenSearchTestCase {
         for (LeafReaderContext leaf : wrappedReader.leaves()) {
             NumericDocValues primaryTermDocValues = leaf.reader().getNumericDocValues(SeqNoFieldMapper.PRIMARY_TERM_NAME);
             NumericDocValues seqNoDocValues = leaf.reader().getNumericDocValues(SeqNoFieldMapper.NAME);
+            // documents that hit a non-aborting failure, or were added in the same block as one that did, are hard-deleted
+            final Bits liveDocs = leaf.reader().getLiveDocs();
             int docId;
             while ((docId = seqNoDocValues.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
+                if (liveDocs != null && liveDocs.get(docId) == false) {
+                    continue;
+                }
                 assertTrue(seqNoDocValues.advanceExact(docId));
                 long seqNo = seqNoDocValues.longValue();
                 assertThat(seqNo, greaterThanOrEqualTo(0L));
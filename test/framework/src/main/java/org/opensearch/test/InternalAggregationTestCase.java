@@ -44,6 +44,7 @@ import org.opensearch.common.util.MockPageCacheRecycler;
 import org.opensearch.common.xcontent.ContextParser;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
 import org.opensearch.common.xcontent.ToXContent;
+import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.common.xcontent.XContentParserUtils;
 import org.opensearch.common.xcontent.XContentType;
@@ -55,8 +56,11 @@ import org.opensearch.script.ScriptService;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchModule;
 import org.opensearch.search.aggregations.Aggregation;
+import org.opensearch.search.aggregations.AggregationAccumulator;
+import org.opensearch.search.aggregations.AggregationsAccumulator;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregation.ReduceContext;
+import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.MultiBucketConsumerService;
 import org.opensearch.search.aggregations.MultiBucketConsumerService.MultiBucketConsumer;
 import org.opensearch.search.aggregations.ParsedAggregation;
@@ -184,6 +188,7 @@ import static java.util.Collections.singletonMap;
 import static org.opensearch.common.xcontent.XContentHelper.toXContent;
 import static org.opensearch.search.aggregations.InternalMultiBucketAggregation.countInnerBucket;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
@@ -389,8 +394,15 @@ public abstract class InternalAggregationTestCase<T extends InternalAggregation>
             toPartialReduce.sort(INTERNAL_AGG_COMPARATOR);
             InternalAggregation.ReduceContext context = InternalAggregation.ReduceContext.forPartialReduction(
                     bigArrays, mockScriptService, () -> PipelineAggregator.PipelineTree.EMPTY);
-            @SuppressWarnings("unchecked")
-            T reduced = (T) toPartialReduce.get(0).reduce(toPartialReduce, context);
+            T reduced;
+            if (randomBoolean()) {
+                // sometimes reduce incrementally, like the coordinating node does with streaming aggs reduce
+                reduced = accumulate(toPartialReduce, context);
+            } else {
+                @SuppressWarnings("unchecked")
+                T partiallyReduced = (T) toPartialReduce.get(0).reduce(toPartialReduce, context);
+                reduced = partiallyReduced;
+            }
             int initialBucketCount = 0;
             for (InternalAggregation internalAggregation : toPartialReduce) {
                 initialBucketCount += countInnerBucket(internalAggregation);
@@ -419,6 +431,80 @@ public abstract class InternalAggregationTestCase<T extends InternalAggregation>
         assertReduced(reduced, inputs);
     }
 
+    /**
+     * Checks that accumulating random results one at a time builds the same aggregation as a partial reduce of all of them,
+     * if the aggregation supports accumulation.
+     */
+    public void testAccumulateRandom() throws IOException {
+        List<T> inputs = randomResultsToReduce(randomAlphaOfLength(5), between(1, 200));
+        inputs.sort(INTERNAL_AGG_COMPARATOR);
+        InternalAggregation.ReduceContext context = InternalAggregation.ReduceContext.forPartialReduction(
+                BigArrays.NON_RECYCLING_INSTANCE, mockScriptService(), () -> PipelineAggregator.PipelineTree.EMPTY);
+        try (AggregationAccumulator accumulator = inputs.get(0).newAccumulator(context)) {
+            if (accumulator == null) {
+                return;
+            }
+            for (T input : inputs) {
+                if (accumulator.accept(input) == false) {
+                    // the inputs cannot all be accumulated, the fallback is covered by testReduceRandom
+                    return;
+                }
+            }
+            InternalAggregation accumulated = accumulator.build();
+            // the reduce modifies its inputs, which may share their sub-aggregations, so reduce copies
+            List<InternalAggregation> toReduce = new ArrayList<>(inputs.size());
+            for (T input : inputs) {
+                toReduce.add(copyInstance(input));
+            }
+            InternalAggregation reduced = toReduce.get(0).reduce(toReduce, context);
+            assertEquals(reduced.getClass(), accumulated.getClass());
+            // the order of the sub-aggregations of a bucket depends on the order of the shard results, so compare the contents
+            assertEquals(accumulationComparableMap(reduced), accumulationComparableMap(accumulated));
+        }
+    }
+
+    private static Map<String, Object> accumulationComparableMap(InternalAggregation aggregation) throws IOException {
+        BytesReference bytes = toXContent(aggregation, XContentType.JSON, ToXContent.EMPTY_PARAMS, false);
+        Map<String, Object> map = XContentHelper.convertToMap(bytes, false, XContentType.JSON).v2();
+        for (Object agg : map.values()) {
+            Object buckets = ((Map<?, ?>) agg).get("buckets");
+            Iterable<?> bucketList = buckets instanceof Map ? ((Map<?, ?>) buckets).values() : (Iterable<?>) buckets;
+            if (bucketList == null) {
+                continue;
+            }
+            for (Object bucket : bucketList) {
+                for (Object subAgg : ((Map<?, ?>) bucket).values()) {
+                    // sub-aggregations that cannot be accumulated are reduced pairwise, like with a batched reduce size of 2,
+                    // which doesn't compute the same doc count error bounds as a reduce of all the shard results at once
+                    removeDocCountErrors(subAgg);
+                }
+            }
+        }
+        return map;
+    }
+
+    private static void removeDocCountErrors(Object xContent) {
+        if (xContent instanceof Map) {
+            ((Map<?, ?>) xContent).remove("doc_count_error_upper_bound");
+            ((Map<?, ?>) xContent).values().forEach(InternalAggregationTestCase::removeDocCountErrors);
+        } else if (xContent instanceof List) {
+            ((List<?>) xContent).forEach(InternalAggregationTestCase::removeDocCountErrors);
+        }
+    }
+
+    private T accumulate(List<InternalAggregation> aggregations, InternalAggregation.ReduceContext context) {
+        String name = aggregations.get(0).getName();
+        try (AggregationsAccumulator accumulator = new AggregationsAccumulator(context)) {
+            for (InternalAggregation aggregation : aggregations) {
+                accumulator.accept(InternalAggregations.from(Collections.singletonList(aggregation)));
+            }
+            assertThat(accumulator.ramBytesUsed(), greaterThan(0L));
+            @SuppressWarnings("unchecked")
+            T accumulated = (T) accumulator.build(InternalAggregations::from).get(name);
+            return accumulated;
+        }
+    }
+
     protected void doAssertReducedMultiBucketConsumer(Aggregation agg, MultiBucketConsumerService.MultiBucketConsumer bucketConsumer) {
         InternalAggregationTestCase.assertMultiBucketConsumer(agg, bucketConsumer);
     }